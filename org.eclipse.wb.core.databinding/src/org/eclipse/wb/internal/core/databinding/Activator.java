@@ -13,6 +13,7 @@
 package org.eclipse.wb.internal.core.databinding;
 
 import org.eclipse.wb.internal.core.utils.execution.ExecutionUtils;
+import org.eclipse.wb.internal.core.utils.ui.ResourceTracker;
 
 import org.eclipse.jface.preference.IPreferenceStore;
 import org.eclipse.jface.resource.ImageDescriptor;
@@ -103,7 +104,7 @@ public final class Activator extends AbstractUIPlugin {
 			InputStream is = getFile(path);
 			try {
 				image = new Image(Display.getCurrent(), is);
-				m_nameToIconMap.put(name, image);
+				m_nameToIconMap.put(name, ResourceTracker.GLOBAL.add(image));
 			} finally {
 				IOUtils.closeQuietly(is);
 			}
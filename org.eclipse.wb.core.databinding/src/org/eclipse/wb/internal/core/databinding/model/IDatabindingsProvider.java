@@ -13,6 +13,7 @@
 package org.eclipse.wb.internal.core.databinding.model;
 
 import org.eclipse.wb.core.model.JavaInfo;
+import org.eclipse.wb.core.model.ObjectInfo;
 import org.eclipse.wb.internal.core.databinding.ui.ObserveType;
 import org.eclipse.wb.internal.core.databinding.ui.editor.IPageListener;
 import org.eclipse.wb.internal.core.databinding.ui.editor.IUiContentProvider;
@@ -26,6 +27,7 @@ import org.eclipse.swt.widgets.Menu;
 import org.eclipse.swt.widgets.ToolBar;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Independent provider from any bindings API.
@@ -105,6 +107,18 @@ public interface IDatabindingsProvider {
 	 */
 	void synchronizeObserves() throws Exception;
 
+	/**
+	 * Update observes affected by changes of some {@link JavaInfo}'s, for example after their delete,
+	 * move or creation. Default implementation updates all observes.
+	 *
+	 * @param objects
+	 *          the changed {@link JavaInfo}'s, their old parents and all their ancestors, see
+	 *          {@link SynchronizeManager#getScope(Set)}.
+	 */
+	default void synchronizeObserves(Set<ObjectInfo> objects) throws Exception {
+		synchronizeObserves();
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// Editing
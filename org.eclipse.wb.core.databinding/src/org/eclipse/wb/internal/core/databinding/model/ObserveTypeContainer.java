@@ -13,6 +13,7 @@
 package org.eclipse.wb.internal.core.databinding.model;
 
 import org.eclipse.wb.core.model.JavaInfo;
+import org.eclipse.wb.core.model.ObjectInfo;
 import org.eclipse.wb.internal.core.databinding.parser.IModelResolver;
 import org.eclipse.wb.internal.core.databinding.parser.ISubParser;
 import org.eclipse.wb.internal.core.databinding.ui.ObserveType;
@@ -22,6 +23,7 @@ import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * {@link ObserveType} container: create {@link IObserveInfo}'s and parse observable's.
@@ -122,6 +124,20 @@ public abstract class ObserveTypeContainer implements ISubParser {
 	public abstract void synchronizeObserves(JavaInfo root, AstEditor editor, TypeDeclaration rootNode)
 			throws Exception;
 
+	/**
+	 * Update observes affected by changes of some {@link JavaInfo}'s. Default implementation updates
+	 * all observes.
+	 *
+	 * @param objects
+	 *          the changed {@link JavaInfo}'s, their old parents and all their ancestors.
+	 */
+	public void synchronizeObserves(JavaInfo root,
+			AstEditor editor,
+			TypeDeclaration rootNode,
+			Set<ObjectInfo> objects) throws Exception {
+		synchronizeObserves(root, editor, rootNode);
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// Classpath
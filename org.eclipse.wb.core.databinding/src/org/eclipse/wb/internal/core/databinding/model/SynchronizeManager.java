@@ -17,26 +17,39 @@ import org.eclipse.wb.core.model.ObjectInfo;
 import org.eclipse.wb.core.model.broadcast.JavaEventListener;
 import org.eclipse.wb.core.model.broadcast.JavaInfoSetObjectAfter;
 import org.eclipse.wb.core.model.broadcast.JavaInfoSetVariable;
+import org.eclipse.wb.core.model.broadcast.ObjectEventListener;
 import org.eclipse.wb.core.model.broadcast.ObjectInfoChildTree;
 import org.eclipse.wb.core.model.broadcast.ObjectInfoDelete;
 import org.eclipse.wb.internal.core.model.nonvisual.CollectorObjectInfo;
 import org.eclipse.wb.internal.core.model.variable.FieldVariableSupport;
 import org.eclipse.wb.internal.core.model.variable.VariableSupport;
+import org.eclipse.wb.internal.core.utils.execution.ExecutionUtils;
 import org.eclipse.wb.internal.core.utils.state.EditorState;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Helper class for auto synchronize {@link JavaInfo}'s and observe, binding infos.
+ * <p>
+ * Changed {@link JavaInfo}'s are collected during edit operation and synchronized once, before
+ * refresh, or at the end of refresh for {@link JavaInfo}'s that are waiting for their objects. Only
+ * observes of changed {@link JavaInfo}'s and their parents are synchronized, see
+ * {@link IDatabindingsProvider#synchronizeObserves(Set)}.
  *
  * @author lobas_av
  * @coverage bindings.model
  */
 public final class SynchronizeManager {
 	private final IDatabindingsProvider m_provider;
+	private final JavaInfo m_javaInfoRoot;
+	private final Set<ObjectInfo> m_changedObjects = new LinkedHashSet<>();
+	private boolean m_refreshing;
 
 	////////////////////////////////////////////////////////////////////////////
 	//
@@ -45,10 +58,11 @@ public final class SynchronizeManager {
 	////////////////////////////////////////////////////////////////////////////
 	public SynchronizeManager(IDatabindingsProvider provider, JavaInfo javaInfoRoot) {
 		m_provider = provider;
+		m_javaInfoRoot = javaInfoRoot;
 		javaInfoRoot.addBroadcastListener(new ObjectInfoDelete() {
 			@Override
 			public void after(ObjectInfo parent, ObjectInfo child) throws Exception {
-				synchronizeObserves();
+				synchronizeObserves(child, parent);
 			}
 		});
 		javaInfoRoot.addBroadcastListener(new JavaEventListener() {
@@ -63,13 +77,14 @@ public final class SynchronizeManager {
 			@Override
 			public void moveAfter(JavaInfo child, ObjectInfo oldParent, JavaInfo newParent)
 					throws Exception {
-				synchronizeObserves();
+				synchronizeObserves(child, oldParent);
 			}
 
 			@Override
 			public void replaceChildBefore(JavaInfo parent, JavaInfo oldChild, JavaInfo newChild)
 					throws Exception {
 				m_provider.deleteBindings(oldChild);
+				m_changedObjects.add(oldChild);
 			}
 
 			@Override
@@ -85,7 +100,7 @@ public final class SynchronizeManager {
 					public void invoke(JavaInfo target, Object o) throws Exception {
 						if (javaInfo == target) {
 							target.removeBroadcastListener(this);
-							synchronizeObserves();
+							synchronizeObserves(javaInfo, null);
 						}
 					}
 				});
@@ -97,7 +112,7 @@ public final class SynchronizeManager {
 					throws Exception {
 				if (oldVariable != null) {
 					if (isField(oldVariable) ^ isField(newVariable)) {
-						synchronizeObserves();
+						synchronizeObserves(javaInfo, null);
 					}
 				}
 			}
@@ -106,6 +121,23 @@ public final class SynchronizeManager {
 				return variable instanceof FieldVariableSupport;
 			}
 		});
+		javaInfoRoot.addBroadcastListener(new ObjectEventListener() {
+			@Override
+			public void endEdit_aboutToRefresh() throws Exception {
+				flush();
+			}
+
+			@Override
+			public void refreshBeforeCreate() throws Exception {
+				m_refreshing = true;
+			}
+
+			@Override
+			public void refreshFinallyRefresh() {
+				m_refreshing = false;
+				ExecutionUtils.runLog(() -> flush());
+			}
+		});
 	}
 
 	////////////////////////////////////////////////////////////////////////////
@@ -113,8 +145,59 @@ public final class SynchronizeManager {
 	// Handle
 	//
 	////////////////////////////////////////////////////////////////////////////
-	private void synchronizeObserves() throws Exception {
-		m_provider.synchronizeObserves();
+	/**
+	 * Remembers that given {@link JavaInfo} was changed, synchronizes observes at the end of edit
+	 * operation or refresh, or directly if there are no edit operation.
+	 *
+	 * @param oldParent
+	 *          the old parent of changed object, may be <code>null</code>.
+	 */
+	private void synchronizeObserves(ObjectInfo object, ObjectInfo oldParent) throws Exception {
+		m_changedObjects.add(object);
+		if (oldParent != null) {
+			m_changedObjects.add(oldParent);
+		}
+		if (!m_refreshing && !m_javaInfoRoot.isEditing()) {
+			flush();
+		}
+	}
+
+	/**
+	 * Synchronizes observes for all remembered changed {@link JavaInfo}'s.
+	 */
+	private void flush() throws Exception {
+		if (!m_changedObjects.isEmpty()) {
+			Set<ObjectInfo> objects = getScope(m_changedObjects);
+			m_changedObjects.clear();
+			m_provider.synchronizeObserves(objects);
+		}
+	}
+
+	/**
+	 * @return the {@link Set} with given changed {@link ObjectInfo}'s and all their ancestors.
+	 */
+	public static Set<ObjectInfo> getScope(Set<ObjectInfo> changedObjects) {
+		Set<ObjectInfo> objects = new HashSet<>();
+		for (ObjectInfo changedObject : changedObjects) {
+			ObjectInfo object = changedObject;
+			while (object != null && objects.add(object)) {
+				object = object.getParent();
+			}
+		}
+		return objects;
+	}
+
+	/**
+	 * @return <code>true</code> if given scope contains deleted {@link ObjectInfo}, so bindings may be
+	 *         also deleted.
+	 */
+	public static boolean hasDeleted(Set<ObjectInfo> objects) {
+		for (ObjectInfo object : objects) {
+			if (object.isDeleted()) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	////////////////////////////////////////////////////////////////////////////
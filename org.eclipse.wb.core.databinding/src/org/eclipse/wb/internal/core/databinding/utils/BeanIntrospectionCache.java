@@ -0,0 +1,227 @@
+/*******************************************************************************
+ * Copyright (c) 2026 WindowBuilder contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    WindowBuilder contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.wb.internal.core.databinding.utils;
+
+import org.eclipse.jface.resource.ImageDescriptor;
+
+import org.apache.commons.lang3.ClassUtils;
+
+import java.beans.BeanInfo;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache of <code>Java Beans</code> introspection results (property descriptors, getters/setters
+ * and bean icons), shared by all databinding toolkits and editors.
+ * <p>
+ * Results are attached to bean {@link Class} using {@link ClassValue}, so they don't keep
+ * {@link ClassLoader} of project alive, and disappear together with it when editor is disposed and
+ * its {@link ClassLoader} is discarded. Modified bean class is loaded by new {@link ClassLoader}, so
+ * has its own results.
+ *
+ * @coverage bindings.utils
+ */
+public final class BeanIntrospectionCache {
+	private static final Comparator<PropertyDescriptor> NAME_COMPARATOR =
+			Comparator.comparing(PropertyDescriptor::getName);
+	private static final ClassValue<Entry> m_entries = new ClassValue<>() {
+		@Override
+		protected Entry computeValue(Class<?> beanClass) {
+			return new Entry(beanClass);
+		}
+	};
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Constructor
+	//
+	////////////////////////////////////////////////////////////////////////////
+	private BeanIntrospectionCache() {
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Descriptors
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @return the new modifiable {@link List} of {@link PropertyDescriptor}'s for given bean
+	 *         {@link Class}, including properties of interfaces, if given {@link Class} is interface
+	 *         or abstract class. Properties without type are ignored.
+	 */
+	public static List<PropertyDescriptor> getPropertyDescriptors(Class<?> beanClass)
+			throws Exception {
+		return new ArrayList<>(m_entries.get(beanClass).getDescriptors());
+	}
+
+	/**
+	 * @return the unmodifiable {@link List} of {@link PropertyDescriptor}'s for given bean
+	 *         {@link Class}, sorted by name.
+	 */
+	public static List<PropertyDescriptor> getSortedPropertyDescriptors(Class<?> beanClass)
+			throws Exception {
+		return m_entries.get(beanClass).getSortedDescriptors();
+	}
+
+	/**
+	 * @return the {@link PropertyDescriptor} with given name, or <code>null</code> if bean
+	 *         {@link Class} has no such property.
+	 */
+	public static PropertyDescriptor getPropertyDescriptor(Class<?> beanClass, String name)
+			throws Exception {
+		return m_entries.get(beanClass).getDescriptor(name);
+	}
+
+	/**
+	 * @return the getter of property with given name, or <code>null</code>.
+	 */
+	public static Method getReadMethod(Class<?> beanClass, String name) throws Exception {
+		PropertyDescriptor descriptor = getPropertyDescriptor(beanClass, name);
+		return descriptor != null ? descriptor.getReadMethod() : null;
+	}
+
+	/**
+	 * @return the setter of property with given name, or <code>null</code>.
+	 */
+	public static Method getWriteMethod(Class<?> beanClass, String name) throws Exception {
+		PropertyDescriptor descriptor = getPropertyDescriptor(beanClass, name);
+		return descriptor != null ? descriptor.getWriteMethod() : null;
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Image
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Converter of AWT bean icon into {@link ImageDescriptor}.
+	 */
+	public interface IIconConverter {
+		ImageDescriptor convert(java.awt.Image image) throws Exception;
+	}
+
+	/**
+	 * @return the {@link ImageDescriptor} of {@link BeanInfo#ICON_COLOR_16x16} icon for given bean
+	 *         {@link Class}, or <code>null</code> if bean has no icon. Icon is converted only once,
+	 *         using {@link IIconConverter} of first request.
+	 */
+	public static ImageDescriptor getIcon(Class<?> beanClass, IIconConverter converter) {
+		return m_entries.get(beanClass).getIcon(converter);
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Entry
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Introspection results for single bean {@link Class}, calculated lazily.
+	 */
+	private static final class Entry {
+		private final Class<?> m_beanClass;
+		private List<PropertyDescriptor> m_descriptors;
+		private List<PropertyDescriptor> m_sortedDescriptors;
+		private Map<String, PropertyDescriptor> m_nameToDescriptor;
+		private boolean m_iconLoaded;
+		private ImageDescriptor m_icon;
+
+		Entry(Class<?> beanClass) {
+			m_beanClass = beanClass;
+		}
+
+		synchronized List<PropertyDescriptor> getDescriptors() throws Exception {
+			if (m_descriptors == null) {
+				List<PropertyDescriptor> descriptors = new ArrayList<>();
+				// handle interfaces
+				if (m_beanClass.isInterface() || Modifier.isAbstract(m_beanClass.getModifiers())) {
+					for (Class<?> i : ClassUtils.getAllInterfaces(m_beanClass)) {
+						BeanInfo beanInfo = Introspector.getBeanInfo(i);
+						addDescriptors(descriptors, beanInfo.getPropertyDescriptors());
+					}
+				}
+				// handle bean
+				BeanInfo beanInfo = Introspector.getBeanInfo(m_beanClass);
+				addDescriptors(descriptors, beanInfo.getPropertyDescriptors());
+				//
+				m_descriptors = Collections.unmodifiableList(descriptors);
+			}
+			return m_descriptors;
+		}
+
+		synchronized List<PropertyDescriptor> getSortedDescriptors() throws Exception {
+			if (m_sortedDescriptors == null) {
+				List<PropertyDescriptor> descriptors = new ArrayList<>(getDescriptors());
+				descriptors.sort(NAME_COMPARATOR);
+				m_sortedDescriptors = Collections.unmodifiableList(descriptors);
+			}
+			return m_sortedDescriptors;
+		}
+
+		synchronized PropertyDescriptor getDescriptor(String name) throws Exception {
+			if (m_nameToDescriptor == null) {
+				Map<String, PropertyDescriptor> nameToDescriptor = new HashMap<>();
+				for (PropertyDescriptor descriptor : getDescriptors()) {
+					nameToDescriptor.put(descriptor.getName(), descriptor);
+				}
+				m_nameToDescriptor = nameToDescriptor;
+			}
+			return m_nameToDescriptor.get(name);
+		}
+
+		synchronized ImageDescriptor getIcon(IIconConverter converter) {
+			if (!m_iconLoaded) {
+				m_iconLoaded = true;
+				try {
+					BeanInfo beanInfo = Introspector.getBeanInfo(m_beanClass);
+					java.awt.Image awtIcon = beanInfo.getIcon(BeanInfo.ICON_COLOR_16x16);
+					if (awtIcon != null) {
+						m_icon = converter.convert(awtIcon);
+					}
+				} catch (Throwable e) {
+					// no icon
+				}
+			}
+			return m_icon;
+		}
+
+		private static void addDescriptors(List<PropertyDescriptor> descriptors,
+				PropertyDescriptor[] newDescriptors) {
+			int count = descriptors.size();
+			for (PropertyDescriptor newDescriptor : newDescriptors) {
+				if (newDescriptor.getPropertyType() == null) {
+					continue;
+				}
+				// filter equal properties
+				String name = newDescriptor.getName();
+				boolean addDescriptor = true;
+				for (int j = 0; j < count; j++) {
+					if (name.equals(descriptors.get(j).getName())) {
+						addDescriptor = false;
+						break;
+					}
+				}
+				if (addDescriptor) {
+					descriptors.add(newDescriptor);
+				}
+			}
+		}
+	}
+}
@@ -17,6 +17,8 @@ import org.eclipse.wb.internal.core.model.TopBoundsSupport;
 import org.eclipse.wb.internal.core.model.creation.CreationSupport;
 import org.eclipse.wb.internal.core.model.description.ComponentDescription;
 import org.eclipse.wb.internal.core.utils.ast.AstEditor;
+import org.eclipse.wb.internal.core.utils.state.EditorState;
+import org.eclipse.wb.internal.core.utils.ui.ResourceTracker;
 
 import org.eclipse.draw2d.IFigure;
 import org.eclipse.draw2d.geometry.Dimension;
@@ -183,9 +185,17 @@ public abstract class AbstractComponentInfo extends JavaInfo implements IAbstrac
 	/**
 	 * Sets new image of this component.<br>
 	 * This method should be used by subclasses during fetching visual information.
+	 * <p>
+	 * Image is tracked by {@link ResourceTracker} of editor until it is disposed in
+	 * {@link #refresh_dispose()} or replaced, so caller which replaces image becomes its owner.
 	 */
 	public final void setImage(Image image) {
+		ResourceTracker resources = EditorState.get(getEditor()).getResources();
+		if (m_image != image) {
+			resources.remove(m_image);
+		}
 		m_image = image;
+		resources.add(image, ResourceTracker.getCallerSite(1));
 	}
 
 	////////////////////////////////////////////////////////////////////////////
@@ -238,7 +248,7 @@ public abstract class AbstractComponentInfo extends JavaInfo implements IAbstrac
 	public void refresh_dispose() throws Exception {
 		// dispose image
 		if (m_image != null) {
-			m_image.dispose();
+			EditorState.get(getEditor()).getResources().dispose(m_image);
 			m_image = null;
 		}
 		// call "super"
@@ -73,6 +73,7 @@ import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.Assignment;
@@ -93,11 +94,12 @@ import org.apache.commons.lang3.StringUtils;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 /**
  * Abstract model for any Java-based model object. It has some presentation in AST.
@@ -698,14 +700,35 @@ public class JavaInfo extends ObjectInfo implements HasSourcePosition {
 	 * represents reference of this {@link JavaInfo}, i.e. is creation or usage as part of
 	 * {@link MethodInvocation} (as target expression or argument) or {@link Assignment}, etc.
 	 */
-	private final List<ASTNode> m_nodes = new LinkedList<>();
+	private final List<ASTNode> m_nodes = new ArrayList<>();
+	private final Set<ASTNode> m_nodesSet = new HashSet<>();
+	/**
+	 * {@link AST} modification count when dangling nodes were removed from {@link #m_nodes}. Nodes
+	 * can become dangling only when {@link AST} is modified, so we don't need to check them again
+	 * until this.
+	 */
+	private long m_nodesModificationCount = -1;
 
 	/**
 	 * Adds given related {@link ASTNode}.
 	 */
 	public final void addRelatedNode(ASTNode node) {
-		if (node != null && !m_nodes.contains(node)) {
+		if (node != null && m_nodesSet.add(node)) {
 			m_nodes.add(node);
+			if (AstNodeUtils.isDanglingNode(node)) {
+				m_nodesModificationCount = -1;
+			}
+			addIndexedNode(node);
+		}
+	}
+
+	/**
+	 * Removes given related {@link ASTNode}.
+	 */
+	public final void removeRelatedNode(ASTNode node) {
+		if (m_nodesSet.remove(node)) {
+			m_nodes.remove(node);
+			m_indexModificationCount = -1;
 		}
 	}
 
@@ -738,11 +761,98 @@ public class JavaInfo extends ObjectInfo implements HasSourcePosition {
 	}
 
 	/**
-	 * @return the {@link List} of tightly related {@link ASTNode}'s.
+	 * @return the unmodifiable {@link List} of tightly related {@link ASTNode}'s.
 	 */
 	public final List<ASTNode> getRelatedNodes() {
-		AstNodeUtils.removeDanglingNodes(m_nodes);
-		return m_nodes;
+		removeDanglingNodes();
+		return Collections.unmodifiableList(m_nodes);
+	}
+
+	private void removeDanglingNodes() {
+		long modificationCount = getAstModificationCount();
+		if (m_nodesModificationCount != modificationCount) {
+			m_nodes.removeIf(node -> {
+				if (AstNodeUtils.isDanglingNode(node)) {
+					m_nodesSet.remove(node);
+					return true;
+				}
+				return false;
+			});
+			m_nodesModificationCount = modificationCount;
+		}
+	}
+
+	private long getAstModificationCount() {
+		return m_editor.getAstUnit().getAST().modificationCount();
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Related nodes index
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Related nodes which are expressions of {@link MethodInvocation}'s, grouped by method signature.
+	 */
+	private final Map<String, List<ASTNode>> m_signatureToNodes = new HashMap<>();
+	/**
+	 * Related nodes which are expressions of field {@link Assignment}'s, grouped by field name.
+	 */
+	private final Map<String, List<ASTNode>> m_fieldToNodes = new HashMap<>();
+	/**
+	 * {@link AST} modification count when index was built, <code>-1</code> if not built yet.
+	 */
+	private long m_indexModificationCount = -1;
+
+	/**
+	 * Ensures that index of related nodes is built for current state of {@link AST}. Edits of
+	 * {@link AST} may change signatures and locations of nodes, so index is built again after them.
+	 */
+	private void validateNodesIndex() {
+		removeDanglingNodes();
+		long modificationCount = getAstModificationCount();
+		if (m_indexModificationCount != modificationCount) {
+			m_signatureToNodes.clear();
+			m_fieldToNodes.clear();
+			m_indexModificationCount = modificationCount;
+			for (ASTNode node : m_nodes) {
+				addIndexedNode(node);
+			}
+		}
+	}
+
+	/**
+	 * Adds given related {@link ASTNode} into index, if it is valid.
+	 */
+	private void addIndexedNode(ASTNode node) {
+		if (m_indexModificationCount == -1
+				|| m_indexModificationCount != getAstModificationCount()) {
+			return;
+		}
+		// MethodInvocation, "isRepresentedBy" is checked during lookup
+		{
+			MethodInvocation invocation = null;
+			if (node.getLocationInParent() == MethodInvocation.EXPRESSION_PROPERTY) {
+				invocation = (MethodInvocation) node.getParent();
+			} else if (node instanceof MethodInvocation nodeInvocation
+					&& nodeInvocation.getExpression() == null) {
+				invocation = nodeInvocation;
+			}
+			if (invocation != null) {
+				String signature = AstNodeUtils.getMethodSignature(invocation);
+				if (signature != null) {
+					m_signatureToNodes.computeIfAbsent(signature, key -> new ArrayList<>()).add(node);
+				}
+			}
+		}
+		// field Assignment
+		{
+			Expression fieldAccess = AstNodeUtils.getFieldAssignment(node);
+			if (fieldAccess != null) {
+				String fieldName = AstNodeUtils.getFieldAccessName(fieldAccess).getIdentifier();
+				m_fieldToNodes.computeIfAbsent(fieldName, key -> new ArrayList<>()).add(node);
+			}
+		}
 	}
 
 	////////////////////////////////////////////////////////////////////////////
@@ -879,8 +989,10 @@ public class JavaInfo extends ObjectInfo implements HasSourcePosition {
 	 *         signature.
 	 */
 	public final List<MethodInvocation> getMethodInvocations(String signature) {
+		validateNodesIndex();
+		List<ASTNode> nodes = m_signatureToNodes.getOrDefault(signature, Collections.emptyList());
 		List<MethodInvocation> invocations = new ArrayList<>();
-		for (ASTNode node : getRelatedNodes()) {
+		for (ASTNode node : nodes) {
 			// prepare invocation from related node
 			MethodInvocation invocation = getMethodInvocation(node);
 			// check invocation
@@ -1021,13 +1133,12 @@ public class JavaInfo extends ObjectInfo implements HasSourcePosition {
 	 * @return the {@link Assignment}'s to field, may be empty {@link List}.
 	 */
 	public final List<Assignment> getFieldAssignments(String fieldName) {
+		validateNodesIndex();
+		List<ASTNode> nodes = m_fieldToNodes.getOrDefault(fieldName, Collections.emptyList());
 		List<Assignment> assignments = new ArrayList<>();
-		for (Assignment assignment : getFieldAssignments()) {
-			Expression fieldAccess = assignment.getLeftHandSide();
-			String fieldAccessName = AstNodeUtils.getFieldAccessName(fieldAccess).getIdentifier();
-			if (fieldName.equals(fieldAccessName)) {
-				assignments.add(assignment);
-			}
+		for (ASTNode node : nodes) {
+			Expression fieldAccess = AstNodeUtils.getFieldAssignment(node);
+			assignments.add((Assignment) fieldAccess.getParent());
 		}
 		return assignments;
 	}
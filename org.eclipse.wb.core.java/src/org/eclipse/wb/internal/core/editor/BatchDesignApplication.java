@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 WindowBuilder contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    WindowBuilder contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.wb.internal.core.editor;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.equinox.app.IApplication;
+import org.eclipse.equinox.app.IApplicationContext;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.swt.widgets.Display;
+
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Application which runs {@link BatchDesignRunner} for GUI compilation units of workspace and
+ * writes report.
+ * <p>
+ * Arguments:
+ * <ul>
+ * <li><code>-project name</code> - project to process, may be repeated; all open Java projects by
+ * default.</li>
+ * <li><code>-output file</code> - report, one JSON object per line,
+ * <code>designer-report.jsonl</code> by default.</li>
+ * </ul>
+ *
+ * @coverage core.editor
+ */
+public final class BatchDesignApplication implements IApplication {
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// IApplication
+	//
+	////////////////////////////////////////////////////////////////////////////
+	@Override
+	public Object start(IApplicationContext context) throws Exception {
+		String[] args = (String[]) context.getArguments().get(IApplicationContext.APPLICATION_ARGS);
+		if (args == null) {
+			args = new String[0];
+		}
+		List<String> projectNames = new ArrayList<>();
+		String output = "designer-report.jsonl";
+		for (int i = 0; i + 1 < args.length; i++) {
+			if ("-project".equals(args[i])) {
+				projectNames.add(args[++i]);
+			} else if ("-output".equals(args[i])) {
+				output = args[++i];
+			}
+		}
+		// models are created in UI thread
+		Display display = Display.getDefault();
+		try {
+			List<ICompilationUnit> units = getUnits(projectNames);
+			BatchDesignRunner runner = new BatchDesignRunner();
+			runner.run(units, new NullProgressMonitor() {
+				@Override
+				public void subTask(String name) {
+					System.out.println(name);
+				}
+			});
+			try (Writer writer = Files.newBufferedWriter(Path.of(output), StandardCharsets.UTF_8)) {
+				runner.writeReport(writer);
+			}
+			long errors = runner.getResults().stream()
+					.filter(result -> result.getError() != null)
+					.count();
+			System.out.println("Processed " + units.size() + " units, " + errors + " errors.");
+			System.out.println("Report: " + output);
+		} finally {
+			display.dispose();
+		}
+		return EXIT_OK;
+	}
+
+	@Override
+	public void stop() {
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Utils
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Builds workspace, so components from projects can be loaded, and collects GUI units.
+	 */
+	private static List<ICompilationUnit> getUnits(List<String> projectNames) throws Exception {
+		IWorkspace workspace = ResourcesPlugin.getWorkspace();
+		workspace.build(IncrementalProjectBuilder.INCREMENTAL_BUILD, new NullProgressMonitor());
+		List<ICompilationUnit> units = new ArrayList<>();
+		for (IProject project : workspace.getRoot().getProjects()) {
+			if (project.isOpen()
+					&& project.hasNature(JavaCore.NATURE_ID)
+					&& (projectNames.isEmpty() || projectNames.contains(project.getName()))) {
+				IJavaProject javaProject = JavaCore.create(project);
+				units.addAll(BatchDesignRunner.getGuiUnits(javaProject));
+			}
+		}
+		return units;
+	}
+}
@@ -0,0 +1,488 @@
+/*******************************************************************************
+ * Copyright (c) 2026 WindowBuilder contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    WindowBuilder contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.wb.internal.core.editor;
+
+import org.eclipse.wb.core.model.IAbstractComponentInfo;
+import org.eclipse.wb.core.model.JavaInfo;
+import org.eclipse.wb.core.model.ObjectInfo;
+import org.eclipse.wb.internal.core.model.ObjectInfoVisitor;
+import org.eclipse.wb.internal.core.model.util.GlobalStateJava;
+import org.eclipse.wb.internal.core.parser.JavaInfoParser;
+import org.eclipse.wb.internal.core.utils.ast.AstEditor;
+import org.eclipse.wb.internal.core.utils.exception.DesignerException;
+import org.eclipse.wb.internal.core.utils.exception.DesignerExceptionUtils;
+import org.eclipse.wb.internal.core.utils.execution.ExecutionUtils;
+import org.eclipse.wb.internal.core.utils.external.ExternalFactoriesHelper;
+import org.eclipse.wb.internal.core.utils.state.EditorState;
+import org.eclipse.wb.internal.core.utils.ui.ResourceTracker;
+import org.eclipse.wb.os.OSSupport;
+import org.eclipse.wb.os.ShotStatistics;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.content.IContentDescription;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Parses and refreshes {@link ICompilationUnit}'s without editor, using same {@link JavaInfoParser}
+ * and {@link ObjectInfo#refresh()} as {@link DesignPage}, and collects {@link Result}'s with
+ * timings, number of components, native resources and errors. Used to track performance on real
+ * code base, from tests or {@link BatchDesignApplication}.
+ * <p>
+ * Should be used in UI thread.
+ *
+ * @coverage core.editor
+ */
+public final class BatchDesignRunner {
+	/**
+	 * Content type of {@link ICompilationUnit} with GUI.
+	 */
+	private static final String GUI_CONTENT_TYPE = "org.eclipse.wb.core.java.javaSourceGUI";
+
+	/**
+	 * Phases of processing single {@link ICompilationUnit}, in order of execution.
+	 */
+	public enum Phase {
+		/**
+		 * Parsing of Java source into AST with bindings.
+		 */
+		AST,
+		/**
+		 * Creating model objects and evaluating execution flow.
+		 */
+		MODEL,
+		/**
+		 * Refresh of model, i.e. creating toolkit objects and screenshots.
+		 */
+		REFRESH,
+		/**
+		 * Disposing model, toolkit objects and context of editor.
+		 */
+		DISPOSE
+	}
+
+	private final List<Result> m_results = new ArrayList<>();
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Access
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @return the {@link Result}'s of all processed {@link ICompilationUnit}'s.
+	 */
+	public List<Result> getResults() {
+		return Collections.unmodifiableList(m_results);
+	}
+
+	/**
+	 * @return the {@link ICompilationUnit}'s in source folders of given {@link IJavaProject}, which
+	 *         are recognized as GUI, same as for opening them in editor.
+	 */
+	public static List<ICompilationUnit> getGuiUnits(IJavaProject javaProject) throws Exception {
+		List<ICompilationUnit> units = new ArrayList<>();
+		for (IPackageFragmentRoot root : javaProject.getPackageFragmentRoots()) {
+			if (root.getKind() == IPackageFragmentRoot.K_SOURCE) {
+				for (IPackageFragment packageFragment : getPackageFragments(root)) {
+					for (ICompilationUnit unit : packageFragment.getCompilationUnits()) {
+						if (isGuiUnit(unit)) {
+							units.add(unit);
+						}
+					}
+				}
+			}
+		}
+		return units;
+	}
+
+	private static List<IPackageFragment> getPackageFragments(IPackageFragmentRoot root)
+			throws Exception {
+		List<IPackageFragment> fragments = new ArrayList<>();
+		for (Object child : root.getChildren()) {
+			if (child instanceof IPackageFragment packageFragment) {
+				fragments.add(packageFragment);
+			}
+		}
+		return fragments;
+	}
+
+	private static boolean isGuiUnit(ICompilationUnit unit) throws Exception {
+		if (unit.getUnderlyingResource() instanceof IFile file) {
+			IContentDescription description = file.getContentDescription();
+			return description != null
+					&& GUI_CONTENT_TYPE.equals(description.getContentType().getId());
+		}
+		return false;
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Run
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Processes given {@link ICompilationUnit}'s one by one.
+	 */
+	public void run(List<ICompilationUnit> units, IProgressMonitor monitor) {
+		monitor.beginTask("Processing compilation units...", units.size());
+		try {
+			for (ICompilationUnit unit : units) {
+				if (monitor.isCanceled()) {
+					break;
+				}
+				monitor.subTask(unit.getElementName());
+				run(unit);
+				monitor.worked(1);
+			}
+		} finally {
+			monitor.done();
+		}
+	}
+
+	/**
+	 * Parses, refreshes and disposes given {@link ICompilationUnit}. Exceptions are not thrown, but
+	 * remembered in {@link Result}.
+	 *
+	 * @return the {@link Result} for given {@link ICompilationUnit}.
+	 */
+	public Result run(ICompilationUnit unit) {
+		Result result = new Result(unit.getPath().toPortableString());
+		m_results.add(result);
+		List<EditorLifeCycleListener> listeners = getLifeCycleListeners();
+		resetPeakMemory();
+		AstEditor editor = null;
+		JavaInfo root = null;
+		Phase phase = Phase.AST;
+		try {
+			for (EditorLifeCycleListener listener : listeners) {
+				listener.parseStart(this);
+			}
+			try {
+				long start = System.currentTimeMillis();
+				editor = JavaInfoParser.createEditor(unit);
+				result.done(Phase.AST, start);
+				// model
+				phase = Phase.MODEL;
+				start = System.currentTimeMillis();
+				root = JavaInfoParser.parse(editor);
+				result.done(Phase.MODEL, start);
+			} finally {
+				for (EditorLifeCycleListener listener : listeners) {
+					listener.parseEnd(this);
+				}
+			}
+			// refresh
+			phase = Phase.REFRESH;
+			long start = System.currentTimeMillis();
+			ShotStatistics shots = OSSupport.get().getShotStatistics().copy();
+			root.refresh();
+			result.done(Phase.REFRESH, start);
+			result.m_shots = OSSupport.get().getShotStatistics().subtract(shots);
+			countComponents(result, root);
+			ResourceTracker resources = EditorState.get(editor).getResources();
+			result.m_handles = resources.getHandles();
+			result.m_imageBytes = resources.getBytes();
+		} catch (Throwable e) {
+			result.m_failedPhase = phase;
+			result.m_exception = e;
+		} finally {
+			dispose(result, root, listeners);
+			if (editor != null) {
+				result.m_leakedHandles = EditorState.get(editor).getResources().getLeakedHandles();
+			}
+			result.m_peakMemory = getPeakMemory();
+		}
+		return result;
+	}
+
+	/**
+	 * Disposes model in same way as {@link DesignPage} does when editor is closed.
+	 */
+	private void dispose(Result result,
+			final JavaInfo root,
+			List<EditorLifeCycleListener> listeners) {
+		long start = System.currentTimeMillis();
+		if (root != null) {
+			ExecutionUtils.runLog(() -> {
+				root.refresh_dispose();
+				root.getBroadcastObject().dispose();
+			});
+		}
+		for (final EditorLifeCycleListener listener : listeners) {
+			ExecutionUtils.runLog(() -> listener.disposeContext(this, true));
+		}
+		if (root != null) {
+			ExecutionUtils.runLog(() -> GlobalStateJava.deactivate(root));
+		}
+		result.done(Phase.DISPOSE, start);
+	}
+
+	private static List<EditorLifeCycleListener> getLifeCycleListeners() {
+		return ExternalFactoriesHelper.getElementsInstances(
+				EditorLifeCycleListener.class,
+				"org.eclipse.wb.core.editorLifeCycleListeners",
+				"listener");
+	}
+
+	private static void countComponents(final Result result, ObjectInfo root) throws Exception {
+		root.accept(new ObjectInfoVisitor() {
+			@Override
+			public boolean visit(ObjectInfo objectInfo) throws Exception {
+				result.m_components++;
+				if (objectInfo instanceof IAbstractComponentInfo component
+						&& component.getImage() != null) {
+					result.m_screenshots++;
+				}
+				return true;
+			}
+		});
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Memory
+	//
+	////////////////////////////////////////////////////////////////////////////
+	private static void resetPeakMemory() {
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() == MemoryType.HEAP && pool.isValid()) {
+				pool.resetPeakUsage();
+			}
+		}
+	}
+
+	/**
+	 * @return the sum of peak usage of heap memory pools, in bytes.
+	 */
+	private static long getPeakMemory() {
+		long peak = 0;
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() == MemoryType.HEAP && pool.isValid()) {
+				peak += pool.getPeakUsage().getUsed();
+			}
+		}
+		return peak;
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Report
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Writes {@link Result}'s as JSON objects, one line for each {@link ICompilationUnit}. Times
+	 * are in milliseconds, memory in bytes, <code>-1</code> means that phase was not finished.
+	 */
+	public void writeReport(Writer writer) throws IOException {
+		for (Result result : m_results) {
+			writer.write(result.toJson());
+			writer.write('\n');
+		}
+		writer.flush();
+	}
+
+	private static String quote(String s) {
+		if (s == null) {
+			return "null";
+		}
+		StringBuilder sb = new StringBuilder("\"");
+		for (char c : s.toCharArray()) {
+			if (c == '"' || c == '\\') {
+				sb.append('\\').append(c);
+			} else if (c < ' ') {
+				sb.append(String.format("\\u%04x", (int) c));
+			} else {
+				sb.append(c);
+			}
+		}
+		return sb.append('"').toString();
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Result
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Result of processing single {@link ICompilationUnit}.
+	 */
+	public static final class Result {
+		private final String m_unitPath;
+		private final Map<Phase, Long> m_times = new EnumMap<>(Phase.class);
+		private int m_components;
+		private int m_screenshots;
+		private int m_handles;
+		private long m_imageBytes;
+		private int m_leakedHandles;
+		private ShotStatistics m_shots = new ShotStatistics();
+		private long m_peakMemory;
+		private Phase m_failedPhase;
+		private Throwable m_exception;
+
+		private Result(String unitPath) {
+			m_unitPath = unitPath;
+		}
+
+		private void done(Phase phase, long start) {
+			m_times.put(phase, System.currentTimeMillis() - start);
+		}
+
+		/**
+		 * @return the workspace path of {@link ICompilationUnit}.
+		 */
+		public String getUnitPath() {
+			return m_unitPath;
+		}
+
+		/**
+		 * @return the duration of given {@link Phase} in milliseconds, or <code>-1</code> if this
+		 *         phase was not finished.
+		 */
+		public long getTime(Phase phase) {
+			Long time = m_times.get(phase);
+			return time != null ? time : -1;
+		}
+
+		/**
+		 * @return the number of {@link ObjectInfo}'s in refreshed hierarchy.
+		 */
+		public int getComponents() {
+			return m_components;
+		}
+
+		/**
+		 * @return the number of {@link IAbstractComponentInfo}'s which have screenshot after
+		 *         refresh.
+		 */
+		public int getScreenshots() {
+			return m_screenshots;
+		}
+
+		/**
+		 * @return the number of native resources of editor after refresh.
+		 */
+		public int getHandles() {
+			return m_handles;
+		}
+
+		/**
+		 * @return the size of native images of editor after refresh, in bytes.
+		 */
+		public long getImageBytes() {
+			return m_imageBytes;
+		}
+
+		/**
+		 * @return the numbers of captured and reused screenshot images and their pixels during
+		 *         refresh.
+		 */
+		public ShotStatistics getShotStatistics() {
+			return m_shots;
+		}
+
+		/**
+		 * @return the number of native resources which were not disposed by their owners with
+		 *         model.
+		 */
+		public int getLeakedHandles() {
+			return m_leakedHandles;
+		}
+
+		/**
+		 * @return the sum of peak usage of heap memory pools during processing, in bytes.
+		 */
+		public long getPeakMemory() {
+			return m_peakMemory;
+		}
+
+		/**
+		 * @return the {@link Phase} which failed, or <code>null</code> if no errors.
+		 */
+		public Phase getFailedPhase() {
+			return m_failedPhase;
+		}
+
+		/**
+		 * @return the {@link Throwable} which happened, or <code>null</code> if no errors.
+		 */
+		public Throwable getException() {
+			return m_exception;
+		}
+
+		/**
+		 * @return the single line description of error, or <code>null</code> if no errors.
+		 */
+		public String getError() {
+			if (m_exception == null) {
+				return null;
+			}
+			Throwable cause = DesignerExceptionUtils.getDesignerCause(m_exception);
+			String error = cause instanceof DesignerException designerException
+					? "DesignerException " + designerException.getCode()
+					: cause.getClass().getName();
+			String message = cause.getMessage();
+			if (message != null) {
+				error += ": " + StringUtils.normalizeSpace(message);
+			}
+			return error;
+		}
+
+		/**
+		 * @return the JSON object with this {@link Result}.
+		 */
+		public String toJson() {
+			StringBuilder sb = new StringBuilder();
+			sb.append("{\"unit\":").append(quote(m_unitPath));
+			sb.append(",\"phases\":{");
+			for (Phase phase : Phase.values()) {
+				sb.append(phase.ordinal() == 0 ? "" : ",");
+				String name = phase.name().toLowerCase(Locale.ROOT);
+				sb.append(quote(name)).append(':').append(getTime(phase));
+			}
+			sb.append("},\"components\":").append(m_components);
+			sb.append(",\"screenshots\":").append(m_screenshots);
+			sb.append(",\"handles\":").append(m_handles);
+			sb.append(",\"imageBytes\":").append(m_imageBytes);
+			sb.append(",\"capturedImages\":").append(m_shots.getCapturedImages());
+			sb.append(",\"capturedPixels\":").append(m_shots.getCapturedPixels());
+			sb.append(",\"reusedImages\":").append(m_shots.getReusedImages());
+			sb.append(",\"reusedPixels\":").append(m_shots.getReusedPixels());
+			sb.append(",\"leakedHandles\":").append(m_leakedHandles);
+			sb.append(",\"peakMemory\":").append(m_peakMemory);
+			sb.append(",\"failedPhase\":");
+			String failedPhase =
+					m_failedPhase != null ? m_failedPhase.name().toLowerCase(Locale.ROOT) : null;
+			sb.append(quote(failedPhase));
+			sb.append(",\"error\":").append(quote(getError()));
+			sb.append('}');
+			return sb.toString();
+		}
+	}
+}
@@ -34,7 +34,7 @@ import org.eclipse.wb.internal.core.editor.structure.PartListenerAdapter;
 import org.eclipse.wb.internal.core.model.JavaInfoUtils;
 import org.eclipse.wb.internal.core.model.util.GlobalStateJava;
 import org.eclipse.wb.internal.core.parser.JavaInfoParser;
-import org.eclipse.wb.internal.core.utils.Debug;
+import org.eclipse.wb.internal.core.utils.ast.AstEditor;
 import org.eclipse.wb.internal.core.utils.exception.DesignerException;
 import org.eclipse.wb.internal.core.utils.exception.DesignerExceptionUtils;
 import org.eclipse.wb.internal.core.utils.exception.ICoreExceptionConstants;
@@ -49,6 +49,7 @@ import org.eclipse.wb.internal.core.utils.ui.GridLayoutFactory;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jface.dialogs.ProgressMonitorDialog;
 import org.eclipse.jface.operation.IRunnableWithProgress;
@@ -56,6 +57,7 @@ import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.ui.IPartListener;
 import org.eclipse.ui.IWorkbenchPart;
 
@@ -416,6 +418,22 @@ public final class DesignPage implements IDesignPage {
 		}
 	}
 
+	/**
+	 * Applies changes of {@link ICompilationUnit} to existing model, if they are simple enough, or
+	 * parses it again and displays in GEF.
+	 *
+	 * @see IncrementalSourceSync
+	 */
+	public void refreshGEF_onSourceChange() throws Exception {
+		if (m_rootObject != null && m_designerState == DesignerState.Successful) {
+			String source = m_compilationUnit.getBuffer().getContents();
+			if (IncrementalSourceSync.apply(m_rootObject, source)) {
+				return;
+			}
+		}
+		refreshGEF();
+	}
+
 	/**
 	 * Parses {@link ICompilationUnit} and displays it in GEF.
 	 *
@@ -436,6 +454,11 @@ public final class DesignPage implements IDesignPage {
 			m_pageBook.showPage(m_designComposite);
 			m_designerState = DesignerState.Successful;
 			return true;
+		} catch (OperationCanceledException e) {
+			// parsing was canceled by user, show Source
+			m_designerState = DesignerState.Undefined;
+			m_designerEditor.getMultiMode().showSource();
+			return false;
 		} catch (Throwable e) {
 			// extract "real" exception
 			if (e instanceof InvocationTargetException) {
@@ -450,7 +473,12 @@ public final class DesignPage implements IDesignPage {
 		}
 	}
 
+	/**
+	 * Parses {@link ICompilationUnit} with progress. Java source is parsed into AST in background
+	 * thread, and this can be canceled. Model and toolkit objects are created in UI thread.
+	 */
 	private void internal_refreshGEF_withProgress() throws Exception {
+		final Display display = Display.getCurrent();
 		IRunnableWithProgress runnable = new IRunnableWithProgress() {
 			@Override
 			@SuppressWarnings("removal")
@@ -459,19 +487,35 @@ public final class DesignPage implements IDesignPage {
 				monitor.beginTask("Opening Design page.", 7);
 				//
 				try {
-					DesignPageSite.setProgressMonitor(monitor);
-					internal_refreshGEF(monitor);
+					runUI(display, () -> {
+						DesignPageSite.setProgressMonitor(monitor);
+						parse_start(monitor);
+					});
+					try {
+						final AstEditor editor = parse_createEditor(monitor);
+						if (monitor.isCanceled()) {
+							throw new InterruptedException();
+						}
+						runUI(display, () -> parse_createModel(editor, monitor));
+					} finally {
+						runUI(display, () -> parse_end());
+					}
+					runUI(display, () -> parse_show(monitor));
+				} catch (InterruptedException e) {
+					throw e;
 				} catch (Throwable e) {
 					ReflectionUtils.propagate(e);
 				} finally {
-					DesignPageSite.setProgressMonitor(null);
+					runUI(display, () -> DesignPageSite.setProgressMonitor(null));
 				}
 				//
 				monitor.done();
 			}
 		};
 		try {
-			new ProgressMonitorDialog(DesignerPlugin.getShell()).run(false, false, runnable);
+			new ProgressMonitorDialog(DesignerPlugin.getShell()).run(true, true, runnable);
+		} catch (InterruptedException e) {
+			throw new OperationCanceledException();
 		} catch (InvocationTargetException e) {
 			ReflectionUtils.propagate(e.getCause());
 		} catch (Throwable e) {
@@ -479,6 +523,24 @@ public final class DesignPage implements IDesignPage {
 		}
 	}
 
+	/**
+	 * Runs given {@link RunnableEx} in UI thread and re-throws its exception, if any, in current
+	 * thread.
+	 */
+	private static void runUI(Display display, final RunnableEx runnable) {
+		final Throwable[] exception = new Throwable[1];
+		display.syncExec(() -> {
+			try {
+				runnable.run();
+			} catch (Throwable e) {
+				exception[0] = e;
+			}
+		});
+		if (exception[0] != null) {
+			throw ReflectionUtils.propagate(exception[0]);
+		}
+	}
+
 	/**
 	 * Displays the error information on Design Pane.
 	 *
@@ -529,26 +591,77 @@ public final class DesignPage implements IDesignPage {
 	 * Implementation of {@link #internal_refreshGEF()} with {@link IProgressMonitor}.
 	 */
 	private void internal_refreshGEF(IProgressMonitor monitor) throws Exception {
+		parse_start(monitor);
+		try {
+			AstEditor editor = parse_createEditor(monitor);
+			parse_createModel(editor, monitor);
+		} finally {
+			parse_end();
+		}
+		parse_show(monitor);
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Parsing stages
+	//
+	////////////////////////////////////////////////////////////////////////////
+	private DesignPageTimings m_timings = new DesignPageTimings();
+
+	/**
+	 * @return the {@link DesignPageTimings} of last parsing.
+	 */
+	public DesignPageTimings getTimings() {
+		return m_timings;
+	}
+
+	/**
+	 * Notifies {@link EditorLifeCycleListener}'s that parsing is started.
+	 */
+	private void parse_start(IProgressMonitor monitor) throws Exception {
+		m_timings = new DesignPageTimings();
 		monitor.subTask("Initializing...");
 		monitor.worked(1);
 		// notify parseStart()
 		for (EditorLifeCycleListener listener : getLifeCycleListeners()) {
 			listener.parseStart(this);
 		}
-		// do parse
-		try {
-			long start = System.currentTimeMillis();
-			monitor.subTask("Parsing...");
-			Debug.print("Parsing...");
-			m_rootObject = JavaInfoParser.parse(m_compilationUnit);
-			monitor.worked(1);
-			Debug.println("done: " + (System.currentTimeMillis() - start));
-		} finally {
-			// notify parseEnd()
-			for (EditorLifeCycleListener listener : getLifeCycleListeners()) {
-				listener.parseEnd(this);
-			}
+	}
+
+	/**
+	 * Parses Java source into AST. May be invoked in non-UI thread.
+	 */
+	private AstEditor parse_createEditor(IProgressMonitor monitor) throws Exception {
+		long start = System.currentTimeMillis();
+		monitor.subTask("Parsing...");
+		AstEditor editor = JavaInfoParser.createEditor(m_compilationUnit);
+		m_timings.done(DesignPageTimings.Stage.AST, start);
+		return editor;
+	}
+
+	/**
+	 * Creates model for parsed AST.
+	 */
+	private void parse_createModel(AstEditor editor, IProgressMonitor monitor) throws Exception {
+		long start = System.currentTimeMillis();
+		m_rootObject = JavaInfoParser.parse(editor);
+		monitor.worked(1);
+		m_timings.done(DesignPageTimings.Stage.MODEL, start);
+	}
+
+	/**
+	 * Notifies {@link EditorLifeCycleListener}'s that parsing is done, successfully or not.
+	 */
+	private void parse_end() throws Exception {
+		for (EditorLifeCycleListener listener : getLifeCycleListeners()) {
+			listener.parseEnd(this);
 		}
+	}
+
+	/**
+	 * Refreshes parsed model and shows it in GEF.
+	 */
+	private void parse_show(IProgressMonitor monitor) throws Exception {
 		// install site
 		{
 			IDesignPageSite designPageSite = new DesignPageSite() {
@@ -588,10 +701,14 @@ public final class DesignPage implements IDesignPage {
 			monitor.subTask("Refreshing...");
 			m_rootObject.refresh();
 			monitor.worked(1);
-			Debug.println("refresh: " + (System.currentTimeMillis() - start));
+			m_timings.done(DesignPageTimings.Stage.REFRESH, start);
 		}
 		// refresh design
-		m_designComposite.refresh(m_rootObject, monitor);
+		{
+			long start = System.currentTimeMillis();
+			m_designComposite.refresh(m_rootObject, monitor);
+			m_timings.done(DesignPageTimings.Stage.DESIGN, start);
+		}
 		// configure helpers
 		m_undoManager.setRoot(m_rootObject);
 	}
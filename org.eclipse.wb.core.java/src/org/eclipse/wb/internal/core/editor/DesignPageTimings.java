@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 WindowBuilder contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    WindowBuilder contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.wb.internal.core.editor;
+
+import org.eclipse.swt.widgets.Display;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Durations of stages performed by {@link DesignPage} to parse compilation unit and show it in
+ * GEF.
+ *
+ * @coverage core.editor
+ */
+public final class DesignPageTimings {
+	/**
+	 * Stages of opening {@link DesignPage}, in order of execution.
+	 */
+	public enum Stage {
+		/**
+		 * Parsing of Java source into AST with bindings, performed in background when progress is
+		 * shown.
+		 */
+		AST,
+		/**
+		 * Creating model objects and evaluating execution flow, in UI thread.
+		 */
+		MODEL,
+		/**
+		 * First refresh of model, i.e. creating toolkit objects and screenshots, in UI thread.
+		 */
+		REFRESH,
+		/**
+		 * Creating GEF and other views of model, in UI thread.
+		 */
+		DESIGN
+	}
+
+	private final Map<Stage, Long> m_times = new EnumMap<>(Stage.class);
+	private final Set<Stage> m_backgroundStages = EnumSet.noneOf(Stage.class);
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Access
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @return the duration of given {@link Stage} in milliseconds, or <code>-1</code> if this stage
+	 *         was not executed, for example because of exception.
+	 */
+	public synchronized long getTime(Stage stage) {
+		Long time = m_times.get(stage);
+		return time != null ? time : -1;
+	}
+
+	/**
+	 * @return the durations of executed {@link Stage}'s, in order of execution.
+	 */
+	public synchronized Map<Stage, Long> getTimes() {
+		return Collections.unmodifiableMap(new EnumMap<>(m_times));
+	}
+
+	/**
+	 * @return <code>true</code> if given {@link Stage} was executed in non-UI thread.
+	 */
+	public synchronized boolean isBackground(Stage stage) {
+		return m_backgroundStages.contains(stage);
+	}
+
+	/**
+	 * Remembers that given {@link Stage} was started at given time and finished now, in current
+	 * thread.
+	 */
+	synchronized void done(Stage stage, long start) {
+		m_times.put(stage, System.currentTimeMillis() - start);
+		if (Display.getCurrent() == null) {
+			m_backgroundStages.add(stage);
+		}
+	}
+
+	@Override
+	public synchronized String toString() {
+		return m_times + " background=" + m_backgroundStages;
+	}
+}
@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (c) 2026 WindowBuilder contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    WindowBuilder contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.wb.internal.core.editor;
+
+import org.eclipse.wb.core.model.JavaInfo;
+import org.eclipse.wb.core.model.ObjectInfo;
+import org.eclipse.wb.internal.core.model.ObjectInfoVisitor;
+import org.eclipse.wb.internal.core.utils.StringUtilities;
+import org.eclipse.wb.internal.core.utils.ast.AstEditor;
+import org.eclipse.wb.internal.core.utils.ast.AstNodeUtils;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.BooleanLiteral;
+import org.eclipse.jdt.core.dom.CharacterLiteral;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.Expression;
+import org.eclipse.jdt.core.dom.InfixExpression;
+import org.eclipse.jdt.core.dom.MethodInvocation;
+import org.eclipse.jdt.core.dom.NullLiteral;
+import org.eclipse.jdt.core.dom.NumberLiteral;
+import org.eclipse.jdt.core.dom.ParenthesizedExpression;
+import org.eclipse.jdt.core.dom.PrefixExpression;
+import org.eclipse.jdt.core.dom.Statement;
+import org.eclipse.jdt.core.dom.StringLiteral;
+
+/**
+ * Applies changes of source, done by user in "Source" page, to existing model, without parsing.
+ * <p>
+ * Only simple edits are supported: change inside of literal argument of {@link MethodInvocation}
+ * of some {@link JavaInfo}, described as its method, such as <code>setText("text")</code> or
+ * <code>setBounds(10, 20, 100, 25)</code>. Arguments may use only literals, prefix/infix operators
+ * and parenthesis, both before and after change. Any other (structural) edit should be handled by
+ * full parsing.
+ *
+ * @coverage core.editor
+ */
+public final class IncrementalSourceSync {
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Constructor
+	//
+	////////////////////////////////////////////////////////////////////////////
+	private IncrementalSourceSync() {
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Access
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Tries to apply difference between current source of {@link AstEditor} of given root and new
+	 * source to model, and refreshes it.
+	 *
+	 * @return <code>true</code> if change was applied, or <code>false</code> if this is structural
+	 *         change, so full parsing is required.
+	 */
+	public static boolean apply(JavaInfo root, String newSource) {
+		AstEditor editor = root.getEditor();
+		String oldSource = editor.getSource();
+		if (oldSource.equals(newSource)) {
+			return true;
+		}
+		try {
+			// prepare changed interval
+			int[] intervals = StringUtilities.getDifferenceIntervals(oldSource, newSource);
+			int start = intervals[0];
+			int oldLength = intervals[1];
+			int delta = intervals[3] - oldLength;
+			// classify change
+			Expression argument = getChangedArgument(root, start, start + oldLength);
+			if (argument == null) {
+				return false;
+			}
+			// prepare new source of argument
+			int argumentStart = argument.getStartPosition();
+			int argumentLength = argument.getLength();
+			String argumentSource =
+					newSource.substring(argumentStart, argumentStart + argumentLength + delta);
+			if (argumentSource.indexOf('\n') != -1 || argumentSource.indexOf('\r') != -1) {
+				return false;
+			}
+			Expression newArgument = editor.getParser().parseExpression(argumentStart, argumentSource);
+			if (newArgument.getStartPosition() != argumentStart
+					|| newArgument.getLength() != argumentSource.length()
+					|| !isLiteralExpression(newArgument)) {
+				return false;
+			}
+			// apply change, buffer already has it, so nothing to commit
+			root.startEdit();
+			try {
+				editor.replaceSubstring(argumentStart, argumentLength, argumentSource);
+				AstEditor.replaceNode(argument, newArgument);
+				editor.setChangesCommitted();
+			} finally {
+				root.endEdit();
+			}
+			return true;
+		} catch (Throwable e) {
+			// usually incomplete source while typing, full parsing will report real problems
+			return false;
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Classification
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @return the literal argument of {@link MethodInvocation} of some {@link JavaInfo} that covers
+	 *         given interval, or <code>null</code> if change in this interval is structural.
+	 */
+	private static Expression getChangedArgument(JavaInfo root, int start, int end) throws Exception {
+		CompilationUnit unit = root.getEditor().getAstUnit();
+		ASTNode node = AstNodeUtils.getEnclosingNode(unit, start);
+		Expression argument = getChangedArgument(root, node, start, end);
+		// insertion just after node, for example new digit at end of NumberLiteral
+		if (argument == null && start == end && start > 0) {
+			node = AstNodeUtils.getEnclosingNode(unit, start - 1);
+			argument = getChangedArgument(root, node, start, end);
+		}
+		return argument;
+	}
+
+	/**
+	 * @return the literal argument of {@link MethodInvocation} of some {@link JavaInfo}, which is
+	 *         given {@link ASTNode} or its parent and covers given interval, including its bounds.
+	 */
+	private static Expression getChangedArgument(JavaInfo root, ASTNode node, int start, int end)
+			throws Exception {
+		while (node != null && !(node instanceof Statement)) {
+			int nodeStart = node.getStartPosition();
+			int nodeEnd = nodeStart + node.getLength();
+			if (nodeStart <= start
+					&& end <= nodeEnd
+					&& node.getLocationInParent() == MethodInvocation.ARGUMENTS_PROPERTY) {
+				Expression argument = (Expression) node;
+				MethodInvocation invocation = (MethodInvocation) node.getParent();
+				if (isLiteralExpression(argument) && isPropertyInvocation(root, invocation)) {
+					return argument;
+				}
+				return null;
+			}
+			node = node.getParent();
+		}
+		return null;
+	}
+
+	/**
+	 * @return <code>true</code> if given {@link MethodInvocation} is invocation of described method
+	 *         of some {@link JavaInfo}.
+	 */
+	private static boolean isPropertyInvocation(JavaInfo root, final MethodInvocation invocation)
+			throws Exception {
+		final String signature = AstNodeUtils.getMethodSignature(invocation);
+		final boolean[] result = new boolean[1];
+		root.accept(new ObjectInfoVisitor() {
+			@Override
+			public boolean visit(ObjectInfo objectInfo) throws Exception {
+				if (!result[0] && objectInfo instanceof JavaInfo javaInfo) {
+					if (javaInfo.getDescription().getMethod(signature) != null
+							&& javaInfo.getMethodInvocations(signature).contains(invocation)) {
+						result[0] = true;
+					}
+				}
+				return !result[0];
+			}
+		});
+		return result[0];
+	}
+
+	/**
+	 * @return <code>true</code> if given {@link Expression} uses only literals and operators, so can
+	 *         not reference any component or variable.
+	 */
+	private static boolean isLiteralExpression(Expression expression) {
+		final boolean[] result = {true};
+		expression.accept(new ASTVisitor(true) {
+			@Override
+			public boolean preVisit2(ASTNode node) {
+				if ((node.getFlags() & (ASTNode.MALFORMED | ASTNode.RECOVERED)) != 0) {
+					result[0] = false;
+				} else if (!(node instanceof StringLiteral
+						|| node instanceof NumberLiteral
+						|| node instanceof BooleanLiteral
+						|| node instanceof CharacterLiteral
+						|| node instanceof NullLiteral
+						|| node instanceof PrefixExpression
+						|| node instanceof InfixExpression
+						|| node instanceof ParenthesizedExpression)) {
+					result[0] = false;
+				}
+				return result[0];
+			}
+		});
+		return result[0];
+	}
+}
@@ -193,7 +193,7 @@ final class MultiSplitMode extends DefaultMultiMode {
 
 	private void parseWhenSourceActive() {
 		try {
-			m_designPage.refreshGEF();
+			m_designPage.refreshGEF_onSourceChange();
 		} catch (Throwable ex) {
 		}
 	}
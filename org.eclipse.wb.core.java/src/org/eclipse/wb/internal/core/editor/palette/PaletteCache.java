@@ -0,0 +1,371 @@
+/*******************************************************************************
+ * Copyright (c) 2026 WindowBuilder contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    WindowBuilder contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.wb.internal.core.editor.palette;
+
+import org.eclipse.wb.internal.core.utils.Pair;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IRegistryChangeListener;
+import org.eclipse.core.runtime.Platform;
+
+import org.apache.commons.io.IOUtils;
+import org.xml.sax.Attributes;
+import org.xml.sax.helpers.AttributesImpl;
+import org.xml.sax.helpers.DefaultHandler;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+
+/**
+ * Cache for expensive parts of loading palette in {@link PaletteManager}: results of "condition"
+ * attributes, palette and commands XML documents.
+ * <p>
+ * Results of conditions are kept per toolkit and project, until versions of editor are changed.
+ * Conditions which use "rootModel" are not cached.
+ * <p>
+ * XML documents are kept as recorded SAX events. Document from workspace {@link IFile} is read
+ * again when its modification stamp is changed, from local {@link File} - when its modification
+ * time or length is changed. Documents found on classpath are kept per project and forgotten on any
+ * change of classpath, jar or palette file in workspace.
+ * <p>
+ * Everything is forgotten when extension registry is changed, i.e. bundles are added or removed.
+ * Everything related to project is forgotten when project is closed or deleted. Listeners are
+ * installed on first use of cache, not during plugin activation, when workspace may be not ready.
+ *
+ * @coverage core.editor.palette
+ */
+public final class PaletteCache {
+	/**
+	 * Maximal number of remembered file documents, least recently used are forgotten.
+	 */
+	private static final int MAX_FILE_DOCUMENTS = 64;
+	private static final Map<String, ConditionResults> m_conditions = new HashMap<>();
+	private static final Map<String, List<Pair<String, Document>>> m_classpathDocuments =
+			new HashMap<>();
+	private static final Map<String, Pair<Object, Document>> m_fileDocuments =
+			new LinkedHashMap<>(16, 0.75f, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, Pair<Object, Document>> eldest) {
+					return size() > MAX_FILE_DOCUMENTS;
+				}
+			};
+	private static boolean m_installed;
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Constructor
+	//
+	////////////////////////////////////////////////////////////////////////////
+	private PaletteCache() {
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Conditions
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @return the cached result of given condition, or evaluates it using given {@link Callable} if
+	 *         condition was not evaluated yet for these versions.
+	 */
+	static synchronized boolean isConditionTrue(IProject project,
+			String toolkitId,
+			Map<String, Object> versions,
+			String condition,
+			Callable<Boolean> evaluator) throws Exception {
+		install();
+		String key = project.getName() + "|" + toolkitId;
+		ConditionResults results = m_conditions.get(key);
+		if (results == null || !results.m_versions.equals(versions)) {
+			results = new ConditionResults(new HashMap<>(versions));
+			m_conditions.put(key, results);
+		}
+		Boolean result = results.m_results.get(condition);
+		if (result == null) {
+			result = evaluator.call();
+			results.m_results.put(condition, result);
+		}
+		return result;
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Documents
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @return the {@link Document}'s with given path on classpath of project, with their URL's.
+	 */
+	static synchronized List<Pair<String, Document>> getClasspathDocuments(IProject project,
+			ClassLoader classLoader,
+			String path) throws Exception {
+		install();
+		String key = project.getName() + "|" + path;
+		List<Pair<String, Document>> documents = m_classpathDocuments.get(key);
+		if (documents == null) {
+			documents = new ArrayList<>();
+			Enumeration<URL> resources = classLoader.getResources(path);
+			while (resources.hasMoreElements()) {
+				URL url = resources.nextElement();
+				documents.add(Pair.create(url.toString(), Document.read(url.openStream())));
+			}
+			m_classpathDocuments.put(key, documents);
+		}
+		return documents;
+	}
+
+	/**
+	 * @return the {@link Document} with content of given {@link IFile}.
+	 */
+	static synchronized Document getDocument(IFile file) throws Exception {
+		install();
+		String key = file.getFullPath().toPortableString();
+		Object stamp = file.getModificationStamp();
+		Pair<Object, Document> entry = m_fileDocuments.get(key);
+		if (entry == null || !entry.getLeft().equals(stamp)) {
+			entry = Pair.create(stamp, Document.read(file.getContents(true)));
+			m_fileDocuments.put(key, entry);
+		}
+		return entry.getRight();
+	}
+
+	/**
+	 * @return the {@link Document} with content of given {@link File}.
+	 */
+	static synchronized Document getDocument(File file) throws Exception {
+		install();
+		String key = file.getAbsolutePath();
+		Object stamp = file.lastModified() + ":" + file.length();
+		Pair<Object, Document> entry = m_fileDocuments.get(key);
+		if (entry == null || !entry.getLeft().equals(stamp)) {
+			entry = Pair.create(stamp, Document.read(new FileInputStream(file)));
+			m_fileDocuments.put(key, entry);
+		}
+		return entry.getRight();
+	}
+
+	/**
+	 * Forgets {@link Document} of given {@link File}, for example because we just wrote it.
+	 */
+	static synchronized void invalidate(File file) {
+		m_fileDocuments.remove(file.getAbsolutePath());
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Invalidation
+	//
+	////////////////////////////////////////////////////////////////////////////
+	private static synchronized void clear() {
+		m_conditions.clear();
+		m_classpathDocuments.clear();
+		m_fileDocuments.clear();
+	}
+
+	private static synchronized void clearClasspath() {
+		m_classpathDocuments.clear();
+	}
+
+	/**
+	 * Forgets everything related to given project.
+	 */
+	private static synchronized void clearProject(String projectName) {
+		String keyPrefix = projectName + "|";
+		String pathPrefix = "/" + projectName + "/";
+		m_conditions.keySet().removeIf(key -> key.startsWith(keyPrefix));
+		m_classpathDocuments.keySet().removeIf(key -> key.startsWith(keyPrefix));
+		m_fileDocuments.keySet().removeIf(key -> key.startsWith(pathPrefix));
+	}
+
+	/**
+	 * Forgets everything related to projects which were closed or deleted.
+	 */
+	private static void clearRemovedProjects(IResourceDelta delta) {
+		for (IResourceDelta child : delta.getAffectedChildren()) {
+			IResource resource = child.getResource();
+			if (resource.getType() == IResource.PROJECT
+					&& (child.getKind() == IResourceDelta.REMOVED || !resource.isAccessible())) {
+				clearProject(resource.getName());
+			}
+		}
+	}
+
+	/**
+	 * @return <code>true</code> if given {@link IResourceDelta} may change resources on classpath.
+	 */
+	private static boolean isClasspathChange(IResourceDelta delta) throws Exception {
+		final boolean[] result = new boolean[1];
+		delta.accept(child -> {
+			IResource resource = child.getResource();
+			if (resource.getType() == IResource.PROJECT) {
+				result[0] |= child.getKind() != IResourceDelta.CHANGED
+						|| (child.getFlags() & IResourceDelta.OPEN) != 0;
+			} else if (resource.getType() == IResource.FILE) {
+				String name = resource.getName();
+				result[0] |= name.equals(".classpath")
+						|| name.equals("MANIFEST.MF")
+						|| "jar".equals(resource.getFileExtension())
+						|| name.endsWith(".wbp-palette.xml")
+						|| name.endsWith(".wbp-palette-commands.xml");
+			}
+			return !result[0];
+		});
+		return result[0];
+	}
+
+	private static final IResourceChangeListener m_resourceListener = new IResourceChangeListener() {
+		@Override
+		public void resourceChanged(IResourceChangeEvent event) {
+			try {
+				IResourceDelta delta = event.getDelta();
+				if (delta != null) {
+					clearRemovedProjects(delta);
+					if (isClasspathChange(delta)) {
+						clearClasspath();
+					}
+				}
+			} catch (Throwable e) {
+				clearClasspath();
+			}
+		}
+	};
+	private static final IRegistryChangeListener m_registryListener = event -> clear();
+
+	/**
+	 * Installs listeners, if not installed yet.
+	 */
+	private static synchronized void install() {
+		if (!m_installed) {
+			ResourcesPlugin.getWorkspace().addResourceChangeListener(
+					m_resourceListener,
+					IResourceChangeEvent.POST_CHANGE);
+			Platform.getExtensionRegistry().addRegistryChangeListener(m_registryListener);
+			m_installed = true;
+		}
+	}
+
+	/**
+	 * Removes listeners, if they were installed, and forgets everything, invoked when plugin is
+	 * stopped.
+	 */
+	public static synchronized void uninstall() {
+		if (m_installed) {
+			ResourcesPlugin.getWorkspace().removeResourceChangeListener(m_resourceListener);
+			Platform.getExtensionRegistry().removeRegistryChangeListener(m_registryListener);
+			m_installed = false;
+		}
+		clear();
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// ConditionResults
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Results of conditions for single set of versions.
+	 */
+	private static final class ConditionResults {
+		private final Map<String, Object> m_versions;
+		private final Map<String, Boolean> m_results = new HashMap<>();
+
+		private ConditionResults(Map<String, Object> versions) {
+			m_versions = versions;
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Document
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * XML document, recorded as sequence of start/end elements, so can be replayed into
+	 * {@link DefaultHandler} without parsing.
+	 */
+	static final class Document {
+		private final List<Pair<String, Attributes>> m_events = new ArrayList<>();
+		private Exception m_exception;
+
+		private Document() {
+		}
+
+		/**
+		 * Parses given {@link InputStream} and closes it. Parsing exception is remembered and thrown
+		 * from {@link #replay(DefaultHandler)} after elements which were read before it.
+		 */
+		private static Document read(InputStream inputStream) {
+			final Document document = new Document();
+			try {
+				SAXParser parser = SAXParserFactory.newInstance().newSAXParser();
+				parser.parse(inputStream, new DefaultHandler() {
+					@Override
+					public void startElement(String uri,
+							String localName,
+							String name,
+							Attributes attributes) {
+						document.m_events.add(Pair.create(name, new AttributesImpl(attributes)));
+					}
+
+					@Override
+					public void endElement(String uri, String localName, String name) {
+						document.m_events.add(Pair.create(name, null));
+					}
+				});
+			} catch (Exception e) {
+				document.m_exception = e;
+			} finally {
+				IOUtils.closeQuietly(inputStream);
+			}
+			return document;
+		}
+
+		/**
+		 * Sends recorded elements to given {@link DefaultHandler}.
+		 */
+		void replay(DefaultHandler handler) throws Exception {
+			for (Pair<String, Attributes> event : m_events) {
+				String name = event.getLeft();
+				Attributes attributes = event.getRight();
+				if (attributes != null) {
+					handler.startElement("", "", name, attributes);
+				} else {
+					handler.endElement("", "", name);
+				}
+			}
+			if (m_exception != null) {
+				throw m_exception;
+			}
+		}
+	}
+}
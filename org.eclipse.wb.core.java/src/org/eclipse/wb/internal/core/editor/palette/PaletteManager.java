@@ -19,6 +19,7 @@ import org.eclipse.wb.core.editor.palette.model.PaletteInfo;
 import org.eclipse.wb.core.editor.palette.model.entry.ComponentEntryInfo;
 import org.eclipse.wb.core.model.JavaInfo;
 import org.eclipse.wb.internal.core.DesignerPlugin;
+import org.eclipse.wb.internal.core.editor.palette.PaletteCache.Document;
 import org.eclipse.wb.internal.core.editor.palette.command.CategoryAddCommand;
 import org.eclipse.wb.internal.core.editor.palette.command.CategoryEditCommand;
 import org.eclipse.wb.internal.core.editor.palette.command.CategoryMoveCommand;
@@ -56,29 +57,23 @@ import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.jdt.core.IJavaProject;
 
 import org.apache.commons.io.FileUtils;
-import org.apache.commons.io.IOUtils;
 import org.xml.sax.Attributes;
 import org.xml.sax.SAXException;
 import org.xml.sax.helpers.DefaultHandler;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileOutputStream;
-import java.io.InputStream;
 import java.io.PrintWriter;
 import java.lang.reflect.Constructor;
-import java.net.URL;
 import java.util.ArrayList;
-import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
-
-import javax.xml.parsers.SAXParser;
-import javax.xml.parsers.SAXParserFactory;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Manager for {@link PaletteInfo} for some GUI toolkit.
@@ -164,6 +159,7 @@ public final class PaletteManager {
 	public void importFrom(String path) throws Exception {
 		File commandsFile = commands_getFile();
 		FileUtils.copyFile(new File(path), commandsFile);
+		PaletteCache.invalidate(commandsFile);
 	}
 
 	////////////////////////////////////////////////////////////////////////////
@@ -208,36 +204,31 @@ public final class PaletteManager {
 		// read-only "wbp-meta" from classpath, for example from jar's
 		{
 			String commandsPath = "wbp-meta/" + m_toolkitId + ".wbp-palette-commands.xml";
-			Enumeration<URL> resources = m_classLoader.getResources(commandsPath);
-			while (resources.hasMoreElements()) {
-				InputStream inputStream = resources.nextElement().openStream();
-				commandsRead_fromStream(inputStream);
+			for (Pair<String, Document> document : PaletteCache.getClasspathDocuments(
+					m_project,
+					m_classLoader,
+					commandsPath)) {
+				commandsRead_fromDocument(document.getRight());
 			}
 		}
 		// from read-write file
 		File commandsFile = commands_getFile();
 		if (commandsFile.exists()) {
-			FileInputStream inputStream = new FileInputStream(commandsFile);
-			commandsRead_fromStream(inputStream);
+			commandsRead_fromDocument(PaletteCache.getDocument(commandsFile));
 		}
 	}
 
-	private void commandsRead_fromStream(final InputStream inputStream) throws Exception {
-		try {
-			ExecutionUtils.runIgnore(new RunnableEx() {
-				@Override
-				public void run() throws Exception {
-					commandsRead_fromStream0(inputStream);
-				}
-			});
-		} finally {
-			IOUtils.closeQuietly(inputStream);
-		}
+	private void commandsRead_fromDocument(final Document document) {
+		ExecutionUtils.runIgnore(new RunnableEx() {
+			@Override
+			public void run() throws Exception {
+				commandsRead_fromDocument0(document);
+			}
+		});
 	}
 
-	private void commandsRead_fromStream0(InputStream inputStream) throws Exception {
-		SAXParser parser = SAXParserFactory.newInstance().newSAXParser();
-		parser.parse(inputStream, new DefaultHandler() {
+	private void commandsRead_fromDocument0(Document document) throws Exception {
+		document.replay(new DefaultHandler() {
 			@Override
 			public void startElement(String uri,
 					String localName,
@@ -314,6 +305,7 @@ public final class PaletteManager {
 				} finally {
 					writer.close();
 				}
+				PaletteCache.invalidate(commandsFile);
 				// we may be saved something in "wbp-meta", so refresh it
 				m_project.getFolder("wbp-meta").refreshLocal(IResource.DEPTH_INFINITE, null);
 			}
@@ -555,10 +547,49 @@ public final class PaletteManager {
 		if (condition == null) {
 			return true;
 		}
-		// evaluate condition
+		// condition with "rootModel" depends on editor
+		Map<String, Object> versions = JavaInfoUtils.getState(m_rootJavaInfo).getVersions();
+		if (getConditionVariables(condition).contains("rootModel")) {
+			return evaluateCondition(condition, versions);
+		}
+		// result depends only on versions, so may be cached
+		return ExecutionUtils.runObject(
+				() -> PaletteCache.isConditionTrue(
+						m_project,
+						m_toolkitId,
+						versions,
+						condition,
+						() -> evaluateCondition(condition, versions)));
+	}
+
+	/**
+	 * Token of condition: string literal or identifier (group 1).
+	 */
+	private static final Pattern CONDITION_TOKEN =
+			Pattern.compile("'(?:[^'\\\\]|\\\\.)*'|\"(?:[^\"\\\\]|\\\\.)*\"|([A-Za-z_$][\\w$]*)");
+
+	/**
+	 * @return the names of variables and other identifiers used in given condition, ignoring string
+	 *         literals.
+	 */
+	private static Set<String> getConditionVariables(String condition) {
+		Set<String> variables = new HashSet<>();
+		Matcher matcher = CONDITION_TOKEN.matcher(condition);
+		while (matcher.find()) {
+			if (matcher.group(1) != null) {
+				variables.add(matcher.group(1));
+			}
+		}
+		return variables;
+	}
+
+	/**
+	 * @return <code>true</code> if given condition evaluates to <code>true</code>.
+	 */
+	private boolean evaluateCondition(String condition, Map<String, Object> versions) {
 		Map<String, Object> variables = new HashMap<>();
 		variables.put("rootModel", m_rootJavaInfo);
-		variables.putAll(JavaInfoUtils.getState(m_rootJavaInfo).getVersions());
+		variables.putAll(versions);
 		Object result = ScriptUtils.evaluate(condition, variables);
 		return result instanceof Boolean ? (Boolean) result : false;
 	}
@@ -575,10 +606,11 @@ public final class PaletteManager {
 		String palettePath = "wbp-meta/" + m_toolkitId + ".wbp-palette.xml";
 		// parse "wbp-meta" from classpath, for example from jar's
 		{
-			Enumeration<URL> resources = m_classLoader.getResources(palettePath);
-			while (resources.hasMoreElements()) {
-				URL url = resources.nextElement();
-				parseCustomPalette(url.openStream(), url.toString());
+			for (Pair<String, Document> document : PaletteCache.getClasspathDocuments(
+					m_project,
+					m_classLoader,
+					palettePath)) {
+				parseCustomPalette(document.getRight(), document.getLeft());
 			}
 		}
 		// parse "wbp-meta" from IJavaProject's
@@ -587,7 +619,7 @@ public final class PaletteManager {
 			for (IFile file : files) {
 				String sourceDescription = file.toString();
 				try {
-					parseCustomPalette(file.getContents(true), sourceDescription);
+					parseCustomPalette(PaletteCache.getDocument(file), sourceDescription);
 				} catch (Throwable e) {
 					List<EditorWarning> warnings = JavaInfoUtils.getState(m_rootJavaInfo).getWarnings();
 					warnings.add(new EditorWarning("Can not parse " + sourceDescription, e));
@@ -599,17 +631,15 @@ public final class PaletteManager {
 	/**
 	 * Parses single custom palette contribution.
 	 *
-	 * @param inputStream
-	 *          the {@link InputStream} with palette XML.
+	 * @param document
+	 *          the {@link Document} with palette XML.
 	 * @param sourceDescription
 	 *          the textual description to show for user, that can help in detecting palette XML in
 	 *          case of any error.
 	 */
-	private void parseCustomPalette(InputStream inputStream, String sourceDescription)
-			throws Exception {
+	private void parseCustomPalette(Document document, String sourceDescription) {
 		try {
-			SAXParser parser = SAXParserFactory.newInstance().newSAXParser();
-			parser.parse(inputStream, new DefaultHandler() {
+			document.replay(new DefaultHandler() {
 				private CategoryInfo m_category;
 				private String m_factoryClassName;
 				private boolean m_factoryStatic;
@@ -693,8 +723,6 @@ public final class PaletteManager {
 			});
 		} catch (Throwable e) {
 			DesignerPlugin.log("Exception during loading project palette: " + sourceDescription, e);
-		} finally {
-			IOUtils.closeQuietly(inputStream);
 		}
 	}
 }
@@ -0,0 +1,320 @@
+/*******************************************************************************
+ * Copyright (c) 2026 WindowBuilder contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    WindowBuilder contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.wb.internal.core.editor.palette.dialogs;
+
+import org.eclipse.wb.internal.core.DesignerPlugin;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.apache.commons.lang3.StringUtils;
+import org.objectweb.asm.Opcodes;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Finds candidates for palette components in JAR archive, for {@link ImportArchiveDialog}.
+ * <p>
+ * Archive is read using its central directory, so only manifest or headers of class files are
+ * read, without loading classes. Results are cached by path, size and modification time of
+ * archive.
+ *
+ * @coverage core.editor.palette.ui
+ */
+public final class ArchiveIndexer {
+	private static final String JAVA_BEAN_KEY = "Java-Bean";
+	private static final String JAVA_BEAN_VALUE = "True";
+	private static final String CLASS_SUFFIX = ".class";
+	private static final int CACHE_SIZE = 16;
+	private static final int CHUNK_SIZE = 100;
+	private static final int EXCLUDED_FLAGS = Opcodes.ACC_INTERFACE
+			| Opcodes.ACC_ABSTRACT
+			| Opcodes.ACC_SYNTHETIC
+			| Opcodes.ACC_ANNOTATION
+			| Opcodes.ACC_ENUM
+			| Opcodes.ACC_MODULE;
+	private static final Map<String, List<String>> m_cache =
+			new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+		private static final long serialVersionUID = 0L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, List<String>> eldest) {
+			return size() > CACHE_SIZE;
+		}
+	};
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Constructor
+	//
+	////////////////////////////////////////////////////////////////////////////
+	private ArchiveIndexer() {
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Manifest
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @return the sorted names of classes marked in manifest as <code>Java-Bean: True</code>.
+	 */
+	public static List<String> getManifestClasses(File file) throws IOException {
+		String key = getKey(file, "manifest");
+		List<String> classNames = getCached(key);
+		if (classNames == null) {
+			classNames = new ArrayList<>();
+			try (JarFile jarFile = new JarFile(file)) {
+				Manifest manifest = jarFile.getManifest();
+				if (manifest != null) {
+					for (Map.Entry<String, Attributes> entry : manifest.getEntries().entrySet()) {
+						Attributes attributes = entry.getValue();
+						if (JAVA_BEAN_VALUE.equalsIgnoreCase(attributes.getValue(JAVA_BEAN_KEY))) {
+							String beanClass = entry.getKey();
+							if (beanClass != null && beanClass.length() > CLASS_SUFFIX.length()) {
+								classNames.add(getClassName(beanClass));
+							}
+						}
+					}
+				}
+			}
+			classNames = putCached(key, classNames);
+		}
+		return classNames;
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Classes
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Listener for {@link ArchiveIndexer#scheduleClassesScan(File, IClassesListener)}, notified in
+	 * {@link Job} thread.
+	 */
+	public interface IClassesListener {
+		/**
+		 * Some new classes found.
+		 */
+		void found(List<String> classNames);
+
+		/**
+		 * Scan is done, so given full sorted list of classes is known.
+		 */
+		void done(List<String> classNames);
+	}
+
+	/**
+	 * Schedules {@link Job} which scans all public concrete classes in given archive and reports them
+	 * to given {@link IClassesListener}. Cancelled {@link Job} does not notify listener anymore.
+	 */
+	public static Job scheduleClassesScan(final File file, final IClassesListener listener) {
+		Job job = new Job("Scanning " + file.getName() + "...") {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				try {
+					List<String> classNames = getClasses(file, listener, monitor);
+					if (classNames == null) {
+						return Status.CANCEL_STATUS;
+					}
+					listener.done(classNames);
+				} catch (Throwable e) {
+					DesignerPlugin.log(e);
+					listener.done(Collections.emptyList());
+				}
+				return Status.OK_STATUS;
+			}
+		};
+		job.setSystem(true);
+		job.schedule();
+		return job;
+	}
+
+	/**
+	 * @return the sorted names of public concrete classes in archive, or <code>null</code> if
+	 *         cancelled.
+	 */
+	private static List<String> getClasses(File file,
+			IClassesListener listener,
+			IProgressMonitor monitor) throws IOException {
+		String key = getKey(file, "classes");
+		List<String> classNames = getCached(key);
+		if (classNames != null) {
+			return classNames;
+		}
+		classNames = new ArrayList<>();
+		try (ZipFile zipFile = new ZipFile(file)) {
+			monitor.beginTask(file.getName(), zipFile.size());
+			List<String> chunk = new ArrayList<>();
+			Enumeration<? extends ZipEntry> entries = zipFile.entries();
+			while (entries.hasMoreElements()) {
+				if (monitor.isCanceled()) {
+					return null;
+				}
+				ZipEntry entry = entries.nextElement();
+				monitor.worked(1);
+				if (isCandidateName(entry.getName()) && isCandidateClass(zipFile, entry)) {
+					chunk.add(getClassName(entry.getName()));
+					if (chunk.size() == CHUNK_SIZE) {
+						classNames.addAll(chunk);
+						listener.found(chunk);
+						chunk = new ArrayList<>();
+					}
+				}
+			}
+			classNames.addAll(chunk);
+			if (!chunk.isEmpty()) {
+				listener.found(chunk);
+			}
+		} finally {
+			monitor.done();
+		}
+		return putCached(key, classNames);
+	}
+
+	/**
+	 * @return <code>true</code> if entry with given name may be palette component class, so its
+	 *         header should be checked.
+	 */
+	private static boolean isCandidateName(String name) {
+		if (!name.endsWith(CLASS_SUFFIX) || name.startsWith("META-INF/")) {
+			return false;
+		}
+		String simpleName = StringUtils.substringAfterLast("/" + name, "/");
+		if (simpleName.equals("module-info.class") || simpleName.equals("package-info.class")) {
+			return false;
+		}
+		// anonymous and local classes
+		int index = simpleName.indexOf('$');
+		while (index != -1) {
+			if (index + 1 < simpleName.length() && Character.isDigit(simpleName.charAt(index + 1))) {
+				return false;
+			}
+			index = simpleName.indexOf('$', index + 1);
+		}
+		return true;
+	}
+
+	/**
+	 * @return <code>true</code> if class file header has public concrete class.
+	 */
+	private static boolean isCandidateClass(ZipFile zipFile, ZipEntry entry) {
+		try (InputStream inputStream = zipFile.getInputStream(entry)) {
+			int flags = readAccessFlags(new DataInputStream(new BufferedInputStream(inputStream)));
+			return (flags & Opcodes.ACC_PUBLIC) != 0 && (flags & EXCLUDED_FLAGS) == 0;
+		} catch (Throwable e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Reads class file header up to access flags, skipping constant pool.
+	 *
+	 * @return the access flags of class.
+	 */
+	private static int readAccessFlags(DataInputStream input) throws IOException {
+		if (input.readInt() != 0xCAFEBABE) {
+			throw new IOException("Not a class file.");
+		}
+		skip(input, 4);
+		int constantCount = input.readUnsignedShort();
+		for (int i = 1; i < constantCount; i++) {
+			int tag = input.readUnsignedByte();
+			switch (tag) {
+				case 1 :
+					skip(input, input.readUnsignedShort());
+					break;
+				case 7, 8, 16, 19, 20 :
+					skip(input, 2);
+					break;
+				case 15 :
+					skip(input, 3);
+					break;
+				case 3, 4, 9, 10, 11, 12, 17, 18 :
+					skip(input, 4);
+					break;
+				case 5, 6 :
+					skip(input, 8);
+					i++;
+					break;
+				default :
+					throw new IOException("Unknown constant pool tag " + tag);
+			}
+		}
+		return input.readUnsignedShort();
+	}
+
+	private static void skip(DataInputStream input, int count) throws IOException {
+		while (count > 0) {
+			int skipped = input.skipBytes(count);
+			if (skipped <= 0) {
+				throw new EOFException();
+			}
+			count -= skipped;
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Utils
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Converts 'aaa/bbb/ccc.class' to 'aaa.bbb.ccc'.
+	 */
+	private static String getClassName(String entryName) {
+		return StringUtils.substringBeforeLast(entryName, CLASS_SUFFIX).replace('/', '.');
+	}
+
+	private static String getKey(File file, String kind) {
+		return file.getAbsolutePath() + "|" + file.length() + "|" + file.lastModified() + "|" + kind;
+	}
+
+	private static List<String> getCached(String key) {
+		synchronized (m_cache) {
+			return m_cache.get(key);
+		}
+	}
+
+	/**
+	 * Sorts given class names and puts them into cache.
+	 *
+	 * @return the sorted unmodifiable class names.
+	 */
+	private static List<String> putCached(String key, List<String> classNames) {
+		classNames.sort(String::compareToIgnoreCase);
+		List<String> result = Collections.unmodifiableList(classNames);
+		synchronized (m_cache) {
+			m_cache.put(key, result);
+		}
+		return result;
+	}
+}
@@ -20,6 +20,8 @@ import org.eclipse.wb.internal.core.editor.Messages;
 import org.eclipse.wb.internal.core.editor.palette.command.CategoryAddCommand;
 import org.eclipse.wb.internal.core.editor.palette.command.Command;
 import org.eclipse.wb.internal.core.editor.palette.command.ComponentAddCommand;
+import org.eclipse.wb.internal.core.utils.execution.ExecutionUtils;
+import org.eclipse.wb.internal.core.utils.execution.RunnableEx;
 import org.eclipse.wb.internal.core.utils.jdt.core.CodeUtils;
 import org.eclipse.wb.internal.core.utils.jdt.core.ProjectUtils;
 import org.eclipse.wb.internal.core.utils.state.EditorState;
@@ -35,6 +37,7 @@ import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IWorkspaceRoot;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jface.dialogs.IDialogConstants;
 import org.eclipse.jface.dialogs.IDialogSettings;
@@ -77,27 +80,16 @@ import org.eclipse.ui.dialogs.ElementTreeSelectionDialog;
 import org.eclipse.ui.model.WorkbenchContentProvider;
 import org.eclipse.ui.model.WorkbenchLabelProvider;
 
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.ArrayUtils;
-import org.apache.commons.lang3.StringUtils;
 
-import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
-import java.util.jar.Attributes;
-import java.util.jar.JarEntry;
-import java.util.jar.JarFile;
-import java.util.jar.JarInputStream;
-import java.util.jar.Manifest;
 
 /**
  * Dialog choose entries from JAR archives.
@@ -110,9 +102,6 @@ public class ImportArchiveDialog extends AbstractPaletteDialog {
 	private static final int UNCHECK_ALL_ID = IDialogConstants.CLIENT_ID + 2;
 	private static final String JAR_LIST_ID = "HISTORY_JAR_LIST";
 	private static final String JAR_SUFFIX = ".jar";
-	private static final String JAVA_BEAN_KEY = "Java-Bean";
-	private static final String JAVA_BEAN_VALUE = "True";
-	private static final String JAVA_BEAN_CLASS_SUFFIX = ".class";
 	private static final int JAR_COMBO_SIZE = 10;
 	//
 	private final PaletteInfo m_palette;
@@ -357,6 +346,12 @@ public class ImportArchiveDialog extends AbstractPaletteDialog {
 		return null;
 	}
 
+	@Override
+	public boolean close() {
+		cancelScan();
+		return super.close();
+	}
+
 	@Override
 	protected void buttonPressed(int buttonId) {
 		if (buttonId == CHECK_ALL_ID || buttonId == UNCHECK_ALL_ID) {
@@ -533,18 +528,17 @@ public class ImportArchiveDialog extends AbstractPaletteDialog {
 	}
 
 	private void chooseArchive(IFile jarIFile, File jarFile) {
+		cancelScan();
 		try {
 			// prepare path
 			boolean canFile = jarIFile == null;
 			m_jarPath = canFile ? jarFile.getAbsolutePath() : jarIFile.getLocation().toPortableString();
+			File file = new File(m_jarPath);
 			// load elements over manifest
 			boolean ignoreManifest = m_ignoreManifestButton.getSelection();
 			m_elements = Collections.emptyList();
 			if (!ignoreManifest) {
-				JarInputStream jarStream =
-						new JarInputStream(canFile ? new FileInputStream(jarFile) : jarIFile.getContents(true));
-				m_elements = extractElementsFromJarByManifest(jarStream);
-				jarStream.close();
+				m_elements = createElements(ArchiveIndexer.getManifestClasses(file));
 			}
 			// check load all elements
 			if (ignoreManifest || m_elements.isEmpty()) {
@@ -558,12 +552,8 @@ public class ImportArchiveDialog extends AbstractPaletteDialog {
 									message);
 				}
 				if (ignoreManifest) {
-					JarInputStream jarStream =
-							new JarInputStream(canFile
-									? new FileInputStream(jarFile)
-											: jarIFile.getContents(true));
-					m_elements = extractElementsFromJarAllClasses(jarStream);
-					jarStream.close();
+					m_elements = new ArrayList<>();
+					scanClasses(file);
 				}
 			}
 			// sets elements
@@ -583,16 +573,9 @@ public class ImportArchiveDialog extends AbstractPaletteDialog {
 				m_fileArchiveCombo.setSelection(new Point(0, m_jarPath.length()));
 			}
 			// handle category
-			if (m_elements.isEmpty()) {
-				m_categoryText.setText("");
-			} else {
-				// convert 'foo.jar' to 'foo'
-				String categoryName = canFile ? jarFile.getName() : jarIFile.getName();
-				m_categoryText.setText(categoryName.substring(
-						0,
-						categoryName.length() - JAR_SUFFIX.length()));
-			}
+			updateCategoryName();
 		} catch (Throwable t) {
+			cancelScan();
 			m_jarPath = null;
 			m_elements = Collections.emptyList();
 			m_classesViewer.setInput(ArrayUtils.EMPTY_OBJECT_ARRAY);
@@ -602,85 +585,103 @@ public class ImportArchiveDialog extends AbstractPaletteDialog {
 		}
 	}
 
-	private List<PaletteElementInfo> extractElementsFromJarAllClasses(JarInputStream jarStream)
-			throws Exception {
-		// load all classes
-		List<PaletteElementInfo> elements = new ArrayList<>();
-		try {
-			while (true) {
-				JarEntry jarEntry = jarStream.getNextJarEntry();
-				if (jarEntry == null) {
-					break;
-				}
-				String jarEntryName = jarEntry.getName();
-				if (jarEntryName.endsWith(JAVA_BEAN_CLASS_SUFFIX)) {
-					// convert 'aaa/bbb/ccc.class' to 'aaa.bbb.ccc'
-					PaletteElementInfo element = new PaletteElementInfo();
-					element.className =
-							StringUtils.substringBeforeLast(jarEntryName, JAVA_BEAN_CLASS_SUFFIX).replace(
-									'/',
-									'.');
-					element.name = CodeUtils.getShortClass(element.className);
-					elements.add(element);
-				}
-			}
-		} catch (Throwable e) {
-			DesignerPlugin.log(e);
+	/**
+	 * Sets name of new category using name of archive, or clears it if no elements.
+	 */
+	private void updateCategoryName() {
+		if (m_elements.isEmpty()) {
+			m_categoryText.setText("");
+		} else {
+			// convert 'foo.jar' to 'foo'
+			String categoryName = new File(m_jarPath).getName();
+			m_categoryText.setText(categoryName.substring(
+					0,
+					categoryName.length() - JAR_SUFFIX.length()));
 		}
-		// sort element over class name
-		Collections.sort(elements, new Comparator<PaletteElementInfo>() {
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Scanning classes
+	//
+	////////////////////////////////////////////////////////////////////////////
+	private Job m_scanJob;
+	private int m_scanId;
+
+	/**
+	 * Starts scanning all classes of archive in background, found elements are added into viewer as
+	 * they are found.
+	 */
+	private void scanClasses(File file) {
+		final int scanId = m_scanId;
+		m_scanJob = ArchiveIndexer.scheduleClassesScan(file, new ArchiveIndexer.IClassesListener() {
+			@Override
+			public void found(final List<String> classNames) {
+				runLater(scanId, () -> addElements(createElements(classNames)));
+			}
+
 			@Override
-			public int compare(PaletteElementInfo element0, PaletteElementInfo element1) {
-				return element0.className.compareToIgnoreCase(element1.className);
+			public void done(final List<String> classNames) {
+				runLater(scanId, () -> setScanResult(classNames));
 			}
 		});
-		return elements;
 	}
 
-	private List<PaletteElementInfo> extractElementsFromJarByManifest(JarInputStream jarStream)
-			throws Exception {
-		List<PaletteElementInfo> elements = new ArrayList<>();
-		Manifest manifest = jarStream.getManifest();
-		// check manifest, if null find it
-		if (manifest == null) {
-			try {
-				while (true) {
-					JarEntry entry = jarStream.getNextJarEntry();
-					if (entry == null) {
-						break;
-					}
-					if (JarFile.MANIFEST_NAME.equalsIgnoreCase(entry.getName())) {
-						// read manifest data
-						byte[] buffer = IOUtils.toByteArray(jarStream);
-						jarStream.closeEntry();
-						// create manifest
-						manifest = new Manifest(new ByteArrayInputStream(buffer));
-						break;
-					}
-				}
-			} catch (Throwable e) {
-				DesignerPlugin.log(e);
-				manifest = null;
-			}
+	/**
+	 * Cancels current scanning, so its results will be ignored.
+	 */
+	private void cancelScan() {
+		m_scanId++;
+		if (m_scanJob != null) {
+			m_scanJob.cancel();
+			m_scanJob = null;
 		}
-		if (manifest != null) {
-			// extract all "Java-Bean: True" classes
-			for (Iterator<Map.Entry<String, Attributes>> I = manifest.getEntries().entrySet().iterator(); I.hasNext();) {
-				Map.Entry<String, Attributes> mapElement = I.next();
-				Attributes attributes = mapElement.getValue();
-				if (JAVA_BEAN_VALUE.equalsIgnoreCase(attributes.getValue(JAVA_BEAN_KEY))) {
-					String beanClass = mapElement.getKey();
-					if (beanClass == null || beanClass.length() <= JAVA_BEAN_CLASS_SUFFIX.length()) {
-						continue;
-					}
-					// convert 'aaa/bbb/ccc.class' to 'aaa.bbb.ccc'
-					PaletteElementInfo element = new PaletteElementInfo();
-					element.className =
-							StringUtils.substringBeforeLast(beanClass, JAVA_BEAN_CLASS_SUFFIX).replace('/', '.');
-					element.name = CodeUtils.getShortClass(element.className);
-					elements.add(element);
-				}
+	}
+
+	/**
+	 * Runs given {@link RunnableEx} in UI thread, if scanning is still current.
+	 */
+	private void runLater(final int scanId, final RunnableEx runnable) {
+		ExecutionUtils.runLogLater(() -> {
+			if (scanId == m_scanId && !m_classesViewer.getControl().isDisposed()) {
+				runnable.run();
 			}
+		});
+	}
+
+	private void addElements(List<PaletteElementInfo> elements) {
+		boolean wasEmpty = m_elements.isEmpty();
+		m_elements.addAll(elements);
+		m_classesViewer.add(elements.toArray());
+		if (wasEmpty) {
+			updateCategoryName();
+		}
+		calculateFinish();
+	}
+
+	private void setScanResult(List<String> classNames) {
+		m_scanJob = null;
+		if (m_elements.isEmpty()) {
+			m_elements.addAll(createElements(classNames));
+			updateCategoryName();
+		}
+		// sort element over class name, keep checked
+		m_elements.sort(Comparator.comparing(
+				(PaletteElementInfo element) -> element.className,
+				String::compareToIgnoreCase));
+		Object[] checkedElements = m_classesViewer.getCheckedElements();
+		m_classesViewer.setInput(m_elements.toArray());
+		m_classesViewer.setCheckedElements(checkedElements);
+		calculateFinish();
+	}
+
+	private static List<PaletteElementInfo> createElements(List<String> classNames) {
+		List<PaletteElementInfo> elements = new ArrayList<>();
+		for (String className : classNames) {
+			PaletteElementInfo element = new PaletteElementInfo();
+			element.className = className;
+			element.name = CodeUtils.getShortClass(className);
+			elements.add(element);
 		}
 		return elements;
 	}
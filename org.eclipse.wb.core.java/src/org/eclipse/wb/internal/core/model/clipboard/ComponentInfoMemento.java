@@ -20,6 +20,7 @@ import org.eclipse.draw2d.geometry.Rectangle;
 import org.eclipse.swt.graphics.Image;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 
 /**
  * Container for copy/paste information about {@link AbstractComponentInfo}.
@@ -52,6 +53,37 @@ public final class ComponentInfoMemento extends JavaInfoMemento {
 		}
 	}
 
+	/**
+	 * Reads {@link ComponentInfoMemento} written by {@link #write(JavaInfoMementoEncoding.Output)}.
+	 */
+	ComponentInfoMemento(JavaInfoMementoEncoding.Input input) throws Exception {
+		super(input);
+		if (input.readBoolean()) {
+			m_bounds = new Rectangle(input.readInt(), input.readInt(), input.readInt(), input.readInt());
+		} else {
+			m_bounds = null;
+		}
+		m_imageBytes = input.readBytes();
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Encoding
+	//
+	////////////////////////////////////////////////////////////////////////////
+	@Override
+	void write(JavaInfoMementoEncoding.Output output) throws IOException {
+		super.write(output);
+		output.writeBoolean(m_bounds != null);
+		if (m_bounds != null) {
+			output.writeInt(m_bounds.x);
+			output.writeInt(m_bounds.y);
+			output.writeInt(m_bounds.width);
+			output.writeInt(m_bounds.height);
+		}
+		output.writeBytes(m_imageBytes);
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// Access
@@ -81,8 +113,13 @@ public final class ComponentInfoMemento extends JavaInfoMemento {
 	}
 
 	@Override
-	public void apply() throws Exception {
-		super.apply();
+	boolean isDeferrable() {
+		return true;
+	}
+
+	@Override
+	void applyNow() throws Exception {
+		super.applyNow();
 		// now operation in finished and we can dispose image
 		if (m_image != null) {
 			m_image.dispose();
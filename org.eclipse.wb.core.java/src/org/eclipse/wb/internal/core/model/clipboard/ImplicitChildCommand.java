@@ -15,6 +15,7 @@ package org.eclipse.wb.internal.core.model.clipboard;
 import org.eclipse.wb.core.model.JavaInfo;
 import org.eclipse.wb.internal.core.model.creation.IImplicitCreationSupport;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -43,6 +44,32 @@ final class ImplicitChildCommand extends ClipboardCommand {
 		}
 	}
 
+	/**
+	 * Reads {@link ImplicitChildCommand} written by {@link #write(JavaInfoMementoEncoding.Output)}.
+	 */
+	ImplicitChildCommand(JavaInfoMementoEncoding.Input input) throws Exception {
+		m_implicitCreation = (IClipboardImplicitCreationSupport) input.readObject();
+		for (int i = input.readInt(); i > 0; i--) {
+			m_commands.add((ClipboardCommand) input.readObject());
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Encoding
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Writes this {@link ImplicitChildCommand} using {@link JavaInfoMementoEncoding}.
+	 */
+	void write(JavaInfoMementoEncoding.Output output) throws IOException {
+		output.writeObject(m_implicitCreation);
+		output.writeInt(m_commands.size());
+		for (ClipboardCommand command : m_commands) {
+			output.writeObject(command);
+		}
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// Command
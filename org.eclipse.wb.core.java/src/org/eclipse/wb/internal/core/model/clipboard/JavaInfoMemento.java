@@ -21,9 +21,10 @@ import org.eclipse.wb.internal.core.model.variable.NamesManager;
 import org.eclipse.wb.internal.core.model.variable.VariableSupport;
 import org.eclipse.wb.internal.core.utils.ast.AstEditor;
 import org.eclipse.wb.internal.core.utils.check.Assert;
-import org.eclipse.wb.internal.core.utils.reflect.ReflectionUtils;
 
+import java.io.IOException;
 import java.io.Serializable;
+import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -44,6 +45,12 @@ import java.util.List;
  * {@link ClipboardCommand}'s and do other things for configuring created {@link JavaInfo}.</li>
  * </ul>
  *
+ * <p>
+ * If {@link #apply()} is invoked for {@link ComponentInfoMemento} during applying of other memento,
+ * for example from {@link ClipboardCommand} that adds child, then it is deferred until all commands
+ * of enclosing memento are executed. So, hierarchy is refreshed only once for all children on same
+ * level, instead of once for each child.
+ *
  * @author scheglov_ke
  * @coverage core.model.clipboard
  */
@@ -53,6 +60,11 @@ public class JavaInfoMemento implements Serializable {
 	 * The key under which {@link JavaInfoMemento} registers itself in created {@link JavaInfo}.
 	 */
 	public static final String KEY_MEMENTO = "KEY_MEMENTO";
+	/**
+	 * The key under which {@link List} of deferred {@link JavaInfoMemento}'s is registered in root
+	 * {@link JavaInfo} during {@link #apply()}.
+	 */
+	private static final String KEY_DEFERRED_MEMENTOS = "JavaInfoMemento.deferredMementos";
 
 	////////////////////////////////////////////////////////////////////////////
 	//
@@ -123,6 +135,36 @@ public class JavaInfoMemento implements Serializable {
 		addCommands(javaInfo, m_commands);
 	}
 
+	/**
+	 * Reads {@link JavaInfoMemento} written by {@link #write(JavaInfoMementoEncoding.Output)}.
+	 */
+	JavaInfoMemento(JavaInfoMementoEncoding.Input input) throws Exception {
+		m_componentClassName = input.readString();
+		m_variableName = input.readString();
+		m_creationSupport = (IClipboardCreationSupport) input.readObject();
+		for (int i = input.readInt(); i > 0; i--) {
+			m_commands.add((ClipboardCommand) input.readObject());
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Encoding
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Writes this {@link JavaInfoMemento} using {@link JavaInfoMementoEncoding}.
+	 */
+	void write(JavaInfoMementoEncoding.Output output) throws IOException {
+		output.writeString(m_componentClassName);
+		output.writeString(m_variableName);
+		output.writeObject(m_creationSupport);
+		output.writeInt(m_commands.size());
+		for (ClipboardCommand command : m_commands) {
+			output.writeObject(command);
+		}
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// Copy utils
@@ -159,11 +201,36 @@ public class JavaInfoMemento implements Serializable {
 	 * and we sure that they don't reference enclosing classes, even if Java thinks that they do this.
 	 */
 	static void cleanUpAnonymous(Object o) throws Exception {
-		for (int i = 0; i < 10; i++) {
-			ReflectionUtils.setFieldOpt(o, "this$" + i, null);
+		if (o != null) {
+			for (Field field : ENCLOSING_FIELDS.get(o.getClass())) {
+				field.set(o, null);
+			}
 		}
 	}
 
+	/**
+	 * Accessible "this$N" fields of class and its super classes.
+	 */
+	private static final ClassValue<Field[]> ENCLOSING_FIELDS = new ClassValue<>() {
+		@Override
+		protected Field[] computeValue(Class<?> clazz) {
+			List<Field> fields = new ArrayList<>();
+			for (Class<?> c = clazz; c != null && c != Object.class; c = c.getSuperclass()) {
+				for (Field field : c.getDeclaredFields()) {
+					if (field.getName().startsWith("this$")) {
+						try {
+							field.setAccessible(true);
+							fields.add(field);
+						} catch (Throwable e) {
+							// ignore, we can not clear this field
+						}
+					}
+				}
+			}
+			return fields.toArray(new Field[fields.size()]);
+		}
+	};
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// Creation/paste
@@ -215,10 +282,54 @@ public class JavaInfoMemento implements Serializable {
 				"JavaInfo should be already bounds to the hierarchy.");
 		Assert.isLegal(!m_applied, "This memento already applied.");
 		m_applied = true;
-		// do apply
-		m_javaInfo.getRootJava().refreshLight();
+		JavaInfo root = m_javaInfo.getRootJava();
+		// we are inside of other apply()
+		@SuppressWarnings("unchecked")
+		List<JavaInfoMemento> deferredMementos =
+				(List<JavaInfoMemento>) root.getArbitraryValue(KEY_DEFERRED_MEMENTOS);
+		if (deferredMementos != null) {
+			if (isDeferrable()) {
+				deferredMementos.add(this);
+			} else {
+				root.refreshLight();
+				applyNow();
+			}
+			return;
+		}
+		// apply this memento and deferred ones, refresh once for each level
+		deferredMementos = new ArrayList<>();
+		root.putArbitraryValue(KEY_DEFERRED_MEMENTOS, deferredMementos);
+		try {
+			List<JavaInfoMemento> mementos = List.of(this);
+			while (!mementos.isEmpty()) {
+				root.refreshLight();
+				for (JavaInfoMemento memento : mementos) {
+					if (!memento.m_javaInfo.isDeleted()) {
+						memento.applyNow();
+					}
+				}
+				mementos = new ArrayList<>(deferredMementos);
+				deferredMementos.clear();
+			}
+		} finally {
+			root.removeArbitraryValue(KEY_DEFERRED_MEMENTOS);
+		}
+	}
+
+	/**
+	 * @return <code>true</code> if {@link #apply()} of this {@link JavaInfoMemento} may be deferred,
+	 *         when it is invoked during {@link #apply()} of other memento.
+	 */
+	boolean isDeferrable() {
+		return false;
+	}
+
+	/**
+	 * Applies {@link IClipboardCreationSupport} and {@link ClipboardCommand}'s, hierarchy is already
+	 * refreshed.
+	 */
+	void applyNow() throws Exception {
 		m_creationSupport.apply(m_javaInfo);
-		// execute commands
 		executeCommands();
 	}
 
@@ -0,0 +1,422 @@
+/*******************************************************************************
+ * Copyright (c) 2026 WindowBuilder contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    WindowBuilder contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.wb.internal.core.model.clipboard;
+
+import org.eclipse.wb.internal.core.utils.external.ExternalFactoriesHelper;
+
+import org.osgi.framework.Bundle;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compact versioned binary encoding of {@link JavaInfoMemento}'s.
+ * <p>
+ * {@link JavaInfoMemento}, {@link ComponentInfoMemento}, {@link PropertiesClipboardCommand} and
+ * {@link ImplicitChildCommand} are written field by field, strings and byte arrays (images) are
+ * written only once and then referenced by index. Other objects, usually anonymous
+ * {@link ClipboardCommand}'s and {@link IClipboardCreationSupport}'s contributed by toolkits, are
+ * written using Java serialization; {@link JavaInfoMemento}'s referenced from them are replaced with
+ * indexes and written using this encoding, after serialized bytes, so they share strings and byte
+ * arrays with other objects.
+ *
+ * @coverage core.model.clipboard
+ */
+public final class JavaInfoMementoEncoding {
+	/**
+	 * Marker of this encoding, "WBME".
+	 */
+	private static final int MAGIC = 0x57424D45;
+	/**
+	 * Version of format, change it if format is changed.
+	 */
+	private static final int FORMAT_VERSION = 2;
+	private static final int TAG_NULL = 0;
+	private static final int TAG_LIST = 1;
+	private static final int TAG_MEMENTO = 2;
+	private static final int TAG_COMPONENT_MEMENTO = 3;
+	private static final int TAG_PROPERTIES_COMMAND = 4;
+	private static final int TAG_IMPLICIT_CHILD_COMMAND = 5;
+	private static final int TAG_SERIALIZED = 6;
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Constructor
+	//
+	////////////////////////////////////////////////////////////////////////////
+	private JavaInfoMementoEncoding() {
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Encode/decode
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @return the bytes with encoded object, usually {@link List} of {@link JavaInfoMemento}'s.
+	 */
+	public static byte[] encode(Object object) throws IOException {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		DataOutputStream header = new DataOutputStream(baos);
+		header.writeInt(MAGIC);
+		header.writeInt(FORMAT_VERSION);
+		header.flush();
+		try (DataOutputStream dataOutput = new DataOutputStream(new GZIPOutputStream(baos))) {
+			new Output(dataOutput).writeObject(object);
+		}
+		return baos.toByteArray();
+	}
+
+	/**
+	 * @return the object decoded from bytes returned by {@link #encode(Object)}. Also accepts bytes
+	 *         with serialized object, as they were written by previous versions.
+	 */
+	public static Object decode(byte[] bytes) throws Exception {
+		DataInputStream header = new DataInputStream(new ByteArrayInputStream(bytes));
+		if (bytes.length < 8 || header.readInt() != MAGIC) {
+			return deserialize(new GZIPInputStream(new ByteArrayInputStream(bytes)));
+		}
+		int version = header.readInt();
+		if (version != FORMAT_VERSION) {
+			throw new IOException("Unsupported clipboard format version " + version);
+		}
+		try (DataInputStream dataInput = new DataInputStream(new GZIPInputStream(header))) {
+			return new Input(dataInput).readObject();
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Serialization
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Serializes given object, {@link JavaInfoMemento}'s referenced from it are added into given
+	 * {@link List} and replaced with {@link MementoReference}'s.
+	 */
+	private static byte[] serialize(Object object, List<JavaInfoMemento> mementos)
+			throws IOException {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		try (ObjectOutputStream oos = new MementoObjectOutputStream(baos, mementos)) {
+			oos.writeObject(object);
+		}
+		return baos.toByteArray();
+	}
+
+	private static Object deserialize(InputStream inputStream) throws Exception {
+		return deserialize(inputStream, List.of());
+	}
+
+	/**
+	 * Deserializes object, {@link MementoReference}'s are resolved into given
+	 * {@link JavaInfoMemento}'s.
+	 */
+	private static Object deserialize(InputStream inputStream, List<JavaInfoMemento> mementos)
+			throws Exception {
+		try (ObjectInputStream ois = new BundleObjectInputStream(inputStream, mementos)) {
+			return ois.readObject();
+		}
+	}
+
+	/**
+	 * Reference to {@link JavaInfoMemento} from serialized object, index of memento written after
+	 * serialized bytes.
+	 */
+	private record MementoReference(int index) implements Serializable {
+	}
+
+	/**
+	 * Implementation of {@link ObjectOutputStream} that replaces {@link JavaInfoMemento}'s with
+	 * {@link MementoReference}'s.
+	 */
+	private static final class MementoObjectOutputStream extends ObjectOutputStream {
+		private final List<JavaInfoMemento> m_mementos;
+		private final Map<JavaInfoMemento, MementoReference> m_references = new IdentityHashMap<>();
+
+		public MementoObjectOutputStream(OutputStream out, List<JavaInfoMemento> mementos)
+				throws IOException {
+			super(out);
+			m_mementos = mementos;
+			enableReplaceObject(true);
+		}
+
+		@Override
+		protected Object replaceObject(Object object) throws IOException {
+			if (object instanceof JavaInfoMemento memento) {
+				return m_references.computeIfAbsent(memento, key -> {
+					m_mementos.add(key);
+					return new MementoReference(m_mementos.size() - 1);
+				});
+			}
+			return object;
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Output
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Writer of encoded objects.
+	 */
+	public static final class Output {
+		private final DataOutputStream m_output;
+		private final Map<String, Integer> m_strings = new HashMap<>();
+		private final Map<ByteBuffer, Integer> m_byteArrays = new HashMap<>();
+
+		private Output(DataOutputStream output) {
+			m_output = output;
+		}
+
+		public void writeInt(int value) throws IOException {
+			m_output.writeInt(value);
+		}
+
+		public void writeBoolean(boolean value) throws IOException {
+			m_output.writeBoolean(value);
+		}
+
+		/**
+		 * Writes {@link String}, may be <code>null</code>. Each distinct {@link String} is written only
+		 * once.
+		 */
+		public void writeString(String s) throws IOException {
+			if (s == null) {
+				m_output.writeInt(-1);
+				return;
+			}
+			Integer index = m_strings.get(s);
+			if (index != null) {
+				m_output.writeInt(index);
+			} else {
+				m_strings.put(s, m_strings.size());
+				m_output.writeInt(-2);
+				byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+				m_output.writeInt(bytes.length);
+				m_output.write(bytes);
+			}
+		}
+
+		/**
+		 * Writes byte array, may be <code>null</code>. Each distinct array (by content) is written only
+		 * once.
+		 */
+		public void writeBytes(byte[] bytes) throws IOException {
+			if (bytes == null) {
+				m_output.writeInt(-1);
+				return;
+			}
+			ByteBuffer key = ByteBuffer.wrap(bytes);
+			Integer index = m_byteArrays.get(key);
+			if (index != null) {
+				m_output.writeInt(index);
+			} else {
+				m_byteArrays.put(key, m_byteArrays.size());
+				m_output.writeInt(-2);
+				m_output.writeInt(bytes.length);
+				m_output.write(bytes);
+			}
+		}
+
+		/**
+		 * Writes object, {@link JavaInfoMemento}'s and known {@link ClipboardCommand}'s are written in
+		 * compact form, other objects are serialized. Most specific types are checked first.
+		 */
+		public void writeObject(Object object) throws IOException {
+			if (object == null) {
+				m_output.writeByte(TAG_NULL);
+			} else if (object instanceof List<?> list) {
+				m_output.writeByte(TAG_LIST);
+				m_output.writeInt(list.size());
+				for (Object element : list) {
+					writeObject(element);
+				}
+			} else if (object instanceof ComponentInfoMemento memento) {
+				m_output.writeByte(TAG_COMPONENT_MEMENTO);
+				memento.write(this);
+			} else if (object instanceof JavaInfoMemento memento) {
+				m_output.writeByte(TAG_MEMENTO);
+				memento.write(this);
+			} else if (object instanceof PropertiesClipboardCommand command) {
+				m_output.writeByte(TAG_PROPERTIES_COMMAND);
+				command.write(this);
+			} else if (object instanceof ImplicitChildCommand command) {
+				m_output.writeByte(TAG_IMPLICIT_CHILD_COMMAND);
+				command.write(this);
+			} else {
+				List<JavaInfoMemento> mementos = new ArrayList<>();
+				byte[] bytes = serialize(object, mementos);
+				m_output.writeByte(TAG_SERIALIZED);
+				writeBytes(bytes);
+				m_output.writeInt(mementos.size());
+				for (JavaInfoMemento memento : mementos) {
+					writeObject(memento);
+				}
+			}
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Input
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Reader of objects written by {@link Output}.
+	 */
+	public static final class Input {
+		private final DataInputStream m_input;
+		private final List<String> m_strings = new ArrayList<>();
+		private final List<byte[]> m_byteArrays = new ArrayList<>();
+
+		private Input(DataInputStream input) {
+			m_input = input;
+		}
+
+		public int readInt() throws IOException {
+			return m_input.readInt();
+		}
+
+		public boolean readBoolean() throws IOException {
+			return m_input.readBoolean();
+		}
+
+		public String readString() throws IOException {
+			int index = m_input.readInt();
+			if (index == -1) {
+				return null;
+			}
+			if (index == -2) {
+				byte[] bytes = new byte[m_input.readInt()];
+				m_input.readFully(bytes);
+				String s = new String(bytes, StandardCharsets.UTF_8);
+				m_strings.add(s);
+				return s;
+			}
+			return m_strings.get(index);
+		}
+
+		public byte[] readBytes() throws IOException {
+			int index = m_input.readInt();
+			if (index == -1) {
+				return null;
+			}
+			if (index == -2) {
+				byte[] bytes = new byte[m_input.readInt()];
+				m_input.readFully(bytes);
+				m_byteArrays.add(bytes);
+				return bytes;
+			}
+			return m_byteArrays.get(index);
+		}
+
+		public Object readObject() throws Exception {
+			int tag = m_input.readByte();
+			switch (tag) {
+				case TAG_NULL :
+					return null;
+				case TAG_LIST : {
+					int size = m_input.readInt();
+					List<Object> list = new ArrayList<>(size);
+					for (int i = 0; i < size; i++) {
+						list.add(readObject());
+					}
+					return list;
+				}
+				case TAG_MEMENTO :
+					return new JavaInfoMemento(this);
+				case TAG_COMPONENT_MEMENTO :
+					return new ComponentInfoMemento(this);
+				case TAG_PROPERTIES_COMMAND :
+					return new PropertiesClipboardCommand(this);
+				case TAG_IMPLICIT_CHILD_COMMAND :
+					return new ImplicitChildCommand(this);
+				case TAG_SERIALIZED : {
+					byte[] bytes = readBytes();
+					int size = m_input.readInt();
+					List<JavaInfoMemento> mementos = new ArrayList<>(size);
+					for (int i = 0; i < size; i++) {
+						mementos.add((JavaInfoMemento) readObject());
+					}
+					return deserialize(new ByteArrayInputStream(bytes), mementos);
+				}
+				default :
+					throw new IOException("Unknown clipboard object tag " + tag);
+			}
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// BundleObjectInputStream
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Implementation of {@link ObjectInputStream} that resolves classes using {@link Bundle}'s and
+	 * {@link MementoReference}'s into {@link JavaInfoMemento}'s.
+	 */
+	private static final class BundleObjectInputStream extends ObjectInputStream {
+		private final List<JavaInfoMemento> m_mementos;
+
+		////////////////////////////////////////////////////////////////////////////
+		//
+		// Constructor
+		//
+		////////////////////////////////////////////////////////////////////////////
+		public BundleObjectInputStream(InputStream in, List<JavaInfoMemento> mementos)
+				throws IOException {
+			super(in);
+			m_mementos = mementos;
+			enableResolveObject(true);
+		}
+
+		////////////////////////////////////////////////////////////////////////////
+		//
+		// Resolve
+		//
+		////////////////////////////////////////////////////////////////////////////
+		@Override
+		protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException,
+		ClassNotFoundException {
+			String className = desc.getName();
+			return ExternalFactoriesHelper.loadBundleClass(className);
+		}
+
+		@Override
+		protected Object resolveObject(Object object) throws IOException {
+			if (object instanceof MementoReference reference) {
+				return m_mementos.get(reference.index());
+			}
+			return object;
+		}
+	}
+}
@@ -14,22 +14,11 @@ package org.eclipse.wb.internal.core.model.clipboard;
 
 import org.eclipse.wb.internal.core.utils.execution.ExecutionUtils;
 import org.eclipse.wb.internal.core.utils.execution.RunnableEx;
-import org.eclipse.wb.internal.core.utils.external.ExternalFactoriesHelper;
 
 import org.eclipse.swt.dnd.ByteArrayTransfer;
 import org.eclipse.swt.dnd.TransferData;
 
-import org.osgi.framework.Bundle;
-
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
-import java.io.ObjectStreamClass;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
 
 /**
  * Implementation of {@link ByteArrayTransfer} for {@link JavaInfoMemento}.
@@ -109,61 +98,15 @@ public class JavaInfoMementoTransfer extends ByteArrayTransfer {
 	//
 	////////////////////////////////////////////////////////////////////////////
 	/**
-	 * @return the bytes that correspond to the serialized object.
+	 * @return the bytes that correspond to the encoded object.
+	 *
+	 * @see JavaInfoMementoEncoding
 	 */
 	public static byte[] convertObjectToBytes(Object object) throws IOException {
-		// write object to stream
-		ByteArrayOutputStream baos;
-		{
-			baos = new ByteArrayOutputStream();
-			ObjectOutputStream oos = new ObjectOutputStream(new GZIPOutputStream(baos));
-			oos.writeObject(object);
-			oos.close();
-		}
-		// return as bytes
-		return baos.toByteArray();
+		return JavaInfoMementoEncoding.encode(object);
 	}
 
 	public static Object convertBytesToObject(byte[] bytes) throws Exception {
-		ByteArrayInputStream bais = new ByteArrayInputStream(bytes);
-		ObjectInputStream ois = new BundleObjectInputStream(new GZIPInputStream(bais));
-		try {
-			return ois.readObject();
-		} finally {
-			ois.close();
-		}
-	}
-
-	////////////////////////////////////////////////////////////////////////////
-	//
-	// BundleObjectInputStream
-	//
-	////////////////////////////////////////////////////////////////////////////
-	/**
-	 * Implementation of {@link ObjectInputStream} that resolves classes using {@link Bundle}'s.
-	 *
-	 * @author scheglov_ke
-	 */
-	private static final class BundleObjectInputStream extends ObjectInputStream {
-		////////////////////////////////////////////////////////////////////////////
-		//
-		// Constructor
-		//
-		////////////////////////////////////////////////////////////////////////////
-		public BundleObjectInputStream(InputStream in) throws IOException {
-			super(in);
-		}
-
-		////////////////////////////////////////////////////////////////////////////
-		//
-		// Resolve
-		//
-		////////////////////////////////////////////////////////////////////////////
-		@Override
-		protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException,
-		ClassNotFoundException {
-			String className = desc.getName();
-			return ExternalFactoriesHelper.loadBundleClass(className);
-		}
+		return JavaInfoMementoEncoding.decode(bytes);
 	}
 }
@@ -16,6 +16,7 @@ import org.eclipse.wb.core.model.JavaInfo;
 import org.eclipse.wb.internal.core.model.property.GenericPropertyImpl;
 import org.eclipse.wb.internal.core.model.property.Property;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.TreeMap;
 
@@ -47,6 +48,32 @@ public final class PropertiesClipboardCommand extends ClipboardCommand {
 		}
 	}
 
+	/**
+	 * Reads {@link PropertiesClipboardCommand} written by
+	 * {@link #write(JavaInfoMementoEncoding.Output)}.
+	 */
+	PropertiesClipboardCommand(JavaInfoMementoEncoding.Input input) throws IOException {
+		for (int i = input.readInt(); i > 0; i--) {
+			m_propertyTitleToSource.put(input.readString(), input.readString());
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Encoding
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Writes this {@link PropertiesClipboardCommand} using {@link JavaInfoMementoEncoding}.
+	 */
+	void write(JavaInfoMementoEncoding.Output output) throws IOException {
+		output.writeInt(m_propertyTitleToSource.size());
+		for (Map.Entry<String, String> entry : m_propertyTitleToSource.entrySet()) {
+			output.writeString(entry.getKey());
+			output.writeString(entry.getValue());
+		}
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// Command
@@ -54,6 +81,10 @@ public final class PropertiesClipboardCommand extends ClipboardCommand {
 	////////////////////////////////////////////////////////////////////////////
 	@Override
 	public void execute(JavaInfo javaInfo) throws Exception {
+		// no need to ask for properties, this may be expensive
+		if (m_propertyTitleToSource.isEmpty()) {
+			return;
+		}
 		for (Property property : javaInfo.getProperties()) {
 			if (property instanceof GenericPropertyImpl genericProperty) {
 				String clipboardSource = m_propertyTitleToSource.get(property.getTitle());
@@ -38,6 +38,7 @@ import org.eclipse.wb.internal.core.utils.execution.RunnableEx;
 
 import org.eclipse.jdt.core.dom.Expression;
 
+import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.ArrayList;
@@ -151,13 +152,75 @@ public final class GenericPropertyImpl extends GenericProperty {
 		}
 	}
 
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Value snapshot
+	//
+	////////////////////////////////////////////////////////////////////////////
+	private boolean m_hasValueSnapshot;
+	private Object m_valueSnapshot;
+	private long m_snapshotAstModificationCount;
+	private int m_snapshotRefreshCount;
+	private int m_snapshotBroadcastModificationCount;
+
+	/**
+	 * Forgets remembered value, so next {@link #getValue()} will compute it again.
+	 */
+	private void invalidateValueSnapshot() {
+		m_hasValueSnapshot = false;
+		m_valueSnapshot = null;
+	}
+
+	/**
+	 * @return <code>true</code> if given value can not be modified by caller, so can be remembered.
+	 *         Mutable values, such as <code>Point</code>, are computed for each request.
+	 */
+	private static boolean isImmutableValue(Object value) {
+		return value == null
+				|| value == UNKNOWN_VALUE
+				|| value instanceof String
+				|| value instanceof Enum<?>
+				|| ClassUtils.isPrimitiveWrapper(value.getClass());
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// Value
 	//
 	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Immutable value is remembered until AST of editor is modified, hierarchy is refreshed or
+	 * broadcast listeners are changed, so properties page can ask for value many times without
+	 * evaluating expressions again.
+	 */
 	@Override
 	public Object getValue() throws Exception {
+		PropertyValueCounters.valueRequested();
+		long astModificationCount = m_javaInfo.getEditor().getAstUnit().getAST().modificationCount();
+		int refreshCount = m_javaInfo.getRefreshCount();
+		int broadcastModificationCount = m_javaInfo.getBroadcastSupport().getModificationCount();
+		if (m_hasValueSnapshot
+				&& m_snapshotAstModificationCount == astModificationCount
+				&& m_snapshotRefreshCount == refreshCount
+				&& m_snapshotBroadcastModificationCount == broadcastModificationCount) {
+			return m_valueSnapshot;
+		}
+		// compute value
+		PropertyValueCounters.valueComputed();
+		Object value = getValue0();
+		if (!isImmutableValue(value)) {
+			invalidateValueSnapshot();
+			return value;
+		}
+		m_hasValueSnapshot = true;
+		m_valueSnapshot = value;
+		m_snapshotAstModificationCount = astModificationCount;
+		m_snapshotRefreshCount = refreshCount;
+		m_snapshotBroadcastModificationCount = broadcastModificationCount;
+		return value;
+	}
+
+	private Object getValue0() throws Exception {
 		// allow broadcast listeners to set value
 		{
 			Object[] valueArray = new Object[]{UNKNOWN_VALUE};
@@ -309,6 +372,7 @@ public final class GenericPropertyImpl extends GenericProperty {
 			}
 		}
 		// set value
+		invalidateValueSnapshot();
 		rememberValueIntoExpression(value);
 		// done
 		m_javaInfo.getBroadcastJava().propertyValueWasSet(this);
@@ -12,7 +12,6 @@
  *******************************************************************************/
 package org.eclipse.wb.internal.core.model.util.live;
 
-import org.eclipse.wb.core.eval.ExecutionFlowDescription;
 import org.eclipse.wb.core.model.AbstractComponentInfo;
 import org.eclipse.wb.core.model.JavaInfo;
 import org.eclipse.wb.core.model.broadcast.BroadcastSupport;
@@ -23,26 +22,42 @@ import org.eclipse.wb.internal.core.model.ModelMessages;
 import org.eclipse.wb.internal.core.model.creation.ConstructorCreationSupport;
 import org.eclipse.wb.internal.core.model.creation.CreationSupport;
 import org.eclipse.wb.internal.core.model.creation.ILiveCreationSupport;
+import org.eclipse.wb.internal.core.model.description.helpers.EditorStateLoadingContext;
+import org.eclipse.wb.internal.core.model.description.resource.IDescriptionVersionsProvider;
 import org.eclipse.wb.internal.core.model.util.GlobalStateJava;
 import org.eclipse.wb.internal.core.parser.JavaInfoParser;
-import org.eclipse.wb.internal.core.parser.JavaInfoResolver;
 import org.eclipse.wb.internal.core.utils.ast.AstEditor;
-import org.eclipse.wb.internal.core.utils.ast.BodyDeclarationTarget;
+import org.eclipse.wb.internal.core.utils.ast.AstNodeUtils;
+import org.eclipse.wb.internal.core.utils.check.Assert;
 import org.eclipse.wb.internal.core.utils.exception.DesignerExceptionUtils;
+import org.eclipse.wb.internal.core.utils.reflect.ByteCodeCache;
 import org.eclipse.wb.internal.core.utils.state.EditorState;
 import org.eclipse.wb.internal.core.utils.state.GlobalState;
 import org.eclipse.wb.internal.core.utils.ui.DrawUtils;
+import org.eclipse.wb.internal.core.utils.ui.ResourceTracker;
 
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.WorkingCopyOwner;
 import org.eclipse.jdt.core.dom.MethodDeclaration;
 import org.eclipse.jdt.core.dom.Statement;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
+import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.widgets.Display;
 
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Helper for accessing "live" information for {@link AbstractComponentInfo} during adding it on
@@ -79,27 +94,34 @@ public abstract class AbstractLiveManager {
 	 *         and removes "live" component.
 	 */
 	protected final ILiveCacheEntry createCacheEntry() {
+		return createCacheEntry(null);
+	}
+
+	/**
+	 * Implementation of {@link #createCacheEntry()} that also puts successfully created entry into
+	 * {@link PersistentLiveCache} with given key, if not <code>null</code>.
+	 */
+	private ILiveCacheEntry createCacheEntry(String persistentKey) {
+		ILiveCacheEntry entry;
 		try {
-			return createCacheEntryEx();
+			entry = createCacheEntryEx();
 		} catch (Throwable e) {
 			e = DesignerExceptionUtils.getDesignerCause(e);
 			DesignerPlugin.log(e);
 			return createComponentCacheEntryEx(e);
 		}
+		if (persistentKey != null) {
+			writePersistentEntry(persistentKey, entry);
+		}
+		return entry;
 	}
 
 	private ILiveCacheEntry createCacheEntryEx() throws Exception {
-		BroadcastSupport oldBroadcast = m_editorState.getBroadcast();
-		JavaInfoResolver oldResolver = m_editorState.getJavaInfoResolver();
+		BroadcastSupport broadcast = m_editorState.getBroadcast();
 		JavaInfo oldActiveObject = (JavaInfo) GlobalState.getActiveObject();
-		oldBroadcast.getListener(DisplayEventListener.class).beforeMessagesLoop();
-		//
-		ExecutionFlowDescription old_flowDescription = m_editorState.getFlowDescription();
+		broadcast.getListener(DisplayEventListener.class).beforeMessagesLoop();
 		AbstractComponentInfo liveComponentInfo = null;
 		try {
-			m_editorState.setBroadcastSupport(new BroadcastSupport());
-			m_editorState.setLiveComponent(true);
-			m_editor.setResolveImports(false);
 			// create component model
 			liveComponentInfo = createLiveComponent();
 			JavaInfo root = liveComponentInfo.getRootJava();
@@ -109,19 +131,14 @@ public abstract class AbstractLiveManager {
 			return createComponentCacheEntry(liveComponentInfo);
 		} finally {
 			// do clean up
-			cleanupLiveComponent(liveComponentInfo);
-			m_editorState.setLiveComponent(false);
-			m_editorState.setBroadcastSupport(oldBroadcast);
-			m_editorState.setJavaInfoResolver(oldResolver);
-			m_editorState.setFlowDescription(old_flowDescription);
-			GlobalStateJava.activate(oldActiveObject);
-			m_editor.setResolveImports(true);
-			if (m_tmpType != null) {
-				m_editor.removeBodyDeclaration(m_tmpType);
-				m_editor.commitChanges();
+			try {
+				cleanupLiveComponent(liveComponentInfo);
+			} finally {
+				disposeLiveEditor();
+				GlobalStateJava.activate(oldActiveObject);
+				// we finished inner operation
+				broadcast.getListener(DisplayEventListener.class).afterMessagesLoop();
 			}
-			// we finished inner operation
-			oldBroadcast.getListener(DisplayEventListener.class).afterMessagesLoop();
 		}
 	}
 
@@ -156,18 +173,38 @@ public abstract class AbstractLiveManager {
 	 */
 	protected abstract ILiveCacheEntry createComponentCacheEntryEx(Throwable e);
 
+	/**
+	 * Writes given {@link ILiveCacheEntry} into {@link PersistentLiveCache}.
+	 *
+	 * @return <code>false</code> if this manager does not support persistent cache.
+	 */
+	protected boolean writeCacheEntry(ILiveCacheEntry entry, DataOutputStream output)
+			throws Exception {
+		return false;
+	}
+
+	/**
+	 * @return the {@link ILiveCacheEntry} written by
+	 *         {@link #writeCacheEntry(ILiveCacheEntry, DataOutputStream)}, or <code>null</code> if
+	 *         this manager does not support persistent cache.
+	 */
+	protected ILiveCacheEntry readCacheEntry(DataInputStream input) throws Exception {
+		return null;
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// Utils
 	//
 	////////////////////////////////////////////////////////////////////////////
-	private TypeDeclaration m_tmpType;
-	private MethodDeclaration m_method;
+	private static final String TMP_TYPE_NAME = "__Tmp";
+	private ICompilationUnit m_liveUnit;
+	private AstEditor m_liveEditor;
 
 	/**
-	 * Parses given statements source in temporary type/method, but in same {@link AstEditor}, so with
-	 * same {@link EditorState}, {@link ClassLoader}, etc. Ensures that new parsed {@link JavaInfo}
-	 * hierarchy does not interacts with "main" hierarchy.
+	 * Parses given statements source in temporary type/method of separate scratch {@link AstEditor}.
+	 * This editor has own {@link EditorState}, but shares {@link ClassLoader} with "main" editor, so
+	 * "main" compilation unit, its {@link BroadcastSupport} and execution flow are not touched.
 	 *
 	 * @param sourceLines
 	 *          that source for {@link Statement}'s to parse.
@@ -175,26 +212,84 @@ public abstract class AbstractLiveManager {
 	 * @return the root {@link JavaInfo} for parsed source.
 	 */
 	protected final JavaInfo parse(String[] sourceLines) throws Exception {
-		// prepare target type
-		TypeDeclaration typeDeclaration = (TypeDeclaration) m_editor.getAstUnit().types().get(0);
-		// create method
-		m_tmpType =
-				m_editor.addTypeDeclaration(
-						List.of("private static class __Tmp {", "}"),
-						new BodyDeclarationTarget(typeDeclaration, false));
-		m_method =
-				m_editor.addMethodDeclaration(
-						"private static void __tmp()",
-						List.of(sourceLines),
-						new BodyDeclarationTarget(m_tmpType, false));
-		m_editorState.setFlowDescription(new ExecutionFlowDescription(m_method));
-		// parse created method
-		JavaInfo root = JavaInfoParser.parse(m_editor, m_method);
+		AstEditor editor = getLiveEditor(sourceLines);
+		TypeDeclaration typeDeclaration = (TypeDeclaration) editor.getAstUnit().types().get(0);
+		TypeDeclaration tmpType = getTmpType(typeDeclaration);
+		MethodDeclaration method = tmpType.getMethods()[0];
+		// parse method
+		JavaInfo root = JavaInfoParser.parse(editor, method);
 		root.startEdit();
 		root.putArbitraryValue(JavaInfo.FLAG_DONT_COMMIT_EDITOR, Boolean.TRUE);
 		return root;
 	}
 
+	/**
+	 * @return the temporary type declared by {@link #getLiveEditor(String[])} in given top-level
+	 *         type.
+	 */
+	private static TypeDeclaration getTmpType(TypeDeclaration typeDeclaration) {
+		for (TypeDeclaration type : typeDeclaration.getTypes()) {
+			if (type.getName().getIdentifier().equals(TMP_TYPE_NAME)) {
+				return type;
+			}
+		}
+		throw new IllegalStateException(TMP_TYPE_NAME + " not found in " + typeDeclaration.getName());
+	}
+
+	/**
+	 * @return the scratch {@link AstEditor} with method that contains given statements. Editor uses
+	 *         working copy of "main" compilation unit, with own buffer that has source of "main"
+	 *         editor, so same package, imports and enclosing type, plus temporary type with method.
+	 */
+	private AstEditor getLiveEditor(String[] sourceLines) throws Exception {
+		Assert.isNull(m_liveEditor);
+		ICompilationUnit unit = m_editor.getModelUnit();
+		// prepare source, temporary type is last member of top-level type
+		TypeDeclaration typeDeclaration = (TypeDeclaration) m_editor.getAstUnit().types().get(0);
+		int position = AstNodeUtils.getSourceEnd(typeDeclaration) - 1;
+		StringBuilder source = new StringBuilder(m_editor.getSource());
+		{
+			StringBuilder tmpSource = new StringBuilder();
+			tmpSource.append("private static class " + TMP_TYPE_NAME + " {\n");
+			tmpSource.append("\tprivate static void __tmp() {\n");
+			for (String line : sourceLines) {
+				tmpSource.append(line).append("\n");
+			}
+			tmpSource.append("\t}\n");
+			tmpSource.append("}\n");
+			source.insert(position, tmpSource);
+		}
+		// prepare editor
+		m_liveUnit = unit.getPrimary().getWorkingCopy(new WorkingCopyOwner() {
+		}, null);
+		m_liveUnit.getBuffer().setContents(source.toString());
+		m_liveEditor = new AstEditor(m_liveUnit);
+		m_liveEditor.setResolveImports(false);
+		// prepare state, share ClassLoader
+		EditorState liveState = EditorState.get(m_liveEditor);
+		liveState.initialize(m_editorState.getToolkitId(), m_editorState.getEditorLoader());
+		liveState.addVersions(m_editorState.getVersions());
+		for (IDescriptionVersionsProvider provider : m_editorState.getDescriptionVersionsProviders()) {
+			liveState.addDescriptionVersionsProvider(provider);
+		}
+		liveState.setLiveComponent(true);
+		return m_liveEditor;
+	}
+
+	/**
+	 * Discards scratch {@link AstEditor}, if was created.
+	 */
+	private void disposeLiveEditor() throws Exception {
+		if (m_liveEditor != null) {
+			EditorState.get(m_liveEditor).disposeShared(m_editorState);
+			m_liveEditor = null;
+		}
+		if (m_liveUnit != null) {
+			m_liveUnit.discardWorkingCopy();
+			m_liveUnit = null;
+		}
+	}
+
 	/**
 	 * @return the {@link Image} to use as "live" for given {@link Throwable}.
 	 */
@@ -215,14 +310,18 @@ public abstract class AbstractLiveManager {
 	}
 
 	/**
-	 * @return the {@link JavaInfo} cloned from original component.
+	 * @return the {@link JavaInfo} cloned from original component, in scratch {@link AstEditor}, so
+	 *         should be used after {@link #parse(String[])}.
 	 */
 	protected final <T extends JavaInfo> T createClone() throws Exception {
 		CreationSupport creationSupport =
 				((ILiveCreationSupport) m_component.getCreationSupport()).getLiveComponentCreation();
 		@SuppressWarnings("unchecked")
 		T clone =
-		(T) JavaInfoUtils.createJavaInfo(m_editor, m_component.getDescription(), creationSupport);
+		(T) JavaInfoUtils.createJavaInfo(
+				m_liveEditor,
+				m_component.getDescription(),
+				creationSupport);
 		// copy generics arguments
 		clone.putTemplateArguments(m_component.getTemplateArguments());
 		// clone ready
@@ -239,16 +338,18 @@ public abstract class AbstractLiveManager {
 	 *         creates one.
 	 */
 	protected final ILiveCacheEntry getCachedEntry() {
-		// check for static cache (only for constructor creation)
+		// check for static cache (only for constructor creation), also persistent
 		if (m_component.getDescription().isCached()
 				&& m_component.getCreationSupport() instanceof ConstructorCreationSupport) {
 			Map<String, ILiveCacheEntry> cache = getStaticCache();
-			return getCachedEntry(cache, false);
+			ILiveCacheEntry entry = getCachedEntry(cache, false, true);
+			addStaticEntryUser(entry);
+			return entry;
 		}
 		// use for editor cache
 		{
 			Map<String, ILiveCacheEntry> cache = getEditorCache();
-			return getCachedEntry(cache, true);
+			return getCachedEntry(cache, true, false);
 		}
 	}
 
@@ -257,12 +358,19 @@ public abstract class AbstractLiveManager {
 	 *         cached entry found then it creates one.
 	 */
 	private ILiveCacheEntry getCachedEntry(Map<String, ILiveCacheEntry> cache,
-			boolean disposeWithEditor) {
+			boolean disposeWithEditor,
+			boolean persistent) {
 		String key = getKey();
 		// get/put entry from cache
 		ILiveCacheEntry entry = cache.get(key);
 		if (entry == null) {
-			entry = createCacheEntry();
+			String persistentKey = persistent ? getPersistentKey() : null;
+			if (persistentKey != null) {
+				entry = readPersistentEntry(persistentKey);
+			}
+			if (entry == null) {
+				entry = createCacheEntry(persistentKey);
+			}
 			cache.put(key, entry);
 			// schedule for dispose if needed
 			if (disposeWithEditor) {
@@ -272,13 +380,144 @@ public abstract class AbstractLiveManager {
 		return entry;
 	}
 
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Persistent cache
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @return the key for {@link PersistentLiveCache}: component class, creation key, classpath and
+	 *         description fingerprints, and environment, i.e. OS, SWT version, DPI, system font and
+	 *         theme. May be <code>null</code> if key can not be computed.
+	 */
+	private String getPersistentKey() {
+		try {
+			Class<?> componentClass = m_component.getDescription().getComponentClass();
+			Display display = DesignerPlugin.getStandardDisplay();
+			Point dpi = display.getDPI();
+			return m_editorState.getToolkitId()
+					+ "|"
+					+ ByteCodeCache.getVersionKey(getClass())
+					+ "|"
+					+ componentClass.getName()
+					+ "|"
+					+ getKey()
+					+ "|"
+					+ PersistentLiveCache.getClasspathFingerprint(
+							m_editorState.getEditorLoader(),
+							componentClass)
+					+ "|"
+					+ PersistentLiveCache.getDescriptionFingerprint(
+							EditorStateLoadingContext.get(m_editorState),
+							componentClass)
+					+ "|"
+					+ System.getProperty("os.name")
+					+ "|"
+					+ SWT.getPlatform()
+					+ SWT.getVersion()
+					+ "|"
+					+ dpi.x
+					+ "x"
+					+ dpi.y
+					+ "|"
+					+ StringUtils.join(display.getSystemFont().getFontData(), ",")
+					+ "|"
+					+ (Display.isSystemDarkTheme() ? "dark" : "light")
+					+ (display.getHighContrast() ? "-contrast" : "");
+		} catch (Throwable e) {
+			return null;
+		}
+	}
+
+	private ILiveCacheEntry readPersistentEntry(String persistentKey) {
+		DataInputStream input = PersistentLiveCache.getDefault().get(persistentKey);
+		if (input != null) {
+			try {
+				return readCacheEntry(input);
+			} catch (Throwable e) {
+				// ignore, will be created again
+			}
+		}
+		return null;
+	}
+
+	private void writePersistentEntry(String persistentKey, ILiveCacheEntry entry) {
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try (DataOutputStream output = new DataOutputStream(bytes)) {
+				if (!writeCacheEntry(entry, output)) {
+					return;
+				}
+			}
+			PersistentLiveCache.getDefault().put(persistentKey, bytes.toByteArray());
+		} catch (Throwable e) {
+			// ignore, cache is optional
+		}
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// Caching
 	//
 	////////////////////////////////////////////////////////////////////////////
 	private static final Map<String, ILiveCacheEntry> m_staticCache = new HashMap<>();
+	private static final Map<ILiveCacheEntry, Integer> m_staticEntryUsers = new IdentityHashMap<>();
+	private static final Set<ILiveCacheEntry> m_evictedEntries =
+			Collections.newSetFromMap(new IdentityHashMap<>());
 	private static final String EDITOR_CACHE_KEY = "LIVE_CACHE";
+	private static final String STATIC_ENTRIES_KEY = "LIVE_STATIC_ENTRIES";
+	/**
+	 * Static cache can be restored from {@link PersistentLiveCache}, so it is first to release when
+	 * budget of native resources is exceeded. Entries which are used by open editors may be still
+	 * drawn, so they are disposed only with last of these editors.
+	 */
+	static {
+		ResourceTracker.addEvictor(() -> {
+			for (ILiveCacheEntry entry : m_staticCache.values()) {
+				if (m_staticEntryUsers.containsKey(entry)) {
+					m_evictedEntries.add(entry);
+				} else {
+					entry.dispose();
+				}
+			}
+			m_staticCache.clear();
+		});
+	}
+
+	/**
+	 * Remembers that {@link AstEditor} of component uses given entry of static cache.
+	 */
+	@SuppressWarnings("unchecked")
+	private void addStaticEntryUser(ILiveCacheEntry entry) {
+		Set<ILiveCacheEntry> entries =
+				(Set<ILiveCacheEntry>) m_editor.getGlobalValue(STATIC_ENTRIES_KEY);
+		if (entries == null) {
+			Set<ILiveCacheEntry> editorEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+			m_editor.putGlobalValue(STATIC_ENTRIES_KEY, editorEntries);
+			m_editorState.addDisposable(() -> releaseStaticEntries(editorEntries));
+			entries = editorEntries;
+		}
+		if (entries.add(entry)) {
+			m_staticEntryUsers.merge(entry, 1, Integer::sum);
+		}
+	}
+
+	/**
+	 * Forgets that disposed editor uses given entries of static cache, disposes evicted entries
+	 * which are not used anymore.
+	 */
+	private static void releaseStaticEntries(Set<ILiveCacheEntry> entries) {
+		for (ILiveCacheEntry entry : entries) {
+			int users = m_staticEntryUsers.merge(entry, -1, Integer::sum);
+			if (users == 0) {
+				m_staticEntryUsers.remove(entry);
+				if (m_evictedEntries.remove(entry)) {
+					entry.dispose();
+				}
+			}
+		}
+		entries.clear();
+	}
 
 	/**
 	 * @return the static level cache {@link Map}.
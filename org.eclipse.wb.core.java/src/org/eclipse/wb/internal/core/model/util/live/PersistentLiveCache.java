@@ -0,0 +1,303 @@
+/*******************************************************************************
+ * Copyright (c) 2026 WindowBuilder contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    WindowBuilder contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.wb.internal.core.model.util.live;
+
+import org.eclipse.wb.internal.core.DesignerPlugin;
+import org.eclipse.wb.internal.core.model.description.helpers.DescriptionHelper;
+import org.eclipse.wb.internal.core.model.description.helpers.ILoadingContext;
+import org.eclipse.wb.internal.core.model.description.resource.ClassResourceInfo;
+import org.eclipse.wb.internal.core.utils.reflect.BundleClassLoader;
+import org.eclipse.wb.internal.core.utils.reflect.CompositeClassLoader;
+import org.eclipse.wb.internal.core.utils.reflect.ProjectClassLoader;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.ImageLoader;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+
+import org.osgi.framework.Bundle;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cross-session on-disk cache of "live" information (images, styles, baselines) produced by
+ * {@link AbstractLiveManager}.
+ * <p>
+ * Entry is identified by digest of component class, creation key, fingerprint of classpath, see
+ * {@link #getClasspathFingerprint(ClassLoader, Class)}, and fingerprint of description, see
+ * {@link #getDescriptionFingerprint(ILoadingContext, Class)}. Format of entry data is defined by
+ * {@link AbstractLiveManager} subclass.
+ *
+ * @coverage core.model.util.live
+ */
+public final class PersistentLiveCache {
+	/**
+	 * Version of entries format, change it if format of entries is changed.
+	 */
+	private static final int FORMAT_VERSION = 1;
+	/**
+	 * Maximal number of entries to keep on disk, older entries are removed on startup.
+	 */
+	private static final int MAX_ENTRIES = 2048;
+	private static PersistentLiveCache m_default;
+
+	/**
+	 * @return the default {@link PersistentLiveCache} in state location of plugin.
+	 */
+	public static synchronized PersistentLiveCache getDefault() {
+		if (m_default == null) {
+			File stateDirectory = DesignerPlugin.getDefault().getStateLocation().toFile();
+			m_default = new PersistentLiveCache(new File(stateDirectory, "live"));
+		}
+		return m_default;
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Instance fields
+	//
+	////////////////////////////////////////////////////////////////////////////
+	private final File m_directory;
+	private final AtomicInteger m_hitCount = new AtomicInteger();
+	private final AtomicInteger m_missCount = new AtomicInteger();
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Constructor
+	//
+	////////////////////////////////////////////////////////////////////////////
+	public PersistentLiveCache(File directory) {
+		m_directory = directory;
+		m_directory.mkdirs();
+		// remove oldest entries
+		File[] files = m_directory.listFiles();
+		if (files != null && files.length > MAX_ENTRIES) {
+			Arrays.sort(files, Comparator.comparingLong(File::lastModified).reversed());
+			for (int i = MAX_ENTRIES; i < files.length; i++) {
+				files[i].delete();
+			}
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Access
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @return the data of entry with given key, or <code>null</code> if no such entry.
+	 */
+	public DataInputStream get(String key) {
+		File file = getFile(key);
+		if (file.isFile()) {
+			try {
+				DataInputStream input =
+						new DataInputStream(new ByteArrayInputStream(FileUtils.readFileToByteArray(file)));
+				if (input.readInt() == FORMAT_VERSION) {
+					m_hitCount.incrementAndGet();
+					return input;
+				}
+			} catch (Throwable e) {
+				// ignore, will be replaced
+			}
+		}
+		m_missCount.incrementAndGet();
+		return null;
+	}
+
+	/**
+	 * Remembers data of entry with given key.
+	 */
+	public void put(String key, byte[] data) {
+		try {
+			File tempFile = File.createTempFile("entry", ".tmp", m_directory);
+			try {
+				try (DataOutputStream output =
+						new DataOutputStream(Files.newOutputStream(tempFile.toPath()))) {
+					output.writeInt(FORMAT_VERSION);
+					output.write(data);
+				}
+				Files.move(
+						tempFile.toPath(),
+						getFile(key).toPath(),
+						StandardCopyOption.REPLACE_EXISTING);
+			} finally {
+				tempFile.delete();
+			}
+		} catch (Throwable e) {
+			// ignore, cache is optional
+		}
+	}
+
+	/**
+	 * @return the number of {@link #get(String)} requests with existing entry.
+	 */
+	public int getHitCount() {
+		return m_hitCount.get();
+	}
+
+	/**
+	 * @return the number of {@link #get(String)} requests without entry.
+	 */
+	public int getMissCount() {
+		return m_missCount.get();
+	}
+
+	private File getFile(String key) {
+		return new File(m_directory, digest(key));
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Keys
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @return the fingerprint of classpath used to load given component {@link Class}: paths,
+	 *         modification stamps and sizes of archives, versions of {@link Bundle}'s, and stamps
+	 *         of class files of component and its super classes in project output folders.
+	 */
+	public static String getClasspathFingerprint(ClassLoader editorLoader, Class<?> componentClass) {
+		StringBuilder sb = new StringBuilder();
+		appendClassLoader(sb, editorLoader);
+		for (Class<?> clazz = componentClass; clazz != null; clazz = clazz.getSuperclass()) {
+			URL url = editorLoader.getResource(clazz.getName().replace('.', '/') + ".class");
+			if (url != null && "file".equals(url.getProtocol())) {
+				File file = toFile(url);
+				sb.append(clazz.getName()).append('@').append(file.lastModified()).append(';');
+			}
+		}
+		return digest(sb.toString());
+	}
+
+	private static void appendClassLoader(StringBuilder sb, ClassLoader classLoader) {
+		if (classLoader instanceof CompositeClassLoader compositeClassLoader) {
+			for (ClassLoader child : compositeClassLoader.getClassLoaders()) {
+				appendClassLoader(sb, child);
+			}
+		} else if (classLoader instanceof URLClassLoader urlClassLoader) {
+			for (URL url : urlClassLoader.getURLs()) {
+				File file = toFile(url);
+				sb.append(url).append('@');
+				if (file.isFile()) {
+					sb.append(file.lastModified()).append('@').append(file.length());
+				}
+				sb.append(';');
+			}
+			if (classLoader instanceof ProjectClassLoader projectClassLoader) {
+				appendClassLoader(sb, projectClassLoader.getLibraryClassLoader());
+			}
+			appendClassLoader(sb, classLoader.getParent());
+		} else if (classLoader instanceof BundleClassLoader bundleClassLoader) {
+			Bundle bundle = bundleClassLoader.getBundle();
+			sb.append(bundle.getSymbolicName()).append('_').append(bundle.getVersion());
+			sb.append('@').append(bundle.getLastModified()).append(';');
+		}
+	}
+
+	/**
+	 * @return the digest of contents of <code>*.wbp-component.xml</code> files of given component
+	 *         {@link Class}, its super classes and interfaces.
+	 */
+	public static String getDescriptionFingerprint(ILoadingContext context, Class<?> componentClass)
+			throws Exception {
+		LinkedList<ClassResourceInfo> descriptions = new LinkedList<>();
+		DescriptionHelper.addDescriptionResources(descriptions, context, componentClass);
+		MessageDigest digest = MessageDigest.getInstance("SHA-256");
+		for (ClassResourceInfo description : descriptions) {
+			digest.update(description.clazz.getName().getBytes(StandardCharsets.UTF_8));
+			try (InputStream inputStream = description.resource.getURL().openStream()) {
+				digest.update(IOUtils.toByteArray(inputStream));
+			}
+		}
+		return toHex(digest.digest());
+	}
+
+	private static File toFile(URL url) {
+		try {
+			return new File(url.toURI());
+		} catch (Throwable e) {
+			return new File(url.getPath());
+		}
+	}
+
+	private static String digest(String s) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return toHex(digest.digest(s.getBytes(StandardCharsets.UTF_8)));
+		} catch (Throwable e) {
+			return Integer.toHexString(s.hashCode());
+		}
+	}
+
+	private static String toHex(byte[] bytes) {
+		StringBuilder sb = new StringBuilder();
+		for (byte b : bytes) {
+			sb.append(Character.forDigit(b >> 4 & 0xF, 16));
+			sb.append(Character.forDigit(b & 0xF, 16));
+		}
+		return sb.toString();
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Images
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Writes given {@link Image} (may be <code>null</code>) as PNG.
+	 */
+	public static void writeImage(DataOutputStream output, Image image) throws Exception {
+		if (image == null) {
+			output.writeInt(-1);
+		} else {
+			ImageLoader imageLoader = new ImageLoader();
+			imageLoader.data = new ImageData[]{image.getImageData()};
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			imageLoader.save(bytes, SWT.IMAGE_PNG);
+			output.writeInt(bytes.size());
+			bytes.writeTo(output);
+		}
+	}
+
+	/**
+	 * @return the {@link Image} written by {@link #writeImage(DataOutputStream, Image)}.
+	 */
+	public static Image readImage(DataInputStream input) throws Exception {
+		int length = input.readInt();
+		if (length == -1) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		input.readFully(bytes);
+		return new Image(null, new ImageData(new ByteArrayInputStream(bytes)));
+	}
+}
@@ -180,12 +180,11 @@ public final class LazyVariableSupportUtils {
 		}
 		// replace field access nodes to access by invocation nodes
 		String invocationSource = accessor.getName().getIdentifier() + "()";
-		List<ASTNode> relatedNodes = javaInfo.getRelatedNodes();
 		for (ASTNode replaceNode : replaceNodes) {
-			if (relatedNodes.contains(replaceNode)) {
+			if (javaInfo.getRelatedNodes().contains(replaceNode)) {
 				Expression replaceExpression =
 						editor.replaceExpression((Expression) replaceNode, invocationSource);
-				relatedNodes.remove(replaceNode);
+				javaInfo.removeRelatedNode(replaceNode);
 				javaInfo.addRelatedNode(replaceExpression);
 			}
 		}
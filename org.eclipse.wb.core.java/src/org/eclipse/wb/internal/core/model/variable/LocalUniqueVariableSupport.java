@@ -154,7 +154,7 @@ public final class LocalUniqueVariableSupport extends LocalVariableSupport {
 		// remove "initializer in declaration" from related nodes, so prevent declaration removing
 		{
 			Expression initializer = m_declaration.getInitializer();
-			m_javaInfo.getRelatedNodes().remove(initializer);
+			m_javaInfo.removeRelatedNode(initializer);
 		}
 	}
 
@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2026 WindowBuilder contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    WindowBuilder contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.wb.internal.core.nls.bundle;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.IPath;
+
+import java.io.InputStream;
+import java.lang.ref.SoftReference;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Workspace wide cache of *.properties files content, shared by all {@link BundleInfo}'s, so
+ * editors that use same bundle don't load and keep separate copies of it.
+ * <p>
+ * {@link Content} is immutable and is valid while modification stamp and charset of {@link IFile}
+ * are same as during loading. Empty content is not reused, it is cheap to load it again. Content
+ * is kept using {@link SoftReference}, so can be released when memory is low.
+ *
+ * @coverage core.nls
+ */
+public final class BundleFileCache {
+	private static final Map<Key, SoftReference<Content>> m_contents = new HashMap<>();
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Constructor
+	//
+	////////////////////////////////////////////////////////////////////////////
+	private BundleFileCache() {
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Access
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @return the cached {@link Content} of given {@link IFile}, or loads it, if there are no valid
+	 *         cached {@link Content}.
+	 */
+	public static Content get(IFile file, IPropertiesAccessor accessor) throws Exception {
+		Key key = new Key(file.getFullPath(), accessor);
+		long stamp = file.getModificationStamp();
+		String charset = file.getCharset();
+		synchronized (m_contents) {
+			Content content = getContent(key);
+			if (content != null
+					&& content.m_stamp == stamp
+					&& stamp != IResource.NULL_STAMP
+					&& content.m_charset.equals(charset)
+					&& !content.m_map.isEmpty()) {
+				return content;
+			}
+		}
+		// load
+		Map<String, String> map;
+		try (InputStream is = file.getContents(true)) {
+			map = accessor.load(is, charset);
+		}
+		return put(key, new Content(stamp, charset, map));
+	}
+
+	/**
+	 * Remembers that given {@link IFile} has now given content, for example after saving it.
+	 *
+	 * @return the new {@link Content}.
+	 */
+	public static Content put(IFile file, IPropertiesAccessor accessor, Map<String, String> map)
+			throws Exception {
+		Key key = new Key(file.getFullPath(), accessor);
+		Content content = new Content(file.getModificationStamp(), file.getCharset(), map);
+		return put(key, content);
+	}
+
+	private static Content put(Key key, Content content) {
+		synchronized (m_contents) {
+			// remove released contents
+			for (Iterator<SoftReference<Content>> I = m_contents.values().iterator(); I.hasNext();) {
+				if (I.next().get() == null) {
+					I.remove();
+				}
+			}
+			// remember new content
+			m_contents.put(key, new SoftReference<>(content));
+			return content;
+		}
+	}
+
+	private static Content getContent(Key key) {
+		SoftReference<Content> reference = m_contents.get(key);
+		return reference != null ? reference.get() : null;
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Content
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Immutable content of *.properties file.
+	 */
+	public static final class Content {
+		private final long m_stamp;
+		private final String m_charset;
+		private final Map<String, String> m_map;
+
+		private Content(long stamp, String charset, Map<String, String> map) {
+			m_stamp = stamp;
+			m_charset = charset;
+			m_map = Collections.unmodifiableMap(new HashMap<>(map));
+		}
+
+		/**
+		 * @return the modification stamp of {@link IFile} with this content.
+		 */
+		public long getStamp() {
+			return m_stamp;
+		}
+
+		/**
+		 * @return the charset used to load this content.
+		 */
+		public String getCharset() {
+			return m_charset;
+		}
+
+		/**
+		 * @return the unmodifiable map key -> value.
+		 */
+		public Map<String, String> getMap() {
+			return m_map;
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Key
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Identifier of cached {@link Content}, different {@link IPropertiesAccessor}'s may load file
+	 * differently.
+	 */
+	private static final class Key {
+		private final IPath m_path;
+		private final IPropertiesAccessor m_accessor;
+
+		Key(IPath path, IPropertiesAccessor accessor) {
+			m_path = path;
+			m_accessor = accessor;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj instanceof Key key) {
+				return m_path.equals(key.m_path) && m_accessor == key.m_accessor;
+			}
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(m_path, System.identityHashCode(m_accessor));
+		}
+	}
+}
@@ -23,12 +23,20 @@ import org.apache.commons.lang3.StringUtils;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 /**
  * Information/accessor for single .properties file.
+ * <p>
+ * Content of file is shared with other {@link BundleInfo}'s using {@link BundleFileCache}, and
+ * copied only when modified. On save only changed keys are written, if {@link IPropertiesAccessor}
+ * supports this.
  *
  * @author scheglov_ke
  * @coverage core.nls
@@ -149,37 +157,61 @@ public final class BundleInfo {
 	// Properties
 	//
 	////////////////////////////////////////////////////////////////////////////
+	private BundleFileCache.Content m_content;
 	private Map<String, String> m_properties;
 	private long m_propertiesStamp;
 
 	/**
-	 * @return the copy of map key -> value.
+	 * @return the copy of map key -> value. Not modified content is shared and really copied only
+	 *         if returned map is modified.
 	 */
 	public Map<String, String> getMap() throws Exception {
-		return new HashMap<>(getProperties());
+		ensureContent();
+		if (m_properties != null) {
+			return new HashMap<>(m_properties);
+		}
+		return new CopyOnWriteMap(m_content.getMap());
 	}
 
 	/**
 	 * Set map key -> value.
 	 */
-	public void setMap(Map<String, String> map) {
+	public void setMap(Map<String, String> map) throws Exception {
+		ensureContent();
 		m_properties = new HashMap<>(map);
 	}
 
 	/**
-	 * @return the cached or reloaded (if changed externally) map key -> value.
+	 * Ensures that {@link #m_content} is loaded and not changed externally. If it was changed, then
+	 * local modifications are discarded. Empty content is always reloaded, because file may be not
+	 * synchronized yet.
+	 */
+	private void ensureContent() throws Exception {
+		if (m_content == null
+				|| isExternallyChanged()
+				|| m_properties == null && m_content.getMap().isEmpty()) {
+			m_content = BundleFileCache.get(m_file, m_propertiesAccessor);
+			m_propertiesStamp = m_content.getStamp();
+			m_properties = null;
+		}
+	}
+
+	/**
+	 * @return the cached or reloaded (if changed externally) map key -> value. May be shared, so
+	 *         should not be modified.
 	 */
 	private Map<String, String> getProperties() throws Exception {
-		if (m_properties == null || isExternallyChanged() || m_properties.isEmpty()) {
-			InputStream is = m_file.getContents(true);
-			try {
-				String charset = m_file.getCharset();
-				m_properties = m_propertiesAccessor.load(is, charset);
-			} finally {
-				is.close();
-			}
-			//
-			m_propertiesStamp = m_file.getModificationStamp();
+		ensureContent();
+		return m_properties != null ? m_properties : m_content.getMap();
+	}
+
+	/**
+	 * @return the map key -> value of this {@link BundleInfo}, that can be modified.
+	 */
+	private Map<String, String> getModifiableProperties() throws Exception {
+		ensureContent();
+		if (m_properties == null) {
+			m_properties = new HashMap<>(m_content.getMap());
 		}
 		return m_properties;
 	}
@@ -192,18 +224,74 @@ public final class BundleInfo {
 	 */
 	public void save(String comments) throws Exception {
 		if (m_properties != null) {
-			// prepare bytes for properties
-			ByteArrayOutputStream baos = new ByteArrayOutputStream();
 			String charset = m_file.getCharset();
-			m_propertiesAccessor.save(baos, charset, m_properties, comments);
+			byte[] bytes = null;
+			// try to write only changed keys
+			if (!isExternallyChanged() && charset.equals(m_content.getCharset())) {
+				Map<String, String> changes = getChanges(m_content.getMap(), m_properties);
+				if (changes.isEmpty()) {
+					m_properties = null;
+					return;
+				}
+				bytes = getUpdatedBytes(charset, changes, comments);
+			}
+			// write all keys
+			if (bytes == null) {
+				ByteArrayOutputStream baos = new ByteArrayOutputStream();
+				m_propertiesAccessor.save(baos, charset, m_properties, comments);
+				bytes = baos.toByteArray();
+			}
 			// set bytes for file
 			{
-				ByteArrayInputStream bais = new ByteArrayInputStream(baos.toByteArray());
+				ByteArrayInputStream bais = new ByteArrayInputStream(bytes);
 				m_file.setContents(bais, true, true, null);
 			}
-			// remember new stamp
-			m_propertiesStamp = m_file.getModificationStamp();
+			// remember new content and stamp
+			m_content = BundleFileCache.put(m_file, m_propertiesAccessor, m_properties);
+			m_propertiesStamp = m_content.getStamp();
+			m_properties = null;
+		}
+	}
+
+	/**
+	 * @return the changes between given maps, key -> new value, <code>null</code> for removed key.
+	 */
+	private static Map<String, String> getChanges(Map<String, String> oldMap,
+			Map<String, String> newMap) {
+		Map<String, String> changes = new HashMap<>();
+		for (Map.Entry<String, String> entry : newMap.entrySet()) {
+			if (!Objects.equals(oldMap.get(entry.getKey()), entry.getValue())) {
+				changes.put(entry.getKey(), entry.getValue());
+			}
+		}
+		for (String key : oldMap.keySet()) {
+			if (!newMap.containsKey(key)) {
+				changes.put(key, null);
+			}
 		}
+		return changes;
+	}
+
+	/**
+	 * @return the content of {@link IFile} with given changes, or <code>null</code> if
+	 *         {@link IPropertiesAccessor} can not update content.
+	 */
+	private byte[] getUpdatedBytes(String charset, Map<String, String> changes, String comments)
+			throws Exception {
+		byte[] content;
+		try (InputStream is = m_file.getContents(true)) {
+			content = is.readAllBytes();
+		}
+		byte[] bytes = m_propertiesAccessor.update(content, charset, changes, comments);
+		// check that updated content has expected values
+		if (bytes != null) {
+			Map<String, String> updatedMap =
+					m_propertiesAccessor.load(new ByteArrayInputStream(bytes), charset);
+			if (!updatedMap.equals(m_properties)) {
+				return null;
+			}
+		}
+		return bytes;
 	}
 
 	////////////////////////////////////////////////////////////////////////////
@@ -222,7 +310,7 @@ public final class BundleInfo {
 	 * Sets the value for given key. If value is empty string, key will be removed.
 	 */
 	public void setValue(String key, String value) throws Exception {
-		Map<String, String> properties = getProperties();
+		Map<String, String> properties = getModifiableProperties();
 		if (value.length() == 0) {
 			properties.remove(key);
 		} else {
@@ -238,7 +326,7 @@ public final class BundleInfo {
 		if (keepOldValue && containsKey(newKey)) {
 			removeKey(oldKey);
 		} else {
-			Map<String, String> properties = getProperties();
+			Map<String, String> properties = getModifiableProperties();
 			String value = properties.get(oldKey);
 			properties.remove(oldKey);
 			setValue(newKey, value);
@@ -263,6 +351,120 @@ public final class BundleInfo {
 	 * Removes given key (and value) from bundle.
 	 */
 	public void removeKey(String key) throws Exception {
-		getProperties().remove(key);
+		getModifiableProperties().remove(key);
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// CopyOnWriteMap
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * {@link Map} that uses given immutable one until modification, then copies it. Modifications
+	 * using views ({@link #keySet()}, {@link #entrySet()}, etc) also cause copying.
+	 */
+	private static final class CopyOnWriteMap extends AbstractMap<String, String> {
+		private Map<String, String> m_map;
+		private boolean m_copied;
+
+		public CopyOnWriteMap(Map<String, String> map) {
+			m_map = map;
+		}
+
+		private Map<String, String> copy() {
+			if (!m_copied) {
+				m_map = new HashMap<>(m_map);
+				m_copied = true;
+			}
+			return m_map;
+		}
+
+		@Override
+		public Set<Entry<String, String>> entrySet() {
+			return new AbstractSet<>() {
+				@Override
+				public Iterator<Entry<String, String>> iterator() {
+					return m_copied ? m_map.entrySet().iterator() : new SharedIterator();
+				}
+
+				@Override
+				public int size() {
+					return m_map.size();
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return m_map.size();
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return m_map.containsKey(key);
+		}
+
+		@Override
+		public String get(Object key) {
+			return m_map.get(key);
+		}
+
+		@Override
+		public String put(String key, String value) {
+			return copy().put(key, value);
+		}
+
+		@Override
+		public String remove(Object key) {
+			return copy().remove(key);
+		}
+
+		@Override
+		public void putAll(Map<? extends String, ? extends String> map) {
+			copy().putAll(map);
+		}
+
+		@Override
+		public void clear() {
+			copy().clear();
+		}
+
+		/**
+		 * {@link Iterator} over not copied map, that copies it on {@link #remove()} or
+		 * {@link Entry#setValue(Object)}. Shared map is not modified, so iteration continues over it.
+		 */
+		private final class SharedIterator implements Iterator<Entry<String, String>> {
+			private final Iterator<Entry<String, String>> m_iterator = m_map.entrySet().iterator();
+			private String m_lastKey;
+
+			@Override
+			public boolean hasNext() {
+				return m_iterator.hasNext();
+			}
+
+			@Override
+			public Entry<String, String> next() {
+				Entry<String, String> entry = m_iterator.next();
+				m_lastKey = entry.getKey();
+				return new SimpleEntry<>(entry) {
+					private static final long serialVersionUID = 0L;
+
+					@Override
+					public String setValue(String value) {
+						copy().put(getKey(), value);
+						return super.setValue(value);
+					}
+				};
+			}
+
+			@Override
+			public void remove() {
+				if (m_lastKey == null) {
+					throw new IllegalStateException();
+				}
+				copy().remove(m_lastKey);
+				m_lastKey = null;
+			}
+		}
 	}
 }
@@ -37,4 +37,19 @@ public interface IPropertiesAccessor {
 	 */
 	void save(OutputStream os, String charset, Map<String, String> map, String comments)
 			throws Exception;
+
+	/**
+	 * Updates content of *.properties file, so that it has given changes, but keeps order of keys,
+	 * comments and formatting of not changed keys.
+	 *
+	 * @param changes
+	 *          the map key -> new value, <code>null</code> value means that key should be removed.
+	 *
+	 * @return the updated content, or <code>null</code> if this accessor can not update content, so
+	 *         {@link #save(OutputStream, String, Map, String)} should be used.
+	 */
+	default byte[] update(byte[] content, String charset, Map<String, String> changes, String comments)
+			throws Exception {
+		return null;
+	}
 }
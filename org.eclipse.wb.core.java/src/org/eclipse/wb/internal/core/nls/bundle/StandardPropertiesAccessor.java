@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.wb.internal.core.nls.bundle;
 
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
@@ -19,10 +20,17 @@ import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.Writer;
 import java.lang.reflect.Method;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Enumeration;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import java.util.TreeSet;
 
 /**
@@ -63,6 +71,82 @@ public class StandardPropertiesAccessor implements IPropertiesAccessor {
 		store0(sorted, os, charset, comments);
 	}
 
+	@Override
+	public byte[] update(byte[] content, String charset, Map<String, String> changes, String comments)
+			throws Exception {
+		Charset textCharset = getTextCharset(charset);
+		String text = new String(content, textCharset);
+		String lineSeparator = text.contains("\r\n") ? "\r\n" : "\n";
+		boolean endsWithSeparator = text.isEmpty() || text.endsWith("\n");
+		List<String> lines = new ArrayList<>(Arrays.asList(text.split("\r?\n", -1)));
+		if (endsWithSeparator) {
+			lines.remove(lines.size() - 1);
+		}
+		// replace/remove existing keys, last entry wins, as in Properties.load()
+		Set<String> existingKeys = new HashSet<>();
+		{
+			List<PropertyLines> entries = parseEntries(lines);
+			for (int i = entries.size() - 1; i >= 0; i--) {
+				PropertyLines entry = entries.get(i);
+				boolean last = existingKeys.add(entry.m_key);
+				if (changes.containsKey(entry.m_key)) {
+					List<String> entryLines = lines.subList(entry.m_begin, entry.m_end);
+					entryLines.clear();
+					String value = changes.get(entry.m_key);
+					if (last && value != null) {
+						entryLines.addAll(formatEntry(entry.m_key, value, charset));
+					}
+				}
+			}
+		}
+		// add new keys, keep keys sorted if they were sorted
+		{
+			List<String> newKeys = new ArrayList<>();
+			for (Map.Entry<String, String> change : changes.entrySet()) {
+				if (change.getValue() != null && !existingKeys.contains(change.getKey())) {
+					newKeys.add(change.getKey());
+				}
+			}
+			newKeys.sort(null);
+			List<PropertyLines> entries = parseEntries(lines);
+			if (isSorted(entries)) {
+				// insert from last to first, so indexes of lower keys are still valid
+				for (int i = newKeys.size() - 1; i >= 0; i--) {
+					String key = newKeys.get(i);
+					int index = lines.size();
+					for (PropertyLines entry : entries) {
+						if (entry.m_key.compareTo(key) > 0) {
+							index = entry.m_begin;
+							break;
+						}
+					}
+					lines.addAll(index, formatEntry(key, changes.get(key), charset));
+				}
+			} else {
+				for (String key : newKeys) {
+					lines.addAll(formatEntry(key, changes.get(key), charset));
+				}
+			}
+		}
+		// add comments, if not added yet
+		if (comments != null) {
+			List<String> commentLines = formatComments(comments, charset);
+			int headerEnd = 0;
+			while (headerEnd < lines.size() && isComment(lines.get(headerEnd))) {
+				headerEnd++;
+			}
+			if (!lines.subList(0, headerEnd).containsAll(commentLines)) {
+				lines.addAll(0, commentLines);
+			}
+		}
+		// done
+		String newText = String.join(lineSeparator, lines);
+		if (endsWithSeparator && !lines.isEmpty()) {
+			newText += lineSeparator;
+		}
+		return newText.getBytes(textCharset);
+	}
+
 	private static void load0(Properties properties, InputStream is, String charset) throws Exception {
 		if (charset.equals("UTF-8")) {
 			Method loadMethod = Properties.class.getMethod("load", Reader.class);
@@ -84,6 +168,167 @@ public class StandardPropertiesAccessor implements IPropertiesAccessor {
 		}
 	}
 
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Update utils
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Lines of single property in *.properties file, i.e. logical line.
+	 */
+	private static final class PropertyLines {
+		private final String m_key;
+		private final int m_begin;
+		private final int m_end;
+
+		PropertyLines(String key, int begin, int end) {
+			m_key = key;
+			m_begin = begin;
+			m_end = end;
+		}
+	}
+
+	/**
+	 * @return the {@link Charset} used to read/write text of *.properties file. Without "UTF-8"
+	 *         {@link Properties} uses ISO-8859-1, so bytes are mapped to chars as is.
+	 */
+	private static Charset getTextCharset(String charset) {
+		return charset.equals("UTF-8") ? StandardCharsets.UTF_8 : StandardCharsets.ISO_8859_1;
+	}
+
+	/**
+	 * @return the {@link PropertyLines} for all properties in given lines.
+	 */
+	private static List<PropertyLines> parseEntries(List<String> lines) {
+		List<PropertyLines> entries = new ArrayList<>();
+		for (int i = 0; i < lines.size();) {
+			int begin = i;
+			String line = stripLeading(lines.get(i++));
+			if (line.isEmpty() || isComment(line)) {
+				continue;
+			}
+			StringBuilder logicalLine = new StringBuilder(line);
+			while (isContinued(logicalLine) && i < lines.size()) {
+				logicalLine.setLength(logicalLine.length() - 1);
+				logicalLine.append(stripLeading(lines.get(i++)));
+			}
+			entries.add(new PropertyLines(parseKey(logicalLine), begin, i));
+		}
+		return entries;
+	}
+
+	private static boolean isSorted(List<PropertyLines> entries) {
+		for (int i = 1; i < entries.size(); i++) {
+			if (entries.get(i - 1).m_key.compareTo(entries.get(i).m_key) > 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isComment(String line) {
+		line = stripLeading(line);
+		return line.startsWith("#") || line.startsWith("!");
+	}
+
+	private static boolean isWhitespace(char c) {
+		return c == ' ' || c == '\t' || c == '\f';
+	}
+
+	private static String stripLeading(String line) {
+		int index = 0;
+		while (index < line.length() && isWhitespace(line.charAt(index))) {
+			index++;
+		}
+		return line.substring(index);
+	}
+
+	/**
+	 * @return <code>true</code> if given line ends with odd number of backslashes, so continues on
+	 *         next line.
+	 */
+	private static boolean isContinued(CharSequence line) {
+		int count = 0;
+		for (int i = line.length() - 1; i >= 0 && line.charAt(i) == '\\'; i--) {
+			count++;
+		}
+		return count % 2 == 1;
+	}
+
+	/**
+	 * @return the unescaped key of given logical line, without leading whitespaces.
+	 */
+	private static String parseKey(CharSequence line) {
+		StringBuilder key = new StringBuilder();
+		for (int i = 0; i < line.length();) {
+			char c = line.charAt(i++);
+			if (c == '\\') {
+				if (i == line.length()) {
+					break;
+				}
+				c = line.charAt(i++);
+				switch (c) {
+					case 't' :
+						c = '\t';
+						break;
+					case 'n' :
+						c = '\n';
+						break;
+					case 'r' :
+						c = '\r';
+						break;
+					case 'f' :
+						c = '\f';
+						break;
+					case 'u' :
+						c = (char) Integer.parseInt(line.subSequence(i, i + 4).toString(), 16);
+						i += 4;
+						break;
+				}
+				key.append(c);
+			} else if (c == '=' || c == ':' || isWhitespace(c)) {
+				break;
+			} else {
+				key.append(c);
+			}
+		}
+		return key.toString();
+	}
+
+	/**
+	 * @return the lines of single property, formatted same way as
+	 *         {@link #save(OutputStream, String, Map, String)} does.
+	 */
+	private static List<String> formatEntry(String key, String value, String charset)
+			throws Exception {
+		Properties properties = new Properties();
+		properties.put(key, value);
+		List<String> lines = store(properties, charset, null);
+		// remove date comment
+		while (!lines.isEmpty() && isComment(lines.get(0))) {
+			lines.remove(0);
+		}
+		return lines;
+	}
+
+	/**
+	 * @return the lines of comments, formatted same way as
+	 *         {@link #save(OutputStream, String, Map, String)} does, but without date.
+	 */
+	private static List<String> formatComments(String comments, String charset) throws Exception {
+		List<String> lines = store(new Properties(), charset, comments);
+		lines.remove(lines.size() - 1);
+		return lines;
+	}
+
+	private static List<String> store(Properties properties, String charset, String comments)
+			throws Exception {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		store0(properties, baos, charset, comments);
+		String text = new String(baos.toByteArray(), getTextCharset(charset));
+		return new ArrayList<>(Arrays.asList(text.split("\r?\n")));
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// Stored properties
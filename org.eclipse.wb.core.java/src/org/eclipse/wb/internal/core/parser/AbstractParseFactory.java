@@ -20,6 +20,7 @@ import org.eclipse.wb.core.model.association.EmptyAssociation;
 import org.eclipse.wb.core.model.association.FactoryParentAssociation;
 import org.eclipse.wb.core.model.association.ImplicitFactoryArgumentAssociation;
 import org.eclipse.wb.core.model.association.InvocationVoidAssociation;
+import org.eclipse.wb.internal.core.DesignerPlugin;
 import org.eclipse.wb.internal.core.model.JavaInfoUtils;
 import org.eclipse.wb.internal.core.model.creation.CastedSuperInvocationCreationSupport;
 import org.eclipse.wb.internal.core.model.creation.ConstructorCreationSupport;
@@ -44,6 +45,7 @@ import org.eclipse.wb.internal.core.model.nonvisual.NonVisualBeanContainerInfo;
 import org.eclipse.wb.internal.core.model.nonvisual.NonVisualBeanInfo;
 import org.eclipse.wb.internal.core.model.util.ScriptUtils;
 import org.eclipse.wb.internal.core.model.variable.VoidInvocationVariableSupport;
+import org.eclipse.wb.internal.core.preferences.IPreferenceConstants;
 import org.eclipse.wb.internal.core.utils.IOUtils2;
 import org.eclipse.wb.internal.core.utils.ast.AstEditor;
 import org.eclipse.wb.internal.core.utils.ast.AstNodeUtils;
@@ -55,6 +57,7 @@ import org.eclipse.wb.internal.core.utils.exception.MultipleConstructorsError;
 import org.eclipse.wb.internal.core.utils.external.ExternalFactoriesHelper;
 import org.eclipse.wb.internal.core.utils.jdt.core.ProjectUtils;
 import org.eclipse.wb.internal.core.utils.reflect.BundleClassLoader;
+import org.eclipse.wb.internal.core.utils.reflect.ByteCodeCache;
 import org.eclipse.wb.internal.core.utils.reflect.CompositeClassLoader;
 import org.eclipse.wb.internal.core.utils.reflect.IByteCodeProcessor;
 import org.eclipse.wb.internal.core.utils.reflect.IClassLoaderInitializer;
@@ -791,11 +794,18 @@ public abstract class AbstractParseFactory implements IParseFactory {
 	}
 
 	/**
-	 * Create "project" {@link ClassLoader}.
+	 * Create "project" {@link ClassLoader}. If enabled in preferences, classes from library jars are
+	 * shared with other editors of same toolkit.
 	 */
 	protected ClassLoader createClassLoader_project(AstEditor editor,
 			CompositeClassLoader parentClassLoader) throws Exception {
-		return ProjectClassLoader.create(parentClassLoader, editor.getJavaProject());
+		IJavaProject javaProject = editor.getJavaProject();
+		if (DesignerPlugin.getPreferences().getBoolean(
+				IPreferenceConstants.P_COMMON_SHARE_LIBRARY_CLASSES)) {
+			String libraryOwnerId = getClass().getName();
+			return ProjectClassLoader.create(parentClassLoader, javaProject, libraryOwnerId);
+		}
+		return ProjectClassLoader.create(parentClassLoader, javaProject);
 	}
 
 	////////////////////////////////////////////////////////////////////////////
@@ -815,6 +825,7 @@ public abstract class AbstractParseFactory implements IParseFactory {
 		compositeClassLoader.add(mainClassLoader, null);
 		// add processors for "classPath-byteCode-processor"
 		if (mainClassLoader instanceof ProjectClassLoader projectClassLoader) {
+			projectClassLoader.setByteCodeCache(ByteCodeCache.getDefault());
 			for (IConfigurationElement toolkitElement : toolkitElements) {
 				IConfigurationElement[] contributorElements =
 						toolkitElement.getChildren("classPath-byteCode-processor");
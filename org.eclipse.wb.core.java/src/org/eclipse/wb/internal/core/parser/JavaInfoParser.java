@@ -145,8 +145,24 @@ public final class JavaInfoParser implements IJavaInfoParseResolver {
 	 * Parses given compilation unit and returns single root {@link JavaInfo}.
 	 */
 	public static JavaInfo parse(ICompilationUnit modelUnit) throws Exception {
+		return parse(createEditor(modelUnit));
+	}
+
+	/**
+	 * Creates {@link AstEditor} for parsing given compilation unit. This method does not create any
+	 * model or toolkit objects, so can be used in non-UI thread.
+	 */
+	public static AstEditor createEditor(ICompilationUnit modelUnit) throws Exception {
 		checkJavaVersion(modelUnit);
-		final JavaInfoParser parser = new JavaInfoParser(modelUnit);
+		return new AstEditor(modelUnit);
+	}
+
+	/**
+	 * Parses compilation unit of given {@link AstEditor}, created using
+	 * {@link #createEditor(ICompilationUnit)}, and returns single root {@link JavaInfo}.
+	 */
+	public static JavaInfo parse(AstEditor editor) throws Exception {
+		final JavaInfoParser parser = new JavaInfoParser(editor);
 		return ExecutionUtils.runDesignTime(() -> parser.parse());
 	}
 
@@ -204,10 +220,6 @@ public final class JavaInfoParser implements IJavaInfoParseResolver {
 	// Constructor
 	//
 	////////////////////////////////////////////////////////////////////////////
-	private JavaInfoParser(ICompilationUnit modelUnit) throws Exception {
-		this(new AstEditor(modelUnit));
-	}
-
 	private JavaInfoParser(AstEditor editor) throws Exception {
 		m_editor = editor;
 		m_editorState = EditorState.get(m_editor);
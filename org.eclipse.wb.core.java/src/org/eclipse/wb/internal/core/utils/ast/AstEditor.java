@@ -107,6 +107,7 @@ public final class AstEditor {
 	private final CompilationUnit m_astUnit;
 	private String m_oldContent;
 	private final Document m_document;
+	private final AstIdentifierTable m_identifierTable;
 
 	////////////////////////////////////////////////////////////////////////////
 	//
@@ -118,6 +119,7 @@ public final class AstEditor {
 		m_astUnit = CodeUtils.parseCompilationUnit(modelUnit);
 		m_oldContent = m_modelUnit.getBuffer().getContents();
 		m_document = new Document(m_oldContent);
+		m_identifierTable = new AstIdentifierTable(m_astUnit);
 	}
 
 	////////////////////////////////////////////////////////////////////////////
@@ -274,6 +276,14 @@ public final class AstEditor {
 		}
 	}
 
+	/**
+	 * Remembers that underlying {@link ICompilationUnit} already has current source, for example
+	 * because user did same change in it, so there is nothing to commit.
+	 */
+	public void setChangesCommitted() {
+		m_oldContent = m_document.get();
+	}
+
 	/**
 	 * Commits changes into {@link ICompilationUnit} and saves it, if not opened in editor.
 	 */
@@ -1191,21 +1201,12 @@ public final class AstEditor {
 	 */
 	public String getUniqueVariableName(int position,
 			String baseName,
-			VariableDeclaration excludedVariable) {
-		// prepare declarations...
-		List<VariableDeclaration> declarations = new ArrayList<>();
-		if (position != -1) {
-			// ...visible + shadows
-			declarations.addAll(AstNodeUtils.getVariableDeclarationsVisibleAt(m_astUnit, position));
-			declarations.addAll(AstNodeUtils.getVariableDeclarationsAfter(m_astUnit, position));
-		} else {
-			// ...all
-			declarations.addAll(AstNodeUtils.getVariableDeclarationsAll(m_astUnit));
-		}
-		// exclude "excluded"
-		declarations.remove(excludedVariable);
-		// do generation
-		return getUniqueVariableName(declarations, baseName);
+			final VariableDeclaration excludedVariable) {
+		final AstIdentifierTable.ScopePath scope =
+				position != -1 ? m_identifierTable.getScopePath(position) : null;
+		return CodeUtils.generateUniqueName(
+				baseName,
+				name -> m_identifierTable.isFreeVariableName(name, scope, excludedVariable));
 	}
 
 	/**
@@ -1232,49 +1233,21 @@ public final class AstEditor {
 	 * @return the unique method name.
 	 */
 	public String getUniqueMethodName(String baseName) {
-		// prepare set of methods names
-		final Set<String> existingMethods = new TreeSet<>();
-		m_astUnit.accept(new ASTVisitor() {
-			@Override
-			public void endVisit(MethodDeclaration node) {
-				existingMethods.add(node.getName().getIdentifier());
-			}
-
-			@Override
-			public void endVisit(TypeDeclaration node) {
-				addMethodNames(existingMethods, AstNodeUtils.getTypeBinding(node));
-			}
-		});
-		// generate unique name
-		return CodeUtils.generateUniqueName(baseName, name -> !existingMethods.contains(name));
+		return CodeUtils.generateUniqueName(baseName, m_identifierTable::isFreeMethodName);
 	}
 
 	/**
 	 * @return the unique inner type name.
 	 */
 	public String getUniqueTypeName(String baseName) {
-		// prepare set of methods names
-		final Set<String> existingTypes = new TreeSet<>();
-		m_astUnit.accept(new ASTVisitor() {
-			@Override
-			public void endVisit(TypeDeclaration node) {
-				existingTypes.add(node.getName().getIdentifier());
-			}
-		});
-		// generate unique name
-		return CodeUtils.generateUniqueName(baseName, name -> !existingTypes.contains(name));
+		return CodeUtils.generateUniqueName(baseName, m_identifierTable::isFreeTypeName);
 	}
 
 	/**
-	 * Adds names for methods declared in given {@link ITypeBinding} and its super-classes.
+	 * @return the {@link AstIdentifierTable} of this {@link AstEditor}.
 	 */
-	private static void addMethodNames(Set<String> existingMethods, ITypeBinding typeBinding) {
-		if (typeBinding != null) {
-			for (IMethodBinding method : typeBinding.getDeclaredMethods()) {
-				existingMethods.add(method.getName());
-			}
-			addMethodNames(existingMethods, typeBinding.getSuperclass());
-		}
+	AstIdentifierTable getIdentifierTable() {
+		return m_identifierTable;
 	}
 
 	////////////////////////////////////////////////////////////////////////////
@@ -1288,6 +1261,7 @@ public final class AstEditor {
 	public void setIdentifier(SimpleName simpleName, String newIdentifier) throws Exception {
 		replaceSubstring(simpleName, newIdentifier);
 		simpleName.setIdentifier(newIdentifier);
+		m_identifierTable.identifierChanged(simpleName);
 	}
 
 	////////////////////////////////////////////////////////////////////////////
@@ -0,0 +1,394 @@
+/*******************************************************************************
+ * Copyright (c) 2026 WindowBuilder contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    WindowBuilder contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.wb.internal.core.utils.ast;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.Block;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.FieldDeclaration;
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.core.dom.SingleVariableDeclaration;
+import org.eclipse.jdt.core.dom.Statement;
+import org.eclipse.jdt.core.dom.StructuralPropertyDescriptor;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+import org.eclipse.jdt.core.dom.VariableDeclaration;
+import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
+import org.eclipse.jdt.core.dom.VariableDeclarationStatement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Table of identifiers declared in {@link CompilationUnit} of {@link AstEditor}, used to answer
+ * "is this name free at this position" without visiting whole {@link CompilationUnit}.
+ * <p>
+ * Table is built once, with single visit, and then maintained incrementally. Every new
+ * {@link SimpleName} created by {@link AstParser} is remembered as "pending" and classified when it
+ * becomes part of {@link CompilationUnit}. Declarations that were removed, moved or renamed are
+ * validated lazily, when we ask about their identifier. Visibility is checked using only parents of
+ * declaration and of the node at requested position, so we don't need to keep positions in table.
+ *
+ * @coverage core.util.ast
+ */
+final class AstIdentifierTable {
+	private final CompilationUnit m_unit;
+	private boolean m_initialized;
+	private final Map<String, List<SimpleName>> m_variables = new HashMap<>();
+	private final Map<String, List<SimpleName>> m_methods = new HashMap<>();
+	private final Map<String, List<SimpleName>> m_types = new HashMap<>();
+	private final Set<String> m_inheritedMethods = new HashSet<>();
+	private final Set<SimpleName> m_pending = Collections.newSetFromMap(new WeakHashMap<>());
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Constructor
+	//
+	////////////////////////////////////////////////////////////////////////////
+	AstIdentifierTable(CompilationUnit unit) {
+		m_unit = unit;
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Notifications
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Notifies that given {@link ASTNode} was created (for example by {@link AstParser}) and may be
+	 * added into {@link CompilationUnit} later, so its declared names should be tracked.
+	 */
+	void nodeCreated(ASTNode node) {
+		if (!m_initialized) {
+			return;
+		}
+		if (node instanceof SimpleName simpleName) {
+			m_pending.add(simpleName);
+		} else {
+			node.accept(new ASTVisitor() {
+				@Override
+				public void endVisit(SimpleName simpleName) {
+					if (getKind(simpleName) != null) {
+						m_pending.add(simpleName);
+					}
+				}
+			});
+		}
+	}
+
+	/**
+	 * Notifies that identifier of given {@link SimpleName} was changed.
+	 */
+	void identifierChanged(SimpleName simpleName) {
+		if (m_initialized) {
+			m_pending.add(simpleName);
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Queries
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @return <code>true</code> if variable with given name can be declared in given scope.
+	 *
+	 * @param scope
+	 *          the {@link ScopePath} where new variable will be used, <code>null</code> if all
+	 *          variables of {@link CompilationUnit} should be considered
+	 * @param excludedVariable
+	 *          the {@link VariableDeclaration} that should be ignored, may be <code>null</code>.
+	 */
+	boolean isFreeVariableName(String name, ScopePath scope, VariableDeclaration excludedVariable) {
+		for (SimpleName simpleName : getDeclarations(m_variables, name)) {
+			VariableDeclaration declaration = (VariableDeclaration) simpleName.getParent();
+			if (declaration == excludedVariable) {
+				continue;
+			}
+			if (scope == null || scope.isVisible(declaration) || scope.isAfter(declaration)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return <code>true</code> if there are no method with given name in {@link CompilationUnit},
+	 *         and in super-classes of its types.
+	 */
+	boolean isFreeMethodName(String name) {
+		return getDeclarations(m_methods, name).isEmpty() && !m_inheritedMethods.contains(name);
+	}
+
+	/**
+	 * @return <code>true</code> if there are no {@link TypeDeclaration} with given name.
+	 */
+	boolean isFreeTypeName(String name) {
+		return getDeclarations(m_types, name).isEmpty();
+	}
+
+	/**
+	 * @return the {@link ScopePath} for given position, to use for series of
+	 *         {@link #isFreeVariableName(String, ScopePath, VariableDeclaration)} checks.
+	 */
+	ScopePath getScopePath(int position) {
+		return new ScopePath(getCoveringNode(position), position);
+	}
+
+	/**
+	 * @return the valid declarations of given identifier, kind is specified by map.
+	 */
+	private List<SimpleName> getDeclarations(Map<String, List<SimpleName>> map, String name) {
+		ensureUpToDate();
+		List<SimpleName> declarations = map.get(name);
+		if (declarations == null) {
+			return Collections.emptyList();
+		}
+		for (Iterator<SimpleName> I = declarations.iterator(); I.hasNext();) {
+			SimpleName simpleName = I.next();
+			// renamed, removed or not declaration anymore, will be added again if needed
+			if (!name.equals(simpleName.getIdentifier())
+					|| getKindMap(simpleName) != map
+					|| simpleName.getRoot() != m_unit) {
+				I.remove();
+				m_pending.add(simpleName);
+			}
+		}
+		if (declarations.isEmpty()) {
+			map.remove(name);
+		}
+		return declarations;
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Maintenance
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Builds table on first access, classifies pending {@link SimpleName}'s.
+	 */
+	private void ensureUpToDate() {
+		if (!m_initialized) {
+			m_initialized = true;
+			m_unit.accept(new ASTVisitor() {
+				@Override
+				public void endVisit(SimpleName node) {
+					addDeclaration(node);
+				}
+			});
+			return;
+		}
+		if (!m_pending.isEmpty()) {
+			for (Iterator<SimpleName> I = m_pending.iterator(); I.hasNext();) {
+				SimpleName simpleName = I.next();
+				if (simpleName.getRoot() == m_unit) {
+					I.remove();
+					addDeclaration(simpleName);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Adds given {@link SimpleName} into table, if it is name of declaration.
+	 */
+	private void addDeclaration(SimpleName simpleName) {
+		Map<String, List<SimpleName>> map = getKindMap(simpleName);
+		if (map != null) {
+			List<SimpleName> declarations =
+					map.computeIfAbsent(simpleName.getIdentifier(), k -> new ArrayList<>(1));
+			if (!declarations.contains(simpleName)) {
+				declarations.add(simpleName);
+			}
+			if (map == m_types) {
+				addInheritedMethods(AstNodeUtils.getTypeBinding((TypeDeclaration) simpleName.getParent()));
+			}
+		}
+	}
+
+	/**
+	 * Adds names for methods declared in given {@link ITypeBinding} and its super-classes.
+	 */
+	private void addInheritedMethods(ITypeBinding typeBinding) {
+		if (typeBinding != null) {
+			for (IMethodBinding method : typeBinding.getDeclaredMethods()) {
+				m_inheritedMethods.add(method.getName());
+			}
+			addInheritedMethods(typeBinding.getSuperclass());
+		}
+	}
+
+	/**
+	 * @return the map for kind of declaration named by given {@link SimpleName}, or
+	 *         <code>null</code> if it is not name of declaration.
+	 */
+	private Map<String, List<SimpleName>> getKindMap(SimpleName simpleName) {
+		StructuralPropertyDescriptor kind = getKind(simpleName);
+		if (kind == MethodDeclaration.NAME_PROPERTY) {
+			return m_methods;
+		}
+		if (kind == TypeDeclaration.NAME_PROPERTY) {
+			return m_types;
+		}
+		if (kind != null) {
+			return m_variables;
+		}
+		return null;
+	}
+
+	/**
+	 * @return the location of {@link SimpleName} if it is name of declaration, or
+	 *         <code>null</code>.
+	 */
+	private static StructuralPropertyDescriptor getKind(SimpleName simpleName) {
+		StructuralPropertyDescriptor location = simpleName.getLocationInParent();
+		if (location == VariableDeclarationFragment.NAME_PROPERTY
+				|| location == SingleVariableDeclaration.NAME_PROPERTY
+				|| location == MethodDeclaration.NAME_PROPERTY
+				|| location == TypeDeclaration.NAME_PROPERTY) {
+			return location;
+		}
+		return null;
+	}
+
+	/**
+	 * @return the deepest {@link ASTNode} that covers given position, visits only nodes on path to
+	 *         it.
+	 */
+	private ASTNode getCoveringNode(final int position) {
+		final ASTNode result[] = new ASTNode[1];
+		m_unit.accept(new ASTVisitor() {
+			@Override
+			public boolean preVisit2(ASTNode node) {
+				return result[0] == null && covers(node);
+			}
+
+			@Override
+			public void postVisit(ASTNode node) {
+				if (result[0] == null && covers(node)) {
+					result[0] = node;
+				}
+			}
+
+			private boolean covers(ASTNode node) {
+				int start = node.getStartPosition();
+				return start <= position && position < start + node.getLength();
+			}
+		});
+		return result[0];
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// ScopePath
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Chain of scopes enclosing some position. Rules are same as in
+	 * {@link AstNodeUtils#getVariableDeclarationsVisibleAt(ASTNode, int)} and
+	 * {@link AstNodeUtils#getVariableDeclarationsAfter(ASTNode, int)}.
+	 */
+	static final class ScopePath {
+		private final ASTNode m_node;
+		private final int m_position;
+		private final Map<ASTNode, ASTNode> m_parentToChild = new IdentityHashMap<>();
+		private Block m_targetBlock;
+		private TypeDeclaration m_targetType;
+
+		ScopePath(ASTNode node, int position) {
+			m_node = node;
+			m_position = position;
+			for (ASTNode child = null, parent = node; parent != null; child = parent, parent =
+					parent.getParent()) {
+				m_parentToChild.put(parent, child);
+				if (m_targetBlock == null && parent instanceof Block block) {
+					m_targetBlock = block;
+				}
+				if (m_targetType == null && parent instanceof TypeDeclaration type) {
+					m_targetType = type;
+				}
+			}
+		}
+
+		/**
+		 * @return <code>true</code> if given {@link VariableDeclaration} is visible at position.
+		 */
+		boolean isVisible(VariableDeclaration declaration) {
+			ASTNode container = declaration.getParent();
+			ASTNode scope = container.getParent();
+			// field of enclosing type
+			if (container instanceof FieldDeclaration) {
+				return scope instanceof TypeDeclaration && m_parentToChild.containsKey(scope);
+			}
+			// parameter of enclosing method
+			if (declaration.getLocationInParent() == MethodDeclaration.PARAMETERS_PROPERTY) {
+				return m_parentToChild.containsKey(container);
+			}
+			// local variable declared before position
+			if (container instanceof VariableDeclarationStatement statement
+					&& scope instanceof Block block
+					&& m_parentToChild.containsKey(block)) {
+				if (block == m_node) {
+					return statement.getStartPosition() < m_position;
+				}
+				ASTNode sibling = m_parentToChild.get(block);
+				return sibling instanceof Statement
+						&& statement != sibling
+						&& statement.getStartPosition() < sibling.getStartPosition();
+			}
+			return false;
+		}
+
+		/**
+		 * @return <code>true</code> if given {@link VariableDeclaration} is somewhere after position, so
+		 *         can be shadowed by new variable.
+		 */
+		boolean isAfter(VariableDeclaration declaration) {
+			if (m_targetBlock != null) {
+				ASTNode statement = getChildOf(declaration, m_targetBlock);
+				return statement != null && statement.getStartPosition() >= m_position;
+			} else if (m_targetType != null) {
+				ASTNode bodyDeclaration = getChildOf(declaration, m_targetType);
+				return bodyDeclaration != null
+						&& bodyDeclaration.getLocationInParent() == TypeDeclaration.BODY_DECLARATIONS_PROPERTY
+						&& !(bodyDeclaration instanceof FieldDeclaration);
+			}
+			return false;
+		}
+
+		/**
+		 * @return the direct child of given parent that contains given node, or <code>null</code>.
+		 */
+		private static ASTNode getChildOf(ASTNode node, ASTNode parent) {
+			while (node != null) {
+				if (node.getParent() == parent) {
+					return node;
+				}
+				node = node.getParent();
+			}
+			return null;
+		}
+	}
+}
@@ -248,6 +248,7 @@ public final class AstParser {
 	public SimpleName parseSimpleName(int position, String identifier) {
 		SimpleName simpleName = getAst().newSimpleName(identifier);
 		simpleName.setSourceRange(position, identifier.length());
+		m_editor.getIdentifierTable().nodeCreated(simpleName);
 		return simpleName;
 	}
 
@@ -823,6 +824,7 @@ public final class AstParser {
 		ASTNode externalNode = nodes.get(0);
 		ASTNode internalNode = ASTNode.copySubtree(m_editor.getAstUnit().getAST(), externalNode);
 		copyBindings(externalNode, internalNode);
+		m_editor.getIdentifierTable().nodeCreated(internalNode);
 		return internalNode;
 	}
 
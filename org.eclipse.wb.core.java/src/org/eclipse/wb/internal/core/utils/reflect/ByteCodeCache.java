@@ -0,0 +1,307 @@
+/*******************************************************************************
+ * Copyright (c) 2026 WindowBuilder contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    WindowBuilder contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.wb.internal.core.utils.reflect;
+
+import org.eclipse.wb.internal.core.DesignerPlugin;
+
+import org.osgi.framework.Bundle;
+import org.osgi.framework.FrameworkUtil;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * On-disk cache of class bytes transformed by {@link ProjectClassLoader}, i.e. by
+ * {@link IByteCodeProcessor}'s and {@link AbstractMethodsImplementorVisitor}.
+ * <p>
+ * Entry is identified by digest of original bytes, class name and key of transformations chain, so
+ * modified class or changed (new version of) processor just causes miss. Entries for classes that
+ * were not changed by processors are also kept (without bytes), if processing was not trivial.
+ *
+ * @coverage core.util
+ */
+public final class ByteCodeCache {
+	/**
+	 * Version of entries format, change it if format or meaning of entries is changed.
+	 */
+	private static final int FORMAT_VERSION = 1;
+	/**
+	 * Default maximal number of entries to keep on disk, least recently used entries are removed.
+	 */
+	private static final int MAX_ENTRIES = 4096;
+	/**
+	 * Unchanged class is cached only if processing took at least this time.
+	 */
+	private static final long MIN_UNCHANGED_NANOS = 200 * 1000L;
+	/**
+	 * Suffix of temporary files, entry is written into such file and then moved.
+	 */
+	private static final String TEMP_SUFFIX = ".tmp";
+	private static ByteCodeCache m_default;
+
+	/**
+	 * @return the default {@link ByteCodeCache} in state location of plugin.
+	 */
+	public static synchronized ByteCodeCache getDefault() {
+		if (m_default == null) {
+			File stateDirectory = DesignerPlugin.getDefault().getStateLocation().toFile();
+			m_default = new ByteCodeCache(new File(stateDirectory, "byteCode"));
+		}
+		return m_default;
+	}
+
+	/**
+	 * @return the key with name of given {@link Class} and version of its bundle, to use in
+	 *         {@link IByteCodeProcessor#getCacheKey()}.
+	 */
+	public static String getVersionKey(Class<?> clazz) {
+		String key = clazz.getName();
+		Bundle bundle = FrameworkUtil.getBundle(clazz);
+		if (bundle != null) {
+			key += "@" + bundle.getVersion() + "@" + bundle.getLastModified();
+		}
+		return key;
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Instance fields
+	//
+	////////////////////////////////////////////////////////////////////////////
+	private final File m_directory;
+	private final int m_maxEntries;
+	/**
+	 * Known entries in access order, so miss does not require access to disk. Files of least recently
+	 * used entries beyond {@link #m_maxEntries} are deleted.
+	 */
+	private final Map<String, Boolean> m_entries = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 0L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+			if (size() > m_maxEntries) {
+				new File(m_directory, eldest.getKey()).delete();
+				return true;
+			}
+			return false;
+		}
+	};
+	private final AtomicLong m_hitCount = new AtomicLong();
+	private final AtomicLong m_missCount = new AtomicLong();
+	private final AtomicLong m_savedNanos = new AtomicLong();
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Constructor
+	//
+	////////////////////////////////////////////////////////////////////////////
+	public ByteCodeCache(File directory) {
+		this(directory, MAX_ENTRIES);
+	}
+
+	public ByteCodeCache(File directory, int maxEntries) {
+		m_directory = directory;
+		m_maxEntries = maxEntries;
+		m_directory.mkdirs();
+		File[] files = m_directory.listFiles();
+		if (files != null) {
+			// remember existing entries, oldest first, so that they are removed first
+			Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+			for (File file : files) {
+				String name = file.getName();
+				if (name.endsWith(TEMP_SUFFIX)) {
+					// left after failed put(), not an entry
+					file.delete();
+				} else {
+					addEntry(name);
+				}
+			}
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Access
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @return the key of entry for given transformations chain, class and its original bytes.
+	 */
+	public String getKey(String chainKey, String className, byte[] bytes) throws Exception {
+		MessageDigest digest = MessageDigest.getInstance("SHA-256");
+		digest.update(chainKey.getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+		digest.update(className.getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+		digest.update(bytes);
+		StringBuilder sb = new StringBuilder();
+		for (byte b : digest.digest()) {
+			sb.append(Character.forDigit(b >> 4 & 0xF, 16));
+			sb.append(Character.forDigit(b & 0xF, 16));
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * @return the transformed bytes for entry with given key, or <code>null</code> if there are no
+	 *         such entry.
+	 *
+	 * @param bytes
+	 *          the original bytes, returned if entry says that class is not changed by
+	 *          transformations.
+	 */
+	public byte[] get(String key, byte[] bytes) {
+		if (hasEntry(key)) {
+			File file = new File(m_directory, key);
+			try (DataInputStream input =
+					new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+				if (input.readInt() == FORMAT_VERSION) {
+					long nanos = input.readLong();
+					boolean changed = input.readBoolean();
+					byte[] result = bytes;
+					if (changed) {
+						result = new byte[input.readInt()];
+						input.readFully(result);
+					}
+					m_hitCount.incrementAndGet();
+					m_savedNanos.addAndGet(nanos);
+					return result;
+				}
+			} catch (Throwable e) {
+				// ignore, will be replaced
+			}
+			removeEntry(key);
+		}
+		m_missCount.incrementAndGet();
+		return null;
+	}
+
+	/**
+	 * Remembers result of transformation.
+	 *
+	 * @param key
+	 *          the key from {@link #getKey(String, String, byte[])}.
+	 * @param bytes
+	 *          the original bytes.
+	 * @param result
+	 *          the transformed bytes.
+	 * @param nanos
+	 *          the time spent for transformation.
+	 */
+	public void put(String key, byte[] bytes, byte[] result, long nanos) {
+		boolean changed = !Arrays.equals(bytes, result);
+		if (!changed && nanos < MIN_UNCHANGED_NANOS) {
+			return;
+		}
+		try {
+			File tempFile = File.createTempFile(key, TEMP_SUFFIX, m_directory);
+			try {
+				try (DataOutputStream output =
+						new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+					output.writeInt(FORMAT_VERSION);
+					output.writeLong(nanos);
+					output.writeBoolean(changed);
+					if (changed) {
+						output.writeInt(result.length);
+						output.write(result);
+					}
+				}
+				Files.move(
+						tempFile.toPath(),
+						new File(m_directory, key).toPath(),
+						StandardCopyOption.REPLACE_EXISTING);
+				addEntry(key);
+			} finally {
+				tempFile.delete();
+			}
+		} catch (Throwable e) {
+			// ignore, cache is optional
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Entries
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @return <code>true</code> if entry with given key is known, marks it as recently used.
+	 */
+	private boolean hasEntry(String key) {
+		synchronized (m_entries) {
+			return m_entries.get(key) != null;
+		}
+	}
+
+	private void addEntry(String key) {
+		synchronized (m_entries) {
+			m_entries.put(key, Boolean.TRUE);
+		}
+	}
+
+	private void removeEntry(String key) {
+		synchronized (m_entries) {
+			m_entries.remove(key);
+		}
+	}
+
+	/**
+	 * @return the number of entries in this cache.
+	 */
+	public int getEntryCount() {
+		synchronized (m_entries) {
+			return m_entries.size();
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Statistics
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @return the number of {@link #get(String, byte[])} requests with existing entry.
+	 */
+	public long getHitCount() {
+		return m_hitCount.get();
+	}
+
+	/**
+	 * @return the number of {@link #get(String, byte[])} requests without entry.
+	 */
+	public long getMissCount() {
+		return m_missCount.get();
+	}
+
+	/**
+	 * @return the time in milliseconds that was spent originally to perform transformations, which
+	 *         are returned now from cache.
+	 */
+	public long getSavedTime() {
+		return m_savedNanos.get() / 1000000L;
+	}
+}
@@ -29,4 +29,31 @@ public interface IByteCodeProcessor {
 	 * @return the possibly modified bytes for given class.
 	 */
 	byte[] process(String className, byte[] bytes);
+
+	/**
+	 * @return <code>false</code> if this processor does not modify class with given name, so
+	 *         {@link #process(String, byte[])} is not invoked for it. Should be cheap, because it is
+	 *         checked before looking into {@link ByteCodeCache}.
+	 */
+	default boolean canProcess(String className) {
+		return true;
+	}
+
+	/**
+	 * @return the key that identifies transformation performed by this processor, including its
+	 *         version and any state that affects result of {@link #process(String, byte[])}. Results
+	 *         of processors with same keys are cached in {@link ByteCodeCache}. May be
+	 *         <code>null</code> if results should not be cached.
+	 */
+	default String getCacheKey() {
+		return null;
+	}
+
+	/**
+	 * @return <code>true</code> if this processor may modify classes from library archives, so these
+	 *         classes can not be loaded by shared {@link SharedLibraryClassLoader}.
+	 */
+	default boolean canProcessLibraryClasses() {
+		return true;
+	}
 }
\ No newline at end of file
@@ -31,17 +31,21 @@ import org.apache.commons.lang3.StringUtils;
 import org.objectweb.asm.ClassReader;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.security.CodeSource;
 import java.security.cert.Certificate;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.swing.UIDefaults;
 import javax.swing.UIManager;
@@ -67,6 +71,73 @@ public class ProjectClassLoader extends URLClassLoader {
 		return new ProjectClassLoader(urls, parentClassLoader, javaProject);
 	}
 
+	/**
+	 * @return the {@link ProjectClassLoader} for given {@link IJavaProject}, that loads classes from
+	 *         library archives (jars) using {@link SharedLibraryClassLoader}, so these classes are
+	 *         loaded once and reused until archive is changed. Only classes from folders, such as
+	 *         output folders of projects, are loaded by returned {@link ProjectClassLoader} itself.
+	 *         Note, that {@link IByteCodeProcessor}'s are applied only to these classes.
+	 *
+	 * @param libraryOwnerId
+	 *          the identifier of code that creates given parent {@link ClassLoader}, only
+	 *          {@link ProjectClassLoader}'s with same owner and same configuration of parent
+	 *          {@link ClassLoader} can share libraries.
+	 */
+	public static ProjectClassLoader create(ClassLoader parentClassLoader,
+			IJavaProject javaProject,
+			String libraryOwnerId) throws Exception {
+		List<URL> projectUrls = new ArrayList<>();
+		List<URL> libraryUrls = new ArrayList<>();
+		for (URL url : getClasspathUrls(javaProject)) {
+			if (isLibraryArchive(url)) {
+				libraryUrls.add(url);
+			} else {
+				projectUrls.add(url);
+			}
+		}
+		ProjectClassLoader classLoader =
+				new ProjectClassLoader(projectUrls.toArray(new URL[projectUrls.size()]),
+						parentClassLoader,
+						javaProject);
+		if (!libraryUrls.isEmpty()) {
+			classLoader.m_libraryClassLoader = SharedLibraryClassLoader.acquire(
+					libraryOwnerId,
+					libraryUrls.toArray(new URL[libraryUrls.size()]),
+					parentClassLoader);
+		}
+		return classLoader;
+	}
+
+	/**
+	 * @return <code>true</code> if given {@link URL} is existing jar or zip file.
+	 */
+	private static boolean isLibraryArchive(URL url) {
+		String path = url.getPath().toLowerCase();
+		if (path.endsWith(".jar") || path.endsWith(".zip")) {
+			try {
+				return new File(url.toURI()).isFile();
+			} catch (Throwable e) {
+				return false;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Disposes {@link ProjectClassLoader}'s in given {@link ClassLoader}, so releases shared
+	 * {@link SharedLibraryClassLoader}'s.
+	 */
+	public static void dispose(ClassLoader classLoader) {
+		if (classLoader instanceof ProjectClassLoader projectClassLoader) {
+			projectClassLoader.dispose();
+		}
+		if (classLoader instanceof CompositeClassLoader compositeClassLoader) {
+			for (ClassLoader child : compositeClassLoader.getClassLoaders()) {
+				dispose(child);
+			}
+		}
+	}
+
 	/**
 	 * @return {@link URL}s for each classpath entry of given {@link IJavaProject}.
 	 */
@@ -327,6 +398,11 @@ public class ProjectClassLoader extends URLClassLoader {
 	 */
 	private final Set<String> m_nonAbstractClasses = new TreeSet<>();
 	private final IJavaProject m_javaProject;
+	private final AtomicInteger m_definedClassCount = new AtomicInteger();
+	private SharedLibraryClassLoader m_libraryClassLoader;
+	private boolean m_disposed;
+	private ByteCodeCache m_byteCodeCache;
+	private String m_processorsCacheKey;
 
 	////////////////////////////////////////////////////////////////////////////
 	//
@@ -349,9 +425,21 @@ public class ProjectClassLoader extends URLClassLoader {
 	 */
 	public void add(IByteCodeProcessor processor) {
 		m_processors.add(processor);
+		m_processorsCacheKey = null;
+		if (processor.canProcessLibraryClasses()) {
+			unshareLibraryClasses();
+		}
 		processor.initialize(this);
 	}
 
+	/**
+	 * Sets {@link ByteCodeCache} to use for results of {@link IByteCodeProcessor}'s, may be
+	 * <code>null</code>.
+	 */
+	public void setByteCodeCache(ByteCodeCache byteCodeCache) {
+		m_byteCodeCache = byteCodeCache;
+	}
+
 	/**
 	 * Adds the name of class that should be made non-abstract.
 	 */
@@ -369,6 +457,46 @@ public class ProjectClassLoader extends URLClassLoader {
 		return m_javaProject;
 	}
 
+	/**
+	 * @return the {@link SharedLibraryClassLoader} used to load classes from library archives, may be
+	 *         <code>null</code>.
+	 */
+	public SharedLibraryClassLoader getLibraryClassLoader() {
+		return m_libraryClassLoader;
+	}
+
+	/**
+	 * @return the number of classes defined by this {@link ProjectClassLoader}, not including classes
+	 *         from {@link SharedLibraryClassLoader}.
+	 */
+	public int getDefinedClassCount() {
+		return m_definedClassCount.get();
+	}
+
+	/**
+	 * Releases {@link SharedLibraryClassLoader}, if any.
+	 */
+	public void dispose() {
+		if (m_libraryClassLoader != null && !m_disposed) {
+			m_disposed = true;
+			m_libraryClassLoader.release();
+		}
+	}
+
+	/**
+	 * Stops using {@link SharedLibraryClassLoader}, so library classes will be loaded by this
+	 * {@link ProjectClassLoader} and processed by {@link IByteCodeProcessor}'s.
+	 */
+	private void unshareLibraryClasses() {
+		if (m_libraryClassLoader != null) {
+			for (URL url : m_libraryClassLoader.getURLs()) {
+				addURL(url);
+			}
+			dispose();
+			m_libraryClassLoader = null;
+		}
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// Loading
@@ -379,6 +507,11 @@ public class ProjectClassLoader extends URLClassLoader {
 	@Override
 	protected Class<?> findClass(String className) throws ClassNotFoundException {
 		String classResourceName = className.replace('.', '/') + ".class";
+		// class from library archive
+		if (m_libraryClassLoader != null && super.findResource(classResourceName) == null) {
+			return m_libraryClassLoader.loadClass(className);
+		}
+		// class from project
 		InputStream input = getResourceAsStream(classResourceName);
 		if (input == null) {
 			throw new ClassNotFoundException(className);
@@ -386,18 +519,7 @@ public class ProjectClassLoader extends URLClassLoader {
 			try {
 				// read class bytes
 				byte[] bytes = IOUtils2.readBytes(input);
-				// apply processors
-				for (IByteCodeProcessor processor : m_processors) {
-					bytes = processor.process(className, bytes);
-				}
-				// implement abstract methods (only for required classes)
-				if (m_nonAbstractClasses.contains(className)) {
-					ClassReader classReader = new ClassReader(bytes);
-					AbstractMethodsImplementorVisitor rewriter =
-							new AbstractMethodsImplementorVisitor(className);
-					classReader.accept(rewriter, 0);
-					bytes = rewriter.toByteArray();
-				}
+				bytes = transformClass(className, bytes);
 				// define package
 				{
 					String pkgName = StringUtils.substringBeforeLast(className, ".");
@@ -407,13 +529,106 @@ public class ProjectClassLoader extends URLClassLoader {
 				}
 				// return (possibly modified) class
 				ensureCodeSource();
-				return defineClass(className, bytes, 0, bytes.length, m_fakeCodeSource);
+				Class<?> clazz = defineClass(className, bytes, 0, bytes.length, m_fakeCodeSource);
+				m_definedClassCount.incrementAndGet();
+				return clazz;
 			} catch (Throwable e) {
 				throw new ClassNotFoundException("Error loading class " + className, e);
 			}
 		}
 	}
 
+	/**
+	 * @return the class bytes transformed by {@link IByteCodeProcessor}'s and
+	 *         {@link AbstractMethodsImplementorVisitor}, from {@link ByteCodeCache} if possible.
+	 */
+	private byte[] transformClass(String className, byte[] bytes) throws Exception {
+		boolean nonAbstract = m_nonAbstractClasses.contains(className);
+		List<IByteCodeProcessor> processors = new ArrayList<>(m_processors.size());
+		for (IByteCodeProcessor processor : m_processors) {
+			if (processor.canProcess(className)) {
+				processors.add(processor);
+			}
+		}
+		if (processors.isEmpty() && !nonAbstract) {
+			return bytes;
+		}
+		// try to use cache
+		String cacheKey = null;
+		if (m_byteCodeCache != null) {
+			String chainKey = getProcessorsCacheKey();
+			if (chainKey != null) {
+				if (nonAbstract) {
+					chainKey += "|" + ByteCodeCache.getVersionKey(AbstractMethodsImplementorVisitor.class);
+				}
+				cacheKey = m_byteCodeCache.getKey(chainKey, className, bytes);
+				byte[] cachedBytes = m_byteCodeCache.get(cacheKey, bytes);
+				if (cachedBytes != null) {
+					return cachedBytes;
+				}
+			}
+		}
+		// do transform
+		long start = System.nanoTime();
+		byte[] originalBytes = bytes;
+		// apply processors
+		for (IByteCodeProcessor processor : processors) {
+			bytes = processor.process(className, bytes);
+		}
+		// implement abstract methods (only for required classes)
+		if (nonAbstract) {
+			ClassReader classReader = new ClassReader(bytes);
+			AbstractMethodsImplementorVisitor rewriter =
+					new AbstractMethodsImplementorVisitor(className);
+			classReader.accept(rewriter, 0);
+			bytes = rewriter.toByteArray();
+		}
+		// remember in cache
+		if (cacheKey != null) {
+			m_byteCodeCache.put(cacheKey, originalBytes, bytes, System.nanoTime() - start);
+		}
+		return bytes;
+	}
+
+	/**
+	 * @return the combined {@link IByteCodeProcessor#getCacheKey()} of all processors, or
+	 *         <code>null</code> if at least one of them can not be cached.
+	 */
+	private String getProcessorsCacheKey() {
+		if (m_processorsCacheKey == null) {
+			StringBuilder sb = new StringBuilder();
+			for (IByteCodeProcessor processor : m_processors) {
+				String key = processor.getCacheKey();
+				if (key == null) {
+					return null;
+				}
+				sb.append(key).append('|');
+			}
+			m_processorsCacheKey = sb.toString();
+		}
+		return m_processorsCacheKey;
+	}
+
+	@Override
+	public URL findResource(String name) {
+		URL url = super.findResource(name);
+		if (url == null && m_libraryClassLoader != null) {
+			url = m_libraryClassLoader.findResource(name);
+		}
+		return url;
+	}
+
+	@Override
+	public Enumeration<URL> findResources(String name) throws IOException {
+		Enumeration<URL> urls = super.findResources(name);
+		if (m_libraryClassLoader == null) {
+			return urls;
+		}
+		List<URL> allUrls = Collections.list(urls);
+		allUrls.addAll(Collections.list(m_libraryClassLoader.findResources(name)));
+		return Collections.enumeration(allUrls);
+	}
+
 	private static void ensureCodeSource() {
 		if (m_fakeCodeSource == null) {
 			try {
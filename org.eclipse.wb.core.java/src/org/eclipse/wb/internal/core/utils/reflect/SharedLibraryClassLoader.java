@@ -0,0 +1,260 @@
+/*******************************************************************************
+ * Copyright (c) 2026 WindowBuilder contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    WindowBuilder contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.wb.internal.core.utils.reflect;
+
+import org.osgi.framework.Bundle;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link URLClassLoader} for library archives (jars) of project classpath, shared between parses
+ * and editors.
+ * <p>
+ * Loaders are reference counted, {@link ProjectClassLoader} acquires loader when created and
+ * releases it when disposed. Loader without references is kept for some time, so next parse can
+ * reuse classes already loaded from same archives. Loader is identified by owner (usually parse
+ * factory), configuration of parent {@link ClassLoader} and paths, modification stamps and sizes of
+ * archives. So modified archive causes creation of new loader, and loader is reused only with
+ * parent that loads same classes, i.e. {@link BundleClassLoader}'s of same {@link Bundle}'s with
+ * same namespaces.
+ *
+ * @coverage core.util
+ */
+public final class SharedLibraryClassLoader extends URLClassLoader {
+	/**
+	 * Maximal number of loaders without references to keep.
+	 */
+	private static final int MAX_IDLE_LOADERS = 4;
+	/**
+	 * All known loaders, in order of last use.
+	 */
+	private static final Map<Key, SharedLibraryClassLoader> m_loaders = new LinkedHashMap<>();
+
+	/**
+	 * @return the {@link SharedLibraryClassLoader} for given archives, existing or new one, with
+	 *         incremented references count.
+	 *
+	 * @param ownerId
+	 *          the identifier of code that creates loaders with same parent configuration.
+	 * @param urls
+	 *          the {@link URL}'s of archives.
+	 * @param parent
+	 *          the parent {@link ClassLoader}, used if new loader should be created. Existing loader
+	 *          is reused only if its parent has same configuration.
+	 */
+	static SharedLibraryClassLoader acquire(String ownerId, URL[] urls, ClassLoader parent) {
+		Key key = new Key(ownerId, urls, parent);
+		synchronized (m_loaders) {
+			SharedLibraryClassLoader loader = m_loaders.remove(key);
+			if (loader == null) {
+				loader = new SharedLibraryClassLoader(key, urls, parent);
+			}
+			m_loaders.put(key, loader);
+			loader.m_references++;
+			closeIdleLoaders();
+			return loader;
+		}
+	}
+
+	/**
+	 * Closes loaders without references, if there are too many of them, or if there is newer loader
+	 * for same owner and paths.
+	 */
+	private static void closeIdleLoaders() {
+		int idleCount = 0;
+		for (SharedLibraryClassLoader loader : m_loaders.values()) {
+			if (loader.m_references == 0) {
+				idleCount++;
+			}
+		}
+		for (Iterator<SharedLibraryClassLoader> I = m_loaders.values().iterator(); I.hasNext();) {
+			SharedLibraryClassLoader loader = I.next();
+			if (loader.m_references == 0 && (idleCount > MAX_IDLE_LOADERS || loader.isStale())) {
+				I.remove();
+				idleCount--;
+				loader.close0();
+			}
+		}
+	}
+
+	/**
+	 * @return the number of loaders, with or without references.
+	 */
+	public static int getLoadersCount() {
+		synchronized (m_loaders) {
+			return m_loaders.size();
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Instance fields
+	//
+	////////////////////////////////////////////////////////////////////////////
+	private final Key m_key;
+	private final AtomicInteger m_definedClassCount = new AtomicInteger();
+	private int m_references;
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Constructor
+	//
+	////////////////////////////////////////////////////////////////////////////
+	private SharedLibraryClassLoader(Key key, URL[] urls, ClassLoader parent) {
+		super(urls, parent);
+		m_key = key;
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Access
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Decrements references count. Loader without references may be closed later.
+	 */
+	void release() {
+		synchronized (m_loaders) {
+			if (m_references > 0) {
+				m_references--;
+			}
+			closeIdleLoaders();
+		}
+	}
+
+	/**
+	 * @return the number of classes defined by this loader.
+	 */
+	public int getDefinedClassCount() {
+		return m_definedClassCount.get();
+	}
+
+	/**
+	 * @return <code>true</code> if at least one archive was modified after creation of this loader.
+	 */
+	private boolean isStale() {
+		return !m_key.equals(new Key(m_key.m_ownerId, getURLs(), getParent()));
+	}
+
+	/**
+	 * Closes this loader and removes its {@link ClassLoaderLocalMap} properties, which may reference
+	 * its classes.
+	 */
+	private void close0() {
+		ClassLoaderLocalMap.clear(this);
+		try {
+			close();
+		} catch (Throwable e) {
+			// ignore, we just release resources
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Loading
+	//
+	////////////////////////////////////////////////////////////////////////////
+	@Override
+	protected Class<?> findClass(String name) throws ClassNotFoundException {
+		Class<?> clazz = super.findClass(name);
+		m_definedClassCount.incrementAndGet();
+		return clazz;
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Key
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Identifier of loader: owner, parent configuration and paths, modification stamps and sizes of
+	 * archives.
+	 */
+	private static final class Key {
+		private final String m_ownerId;
+		private final Object m_parent;
+		private final List<Object> m_stamps = new ArrayList<>();
+
+		Key(String ownerId, URL[] urls, ClassLoader parent) {
+			m_ownerId = ownerId;
+			m_parent = getParentKey(parent);
+			for (URL url : urls) {
+				File file = toFile(url);
+				m_stamps.add(url.toExternalForm());
+				m_stamps.add(file.lastModified());
+				m_stamps.add(file.length());
+			}
+		}
+
+		/**
+		 * @return the object that is equal for {@link ClassLoader}'s that load same classes. For
+		 *         {@link CompositeClassLoader} these are keys of its {@link ClassLoader}'s with their
+		 *         namespaces, for {@link BundleClassLoader} - identifier, version and modification
+		 *         stamp of {@link Bundle}. Any other {@link ClassLoader} is equal only to itself.
+		 */
+		private static Object getParentKey(ClassLoader parent) {
+			if (parent instanceof CompositeClassLoader compositeClassLoader) {
+				List<ClassLoader> classLoaders = compositeClassLoader.getClassLoaders();
+				List<Object> key = new ArrayList<>();
+				for (int i = 0; i < classLoaders.size(); i++) {
+					key.add(getParentKey(classLoaders.get(i)));
+					key.add(compositeClassLoader.getClassNamespaces().get(i));
+					key.add(compositeClassLoader.getResourceNamespaces().get(i));
+				}
+				return key;
+			}
+			if (parent instanceof BundleClassLoader bundleClassLoader) {
+				Bundle bundle = bundleClassLoader.getBundle();
+				return Arrays.asList(
+						bundle.getBundleId(),
+						bundle.getSymbolicName(),
+						bundle.getVersion(),
+						bundle.getLastModified());
+			}
+			return parent;
+		}
+
+		private static File toFile(URL url) {
+			try {
+				return new File(url.toURI());
+			} catch (Throwable e) {
+				return new File(url.getPath());
+			}
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj instanceof Key key) {
+				return m_ownerId.equals(key.m_ownerId)
+						&& Objects.equals(m_parent, key.m_parent)
+						&& m_stamps.equals(key.m_stamps);
+			}
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(m_ownerId, m_parent, m_stamps);
+		}
+	}
+}
@@ -26,7 +26,9 @@ import org.eclipse.wb.internal.core.utils.check.Assert;
 import org.eclipse.wb.internal.core.utils.execution.ExecutionUtils;
 import org.eclipse.wb.internal.core.utils.execution.RunnableEx;
 import org.eclipse.wb.internal.core.utils.reflect.CompositeClassLoader;
+import org.eclipse.wb.internal.core.utils.reflect.ProjectClassLoader;
 import org.eclipse.wb.internal.core.utils.reflect.ReflectionUtils;
+import org.eclipse.wb.internal.core.utils.ui.ResourceTracker;
 
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.MethodDeclaration;
@@ -40,6 +42,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -110,6 +113,7 @@ public final class EditorState {
 	private EditorState(AstEditor editor) {
 		m_editor = editor;
 		m_visitedNodes = new VisitedNodes();
+		m_resources = new ResourceTracker(editor.getModelUnit().getElementName());
 	}
 
 	////////////////////////////////////////////////////////////////////////////
@@ -198,9 +202,7 @@ public final class EditorState {
 		// dispose Image's
 		{
 			for (Image image : m_disposableImages) {
-				if (image != null && !image.isDisposed()) {
-					image.dispose();
-				}
+				m_resources.dispose(image);
 			}
 			m_disposableImages.clear();
 		}
@@ -211,6 +213,8 @@ public final class EditorState {
 			}
 			m_disposableList.clear();
 		}
+		// everything still tracked was not disposed by its owner
+		m_resources.dispose();
 		// clear Java internals
 		dispose_PropertyEditorManager();
 		dispose_UIManager();
@@ -221,6 +225,7 @@ public final class EditorState {
 				AbstractParseFactory.deinitializeClassLoader(m_editorLoader, m_toolkitId);
 			}
 		});
+		ProjectClassLoader.dispose(m_editorLoader);
 		// done
 		m_disposed = true;
 	}
@@ -529,14 +534,24 @@ public final class EditorState {
 	// Icons
 	//
 	////////////////////////////////////////////////////////////////////////////
-	private final List<Image> m_disposableImages = new ArrayList<>();
+	private final ResourceTracker m_resources;
+	private final Set<Image> m_disposableImages = new LinkedHashSet<>();
+
+	/**
+	 * @return the {@link ResourceTracker} for native resources, such as screenshots, created for
+	 *         this editor. Resources which are still tracked when editor is disposed are reported as
+	 *         leaks.
+	 */
+	public ResourceTracker getResources() {
+		return m_resources;
+	}
 
 	/**
 	 * Adds {@link Image} for further disposing during disposing the editor.
 	 */
 	public void addDisposableImage(Image image) {
-		if (image != null && !m_disposableImages.contains(image)) {
-			m_disposableImages.add(image);
+		if (image != null && m_disposableImages.add(image)) {
+			m_resources.add(image, ResourceTracker.getCallerSite(1));
 		}
 	}
 
@@ -557,6 +572,39 @@ public final class EditorState {
 		}
 	}
 
+	/**
+	 * Moves {@link Image}'s and {@link IDisposable}'s of this {@link EditorState} into given one, so
+	 * they will be disposed with other editor. Used by temporary editors that share
+	 * {@link ClassLoader} with other editor.
+	 */
+	public void transferDisposables(EditorState target) {
+		target.m_disposableImages.addAll(m_disposableImages);
+		m_disposableImages.clear();
+		m_resources.transferTo(target.m_resources);
+		for (IDisposable disposable : m_disposableList) {
+			target.addDisposable(disposable);
+		}
+		m_disposableList.clear();
+	}
+
+	/**
+	 * Disposes {@link EditorState} of temporary editor that shares {@link ClassLoader} with given
+	 * one. Its {@link Image}'s and {@link IDisposable}'s are moved into given {@link EditorState},
+	 * but {@link ClassLoader} is not disposed, because it is still used by other editor.
+	 */
+	public void disposeShared(EditorState target) {
+		Assert.isTrue(target.m_editorLoader == m_editorLoader);
+		transferDisposables(target);
+		// tracker is empty now, so just unregister it
+		m_resources.dispose();
+		m_broadcastSupport = null;
+		m_javaInfoResolver = null;
+		m_flowDescription = null;
+		m_tmp_InterceptedMethods.clear();
+		m_editor.removeGlobalValue(KEY_EDITOR_STATE);
+		m_disposed = true;
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// BadNodeInformation
@@ -22,6 +22,7 @@ import org.eclipse.wb.internal.core.utils.ui.dialogs.image.pages.browse.model.II
 import org.eclipse.wb.internal.core.utils.ui.dialogs.image.pages.browse.model.IImageElement;
 import org.eclipse.wb.internal.core.utils.ui.dialogs.image.pages.browse.model.IImageResource;
 import org.eclipse.wb.internal.core.utils.ui.dialogs.image.pages.browse.model.IImageRoot;
+import org.eclipse.wb.internal.core.utils.ui.dialogs.image.pages.browse.model.IThumbnailResource;
 
 import org.eclipse.jface.viewers.DoubleClickEvent;
 import org.eclipse.jface.viewers.IDoubleClickListener;
@@ -35,9 +36,11 @@ import org.eclipse.jface.viewers.TreeViewer;
 import org.eclipse.jface.viewers.Viewer;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swt.widgets.TreeItem;
 
 import org.apache.commons.lang3.ArrayUtils;
 
@@ -50,6 +53,7 @@ import org.apache.commons.lang3.ArrayUtils;
 public abstract class AbstractBrowseImagePage extends AbstractImagePage {
 	private final TreeViewer m_viewer;
 	private final IImageRoot m_root;
+	private final ThumbnailCache m_thumbnails;
 
 	////////////////////////////////////////////////////////////////////////////
 	//
@@ -75,9 +79,17 @@ public abstract class AbstractBrowseImagePage extends AbstractImagePage {
 			m_viewer = new TreeViewer(this, SWT.BORDER | SWT.H_SCROLL | SWT.V_SCROLL);
 			GridDataFactory.create(m_viewer.getTree()).hintC(50, 20).grab().fill();
 			m_viewer.getTree().setData("org.eclipse.jface.viewers.TreeViewer", m_viewer);
+			m_thumbnails = new ThumbnailCache(m_viewer.getTree());
 			// set providers
 			m_viewer.setContentProvider(new ImageContentProvider());
-			m_viewer.setLabelProvider(new ImageLabelProvider());
+			m_viewer.setLabelProvider(new ImageLabelProvider(m_thumbnails));
+			// paint thumbnails over placeholders, only for visible items
+			m_viewer.getTree().addListener(SWT.PaintItem, new Listener() {
+				@Override
+				public void handleEvent(Event event) {
+					paintThumbnail(event);
+				}
+			});
 			// add listeners
 			m_viewer.addSelectionChangedListener(new ISelectionChangedListener() {
 				@Override
@@ -128,6 +140,24 @@ public abstract class AbstractBrowseImagePage extends AbstractImagePage {
 		return m_viewer;
 	}
 
+	/**
+	 * Paints thumbnail of {@link IThumbnailResource} in place of its placeholder image.
+	 */
+	private void paintThumbnail(Event event) {
+		TreeItem item = (TreeItem) event.item;
+		if (item.getData() instanceof IThumbnailResource resource) {
+			Image thumbnail = m_thumbnails.getThumbnail(resource);
+			if (thumbnail != null) {
+				Rectangle itemBounds = item.getImageBounds(0);
+				Rectangle imageBounds = thumbnail.getBounds();
+				event.gc.drawImage(
+						thumbnail,
+						itemBounds.x + (itemBounds.width - imageBounds.width) / 2,
+						itemBounds.y + (itemBounds.height - imageBounds.height) / 2);
+			}
+		}
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// Content provider
@@ -192,8 +222,17 @@ public abstract class AbstractBrowseImagePage extends AbstractImagePage {
 	 * @author scheglov_ke
 	 */
 	private static final class ImageLabelProvider extends LabelProvider {
+		private final ThumbnailCache m_thumbnails;
+
+		private ImageLabelProvider(ThumbnailCache thumbnails) {
+			m_thumbnails = thumbnails;
+		}
+
 		@Override
 		public Image getImage(Object element) {
+			if (element instanceof IThumbnailResource) {
+				return m_thumbnails.getPlaceholder();
+			}
 			if (element instanceof IImageElement imageElement) {
 				return imageElement.getImage();
 			}
@@ -0,0 +1,227 @@
+/*******************************************************************************
+ * Copyright (c) 2026 WindowBuilder contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    WindowBuilder contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.wb.internal.core.utils.ui.dialogs.image.pages.browse;
+
+import org.eclipse.wb.internal.core.utils.Pair;
+import org.eclipse.wb.internal.core.utils.execution.ExecutionUtils;
+import org.eclipse.wb.internal.core.utils.ui.dialogs.image.pages.browse.model.IThumbnailResource;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.widgets.Control;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Thumbnails of {@link IThumbnailResource}'s for {@link AbstractBrowseImagePage}.
+ * <p>
+ * Thumbnail is requested only when item is painted, i.e. visible. Image is decoded and scaled in
+ * background {@link Job}, last requested first, and {@link Image} is created in UI thread. Only
+ * limited number of {@link Image}'s is kept, least recently used ones are disposed. So number of
+ * handles does not depend on number of images in jar or package. All {@link Image}'s are disposed
+ * together with {@link Control}.
+ *
+ * @coverage core.ui
+ */
+public final class ThumbnailCache {
+	public static final int SIZE = 16;
+	public static final int IMAGES_LIMIT = 256;
+	private static final int QUEUE_LIMIT = 128;
+	private final Control m_control;
+	private final Image m_placeholder;
+	private final Map<IThumbnailResource, Image> m_images = new LinkedHashMap<>(16, 0.75f, true);
+	private final Set<IThumbnailResource> m_requested = new HashSet<>();
+	private final Set<IThumbnailResource> m_failed = new HashSet<>();
+	private final LinkedList<IThumbnailResource> m_queue = new LinkedList<>();
+	private final List<Pair<IThumbnailResource, ImageData>> m_loaded = new ArrayList<>();
+	private final Job m_job;
+	private boolean m_disposed;
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Constructor
+	//
+	////////////////////////////////////////////////////////////////////////////
+	public ThumbnailCache(Control control) {
+		m_control = control;
+		m_control.addListener(SWT.Dispose, event -> dispose());
+		// transparent image, to reserve space for thumbnail
+		{
+			ImageData data = new ImageData(SIZE, SIZE, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+			data.alphaData = new byte[SIZE * SIZE];
+			m_placeholder = new Image(control.getDisplay(), data);
+		}
+		m_job = new Job("Loading thumbnails...") {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				IThumbnailResource resource;
+				while (!monitor.isCanceled() && (resource = pollRequest()) != null) {
+					addLoaded(resource, load(resource));
+				}
+				return Status.OK_STATUS;
+			}
+		};
+		m_job.setSystem(true);
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Access
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @return the transparent {@link Image} of thumbnail size, to use instead of thumbnail in label.
+	 */
+	public Image getPlaceholder() {
+		return m_placeholder;
+	}
+
+	/**
+	 * @return the thumbnail {@link Image} of given {@link IThumbnailResource}, or <code>null</code>
+	 *         if it is not loaded yet, so requests loading, or can not be loaded.
+	 */
+	public Image getThumbnail(IThumbnailResource resource) {
+		Image image = m_images.get(resource);
+		if (image == null
+				&& !m_disposed
+				&& !m_failed.contains(resource)
+				&& m_requested.add(resource)) {
+			synchronized (m_queue) {
+				m_queue.addFirst(resource);
+				if (m_queue.size() > QUEUE_LIMIT) {
+					m_requested.remove(m_queue.removeLast());
+				}
+			}
+			m_job.schedule();
+		}
+		return image;
+	}
+
+	/**
+	 * Cancels loading and disposes all {@link Image}'s.
+	 */
+	public void dispose() {
+		if (m_disposed) {
+			return;
+		}
+		m_disposed = true;
+		m_job.cancel();
+		synchronized (m_queue) {
+			m_queue.clear();
+		}
+		for (Image image : m_images.values()) {
+			image.dispose();
+		}
+		m_images.clear();
+		m_placeholder.dispose();
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Loading
+	//
+	////////////////////////////////////////////////////////////////////////////
+	private IThumbnailResource pollRequest() {
+		synchronized (m_queue) {
+			return m_queue.poll();
+		}
+	}
+
+	/**
+	 * Adds loaded thumbnail and schedules adding {@link Image}'s in UI thread, if not scheduled yet.
+	 */
+	private void addLoaded(IThumbnailResource resource, ImageData data) {
+		synchronized (m_loaded) {
+			m_loaded.add(Pair.create(resource, data));
+			if (m_loaded.size() != 1) {
+				return;
+			}
+		}
+		ExecutionUtils.runLogLater(this::createImages);
+	}
+
+	/**
+	 * Creates {@link Image}'s for loaded thumbnails and repaints {@link Control}.
+	 */
+	private void createImages() {
+		List<Pair<IThumbnailResource, ImageData>> loaded;
+		synchronized (m_loaded) {
+			loaded = new ArrayList<>(m_loaded);
+			m_loaded.clear();
+		}
+		if (m_disposed) {
+			return;
+		}
+		for (Pair<IThumbnailResource, ImageData> pair : loaded) {
+			IThumbnailResource resource = pair.getLeft();
+			ImageData data = pair.getRight();
+			m_requested.remove(resource);
+			if (data != null) {
+				m_images.put(resource, new Image(m_control.getDisplay(), data));
+			} else {
+				m_failed.add(resource);
+			}
+		}
+		// dispose least recently used
+		for (Iterator<Image> I = m_images.values().iterator(); m_images.size() > IMAGES_LIMIT;) {
+			I.next().dispose();
+			I.remove();
+		}
+		m_control.redraw();
+	}
+
+	/**
+	 * @return the scaled {@link ImageData} of given {@link IThumbnailResource}, or <code>null</code>
+	 *         if it can not be loaded.
+	 */
+	private static ImageData load(IThumbnailResource resource) {
+		try (InputStream inputStream = resource.openStream()) {
+			return scale(new ImageData(inputStream));
+		} catch (Throwable e) {
+			return null;
+		}
+	}
+
+	/**
+	 * @return the {@link ImageData} scaled to fit into thumbnail size, keeping aspect ratio.
+	 */
+	public static ImageData scale(ImageData data) {
+		int width = data.width;
+		int height = data.height;
+		if (width <= SIZE && height <= SIZE) {
+			return data;
+		}
+		if (width >= height) {
+			height = Math.max(1, height * SIZE / width);
+			width = SIZE;
+		} else {
+			width = Math.max(1, width * SIZE / height);
+			height = SIZE;
+		}
+		return data.scaledTo(width, height);
+	}
+}
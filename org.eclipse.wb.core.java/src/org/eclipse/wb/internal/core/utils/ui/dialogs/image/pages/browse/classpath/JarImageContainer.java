@@ -24,6 +24,7 @@ import org.eclipse.jdt.ui.JavaUI;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.widgets.Display;
 
+import java.io.FileNotFoundException;
 import java.io.InputStream;
 import java.util.Enumeration;
 import java.util.HashMap;
@@ -143,6 +144,18 @@ final class JarImageContainer implements IClasspathImageContainer {
 		m_nameToImageInfo = null;
 	}
 
+	/**
+	 * @return the {@link InputStream} for {@link ZipEntry} with given name. May be called not in UI
+	 *         thread.
+	 */
+	InputStream openStream(String entryName) throws Exception {
+		ZipEntry entry = m_jarFile.getEntry(entryName);
+		if (entry == null) {
+			throw new FileNotFoundException(entryName);
+		}
+		return m_jarFile.getInputStream(entry);
+	}
+
 	/**
 	 * @return the {@link Image} for {@link ZipEntry} with given name.
 	 */
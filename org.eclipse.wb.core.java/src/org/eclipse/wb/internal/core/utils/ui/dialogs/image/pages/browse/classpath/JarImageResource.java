@@ -14,17 +14,20 @@ package org.eclipse.wb.internal.core.utils.ui.dialogs.image.pages.browse.classpa
 
 import org.eclipse.wb.internal.core.utils.ui.dialogs.image.ImageInfo;
 import org.eclipse.wb.internal.core.utils.ui.dialogs.image.pages.browse.model.IImageResource;
+import org.eclipse.wb.internal.core.utils.ui.dialogs.image.pages.browse.model.IThumbnailResource;
 
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.swt.graphics.Image;
 
+import java.io.InputStream;
+
 /**
  * implementation of {@link IImageResource} for single file in jar.
  *
  * @author scheglov_ke
  * @coverage core.ui
  */
-final class JarImageResource extends AbstractJarImageElement implements IImageResource {
+final class JarImageResource extends AbstractJarImageElement implements IThumbnailResource {
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// Constructor
@@ -57,6 +60,25 @@ final class JarImageResource extends AbstractJarImageElement implements IImageRe
 	////////////////////////////////////////////////////////////////////////////
 	@Override
 	public ImageInfo getImageInfo() {
-		return m_jarContainer.getImage(m_entryPath.toOSString().replace('\\', '/'));
+		return m_jarContainer.getImage(getEntryName());
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// IThumbnailResource
+	//
+	////////////////////////////////////////////////////////////////////////////
+	@Override
+	public InputStream openStream() throws Exception {
+		return m_jarContainer.openStream(getEntryName());
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Internal
+	//
+	////////////////////////////////////////////////////////////////////////////
+	private String getEntryName() {
+		return m_entryPath.toOSString().replace('\\', '/');
 	}
 }
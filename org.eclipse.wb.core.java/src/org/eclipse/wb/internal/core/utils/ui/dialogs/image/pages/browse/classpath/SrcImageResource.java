@@ -14,6 +14,7 @@ package org.eclipse.wb.internal.core.utils.ui.dialogs.image.pages.browse.classpa
 
 import org.eclipse.wb.internal.core.utils.ui.dialogs.image.ImageInfo;
 import org.eclipse.wb.internal.core.utils.ui.dialogs.image.pages.browse.model.IImageResource;
+import org.eclipse.wb.internal.core.utils.ui.dialogs.image.pages.browse.model.IThumbnailResource;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResource;
@@ -31,7 +32,7 @@ import java.io.InputStream;
  * @author scheglov_ke
  * @coverage core.ui
  */
-final class SrcImageResource implements IImageResource {
+final class SrcImageResource implements IThumbnailResource {
 	private final String m_id;
 	private final IPackageFragmentRoot m_packageFragmentRoot;
 	private final IFile m_file;
@@ -101,6 +102,16 @@ final class SrcImageResource implements IImageResource {
 		return m_imageInfo;
 	}
 
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// IThumbnailResource
+	//
+	////////////////////////////////////////////////////////////////////////////
+	@Override
+	public InputStream openStream() throws Exception {
+		return m_file.getContents(true);
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// Internal access
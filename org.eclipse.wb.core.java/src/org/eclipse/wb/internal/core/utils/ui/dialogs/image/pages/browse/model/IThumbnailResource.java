@@ -0,0 +1,28 @@
+/*******************************************************************************
+ * Copyright (c) 2026 WindowBuilder contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    WindowBuilder contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.wb.internal.core.utils.ui.dialogs.image.pages.browse.model;
+
+import java.io.InputStream;
+
+/**
+ * {@link IImageResource} which content can be read in any thread, so instead of
+ * {@link #getImage()} its thumbnail is loaded in background, only when it becomes visible.
+ *
+ * @coverage core.ui
+ */
+public interface IThumbnailResource extends IImageResource {
+	/**
+	 * @return the {@link InputStream} with content of image. May be called not in UI thread.
+	 */
+	InputStream openStream() throws Exception;
+}
@@ -28,6 +28,7 @@ public class UiMessages extends NLS {
 	public static String MainPreferencePage_formattingLink;
 	public static String MainPreferencePage_goInSourceOnSelection;
 	public static String MainPreferencePage_maximizeEditorOndesign;
+	public static String MainPreferencePage_shareLibraryClasses;
 	public static String MainPreferencePage_showDebugOnConsole;
 	public static String MainPreferencePage_supportNonVisualBeans;
 	public static String MainPreferencePage_syncDelay;
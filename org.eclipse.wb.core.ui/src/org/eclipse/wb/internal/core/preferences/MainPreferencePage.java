@@ -148,6 +148,9 @@ IPreferenceConstants {
 		addField(new BooleanFieldEditor(P_COMMON_SHOW_VERSION_WARNING,
 				UiMessages.MainPreferencePage_checkVersions,
 				getFieldEditorParent()));
+		addField(new BooleanFieldEditor(P_COMMON_SHARE_LIBRARY_CLASSES,
+				UiMessages.MainPreferencePage_shareLibraryClasses,
+				getFieldEditorParent()));
 		if (EnvironmentUtils.IS_LINUX) {
 			addField(new BooleanFieldEditor(P_COMMON_LINUX_DISABLE_SCREENSHOT_WORKAROUNDS,
 					UiMessages.MainPreferencePage_disableLinuxWorkaround,
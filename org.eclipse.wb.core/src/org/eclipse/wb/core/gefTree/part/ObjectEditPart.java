@@ -16,6 +16,7 @@ package org.eclipse.wb.core.gefTree.part;
 import org.eclipse.wb.core.editor.constants.IEditorPreferenceConstants;
 import org.eclipse.wb.core.model.ObjectInfo;
 import org.eclipse.wb.core.model.broadcast.ObjectEventListener;
+import org.eclipse.wb.core.model.broadcast.ObjectInfoChildAddAfter;
 import org.eclipse.wb.gef.tree.DesignTreeEditPart;
 import org.eclipse.wb.gef.tree.TreeEditPart;
 import org.eclipse.wb.internal.core.utils.execution.ExecutionUtils;
@@ -33,10 +34,15 @@ import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Listener;
 import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeItem;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * {@link TreeEditPart} for {@link ObjectInfo}.
@@ -77,22 +83,57 @@ public class ObjectEditPart extends DesignTreeEditPart {
 					public void handleEvent(Event event) {
 						if (event.item.getData() instanceof ObjectEditPart) {
 							ObjectEditPart editPart = (ObjectEditPart) event.item.getData();
-							editPart.update();
+							editPart.update(m_presentationGeneration);
 						}
 					}
 				};
 				tree.addListener(SWT.PaintItem, m_updatePresentationListener);
 			}
+			// remember parents with changed children
+			m_object.addBroadcastListener(new ObjectInfoChildAddAfter() {
+				@Override
+				public void invoke(ObjectInfo parent, ObjectInfo child) throws Exception {
+					m_dirtyObjects.add(parent);
+				}
+			});
 			// refresh hierarchy
 			m_object.addBroadcastListener(new ObjectEventListener() {
 				private List<ObjectInfo> m_delayedSelectionObjects;
 
+				@Override
+				public void childRemoveAfter(ObjectInfo parent, ObjectInfo child) throws Exception {
+					m_dirtyObjects.add(parent);
+				}
+
+				@Override
+				public void childMoveAfter(ObjectInfo parent,
+						ObjectInfo child,
+						ObjectInfo nextChild,
+						int oldIndex,
+						int newIndex) throws Exception {
+					m_dirtyObjects.add(parent);
+				}
+
+				@Override
+				public void presentationChanged() throws Exception {
+					// children may be hidden or shown without changes in model
+					m_fullRefreshRequired = true;
+					refreshed();
+				}
+
 				@Override
 				public void refreshed() throws Exception {
 					// do in setRedraw(false) to avoid flashing after component moving
 					tree.setRedraw(false);
 					try {
-						refresh();
+						if (m_fullRefreshRequired) {
+							m_fullRefreshRequired = false;
+							m_dirtyObjects.clear();
+							refresh();
+						} else {
+							refreshDirty();
+						}
+						m_presentationGeneration++;
 						{
 							setSelectionIfAllEditParts(m_delayedSelectionObjects);
 							m_delayedSelectionObjects = null;
@@ -143,6 +184,57 @@ public class ObjectEditPart extends DesignTreeEditPart {
 		}
 	}
 
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Incremental refresh
+	//
+	////////////////////////////////////////////////////////////////////////////
+	private final Set<ObjectInfo> m_dirtyObjects = new LinkedHashSet<>();
+	private boolean m_fullRefreshRequired = true;
+	private int m_presentationGeneration;
+
+	/**
+	 * Refreshes only {@link EditPart}'s of objects with added, removed or moved children since last
+	 * refresh, together with their subtrees. Other {@link ObjectEditPart}'s are not visited, their
+	 * presentation is updated when item is painted.
+	 */
+	private void refreshDirty() {
+		TreeViewer viewer = (TreeViewer) getViewer();
+		Map<Object, EditPart> registry = viewer.getEditPartRegistry();
+		// prepare top-most EditPart's to refresh
+		Set<EditPart> dirtyParts = new LinkedHashSet<>();
+		for (ObjectInfo object : m_dirtyObjects) {
+			for (ObjectInfo o = object; o != null; o = o.getParent()) {
+				EditPart editPart = registry.get(o);
+				if (editPart != null) {
+					dirtyParts.add(editPart);
+					break;
+				}
+			}
+		}
+		m_dirtyObjects.clear();
+		for (Iterator<EditPart> I = dirtyParts.iterator(); I.hasNext();) {
+			if (hasAncestor(I.next(), dirtyParts)) {
+				I.remove();
+			}
+		}
+		// do refresh
+		for (EditPart editPart : dirtyParts) {
+			if (editPart.isActive()) {
+				editPart.refresh();
+			}
+		}
+	}
+
+	private static boolean hasAncestor(EditPart editPart, Set<EditPart> ancestors) {
+		for (EditPart parent = editPart.getParent(); parent != null; parent = parent.getParent()) {
+			if (ancestors.contains(parent)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	@Override
 	public void deactivate() {
 		if (m_updatePresentationListener != null) {
@@ -159,15 +251,44 @@ public class ObjectEditPart extends DesignTreeEditPart {
 	//
 	////////////////////////////////////////////////////////////////////////////
 	private boolean m_updateRequired;
+	private int m_updateGeneration;
+	private ImageDescriptor m_imageDescriptor;
+	private Image m_image;
+
+	@Override
+	public void setWidget(TreeItem widget) {
+		super.setWidget(widget);
+		if (widget != null) {
+			widget.addDisposeListener(event -> disposeImage());
+		}
+	}
+
+	/**
+	 * Disposes {@link Image} created for current {@link TreeItem}.
+	 */
+	private void disposeImage() {
+		if (m_image != null) {
+			m_image.dispose();
+			m_image = null;
+			m_imageDescriptor = null;
+		}
+	}
 
 	@Override
 	protected final void refreshVisuals() {
 		m_updateRequired = true;
 	}
 
-	private void update() {
-		if (m_updateRequired) {
+	/**
+	 * Updates presentation if it was marked as changed, or model was refreshed since last update.
+	 *
+	 * @param generation
+	 *          the number of model refreshes, counted by root {@link ObjectEditPart}.
+	 */
+	private void update(int generation) {
+		if (m_updateRequired || m_updateGeneration != generation) {
 			m_updateRequired = false;
+			m_updateGeneration = generation;
 			ExecutionUtils.runLogUI(this::update0);
 		}
 	}
@@ -175,10 +296,12 @@ public class ObjectEditPart extends DesignTreeEditPart {
 	private void update0() {
 		ImageDescriptor imageDescriptor = ObjectInfo.getImageDescriptor(m_object);
 		String text = ObjectInfo.getText(m_object);
-		if (imageDescriptor != null) {
+		if (imageDescriptor != null && !imageDescriptor.equals(m_imageDescriptor)) {
 			Image image = imageDescriptor.createImage();
-			getWidget().addDisposeListener(event -> image.dispose());
 			getWidget().setImage(image);
+			disposeImage();
+			m_image = image;
+			m_imageDescriptor = imageDescriptor;
 		}
 		//Obtain the preference specifying the root object name. If no name is specified then the default is used
 		String rootObjectName =
@@ -445,6 +445,14 @@ public abstract class ObjectInfo implements IObjectInfo {
 		}
 	}
 
+	/**
+	 * @return <code>true</code> if edit sequence started by {@link #startEdit()} is not finished yet,
+	 *         so {@link #refresh()} will be performed later.
+	 */
+	public final boolean isEditing() {
+		return getRoot().m_editDepth != 0;
+	}
+
 	/**
 	 * Fires {@link ObjectEventListener#endEdit_aboutToRefresh()} listener, wraps it in "fake" edit
 	 * operation to avoid possible double {@link #refresh()}.
@@ -466,6 +474,16 @@ public abstract class ObjectInfo implements IObjectInfo {
 	// Refresh
 	//
 	////////////////////////////////////////////////////////////////////////////
+	private int m_refreshCount;
+
+	/**
+	 * @return the counter of {@link #refresh()} steps in hierarchy of this {@link ObjectInfo}, so can
+	 *         be used to check if values, cached from model objects, may be still used.
+	 */
+	public final int getRefreshCount() {
+		return getRoot().m_refreshCount;
+	}
+
 	/**
 	 * Refreshes tree of model objects.
 	 *
@@ -479,10 +497,14 @@ public abstract class ObjectInfo implements IObjectInfo {
 		// do refresh
 		execRefreshOperation(() -> ExecutionUtils.runDesignTime(() -> refreshCreate0()));
 		// split fetch operations into separate parts
-		execRefreshOperation(() -> ExecutionUtils.runDesignTime(() -> {
-			refresh_fetch();
-			refresh_finish();
-		}));
+		try {
+			execRefreshOperation(() -> ExecutionUtils.runDesignTime(() -> {
+				refresh_fetch();
+				refresh_finish();
+			}));
+		} finally {
+			m_refreshCount++;
+		}
 		// send notifications
 		if (getArbitraryValue(KEY_NO_REFRESHED_BROADCAST) != Boolean.FALSE) {
 			getBroadcastObject().refreshed();
@@ -512,6 +534,7 @@ public abstract class ObjectInfo implements IObjectInfo {
 	 * Performs "create" steps.
 	 */
 	private void refreshCreate0() throws Exception {
+		m_refreshCount++;
 		refresh_dispose();
 		try {
 			refresh_beforeCreate();
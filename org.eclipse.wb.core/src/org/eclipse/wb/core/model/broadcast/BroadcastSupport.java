@@ -47,6 +47,10 @@ public final class BroadcastSupport {
 	 * {@link Map} for "listener target" -> "listener implementations".
 	 */
 	private final Map<ObjectInfo, List<Object>> m_targetToListeners = new HashMap<>();
+	/**
+	 * Counter of changes in listeners.
+	 */
+	private int m_modificationCount;
 
 	////////////////////////////////////////////////////////////////////////////
 	//
@@ -57,6 +61,7 @@ public final class BroadcastSupport {
 	 * Adds new listener with superclass.
 	 */
 	public void addListener(ObjectInfo target, Object listenerImpl) {
+		m_modificationCount++;
 		Class<?> listenerClass = getListenerClass(listenerImpl);
 		addListener(getClassListeners(listenerClass), listenerImpl);
 		if (target != null) {
@@ -68,6 +73,7 @@ public final class BroadcastSupport {
 	 * Removes listener with superclass.
 	 */
 	public void removeListener(ObjectInfo target, Object listenerImpl) {
+		m_modificationCount++;
 		Class<?> listenerClass = getListenerClass(listenerImpl);
 		getClassListeners(listenerClass).remove(listenerImpl);
 		if (target != null) {
@@ -75,12 +81,21 @@ public final class BroadcastSupport {
 		}
 	}
 
+	/**
+	 * @return the counter of changes in listeners, so can be used to check if cached results of
+	 *         broadcast may be still used.
+	 */
+	public int getModificationCount() {
+		return m_modificationCount;
+	}
+
 	/**
 	 * Moves listeners from one target to another.
 	 *
 	 * @noreference
 	 */
 	public void targetListener(ObjectInfo oldTarget, ObjectInfo newTarget) {
+		m_modificationCount++;
 		List<?> listeners = m_targetToListeners.remove(oldTarget);
 		if (listeners != null) {
 			getTargetListeners(newTarget).addAll(listeners);
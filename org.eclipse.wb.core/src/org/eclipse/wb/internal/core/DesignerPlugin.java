@@ -15,6 +15,7 @@ package org.eclipse.wb.internal.core;
 import org.eclipse.wb.internal.core.preferences.IPreferenceConstants;
 import org.eclipse.wb.internal.core.preferences.PreferenceToSystemForwarder;
 import org.eclipse.wb.internal.core.utils.product.ProductInfo;
+import org.eclipse.wb.internal.core.utils.reflect.ClassLoaderLocalMap;
 import org.eclipse.wb.os.OSSupport;
 
 import org.eclipse.core.runtime.ILog;
@@ -67,6 +68,7 @@ public class DesignerPlugin extends AbstractUIPlugin {
 		super.start(context);
 		m_plugin = this;
 		BundleResourceProvider.configureCleanUp(context);
+		ClassLoaderLocalMap.configureCleanUp(context);
 		addLogListener();
 		if (EnvironmentUtils.IS_LINUX) {
 			installPreferenceForwarder();
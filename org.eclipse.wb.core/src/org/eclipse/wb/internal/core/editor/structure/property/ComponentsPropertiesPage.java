@@ -27,6 +27,7 @@ import org.eclipse.wb.internal.core.editor.structure.IPage;
 import org.eclipse.wb.internal.core.model.ObjectReferenceInfo;
 import org.eclipse.wb.internal.core.model.property.Property;
 import org.eclipse.wb.internal.core.model.property.PropertyManager;
+import org.eclipse.wb.internal.core.model.property.PropertyValueCounters;
 import org.eclipse.wb.internal.core.model.property.category.PropertyCategory;
 import org.eclipse.wb.internal.core.model.property.category.PropertyCategoryProvider;
 import org.eclipse.wb.internal.core.model.property.category.PropertyCategoryProviders;
@@ -35,6 +36,7 @@ import org.eclipse.wb.internal.core.model.property.table.IPropertyExceptionHandl
 import org.eclipse.wb.internal.core.model.property.table.PropertyTable;
 import org.eclipse.wb.internal.core.model.property.table.editparts.PropertyEditPart;
 import org.eclipse.wb.internal.core.model.util.PropertyUtils;
+import org.eclipse.wb.internal.core.utils.Debug;
 import org.eclipse.wb.internal.core.utils.execution.ExecutionUtils;
 import org.eclipse.wb.internal.core.utils.external.ExternalFactoriesHelper;
 
@@ -302,12 +304,12 @@ public final class ComponentsPropertiesPage implements IPage {
 			m_rootObject.addBroadcastListener(new ObjectEventListener() {
 				@Override
 				public void refreshed() throws Exception {
-					refreshProperties();
+					scheduleRefreshProperties();
 				}
 
 				@Override
 				public void presentationChanged() throws Exception {
-					refreshProperties();
+					scheduleRefreshProperties();
 				}
 			});
 			deactivatePropertyEditor_whenDelete();
@@ -510,10 +512,35 @@ public final class ComponentsPropertiesPage implements IPage {
 	// Internal
 	//
 	////////////////////////////////////////////////////////////////////////////
+	private boolean m_refreshScheduled;
+	private boolean m_refreshPending;
+
+	/**
+	 * Shows {@link Property}'s of current objects in response to model event. First event is
+	 * processed immediately, but all other events in same UI turn are coalesced into single refresh,
+	 * performed at the end of this turn.
+	 */
+	private void scheduleRefreshProperties() {
+		if (m_refreshScheduled) {
+			m_refreshPending = true;
+			return;
+		}
+		m_refreshScheduled = true;
+		refreshProperties();
+		m_container.getDisplay().asyncExec(() -> {
+			m_refreshScheduled = false;
+			if (m_refreshPending && !m_container.isDisposed()) {
+				refreshProperties();
+			}
+		});
+	}
+
 	/**
 	 * Shows {@link Property}'s of current objects.
 	 */
 	private void refreshProperties() {
+		m_refreshPending = false;
+		PropertyValueCounters.reset();
 		ExecutionUtils.runLog(() -> {
 			if (m_showEvents) {
 				showEvents();
@@ -523,6 +550,11 @@ public final class ComponentsPropertiesPage implements IPage {
 			// update actions
 			updateActions();
 		});
+		Debug.println("Properties refresh, values: "
+				+ PropertyValueCounters.getRequestCount()
+				+ " requested, "
+				+ PropertyValueCounters.getComputeCount()
+				+ " computed");
 	}
 
 	/**
@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2026 WindowBuilder contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wb.internal.core.model.property;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters of {@link Property} value requests since last refresh of properties page, to see how
+ * many getter invocations each refresh performs.
+ *
+ * @coverage core.model.property
+ */
+public final class PropertyValueCounters {
+	private static final AtomicLong m_requestCount = new AtomicLong();
+	private static final AtomicLong m_computeCount = new AtomicLong();
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Constructor
+	//
+	////////////////////////////////////////////////////////////////////////////
+	private PropertyValueCounters() {
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Access
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Resets counters, invoked when properties page is refreshed.
+	 */
+	public static void reset() {
+		m_requestCount.set(0);
+		m_computeCount.set(0);
+	}
+
+	/**
+	 * Notifies that value was requested.
+	 */
+	public static void valueRequested() {
+		m_requestCount.incrementAndGet();
+	}
+
+	/**
+	 * Notifies that value was requested and computed, i.e. getter was invoked.
+	 */
+	public static void valueComputed() {
+		m_computeCount.incrementAndGet();
+	}
+
+	/**
+	 * @return the number of value requests since last {@link #reset()}.
+	 */
+	public static long getRequestCount() {
+		return m_requestCount.get();
+	}
+
+	/**
+	 * @return the number of value requests since last {@link #reset()} that computed value.
+	 */
+	public static long getComputeCount() {
+		return m_computeCount.get();
+	}
+}
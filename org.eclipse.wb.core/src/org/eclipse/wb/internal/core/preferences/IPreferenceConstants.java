@@ -45,6 +45,11 @@ public interface IPreferenceConstants {
 	 * the version of Designer.
 	 */
 	String P_COMMON_SHOW_VERSION_WARNING = "common.showVersionWarning";
+	/**
+	 * When <code>true</code>, classes from library jars of project classpath are loaded once and
+	 * shared between parses and editors, until jar is changed.
+	 */
+	String P_COMMON_SHARE_LIBRARY_CLASSES = "common.shareLibraryClasses";
 	/**
 	 * Linux only. Troubleshooting option. When enabled, all of the flickering prevention tricks we do
 	 * would be disabled.
@@ -34,6 +34,7 @@ IPreferenceConstants {
 		preferences.setDefault(P_COMMON_ACCEPT_NON_VISUAL_BEANS, true);
 		preferences.setDefault(P_COMMON_SHOW_DEBUG_INFO, false);
 		preferences.setDefault(P_COMMON_SHOW_VERSION_WARNING, false);
+		preferences.setDefault(P_COMMON_SHARE_LIBRARY_CLASSES, false);
 		// linux only
 		preferences.setDefault(P_COMMON_LINUX_DISABLE_SCREENSHOT_WORKAROUNDS, false);
 		// editor layout
@@ -43,6 +43,18 @@ public final class BundleClassLoader extends ClassLoader {
 		m_bundle = bundle;
 	}
 
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Access
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @return the {@link Bundle} to load classes from.
+	 */
+	public Bundle getBundle() {
+		return m_bundle;
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// ClassLoader
@@ -12,22 +12,48 @@
  *******************************************************************************/
 package org.eclipse.wb.internal.core.utils.reflect;
 
+import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.BundleEvent;
+import org.osgi.framework.BundleReference;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Helper for setting properties for {@link ClassLoader}.
  * <p>
  * http://java.dzone.com/articles/classloaderlocal-how-avoid
+ * <p>
+ * Properties of each {@link ClassLoader} are kept in separate concurrent map, and
+ * {@link ClassLoader}'s are weakly referenced, so there is no global lock. When {@link ClassLoader}
+ * of editor is deinitialized, only properties of this {@link ClassLoader} (and its children
+ * {@link ClassLoader}'s) are removed.
+ * <p>
+ * Values often reference {@link Class}'es of same {@link ClassLoader}, so it is not garbage
+ * collected while properties are kept. So properties of shared {@link ClassLoader}'s are removed
+ * explicitly: when library {@link ClassLoader} is closed, or when {@link Bundle} is unresolved. When
+ * last editor {@link ClassLoader} is deinitialized, all properties are removed, including ones of
+ * <code>null</code>, {@link Bundle} and JDK {@link ClassLoader}'s.
  *
  * @author Jevgeni Kabanov
  * @author scheglov_ke
  * @coverage core.util
  */
 public class ClassLoaderLocalMap {
-	private static final Object NULL_OBJECT = new Object();
-	private static final Map<Object, Map<Object, Object>> globalMap = Collections.synchronizedMap(new WeakHashMap<>());
+	private static final Object NULL_VALUE = new Object();
+	private static final ConcurrentMap<Object, Object> nullLoaderMap = new ConcurrentHashMap<>();
+	private static final ConcurrentMap<LoaderKey, ConcurrentMap<Object, Object>> globalMap =
+			new ConcurrentHashMap<>();
+	private static final ReferenceQueue<ClassLoader> queue = new ReferenceQueue<>();
 
 	////////////////////////////////////////////////////////////////////////////
 	//
@@ -35,29 +61,117 @@ public class ClassLoaderLocalMap {
 	//
 	////////////////////////////////////////////////////////////////////////////
 	public static boolean containsKey(ClassLoader cl, Object key) {
-		synchronized (NULL_OBJECT) {
-			return getLocalMap(cl).containsKey(key);
-		}
+		Map<Object, Object> localMap = getLocalMap(cl, false);
+		return localMap != null && localMap.containsKey(key);
 	}
 
 	public static void put(ClassLoader cl, Object key, Object value) {
-		synchronized (NULL_OBJECT) {
-			getLocalMap(cl).put(key, value);
-		}
+		getLocalMap(cl, true).put(key, value != null ? value : NULL_VALUE);
 	}
 
 	public static Object get(ClassLoader cl, Object key) {
-		synchronized (NULL_OBJECT) {
-			return getLocalMap(cl).get(key);
+		Map<Object, Object> localMap = getLocalMap(cl, false);
+		if (localMap == null) {
+			return null;
+		}
+		Object value = localMap.get(key);
+		return value != NULL_VALUE ? value : null;
+	}
+
+	/**
+	 * Removes all properties of given {@link ClassLoader}.
+	 */
+	public static void clear(ClassLoader cl) {
+		if (cl == null) {
+			nullLoaderMap.clear();
+		} else {
+			globalMap.remove(new LoaderKey(cl, null));
+		}
+	}
+
+	/**
+	 * Removes all properties of {@link ClassLoader}'s of given {@link Bundle}.
+	 */
+	public static void clear(Bundle bundle) {
+		globalMap.keySet().removeIf(
+				key -> key.get() instanceof BundleReference reference && reference.getBundle() == bundle);
+		expungeStaleEntries();
+	}
+
+	/**
+	 * Configures removing properties of {@link Bundle} {@link ClassLoader}'s when {@link Bundle} is
+	 * unresolved, i.e. updated or uninstalled, so its {@link ClassLoader} is not used anymore.
+	 */
+	public static void configureCleanUp(BundleContext context) {
+		context.addBundleListener(event -> {
+			if (event.getType() == BundleEvent.UNRESOLVED) {
+				clear(event.getBundle());
+			}
+		});
+	}
+
+	/**
+	 * @return the number of {@link ClassLoader}'s with properties, for tests.
+	 */
+	public static int getLoadersCount() {
+		expungeStaleEntries();
+		return globalMap.size();
+	}
+
+	private static ConcurrentMap<Object, Object> getLocalMap(ClassLoader cl, boolean create) {
+		if (cl == null) {
+			return nullLoaderMap;
+		}
+		ConcurrentMap<Object, Object> localMap = globalMap.get(new LoaderKey(cl, null));
+		if (localMap == null && create) {
+			expungeStaleEntries();
+			localMap = globalMap.computeIfAbsent(new LoaderKey(cl, queue), k -> new ConcurrentHashMap<>());
 		}
+		return localMap;
 	}
 
-	private static Map<Object, Object> getLocalMap(ClassLoader key) {
-		Object gkey = key;
-		if (gkey == null) {
-			gkey = NULL_OBJECT;
+	/**
+	 * Removes properties of {@link ClassLoader}'s that were garbage collected.
+	 */
+	private static void expungeStaleEntries() {
+		Reference<? extends ClassLoader> reference;
+		while ((reference = queue.poll()) != null) {
+			globalMap.remove(reference);
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// LoaderKey
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Weak identity key for {@link ClassLoader}.
+	 */
+	private static final class LoaderKey extends WeakReference<ClassLoader> {
+		private final int m_hashCode;
+
+		LoaderKey(ClassLoader classLoader, ReferenceQueue<ClassLoader> queue) {
+			super(classLoader, queue);
+			m_hashCode = System.identityHashCode(classLoader);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj == this) {
+				return true;
+			}
+			if (obj instanceof LoaderKey key) {
+				ClassLoader classLoader = get();
+				return classLoader != null && classLoader == key.get();
+			}
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return m_hashCode;
 		}
-		return globalMap.computeIfAbsent(gkey, ignore -> new WeakHashMap<>());
 	}
 
 	////////////////////////////////////////////////////////////////////////////
@@ -66,14 +180,55 @@ public class ClassLoaderLocalMap {
 	//
 	////////////////////////////////////////////////////////////////////////////
 	public static class ClassLoaderLocalMapManager implements IClassLoaderInitializer {
+		/**
+		 * Initialized editor {@link ClassLoader}'s, weak in case if some of them is not deinitialized.
+		 */
+		private static final Set<ClassLoader> m_editorClassLoaders =
+				Collections.newSetFromMap(new WeakHashMap<>());
+
 		@Override
 		public void initialize(ClassLoader classLoader) {
-			// no-op
+			synchronized (m_editorClassLoaders) {
+				m_editorClassLoaders.add(classLoader);
+			}
 		}
 
 		@Override
 		public void deinitialize(ClassLoader classLoader) {
-			globalMap.clear();
+			synchronized (m_editorClassLoaders) {
+				m_editorClassLoaders.remove(classLoader);
+				if (m_editorClassLoaders.isEmpty()) {
+					nullLoaderMap.clear();
+					globalMap.clear();
+					expungeStaleEntries();
+					return;
+				}
+			}
+			Set<ClassLoader> classLoaders = Collections.newSetFromMap(new IdentityHashMap<>());
+			collectEditorClassLoaders(classLoaders, classLoader);
+			for (ClassLoader editorClassLoader : classLoaders) {
+				clear(editorClassLoader);
+			}
+			expungeStaleEntries();
+		}
+
+		/**
+		 * Collects given {@link ClassLoader} and {@link ClassLoader}'s that it is composed of. Does not
+		 * go into parents of non-composite {@link ClassLoader}'s, so shared loaders (bundles, libraries)
+		 * are not affected.
+		 */
+		private static void collectEditorClassLoaders(Set<ClassLoader> classLoaders,
+				ClassLoader classLoader) {
+			if (classLoader == null || !classLoaders.add(classLoader)) {
+				return;
+			}
+			if (classLoader instanceof CompositeClassLoader compositeClassLoader) {
+				for (ClassLoader child : compositeClassLoader.getClassLoaders()) {
+					collectEditorClassLoaders(classLoaders, child);
+				}
+			} else if (classLoader.getParent() instanceof CompositeClassLoader) {
+				collectEditorClassLoaders(classLoaders, classLoader.getParent());
+			}
 		}
 	}
 }
@@ -52,6 +52,22 @@ public class CompositeClassLoader extends ClassLoader {
 		return m_classLoaders;
 	}
 
+	/**
+	 * @return the {@link List} of class namespaces for each {@link ClassLoader} from
+	 *         {@link #getClassLoaders()}, element may be <code>null</code>.
+	 */
+	public List<List<String>> getClassNamespaces() {
+		return m_classNamespaces;
+	}
+
+	/**
+	 * @return the {@link List} of resource namespaces for each {@link ClassLoader} from
+	 *         {@link #getClassLoaders()}, element may be <code>null</code>.
+	 */
+	public List<List<String>> getResourceNamespaces() {
+		return m_resourceNamespaces;
+	}
+
 	/**
 	 * Adds new {@link BundleClassLoader} into composition. The classloader is
 	 * created using the given {@link Bundle}. The namespace includes all of the
@@ -0,0 +1,411 @@
+/*******************************************************************************
+ * Copyright (c) 2026 WindowBuilder contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    WindowBuilder contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.wb.internal.core.utils.ui;
+
+import org.eclipse.wb.internal.core.DesignerPlugin;
+import org.eclipse.wb.internal.core.utils.Debug;
+import org.eclipse.wb.internal.core.utils.execution.ExecutionUtils;
+import org.eclipse.wb.internal.core.utils.execution.RunnableEx;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.graphics.Resource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Accounting of native graphics {@link Resource}'s, such as screenshots of components, "live"
+ * images and icons, by owner and creation site.
+ * <p>
+ * Each {@link Resource} is counted as one handle, {@link Image} also by its size in bytes, 4 bytes
+ * per pixel. Usually owner is editor, global caches are tracked by {@link #GLOBAL}. When owner is
+ * disposed, {@link Resource}'s which are still tracked are reported as leaks and disposed.
+ * <p>
+ * When total of all alive owners crosses budget, registered evictors are asked once to release
+ * cached {@link Resource}'s. Owners which were garbage collected without disposing are not counted.
+ * Budget is configured using system properties <code>wbp.resources.maxHandles</code> and
+ * <code>wbp.resources.maxBytes</code>. Leaks are logged when <code>wbp.resources.logLeaks</code>
+ * is <code>true</code>, else printed only on developers host.
+ * <p>
+ * Should be used in UI thread.
+ *
+ * @coverage core.ui
+ */
+public final class ResourceTracker {
+	/**
+	 * Tracker for {@link Resource}'s of global caches, which are not owned by any editor.
+	 */
+	public static final ResourceTracker GLOBAL = new ResourceTracker("Global");
+	private static final Set<ResourceTracker> m_trackers =
+			Collections.newSetFromMap(new WeakHashMap<>());
+	private static final List<RunnableEx> m_evictors = new CopyOnWriteArrayList<>();
+	private static int m_maxHandles = Integer.getInteger("wbp.resources.maxHandles", 10000);
+	private static long m_maxBytes = Long.getLong("wbp.resources.maxBytes", 512L * 1024 * 1024);
+	private static boolean m_overBudget;
+	private static boolean m_budgetReported;
+	private final String m_name;
+	private final Map<Resource, Entry> m_entries = new IdentityHashMap<>();
+	private int m_handles;
+	private long m_bytes;
+	private int m_leakedHandles;
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Constructor
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @param name
+	 *          the name of owner, for reports.
+	 */
+	public ResourceTracker(String name) {
+		m_name = name;
+		m_trackers.add(this);
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Tracking
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Starts tracking of given {@link Resource}, created by caller of this method.
+	 *
+	 * @return the given {@link Resource}, may be <code>null</code>.
+	 */
+	public <T extends Resource> T add(T resource) {
+		return add(resource, getCallerSite(1));
+	}
+
+	/**
+	 * Starts tracking of given {@link Resource}, created in given site.
+	 *
+	 * @return the given {@link Resource}, may be <code>null</code>.
+	 */
+	public <T extends Resource> T add(T resource, String site) {
+		if (resource != null && !resource.isDisposed() && !m_entries.containsKey(resource)) {
+			Entry entry = new Entry(site, getBytes(resource));
+			m_entries.put(resource, entry);
+			updateTotals(1, entry.m_bytes);
+			checkBudget();
+		}
+		return resource;
+	}
+
+	/**
+	 * Stops tracking of given {@link Resource}, for example because it is disposed or now owned by
+	 * other tracker.
+	 */
+	public void remove(Resource resource) {
+		if (resource != null) {
+			Entry entry = m_entries.remove(resource);
+			if (entry != null) {
+				updateTotals(-1, -entry.m_bytes);
+			}
+		}
+	}
+
+	/**
+	 * Stops tracking of given {@link Resource} and disposes it.
+	 */
+	public void dispose(Resource resource) {
+		if (resource != null) {
+			remove(resource);
+			if (!resource.isDisposed()) {
+				resource.dispose();
+			}
+		}
+	}
+
+	/**
+	 * Moves all tracked {@link Resource}'s into given {@link ResourceTracker}.
+	 */
+	public void transferTo(ResourceTracker target) {
+		for (Resource resource : new ArrayList<>(m_entries.keySet())) {
+			Entry entry = m_entries.get(resource);
+			remove(resource);
+			if (!target.m_entries.containsKey(resource)) {
+				target.m_entries.put(resource, entry);
+				target.updateTotals(1, entry.m_bytes);
+			}
+		}
+	}
+
+	/**
+	 * Disposes owner, so reports still tracked {@link Resource}'s as leaks and disposes them.
+	 *
+	 * @return the number of leaked handles.
+	 */
+	public int dispose() {
+		pruneDisposed();
+		m_leakedHandles = m_handles;
+		if (m_leakedHandles != 0) {
+			reportLeaks();
+			for (Resource resource : new ArrayList<>(m_entries.keySet())) {
+				dispose(resource);
+			}
+		}
+		m_trackers.remove(this);
+		return m_leakedHandles;
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Access
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @return the number of tracked not disposed {@link Resource}'s.
+	 */
+	public int getHandles() {
+		pruneDisposed();
+		return m_handles;
+	}
+
+	/**
+	 * @return the size of tracked not disposed {@link Image}'s, in bytes.
+	 */
+	public long getBytes() {
+		pruneDisposed();
+		return m_bytes;
+	}
+
+	/**
+	 * @return the number of handles reported as leaks during {@link #dispose()}.
+	 */
+	public int getLeakedHandles() {
+		return m_leakedHandles;
+	}
+
+	/**
+	 * @return the text with totals of this tracker and usage by creation sites, most expensive
+	 *         first.
+	 */
+	public String getReport() {
+		pruneDisposed();
+		Map<String, long[]> sites = new TreeMap<>();
+		for (Entry entry : m_entries.values()) {
+			long[] usage = sites.computeIfAbsent(entry.m_site, key -> new long[2]);
+			usage[0]++;
+			usage[1] += entry.m_bytes;
+		}
+		List<Map.Entry<String, long[]>> sortedSites = new ArrayList<>(sites.entrySet());
+		sortedSites.sort((o1, o2) -> Long.compare(o2.getValue()[1], o1.getValue()[1]));
+		StringBuilder sb = new StringBuilder();
+		sb.append(m_name).append(": ").append(format(m_handles, m_bytes));
+		for (Map.Entry<String, long[]> site : sortedSites) {
+			long[] usage = site.getValue();
+			sb.append("\n\t").append(site.getKey()).append(": ").append(format(usage[0], usage[1]));
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * @return the text with reports of all trackers.
+	 */
+	public static String getTotalReport() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("Total: ").append(format(getTotalHandles(), getTotalBytes()));
+		for (ResourceTracker tracker : new ArrayList<>(m_trackers)) {
+			sb.append('\n').append(tracker.getReport());
+		}
+		return sb.toString();
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Budget
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Adds evictor which releases cached {@link Resource}'s when budget is exceeded.
+	 */
+	public static void addEvictor(RunnableEx evictor) {
+		m_evictors.add(evictor);
+	}
+
+	/**
+	 * Removes evictor added using {@link #addEvictor(RunnableEx)}.
+	 */
+	public static void removeEvictor(RunnableEx evictor) {
+		m_evictors.remove(evictor);
+	}
+
+	/**
+	 * Sets the budget, in number of handles and bytes.
+	 */
+	public static void setBudget(int maxHandles, long maxBytes) {
+		m_maxHandles = maxHandles;
+		m_maxBytes = maxBytes;
+	}
+
+	/**
+	 * @return the maximum total number of handles.
+	 */
+	public static int getMaxHandles() {
+		return m_maxHandles;
+	}
+
+	/**
+	 * @return the maximum total size of {@link Image}'s, in bytes.
+	 */
+	public static long getMaxBytes() {
+		return m_maxBytes;
+	}
+
+	/**
+	 * @return the total number of tracked {@link Resource}'s in all alive trackers.
+	 */
+	public static int getTotalHandles() {
+		int handles = 0;
+		for (ResourceTracker tracker : new ArrayList<>(m_trackers)) {
+			handles += tracker.m_handles;
+		}
+		return handles;
+	}
+
+	/**
+	 * @return the total size of tracked {@link Image}'s in all alive trackers, in bytes.
+	 */
+	public static long getTotalBytes() {
+		long bytes = 0;
+		for (ResourceTracker tracker : new ArrayList<>(m_trackers)) {
+			bytes += tracker.m_bytes;
+		}
+		return bytes;
+	}
+
+	/**
+	 * Enforces budget when total crosses it. Evictors are not run again until total drops back
+	 * under budget, because not evictable {@link Resource}'s, such as screenshots of open editors,
+	 * may keep total over budget for long time.
+	 */
+	private static void checkBudget() {
+		boolean overBudget = isOverBudget();
+		if (overBudget && !m_overBudget) {
+			m_overBudget = true;
+			enforceBudget();
+		} else if (!overBudget) {
+			m_overBudget = false;
+		}
+	}
+
+	/**
+	 * Forgets {@link Resource}'s disposed without tracker and, if total is still over budget, runs
+	 * evictors. Reports once if evictors can not release enough.
+	 */
+	private static void enforceBudget() {
+		for (ResourceTracker tracker : new ArrayList<>(m_trackers)) {
+			tracker.pruneDisposed();
+		}
+		if (isOverBudget()) {
+			for (RunnableEx evictor : m_evictors) {
+				ExecutionUtils.runLog(evictor);
+			}
+		}
+		if (isOverBudget() && !m_budgetReported) {
+			m_budgetReported = true;
+			DesignerPlugin.log(new Status(IStatus.WARNING,
+					DesignerPlugin.PLUGIN_ID,
+					"Graphics resources budget exceeded.\n" + getTotalReport()));
+		}
+	}
+
+	private static boolean isOverBudget() {
+		return getTotalHandles() > m_maxHandles || getTotalBytes() > m_maxBytes;
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Utils
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @return the "ClassName.methodName" of caller with given depth, <code>0</code> means caller of
+	 *         this method.
+	 */
+	public static String getCallerSite(int depth) {
+		return StackWalker.getInstance().walk(frames -> frames.skip(depth + 1).findFirst().map(frame -> {
+			String className = frame.getClassName();
+			return className.substring(className.lastIndexOf('.') + 1) + "." + frame.getMethodName();
+		}).orElse("unknown"));
+	}
+
+	private static long getBytes(Resource resource) {
+		if (resource instanceof Image image) {
+			Rectangle bounds = image.getBounds();
+			return 4L * bounds.width * bounds.height;
+		}
+		return 0;
+	}
+
+	private void updateTotals(int handles, long bytes) {
+		m_handles += handles;
+		m_bytes += bytes;
+	}
+
+	/**
+	 * Forgets {@link Resource}'s which were disposed without removing from tracker.
+	 */
+	private void pruneDisposed() {
+		for (Iterator<Map.Entry<Resource, Entry>> I = m_entries.entrySet().iterator(); I.hasNext();) {
+			Map.Entry<Resource, Entry> mapEntry = I.next();
+			if (mapEntry.getKey().isDisposed()) {
+				I.remove();
+				updateTotals(-1, -mapEntry.getValue().m_bytes);
+			}
+		}
+	}
+
+	private void reportLeaks() {
+		String report = "Graphics resources leaked by " + getReport();
+		if (Boolean.getBoolean("wbp.resources.logLeaks")) {
+			DesignerPlugin.log(new Status(IStatus.WARNING, DesignerPlugin.PLUGIN_ID, report));
+		} else {
+			Debug.println(report);
+		}
+	}
+
+	private static String format(long handles, long bytes) {
+		return handles + " handles, " + bytes / 1024 + " KB";
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Entry
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Information about single tracked {@link Resource}.
+	 */
+	private static final class Entry {
+		private final String m_site;
+		private final long m_bytes;
+
+		private Entry(String site, long bytes) {
+			m_site = site;
+			m_bytes = bytes;
+		}
+	}
+}
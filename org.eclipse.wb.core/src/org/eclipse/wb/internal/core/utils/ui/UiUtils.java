@@ -584,7 +584,7 @@ public class UiUtils {
 				ImageData imageData = program.getImageData();
 				if (imageData != null) {
 					icon = new Image(Display.getDefault(), imageData);
-					m_extensionToIcon.put(extension, icon);
+					m_extensionToIcon.put(extension, ResourceTracker.GLOBAL.add(icon));
 				}
 			}
 		}
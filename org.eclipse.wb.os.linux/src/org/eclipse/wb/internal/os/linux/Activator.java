@@ -13,6 +13,7 @@
 package org.eclipse.wb.internal.os.linux;
 
 import org.eclipse.wb.internal.core.utils.reflect.ReflectionUtils;
+import org.eclipse.wb.internal.core.utils.ui.ResourceTracker;
 
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Plugin;
@@ -115,7 +116,7 @@ public class Activator extends AbstractUIPlugin {
 			InputStream is = getFile("icons/" + path);
 			try {
 				image = new Image(Display.getCurrent(), is);
-				m_nameToIconMap.put(path, image);
+				m_nameToIconMap.put(path, ResourceTracker.GLOBAL.add(image));
 			} finally {
 				IOUtils.closeQuietly(is);
 			}
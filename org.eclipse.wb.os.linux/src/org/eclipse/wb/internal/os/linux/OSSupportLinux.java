@@ -20,6 +20,7 @@ import org.eclipse.wb.internal.core.utils.reflect.ReflectionUtils;
 import org.eclipse.wb.internal.core.utils.ui.DrawUtils;
 import org.eclipse.wb.internal.swt.VisualDataMockupProvider;
 import org.eclipse.wb.os.OSSupport;
+import org.eclipse.wb.os.ShotStatistics;
 
 import org.eclipse.draw2d.ColorConstants;
 import org.eclipse.swt.SWT;
@@ -27,15 +28,20 @@ import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Device;
 import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Link;
 import org.eclipse.swt.widgets.Menu;
 import org.eclipse.swt.widgets.MenuItem;
 import org.eclipse.swt.widgets.Shell;
 import org.eclipse.swt.widgets.TabItem;
+import org.eclipse.swt.widgets.Text;
 import org.eclipse.swt.widgets.Tree;
 import org.eclipse.swt.widgets.Widget;
 
@@ -43,11 +49,14 @@ import org.osgi.framework.FrameworkUtil;
 import org.osgi.framework.Version;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.function.BiConsumer;
 
 public abstract class OSSupportLinux extends OSSupport {
@@ -76,6 +85,14 @@ public abstract class OSSupportLinux extends OSSupport {
 	private Map<Long, Control> m_controlsRegistry;
 	private boolean m_eclipseToggledOnTop;
 	private Shell m_eclipseShell;
+	/**
+	 * Images of simple {@link Control}s from previous shot of each hierarchy, keyed by
+	 * {@link #WBP_SHOT_KEY} of root {@link Control} or its {@link Shell}.
+	 */
+	private final Map<Object, Map<String, CachedShot>> m_cachedShots = new WeakHashMap<>();
+	private Set<Control> m_reusedControls = new HashSet<>();
+	private String m_decorationsKey;
+	private ImageData m_decorationsData;
 
 	/**
 	 * Prepares to screen shot: register controls. See {@link #registerControl(Control)} for details.
@@ -187,7 +204,8 @@ public abstract class OSSupportLinux extends OSSupport {
 	@Override
 	public void makeShots(Control control) throws Exception {
 		Shell shell = getShell(control);
-		makeShots0(shell);
+		Object shotKey = control.getData(WBP_SHOT_KEY);
+		makeShots0(shell, shotKey != null ? shotKey : shell);
 		// check for decorations and draw if needed
 		drawDecorations(shell, shell.getDisplay());
 	}
@@ -203,23 +221,193 @@ public abstract class OSSupportLinux extends OSSupport {
 	 *    received image is bound to the control (see {@link #bindImage(Display, Control, int)}).
 	 *    Otherwise, the image is disposed later (because it may be used in drawing).
 	 * </pre>
+	 *
+	 * Simple controls (see {@link #getFingerprint(Control, List)}) that are not changed since
+	 * previous shot of same hierarchy are not captured again, they receive copy of previous image
+	 * instead.
+	 *
+	 * @param shotKey
+	 *          the object that identifies hierarchy between shots.
 	 */
-	private void makeShots0(final Shell shell) throws Exception {
+	private void makeShots0(final Shell shell, Object shotKey) throws Exception {
 		prepareScreenshot(shell);
+		final ShotStatistics statistics = getShotStatistics();
+		Map<String, CachedShot> previousShots = m_cachedShots.getOrDefault(shotKey, Map.of());
+		Map<String, CachedShot> cachedShots = new HashMap<>();
+		Map<Control, String> capturedKeys = new HashMap<>();
+		if (!isPartialScreenshotsDisabled()) {
+			reuseCachedShots(shell, "", previousShots, cachedShots, capturedKeys);
+		}
 		final Set<Image> disposeImages = new HashSet<>();
 		// apply shot magic
-		makeShot(shell, (handle, image) -> {
-			// get the registered control by handle
-			Control imageForControl = m_controlsRegistry.get(handle);
-			if (imageForControl == null || !bindImage(imageForControl, image)) {
-				// this means given image handle used to draw the gtk widget internally
-				disposeImages.add(image);
-			}
-		});
+		try {
+			makeShot(shell, (handle, image) -> {
+				Rectangle bounds = image.getBounds();
+				statistics.captured(bounds.width, bounds.height);
+				// get the registered control by handle
+				Control imageForControl = m_controlsRegistry.get(handle);
+				if (imageForControl == null || !bindImage(imageForControl, image)) {
+					// this means given image handle used to draw the gtk widget internally
+					disposeImages.add(image);
+				}
+			});
+		} finally {
+			m_reusedControls.clear();
+		}
 		// done, dispose image handles needed to draw internally.
 		for (Image image : disposeImages) {
 			image.dispose();
 		}
+		statistics.disposed(disposeImages.size());
+		// remember images of captured simple controls
+		for (Map.Entry<Control, String> entry : capturedKeys.entrySet()) {
+			Image image = (Image) entry.getKey().getData(WBP_IMAGE);
+			if (image != null) {
+				cachedShots.get(entry.getValue()).m_imageData = image.getImageData();
+			} else {
+				cachedShots.remove(entry.getValue());
+			}
+		}
+		m_cachedShots.put(shotKey, cachedShots);
+	}
+
+	/**
+	 * Binds copies of cached images to simple {@link Control}s that are not changed since previous
+	 * shot, these {@link Control}s are skipped during capturing.
+	 *
+	 * @param path
+	 *          the path of {@link Control} in hierarchy, used as key of cached image.
+	 * @param previousShots
+	 *          the images of previous shot of same hierarchy.
+	 * @param cachedShots
+	 *          the cache for next shot, filled with reused and expected images.
+	 * @param capturedKeys
+	 *          filled with {@link Control}s which should be captured, and their keys.
+	 */
+	private void reuseCachedShots(Control control,
+			String path,
+			Map<String, CachedShot> previousShots,
+			Map<String, CachedShot> cachedShots,
+			Map<Control, String> capturedKeys) {
+		if (control instanceof Composite composite) {
+			Control[] children = composite.getChildren();
+			for (int i = 0; i < children.length; i++) {
+				Control child = children[i];
+				String childPath = path + "/" + i + ":" + child.getClass().getName();
+				reuseCachedShots(child, childPath, previousShots, cachedShots, capturedKeys);
+			}
+			return;
+		}
+		if (control.getData(WBP_NEED_IMAGE) == null) {
+			return;
+		}
+		List<Image> images = new ArrayList<>();
+		String fingerprint = getFingerprint(control, images);
+		if (fingerprint == null) {
+			return;
+		}
+		CachedShot cachedShot = previousShots.get(path);
+		if (cachedShot != null && cachedShot.matches(fingerprint, images)) {
+			ImageData imageData = cachedShot.m_imageData;
+			control.setData(WBP_IMAGE, new Image(control.getDisplay(), imageData));
+			m_reusedControls.add(control);
+			cachedShots.put(path, cachedShot);
+			getShotStatistics().reused(imageData.width, imageData.height);
+		} else {
+			cachedShots.put(path, new CachedShot(fingerprint, images));
+			capturedKeys.put(control, path);
+		}
+	}
+
+	/**
+	 * @param images
+	 *          filled with {@link Image}s used by given {@link Control}, they are compared by
+	 *          identity, because handles of disposed {@link Image}s may be reused.
+	 *
+	 * @return the {@link String} with everything else that affects the image of simple
+	 *         {@link Control}, or <code>null</code> if given {@link Control} is not simple, so its
+	 *         image can not be reused. Only standard leaf controls with known state are simple.
+	 */
+	private static String getFingerprint(Control control, List<Image> images) {
+		Class<?> clazz = control.getClass();
+		if (clazz != Label.class && clazz != Button.class && clazz != Text.class && clazz != Link.class) {
+			return null;
+		}
+		Rectangle bounds = control.getBounds();
+		if (bounds.width == 0 || bounds.height == 0) {
+			return null;
+		}
+		Composite parent = control.getParent();
+		Point location = control.getShell().toControl(control.toDisplay(0, 0));
+		StringBuilder sb = new StringBuilder();
+		sb.append(clazz.getName()).append(control.getStyle()).append(control.getOrientation());
+		sb.append(bounds).append(location).append(control.isEnabled());
+		sb.append(Arrays.toString(control.getFont().getFontData()));
+		sb.append(control.getForeground().getRGB()).append(control.getBackground().getRGB());
+		sb.append(getImageKey(control.getBackgroundImage(), images));
+		sb.append(parent.getBackground().getRGB()).append(parent.getBackgroundMode());
+		sb.append(getImageKey(parent.getBackgroundImage(), images));
+		// state of specific control
+		if (control instanceof Label label) {
+			sb.append(getImageKey(label.getImage(), images)).append(label.getAlignment());
+			sb.append('|').append(label.getText());
+		} else if (control instanceof Button button) {
+			sb.append(getImageKey(button.getImage(), images)).append(button.getAlignment());
+			sb.append(button.getSelection()).append(button.getGrayed());
+			sb.append('|').append(button.getText());
+		} else if (control instanceof Text text) {
+			sb.append(text.getEditable()).append(text.getEchoChar());
+			sb.append('|').append(text.getMessage());
+			sb.append('|').append(text.getText());
+		} else if (control instanceof Link link) {
+			sb.append('|').append(link.getText());
+		}
+		return sb.toString();
+	}
+
+	private static String getImageKey(Image image, List<Image> images) {
+		if (image == null) {
+			return "null";
+		}
+		images.add(image);
+		return "image" + image.getBounds();
+	}
+
+	/**
+	 * @return <code>true</code> if all controls should be captured on every shot.
+	 */
+	private static boolean isPartialScreenshotsDisabled() {
+		return Boolean.parseBoolean(System.getProperty("__wbp.linux.disablePartialScreenshots"));
+	}
+
+	/**
+	 * Image of simple {@link Control} from previous shot.
+	 */
+	private static final class CachedShot {
+		private final String m_fingerprint;
+		private final Image[] m_images;
+		private ImageData m_imageData;
+
+		private CachedShot(String fingerprint, List<Image> images) {
+			m_fingerprint = fingerprint;
+			m_images = images.toArray(new Image[images.size()]);
+		}
+
+		/**
+		 * @return <code>true</code> if {@link Control} with given fingerprint and same {@link Image}s
+		 *         has same image as this shot.
+		 */
+		private boolean matches(String fingerprint, List<Image> images) {
+			if (!m_fingerprint.equals(fingerprint) || m_images.length != images.size()) {
+				return false;
+			}
+			for (int i = 0; i < m_images.length; i++) {
+				if (m_images[i] != images.get(i)) {
+					return false;
+				}
+			}
+			return true;
+		}
 	}
 
 	/**
@@ -239,54 +427,9 @@ public abstract class OSSupportLinux extends OSSupport {
 				offset.y -= getWidgetBounds(shell.getMenuBar()).height;
 			}
 			// draw
-			Image decoratedShellImage = new Image(display, shellBounds);
+			ImageData decorationsData = getDecorationsData(display, shellBounds, imageBounds, offset);
+			Image decoratedShellImage = new Image(display, decorationsData);
 			GC gc = new GC(decoratedShellImage);
-			// draw background
-			gc.setBackground(ColorConstants.titleBackground);
-			gc.fillRectangle(0, 0, shellBounds.width, shellBounds.height);
-			// title area gradient
-			gc.setForeground(ColorConstants.titleGradient);
-			gc.fillGradientRectangle(0, 0, shellBounds.width, offset.y, true);
-			int buttonGapX = offset.x - 1;
-			int nextPositionX;
-			// buttons and title
-			{
-				// menu button
-				Image buttonImage = Activator.getImage("decorations/button-menu-icon.png");
-				Rectangle buttonImageBounds = buttonImage.getBounds();
-				int buttonOffsetY = offset.y / 2 - buttonImageBounds.height / 2;
-				gc.drawImage(buttonImage, buttonGapX, buttonOffsetY);
-				nextPositionX = buttonGapX + buttonImageBounds.width + buttonGapX;
-			}
-			{
-				// close button
-				Image buttonImage = Activator.getImage("decorations/button-close-icon.png");
-				Rectangle buttonImageBounds = buttonImage.getBounds();
-				nextPositionX = shellBounds.width - buttonImageBounds.width - buttonGapX;
-				int buttonOffsetY = offset.y / 2 - buttonImageBounds.height / 2;
-				gc.drawImage(buttonImage, nextPositionX, buttonOffsetY);
-				nextPositionX -= buttonGapX + buttonImageBounds.width;
-			}
-			{
-				// maximize button
-				Image buttonImage = Activator.getImage("decorations/button-max-icon.png");
-				Rectangle buttonImageBounds = buttonImage.getBounds();
-				int buttonOffsetY = offset.y / 2 - buttonImageBounds.height / 2;
-				gc.drawImage(buttonImage, nextPositionX, buttonOffsetY);
-				nextPositionX -= buttonGapX + buttonImageBounds.width;
-			}
-			{
-				// minimize button
-				Image buttonImage = Activator.getImage("decorations/button-min-icon.png");
-				Rectangle buttonImageBounds = buttonImage.getBounds();
-				int buttonOffsetY = offset.y / 2 - buttonImageBounds.height / 2;
-				gc.drawImage(buttonImage, nextPositionX, buttonOffsetY);
-			}
-			// outline
-			gc.setForeground(TITLE_BORDER_COLOR_DARKEST);
-			gc.drawRectangle(offset.x - 1, offset.y - 1, imageBounds.width + 1, imageBounds.height + 1);
-			gc.setForeground(TITLE_BORDER_COLOR_DARKER);
-			gc.drawRectangle(offset.x - 2, offset.y - 2, imageBounds.width + 3, imageBounds.height + 3);
 			// shell screen shot
 			gc.drawImage(shellImage, offset.x, offset.y);
 			// done
@@ -296,6 +439,74 @@ public abstract class OSSupportLinux extends OSSupport {
 		}
 	}
 
+	/**
+	 * @return the {@link ImageData} with title and border of {@link Shell} with given bounds, without
+	 *         screen shot of {@link Shell} itself. Last {@link ImageData} is cached, because usually
+	 *         size of {@link Shell} is not changed between shots. Native {@link Image} is not kept.
+	 */
+	private ImageData getDecorationsData(Display display,
+			Rectangle shellBounds,
+			Rectangle imageBounds,
+			Point offset) {
+		String key = shellBounds.width + "x" + shellBounds.height + " " + imageBounds + " " + offset;
+		if (m_decorationsData != null && key.equals(m_decorationsKey)) {
+			return m_decorationsData;
+		}
+		Image decorationsImage = new Image(display, shellBounds);
+		GC gc = new GC(decorationsImage);
+		// draw background
+		gc.setBackground(ColorConstants.titleBackground);
+		gc.fillRectangle(0, 0, shellBounds.width, shellBounds.height);
+		// title area gradient
+		gc.setForeground(ColorConstants.titleGradient);
+		gc.fillGradientRectangle(0, 0, shellBounds.width, offset.y, true);
+		int buttonGapX = offset.x - 1;
+		int nextPositionX;
+		// buttons and title
+		{
+			// menu button
+			Image buttonImage = Activator.getImage("decorations/button-menu-icon.png");
+			Rectangle buttonImageBounds = buttonImage.getBounds();
+			int buttonOffsetY = offset.y / 2 - buttonImageBounds.height / 2;
+			gc.drawImage(buttonImage, buttonGapX, buttonOffsetY);
+			nextPositionX = buttonGapX + buttonImageBounds.width + buttonGapX;
+		}
+		{
+			// close button
+			Image buttonImage = Activator.getImage("decorations/button-close-icon.png");
+			Rectangle buttonImageBounds = buttonImage.getBounds();
+			nextPositionX = shellBounds.width - buttonImageBounds.width - buttonGapX;
+			int buttonOffsetY = offset.y / 2 - buttonImageBounds.height / 2;
+			gc.drawImage(buttonImage, nextPositionX, buttonOffsetY);
+			nextPositionX -= buttonGapX + buttonImageBounds.width;
+		}
+		{
+			// maximize button
+			Image buttonImage = Activator.getImage("decorations/button-max-icon.png");
+			Rectangle buttonImageBounds = buttonImage.getBounds();
+			int buttonOffsetY = offset.y / 2 - buttonImageBounds.height / 2;
+			gc.drawImage(buttonImage, nextPositionX, buttonOffsetY);
+			nextPositionX -= buttonGapX + buttonImageBounds.width;
+		}
+		{
+			// minimize button
+			Image buttonImage = Activator.getImage("decorations/button-min-icon.png");
+			Rectangle buttonImageBounds = buttonImage.getBounds();
+			int buttonOffsetY = offset.y / 2 - buttonImageBounds.height / 2;
+			gc.drawImage(buttonImage, nextPositionX, buttonOffsetY);
+		}
+		// outline
+		gc.setForeground(TITLE_BORDER_COLOR_DARKEST);
+		gc.drawRectangle(offset.x - 1, offset.y - 1, imageBounds.width + 1, imageBounds.height + 1);
+		gc.setForeground(TITLE_BORDER_COLOR_DARKER);
+		gc.drawRectangle(offset.x - 2, offset.y - 2, imageBounds.width + 3, imageBounds.height + 3);
+		gc.dispose();
+		m_decorationsKey = key;
+		m_decorationsData = decorationsImage.getImageData();
+		decorationsImage.dispose();
+		return m_decorationsData;
+	}
+
 	private boolean bindImage(final Control control, final Image image) {
 		return ExecutionUtils.runObject(() -> {
 			if (control.getData(WBP_NEED_IMAGE) != null && control.getData(WBP_IMAGE) == null) {
@@ -337,6 +548,14 @@ public abstract class OSSupportLinux extends OSSupport {
 	 */
 	protected abstract Image makeShot(Shell shell, BiConsumer<Long, Image> callback) throws Exception;
 
+	/**
+	 * @return <code>true</code> if given {@link Control} already has image from previous shot, so it
+	 *         should not be captured.
+	 */
+	protected final boolean isReusedShot(Control control) {
+		return m_reusedControls.contains(control);
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// Utils
@@ -1108,6 +1327,9 @@ public abstract class OSSupportLinux extends OSSupport {
 			}
 			if (widget instanceof Composite composite) {
 				for (Control childWidget : composite.getChildren()) {
+					if (isReusedShot(childWidget)) {
+						continue;
+					}
 					Image childImage = traverse(childWidget, callback);
 					if (childImage == null) {
 						continue;
@@ -80,6 +80,21 @@ public abstract class OSSupport {
 	public static final String WBP_DISABLED_REDRAW = "WBP_DISABLED_REDRAW";
 	public static final String WBP_NEED_IMAGE = "WBP_NEED_IMAGE";
 	public static final String WBP_IMAGE = "WBP_IMAGE";
+	/**
+	 * Data of root {@link Control} passed to {@link #makeShots(Control)}, object that identifies same
+	 * hierarchy between refreshes, so images of not changed {@link Control}s may be reused. Held
+	 * weakly.
+	 */
+	public static final String WBP_SHOT_KEY = "WBP_SHOT_KEY";
+	private final ShotStatistics m_shotStatistics = new ShotStatistics();
+
+	/**
+	 * @return the accumulated {@link ShotStatistics} of {@link #makeShots(Control)}, may stay empty
+	 *         if not supported for current OS.
+	 */
+	public final ShotStatistics getShotStatistics() {
+		return m_shotStatistics;
+	}
 
 	/**
 	 * Prepares shots for all {@link Control}'s in hierarchy that have flag {@link #WBP_NEED_IMAGE}.
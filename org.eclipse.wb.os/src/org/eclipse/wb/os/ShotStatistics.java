@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2026 WindowBuilder contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    WindowBuilder contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.wb.os;
+
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Control;
+
+/**
+ * Numbers of native {@link Image}s and their pixels created by {@link OSSupport#makeShots(Control)}.
+ * Numbers are accumulated, use {@link #copy()} and {@link #subtract(ShotStatistics)} to get numbers
+ * for single refresh.
+ *
+ * @coverage os.core
+ */
+public final class ShotStatistics {
+	private int m_capturedImages;
+	private long m_capturedPixels;
+	private int m_reusedImages;
+	private long m_reusedPixels;
+	private int m_disposedImages;
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Update
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Records {@link Image} with given size created by capturing native window.
+	 */
+	public void captured(int width, int height) {
+		m_capturedImages++;
+		m_capturedPixels += (long) width * height;
+	}
+
+	/**
+	 * Records {@link Image} with given size created from image of previous shot.
+	 */
+	public void reused(int width, int height) {
+		m_reusedImages++;
+		m_reusedPixels += (long) width * height;
+	}
+
+	/**
+	 * Records captured {@link Image}s which were not bound to any {@link Control} and disposed.
+	 */
+	public void disposed(int count) {
+		m_disposedImages += count;
+	}
+
+	/**
+	 * @return the copy of current numbers.
+	 */
+	public ShotStatistics copy() {
+		ShotStatistics copy = new ShotStatistics();
+		copy.m_capturedImages = m_capturedImages;
+		copy.m_capturedPixels = m_capturedPixels;
+		copy.m_reusedImages = m_reusedImages;
+		copy.m_reusedPixels = m_reusedPixels;
+		copy.m_disposedImages = m_disposedImages;
+		return copy;
+	}
+
+	/**
+	 * @return the new {@link ShotStatistics} with difference between this and given numbers.
+	 */
+	public ShotStatistics subtract(ShotStatistics other) {
+		ShotStatistics result = copy();
+		result.m_capturedImages -= other.m_capturedImages;
+		result.m_capturedPixels -= other.m_capturedPixels;
+		result.m_reusedImages -= other.m_reusedImages;
+		result.m_reusedPixels -= other.m_reusedPixels;
+		result.m_disposedImages -= other.m_disposedImages;
+		return result;
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Access
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @return the number of {@link Image}s created by capturing native windows.
+	 */
+	public int getCapturedImages() {
+		return m_capturedImages;
+	}
+
+	/**
+	 * @return the number of pixels in captured {@link Image}s.
+	 */
+	public long getCapturedPixels() {
+		return m_capturedPixels;
+	}
+
+	/**
+	 * @return the number of {@link Image}s created from images of previous shot.
+	 */
+	public int getReusedImages() {
+		return m_reusedImages;
+	}
+
+	/**
+	 * @return the number of pixels in reused {@link Image}s.
+	 */
+	public long getReusedPixels() {
+		return m_reusedPixels;
+	}
+
+	/**
+	 * @return the number of captured {@link Image}s which were not bound to any {@link Control} and
+	 *         disposed.
+	 */
+	public int getDisposedImages() {
+		return m_disposedImages;
+	}
+
+	@Override
+	public String toString() {
+		return "captured: "
+				+ m_capturedImages
+				+ " images, "
+				+ m_capturedPixels
+				+ " pixels; reused: "
+				+ m_reusedImages
+				+ " images, "
+				+ m_reusedPixels
+				+ " pixels; disposed: "
+				+ m_disposedImages
+				+ " images";
+	}
+}
@@ -14,6 +14,7 @@ package org.eclipse.wb.internal.rcp.databinding;
 
 import org.eclipse.wb.core.editor.IDesignPageSite;
 import org.eclipse.wb.core.model.JavaInfo;
+import org.eclipse.wb.core.model.ObjectInfo;
 import org.eclipse.wb.internal.core.databinding.model.IBindingInfo;
 import org.eclipse.wb.internal.core.databinding.model.IDatabindingsProvider;
 import org.eclipse.wb.internal.core.databinding.model.IObserveInfo;
@@ -79,6 +80,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * {@link IDatabindingsProvider} for support JFace bindings API.
@@ -370,6 +372,15 @@ public final class DatabindingsProvider implements IDatabindingsProvider {
 		}
 	}
 
+	@Override
+	public void synchronizeObserves(Set<ObjectInfo> objects) throws Exception {
+		if (m_synchronizeObserves) {
+			for (ObserveTypeContainer container : m_containers) {
+				container.synchronizeObserves(m_javaInfoRoot, m_astEditor, m_rootNode, objects);
+			}
+		}
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// UI editing
@@ -142,13 +142,29 @@ public final class BeansObserveTypeContainer extends ObserveTypeContainer {
 	@Override
 	public void synchronizeObserves(JavaInfo root, AstEditor editor, TypeDeclaration rootNode)
 			throws Exception {
+		synchronizeObserves(rootNode, true);
+	}
+
+	@Override
+	public void synchronizeObserves(JavaInfo root,
+			AstEditor editor,
+			TypeDeclaration rootNode,
+			Set<ObjectInfo> objects) throws Exception {
+		// local variables of "initDataBindings()" can be changed only if bindings were deleted
+		synchronizeObserves(rootNode, SynchronizeManager.hasDeleted(objects));
+	}
+
+	private void synchronizeObserves(TypeDeclaration rootNode, boolean localVariables)
+			throws Exception {
 		ClassLoader classLoader = EditorState.get(m_rootJavaInfo.getEditor()).getEditorLoader();
 		BeanSupport beanSupport = new BeanSupport(classLoader, null);
 		beanSupport.setProvider(m_provider);
 		// update
 		synchronizeFields(beanSupport, rootNode);
 		synchronizeLocalComposites(beanSupport);
-		synchronizeLocalVariables(beanSupport, rootNode);
+		if (localVariables) {
+			synchronizeLocalVariables(beanSupport, rootNode);
+		}
 	}
 
 	private void synchronizeFields(final BeanSupport beanSupport, TypeDeclaration rootNode)
@@ -361,7 +377,7 @@ public final class BeansObserveTypeContainer extends ObserveTypeContainer {
 					VariableSupport variableSupport = javaInfo.getVariableSupport();
 					Class<?> componentClass = javaInfo.getDescription().getComponentClass();
 					if (componentClass != null
-							&& !compositeClass.getName().startsWith("org.eclipse.swt.")
+							&& !componentClass.getName().startsWith("org.eclipse.swt.")
 							&& compositeClass.isAssignableFrom(componentClass)
 							&& variableSupport instanceof LocalVariableSupport
 							&& variableSupport.canConvertLocalToField()
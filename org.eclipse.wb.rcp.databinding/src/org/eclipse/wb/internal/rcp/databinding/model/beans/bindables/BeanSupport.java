@@ -19,6 +19,7 @@ import org.eclipse.wb.internal.core.databinding.model.ObserveComparator;
 import org.eclipse.wb.internal.core.databinding.model.reference.StringReferenceProvider;
 import org.eclipse.wb.internal.core.databinding.parser.IModelResolver;
 import org.eclipse.wb.internal.core.databinding.ui.decorate.IObserveDecorator;
+import org.eclipse.wb.internal.core.databinding.utils.BeanIntrospectionCache;
 import org.eclipse.wb.internal.core.databinding.utils.CoreUtils;
 import org.eclipse.wb.internal.core.utils.ui.ImageUtils;
 import org.eclipse.wb.internal.rcp.databinding.Activator;
@@ -37,19 +38,11 @@ import org.eclipse.wb.internal.rcp.databinding.ui.providers.TypeImageProvider;
 
 import org.eclipse.jface.resource.ImageDescriptor;
 
-import org.apache.commons.lang3.ClassUtils;
-
-import java.beans.BeanInfo;
-import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
-import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
 /**
@@ -59,7 +52,6 @@ import java.util.Set;
  * @coverage bindings.rcp.model.beans
  */
 public final class BeanSupport {
-	private final Map<Class<?>, ImageDescriptor> m_classToImage = new HashMap<>();
 	private final IModelResolver m_resolver;
 	private final Class<?> m_IObservable;
 	private final Class<?> m_IObservableValue;
@@ -330,24 +322,11 @@ public final class BeanSupport {
 	// Descriptors
 	//
 	////////////////////////////////////////////////////////////////////////////
-	private final Map<Class<?>, List<PropertyDescriptor>> m_classToDescriptors = new HashMap<>();
-
 	/**
-	 * @return {@link PropertyDescriptor} properties for given bean {@link Class}.
+	 * @return {@link PropertyDescriptor} properties for given bean {@link Class}, sorted by name.
 	 */
 	public List<PropertyDescriptor> getLocalPropertyDescriptors(Class<?> beanClass) throws Exception {
-		List<PropertyDescriptor> descriptors = m_classToDescriptors.get(beanClass);
-		if (descriptors == null) {
-			descriptors = getPropertyDescriptors(beanClass);
-			m_classToDescriptors.put(beanClass, descriptors);
-			Collections.sort(descriptors, new Comparator<PropertyDescriptor>() {
-				@Override
-				public int compare(PropertyDescriptor descriptor1, PropertyDescriptor descriptor2) {
-					return descriptor1.getName().compareTo(descriptor2.getName());
-				}
-			});
-		}
-		return descriptors;
+		return BeanIntrospectionCache.getSortedPropertyDescriptors(beanClass);
 	}
 
 	/**
@@ -355,55 +334,7 @@ public final class BeanSupport {
 	 */
 	public static List<PropertyDescriptor> getPropertyDescriptors(Class<?> beanClass)
 			throws Exception {
-		List<PropertyDescriptor> descriptors = new ArrayList<>();
-		// handle interfaces
-		if (beanClass.isInterface() || Modifier.isAbstract(beanClass.getModifiers())) {
-			List<Class<?>> interfaces = CoreUtils.cast(ClassUtils.getAllInterfaces(beanClass));
-			for (Class<?> i : interfaces) {
-				BeanInfo beanInfo = Introspector.getBeanInfo(i);
-				addDescriptors(descriptors, beanInfo.getPropertyDescriptors());
-			}
-		}
-		// handle bean
-		BeanInfo beanInfo = Introspector.getBeanInfo(beanClass);
-		addDescriptors(descriptors, beanInfo.getPropertyDescriptors());
-		//
-		return descriptors;
-	}
-
-	private static void addDescriptors(List<PropertyDescriptor> descriptors,
-			PropertyDescriptor[] newDescriptors) {
-		int count = descriptors.size();
-		if (count > 0) {
-			// filter equal properties
-			for (int i = 0; i < newDescriptors.length; i++) {
-				PropertyDescriptor newDescriptor = newDescriptors[i];
-				if (newDescriptor.getPropertyType() == null) {
-					continue;
-				}
-				//
-				String name = newDescriptor.getName();
-				boolean addDescriptor = true;
-				//
-				for (int j = 0; j < count; j++) {
-					PropertyDescriptor descriptor = descriptors.get(j);
-					if (name.equals(descriptor.getName())) {
-						addDescriptor = false;
-						break;
-					}
-				}
-				if (addDescriptor) {
-					descriptors.add(newDescriptor);
-				}
-			}
-		} else {
-			// add all properties
-			for (PropertyDescriptor descriptor : newDescriptors) {
-				if (descriptor.getPropertyType() != null) {
-					descriptors.add(descriptor);
-				}
-			}
-		}
+		return BeanIntrospectionCache.getPropertyDescriptors(beanClass);
 	}
 
 	////////////////////////////////////////////////////////////////////////////
@@ -419,28 +350,8 @@ public final class BeanSupport {
 		if (javaInfo != null) {
 			return null;
 		}
-		// prepare cached image
-		ImageDescriptor beanImage = m_classToImage.get(beanClass);
-		// check load image
-		if (beanImage == null) {
-			try {
-				// load AWT image
-				BeanInfo beanInfo = Introspector.getBeanInfo(beanClass);
-				java.awt.Image awtBeanIcon = beanInfo.getIcon(BeanInfo.ICON_COLOR_16x16);
-				if (awtBeanIcon == null) {
-					// set default
-					beanImage = Activator.getImageDescriptor("javabean.gif");
-				} else {
-					// convert to SWT image
-					beanImage = ImageUtils.convertToSWT(awtBeanIcon);
-				}
-			} catch (Throwable e) {
-				// set default
-				beanImage = Activator.getImageDescriptor("javabean.gif");
-			}
-			m_classToImage.put(beanClass, beanImage);
-		}
-		return beanImage;
+		ImageDescriptor beanImage = BeanIntrospectionCache.getIcon(beanClass, ImageUtils::convertToSWT);
+		return beanImage != null ? beanImage : Activator.getImageDescriptor("javabean.gif");
 	}
 
 	////////////////////////////////////////////////////////////////////////////
@@ -18,6 +18,7 @@ import org.eclipse.wb.internal.core.databinding.model.IDatabindingsProvider;
 import org.eclipse.wb.internal.core.databinding.parser.AbstractParser;
 import org.eclipse.wb.internal.core.databinding.parser.IModelResolver;
 import org.eclipse.wb.internal.core.databinding.ui.ObserveType;
+import org.eclipse.wb.internal.core.databinding.utils.BeanIntrospectionCache;
 import org.eclipse.wb.internal.core.utils.ast.AstEditor;
 import org.eclipse.wb.internal.core.utils.check.Assert;
 import org.eclipse.wb.internal.rcp.databinding.DatabindingsProvider;
@@ -27,7 +28,6 @@ import org.eclipse.wb.internal.rcp.databinding.model.ObservableInfo;
 import org.eclipse.wb.internal.rcp.databinding.model.beans.BeansObserveTypeContainer;
 import org.eclipse.wb.internal.rcp.databinding.model.beans.bindables.BeanBindableInfo;
 import org.eclipse.wb.internal.rcp.databinding.model.beans.bindables.BeanPropertyBindableInfo;
-import org.eclipse.wb.internal.rcp.databinding.model.beans.bindables.BeanSupport;
 import org.eclipse.wb.internal.rcp.databinding.model.beans.bindables.PropertyBindableInfo;
 import org.eclipse.wb.internal.rcp.databinding.model.beans.direct.DirectObservableInfo;
 import org.eclipse.wb.internal.rcp.databinding.model.beans.observables.DetailBeanObservableInfo;
@@ -84,11 +84,10 @@ public abstract class BeanPropertiesCodeSupport extends ObservableCodeSupport {
 				&& m_parserPropertyReference != null
 				&& m_parserPropertyType == null) {
 			String propertyName = StringUtils.remove(m_parserPropertyReference, "\"");
-			for (PropertyDescriptor descriptor : BeanSupport.getPropertyDescriptors(m_parserBeanType)) {
-				if (propertyName.equals(descriptor.getName())) {
-					m_parserPropertyType = descriptor.getPropertyType();
-					break;
-				}
+			PropertyDescriptor descriptor =
+					BeanIntrospectionCache.getPropertyDescriptor(m_parserBeanType, propertyName);
+			if (descriptor != null) {
+				m_parserPropertyType = descriptor.getPropertyType();
 			}
 		}
 	}
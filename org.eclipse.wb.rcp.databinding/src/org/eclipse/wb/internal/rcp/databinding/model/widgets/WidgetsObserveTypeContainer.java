@@ -13,6 +13,7 @@
 package org.eclipse.wb.internal.rcp.databinding.model.widgets;
 
 import org.eclipse.wb.core.model.JavaInfo;
+import org.eclipse.wb.core.model.ObjectInfo;
 import org.eclipse.wb.internal.core.databinding.model.AstObjectInfo;
 import org.eclipse.wb.internal.core.databinding.model.IDatabindingsProvider;
 import org.eclipse.wb.internal.core.databinding.model.IObserveInfo;
@@ -218,6 +219,16 @@ public final class WidgetsObserveTypeContainer extends ObserveTypeContainer {
 		}
 	}
 
+	@Override
+	public void synchronizeObserves(JavaInfo root,
+			AstEditor editor,
+			TypeDeclaration rootNode,
+			Set<ObjectInfo> objects) throws Exception {
+		for (WidgetBindableInfo widget : m_observables) {
+			widget.update(m_provider, objects);
+		}
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// Access
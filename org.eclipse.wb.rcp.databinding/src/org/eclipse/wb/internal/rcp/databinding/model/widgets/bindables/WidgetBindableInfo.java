@@ -13,6 +13,7 @@
 package org.eclipse.wb.internal.rcp.databinding.model.widgets.bindables;
 
 import org.eclipse.wb.core.model.JavaInfo;
+import org.eclipse.wb.core.model.ObjectInfo;
 import org.eclipse.wb.internal.core.databinding.model.IObserveInfo;
 import org.eclipse.wb.internal.core.databinding.model.IObservePresentation;
 import org.eclipse.wb.internal.core.databinding.model.ISynchronizeProcessor;
@@ -36,6 +37,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * {@link BindableInfo} model for <code>SWT</code> widget.
@@ -143,7 +145,22 @@ public final class WidgetBindableInfo extends BindableInfo {
 	/**
 	 * Update (reorder, add, remove) children {@link WidgetBindableInfo}.
 	 */
-	public void update(final DatabindingsProvider provider) throws Exception {
+	public void update(DatabindingsProvider provider) throws Exception {
+		update(provider, null);
+	}
+
+	/**
+	 * Update (reorder, add, remove) children {@link WidgetBindableInfo}, only for given objects.
+	 *
+	 * @param objects
+	 *          the changed {@link ObjectInfo}'s with their ancestors, or <code>null</code> to update
+	 *          all {@link WidgetBindableInfo}'s.
+	 */
+	public void update(final DatabindingsProvider provider, final Set<ObjectInfo> objects)
+			throws Exception {
+		if (objects != null && !objects.contains(m_javaInfo)) {
+			return;
+		}
 		// prepare new javaInfo's
 		List<JavaInfo> javaInfos = SynchronizeManager.getChildren(m_javaInfo, JavaInfo.class);
 		//
@@ -187,7 +204,7 @@ public final class WidgetBindableInfo extends BindableInfo {
 
 					@Override
 					public void update(WidgetBindableInfo widget) throws Exception {
-						widget.update(provider);
+						widget.update(provider, objects);
 					}
 				});
 	}
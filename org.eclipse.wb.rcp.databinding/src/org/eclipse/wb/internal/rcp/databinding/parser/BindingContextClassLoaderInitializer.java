@@ -16,6 +16,7 @@ import org.eclipse.wb.internal.core.DesignerPlugin;
 import org.eclipse.wb.internal.core.utils.asm.ToBytesClassAdapter;
 import org.eclipse.wb.internal.core.utils.execution.ExecutionUtils;
 import org.eclipse.wb.internal.core.utils.execution.RunnableEx;
+import org.eclipse.wb.internal.core.utils.reflect.ByteCodeCache;
 import org.eclipse.wb.internal.core.utils.reflect.CompositeClassLoader;
 import org.eclipse.wb.internal.core.utils.reflect.IByteCodeProcessor;
 import org.eclipse.wb.internal.core.utils.reflect.IClassLoaderInitializer;
@@ -139,6 +140,11 @@ public final class BindingContextClassLoaderInitializer implements IClassLoaderI
 			public void initialize(ProjectClassLoader classLoader) {
 			}
 
+			@Override
+			public boolean canProcess(String className) {
+				return className.startsWith("org.eclipse.core.databinding.");
+			}
+
 			@Override
 			public byte[] process(String className, byte[] bytes) {
 				if ("org.eclipse.core.databinding.beans.BeansObservables".equals(className)) {
@@ -160,6 +166,11 @@ public final class BindingContextClassLoaderInitializer implements IClassLoaderI
 				}
 				return bytes;
 			}
+
+			@Override
+			public String getCacheKey() {
+				return ByteCodeCache.getVersionKey(BindingContextClassLoaderInitializer.class);
+			}
 		});
 		return projectClassLoader;
 	}
@@ -0,0 +1,401 @@
+/*******************************************************************************
+ * Copyright (c) 2026 WindowBuilder contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    WindowBuilder contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.wb.internal.rcp.model.rcp;
+
+import org.eclipse.wb.internal.rcp.model.rcp.PdeUtils.PerspectiveInfo;
+import org.eclipse.wb.internal.rcp.model.rcp.PdeUtils.ViewCategoryInfo;
+import org.eclipse.wb.internal.rcp.model.rcp.PdeUtils.ViewInfo;
+
+import org.eclipse.pde.core.plugin.IPluginElement;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.ModelEntry;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.IPluginModelListener;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PluginModelDelta;
+import org.eclipse.swt.widgets.Display;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Immutable, ID-indexed snapshot of "org.eclipse.ui.views" and "org.eclipse.ui.perspectives"
+ * extensions from all active plugin models.
+ * <p>
+ * Snapshot is built once, then contributions of single plugins are rebuilt when PDE reports about
+ * changes in their models, or when {@link PdeUtils} modifies <code>plugin.xml</code> itself. Code
+ * that waits for some extension can use {@link #waitForChange(long)} to be notified about changes
+ * instead of polling.
+ *
+ * @coverage rcp.model.rcp
+ */
+@SuppressWarnings("restriction")
+final class PdeExtensionSnapshot {
+	private static final String VIEWS_POINT = "org.eclipse.ui.views";
+	private static final String PERSPECTIVES_POINT = "org.eclipse.ui.perspectives";
+	/**
+	 * Maximal time to wait for change notification, just in case if some change of model is not
+	 * reported by PDE.
+	 */
+	private static final int WAIT_FALLBACK_MILLIS = 250;
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Global state
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Guards dirty state, generation and waiting {@link Display}'s. Is never held while accessing
+	 * PDE, so PDE listener is not blocked by rebuilding.
+	 */
+	private static final Object LOCK = new Object();
+	/**
+	 * Serializes rebuilding, guards contributions and snapshot.
+	 */
+	private static final Object BUILD_LOCK = new Object();
+	private static final Map<String, Contribution> m_contributions = new LinkedHashMap<>();
+	private static final Set<String> m_dirtyPlugins = new HashSet<>();
+	private static final Set<Display> m_waitingDisplays = new HashSet<>();
+	private static boolean m_listenerInstalled;
+	private static boolean m_dirtyAll = true;
+	private static long m_generation;
+	private static PdeExtensionSnapshot m_snapshot;
+
+	/**
+	 * @return the current {@link PdeExtensionSnapshot}, rebuilds contributions of changed plugins.
+	 */
+	static PdeExtensionSnapshot get() {
+		installListener();
+		synchronized (BUILD_LOCK) {
+			// take changes, new changes will be marked again
+			boolean dirtyAll;
+			Set<String> dirtyPlugins;
+			synchronized (LOCK) {
+				dirtyAll = m_dirtyAll;
+				dirtyPlugins = new HashSet<>(m_dirtyPlugins);
+				m_dirtyAll = false;
+				m_dirtyPlugins.clear();
+			}
+			// rebuild without LOCK
+			boolean success = false;
+			try {
+				if (dirtyAll) {
+					rebuildContributions();
+					m_snapshot = null;
+				} else if (!dirtyPlugins.isEmpty()) {
+					for (String pluginId : dirtyPlugins) {
+						rebuildContribution(pluginId);
+					}
+					m_snapshot = null;
+				}
+				if (m_snapshot == null) {
+					m_snapshot = new PdeExtensionSnapshot(m_contributions.values());
+				}
+				success = true;
+				return m_snapshot;
+			} finally {
+				if (!success) {
+					synchronized (LOCK) {
+						m_dirtyAll = true;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Marks contribution of plugin with given ID as changed.
+	 *
+	 * @param pluginId
+	 *          the ID of changed plugin, or <code>null</code> if all plugins should be reloaded.
+	 */
+	static void markDirty(String pluginId) {
+		synchronized (LOCK) {
+			if (pluginId != null) {
+				m_dirtyPlugins.add(pluginId);
+			} else {
+				m_dirtyAll = true;
+			}
+			m_generation++;
+			LOCK.notifyAll();
+			for (Display display : m_waitingDisplays) {
+				if (!display.isDisposed()) {
+					display.wake();
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return the counter of changes, to use with {@link #waitForChange(long)}.
+	 */
+	static long getGeneration() {
+		installListener();
+		synchronized (LOCK) {
+			return m_generation;
+		}
+	}
+
+	/**
+	 * Waits until some plugin model is changed after given generation. If invoked in UI thread, runs
+	 * event loop while waiting.
+	 */
+	static void waitForChange(long generation) {
+		long end = System.currentTimeMillis() + WAIT_FALLBACK_MILLIS;
+		Display display = Display.getCurrent();
+		if (display != null) {
+			synchronized (LOCK) {
+				m_waitingDisplays.add(display);
+			}
+			try {
+				display.timerExec(WAIT_FALLBACK_MILLIS, () -> {
+					// wake up to check again
+				});
+				while (isSameGeneration(generation) && System.currentTimeMillis() < end) {
+					if (!display.readAndDispatch()) {
+						display.sleep();
+					}
+				}
+			} finally {
+				synchronized (LOCK) {
+					m_waitingDisplays.remove(display);
+				}
+			}
+		} else {
+			synchronized (LOCK) {
+				long remaining;
+				while (m_generation == generation && (remaining = end - System.currentTimeMillis()) > 0) {
+					try {
+						LOCK.wait(remaining);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						return;
+					}
+				}
+			}
+		}
+	}
+
+	private static boolean isSameGeneration(long generation) {
+		synchronized (LOCK) {
+			return m_generation == generation;
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Maintenance
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Installs listener for PDE models, if not installed yet.
+	 */
+	private static void installListener() {
+		synchronized (LOCK) {
+			if (m_listenerInstalled) {
+				return;
+			}
+			m_listenerInstalled = true;
+		}
+		PDECore.getDefault().getModelManager().addPluginModelListener(new IPluginModelListener() {
+			@Override
+			public void modelsChanged(PluginModelDelta delta) {
+				markDirty(delta.getAddedEntries());
+				markDirty(delta.getRemovedEntries());
+				markDirty(delta.getChangedEntries());
+			}
+
+			private void markDirty(ModelEntry[] entries) {
+				for (ModelEntry entry : entries) {
+					PdeExtensionSnapshot.markDirty(entry.getId());
+				}
+			}
+		});
+	}
+
+	/**
+	 * Rebuilds {@link Contribution}'s of all active plugin models.
+	 */
+	private static void rebuildContributions() {
+		m_contributions.clear();
+		for (IPluginModelBase model : PluginRegistry.getActiveModels()) {
+			String key = getKey(model);
+			Contribution contribution = m_contributions.get(key);
+			if (contribution == null) {
+				contribution = new Contribution();
+				m_contributions.put(key, contribution);
+			}
+			contribution.add(model);
+		}
+	}
+
+	/**
+	 * Rebuilds {@link Contribution} of plugin with given ID from its active models.
+	 */
+	private static void rebuildContribution(String pluginId) {
+		ModelEntry entry = PluginRegistry.findEntry(pluginId);
+		IPluginModelBase[] models = entry != null ? entry.getActiveModels() : new IPluginModelBase[0];
+		if (models.length == 0) {
+			m_contributions.remove(pluginId);
+		} else {
+			Contribution contribution = new Contribution();
+			for (IPluginModelBase model : models) {
+				contribution.add(model);
+			}
+			m_contributions.put(pluginId, contribution);
+		}
+	}
+
+	/**
+	 * @return the key of {@link Contribution} for given {@link IPluginModelBase}.
+	 */
+	private static String getKey(IPluginModelBase model) {
+		String id = model.getPluginBase().getId();
+		if (id == null) {
+			id = PdeUtils.getId(model);
+		}
+		return Objects.toString(id, "");
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Contribution
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Views, categories and perspectives contributed by single plugin.
+	 */
+	private static final class Contribution {
+		private final List<ViewCategoryInfo> m_categories = new ArrayList<>();
+		private final List<ViewInfo> m_views = new ArrayList<>();
+		private final List<PerspectiveInfo> m_perspectives = new ArrayList<>();
+
+		void add(IPluginModelBase model) {
+			for (IPluginElement element : PdeUtils.getExtensionElements(model, VIEWS_POINT, "category")) {
+				m_categories.add(PdeUtils.createViewCategoryInfo(element));
+			}
+			for (IPluginElement element : PdeUtils.getExtensionElements(model, VIEWS_POINT, "view")) {
+				m_views.add(PdeUtils.createViewInfo(element));
+			}
+			for (IPluginElement element : PdeUtils.getExtensionElements(
+					model,
+					PERSPECTIVES_POINT,
+					"perspective")) {
+				m_perspectives.add(PdeUtils.createPerspectiveInfo(element));
+			}
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Instance fields
+	//
+	////////////////////////////////////////////////////////////////////////////
+	private final List<ViewCategoryInfo> m_categories = new ArrayList<>();
+	private final List<ViewInfo> m_views = new ArrayList<>();
+	private final List<PerspectiveInfo> m_perspectives = new ArrayList<>();
+	private final Map<String, ViewCategoryInfo> m_categoriesById = new HashMap<>();
+	private final Map<String, ViewInfo> m_viewsById = new HashMap<>();
+	private final Map<String, List<ViewInfo>> m_viewsByCategory = new HashMap<>();
+	private final Map<String, PerspectiveInfo> m_perspectivesById = new HashMap<>();
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Constructor
+	//
+	////////////////////////////////////////////////////////////////////////////
+	private PdeExtensionSnapshot(Iterable<Contribution> contributions) {
+		for (Contribution contribution : contributions) {
+			for (ViewCategoryInfo category : contribution.m_categories) {
+				m_categories.add(category);
+				if (category.getId() != null) {
+					m_categoriesById.putIfAbsent(category.getId(), category);
+				}
+			}
+			for (ViewInfo view : contribution.m_views) {
+				m_views.add(view);
+				if (view.getId() != null) {
+					m_viewsById.putIfAbsent(view.getId(), view);
+				}
+				m_viewsByCategory.computeIfAbsent(view.getCategory(), k -> new ArrayList<>()).add(view);
+			}
+			for (PerspectiveInfo perspective : contribution.m_perspectives) {
+				m_perspectives.add(perspective);
+				if (perspective.getId() != null) {
+					m_perspectivesById.putIfAbsent(perspective.getId(), perspective);
+				}
+			}
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Access
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @return all view categories.
+	 */
+	List<ViewCategoryInfo> getViewCategories() {
+		return Collections.unmodifiableList(m_categories);
+	}
+
+	/**
+	 * @return the {@link ViewCategoryInfo} with given ID, may be <code>null</code>.
+	 */
+	ViewCategoryInfo getViewCategory(String id) {
+		return m_categoriesById.get(id);
+	}
+
+	/**
+	 * @return all views.
+	 */
+	List<ViewInfo> getViews() {
+		return Collections.unmodifiableList(m_views);
+	}
+
+	/**
+	 * @return the views with given category ID, may be <code>null</code> for views without category.
+	 */
+	List<ViewInfo> getViews(String categoryId) {
+		List<ViewInfo> views = m_viewsByCategory.get(categoryId);
+		return views != null ? Collections.unmodifiableList(views) : Collections.emptyList();
+	}
+
+	/**
+	 * @return the {@link ViewInfo} with given ID, may be <code>null</code>.
+	 */
+	ViewInfo getView(String id) {
+		return m_viewsById.get(id);
+	}
+
+	/**
+	 * @return all perspectives.
+	 */
+	List<PerspectiveInfo> getPerspectives() {
+		return Collections.unmodifiableList(m_perspectives);
+	}
+
+	/**
+	 * @return the {@link PerspectiveInfo} with given ID, may be <code>null</code>.
+	 */
+	PerspectiveInfo getPerspective(String id) {
+		return m_perspectivesById.get(id);
+	}
+}
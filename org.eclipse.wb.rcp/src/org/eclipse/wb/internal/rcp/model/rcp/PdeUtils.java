@@ -57,7 +57,6 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
@@ -326,6 +325,7 @@ public final class PdeUtils {
 			}
 		};
 		modifyModel(modification);
+		markModelChanged();
 	}
 
 	////////////////////////////////////////////////////////////////////////////
@@ -340,15 +340,6 @@ public final class PdeUtils {
 		return PluginRegistry.findModel(m_project);
 	}
 
-	/**
-	 * @return all plug-ins and fragments in the workspace as well as all target plug-ins and
-	 *         fragments, regardless whether or not they are checked on the Target Platform preference
-	 *         page.
-	 */
-	private static IPluginModelBase[] getAllModels() {
-		return PluginRegistry.getActiveModels();
-	}
-
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// IPluginElement access
@@ -372,11 +363,22 @@ public final class PdeUtils {
 	 */
 	public IPluginElement waitExtensionElementById(String pointId, String elementName, String id) {
 		while (true) {
+			long generation = PdeExtensionSnapshot.getGeneration();
 			IPluginElement element = getExtensionElementById(pointId, elementName, id);
 			if (element != null) {
 				return element;
 			}
-			ExecutionUtils.waitEventLoop(10);
+			PdeExtensionSnapshot.waitForChange(generation);
+		}
+	}
+
+	/**
+	 * Notifies {@link PdeExtensionSnapshot} that model of this plugin {@link IProject} was changed.
+	 */
+	private void markModelChanged() {
+		IPluginModelBase model = getModel();
+		if (model != null) {
+			PdeExtensionSnapshot.markDirty(model.getPluginBase().getId());
 		}
 	}
 
@@ -457,7 +459,7 @@ public final class PdeUtils {
 	/**
 	 * @return the {@link IPluginElement}'s for direct children of extension.
 	 */
-	private static List<IPluginElement> getExtensionElements(IPluginModelBase pluginModel,
+	static List<IPluginElement> getExtensionElements(IPluginModelBase pluginModel,
 			String pointId,
 			String elementName) {
 		List<IPluginElement> elements = new ArrayList<>();
@@ -577,6 +579,7 @@ public final class PdeUtils {
 			}
 		};
 		modifyModel(modification);
+		markModelChanged();
 	}
 
 	/**
@@ -592,6 +595,7 @@ public final class PdeUtils {
 			}
 		};
 		modifyModel(modification);
+		markModelChanged();
 	}
 
 	/**
@@ -744,25 +748,14 @@ public final class PdeUtils {
 		 * @return the {@link ViewInfo}'s for views in this category.
 		 */
 		public List<ViewInfo> getViews() {
-			final List<ViewInfo> views = new ArrayList<>();
-			visitExtensions("org.eclipse.ui.views", "view", new IExtensionVisitor() {
-				@Override
-				public boolean visit(IPluginElement element) {
-					String categoryId = getAttribute(element, "category");
-					if (Objects.equals(m_id, categoryId)) {
-						views.add(createViewInfo(element));
-					}
-					return false;
-				}
-			});
-			return views;
+			return new ArrayList<>(PdeExtensionSnapshot.get().getViews(m_id));
 		}
 	}
 
 	/**
 	 * @return the {@link ViewCategoryInfo} constructed from given {@link IPluginElement}.
 	 */
-	private static ViewCategoryInfo createViewCategoryInfo(IPluginElement element) {
+	static ViewCategoryInfo createViewCategoryInfo(IPluginElement element) {
 		String id = getAttribute(element, "id");
 		String name = getAttribute(element, "name");
 		return new ViewCategoryInfo(id, name);
@@ -772,15 +765,9 @@ public final class PdeUtils {
 	 * @return the {@link ViewCategoryInfo}'s for each views category in Eclipse runtime/workspace.
 	 */
 	public static List<ViewCategoryInfo> getViewCategories() {
-		final List<ViewCategoryInfo> categories = new ArrayList<>();
+		List<ViewCategoryInfo> categories = new ArrayList<>();
 		categories.add(new ViewCategoryInfo(null, "Other"));
-		visitExtensions("org.eclipse.ui.views", "category", new IExtensionVisitor() {
-			@Override
-			public boolean visit(IPluginElement element) {
-				categories.add(createViewCategoryInfo(element));
-				return false;
-			}
-		});
+		categories.addAll(PdeExtensionSnapshot.get().getViewCategories());
 		return categories;
 	}
 
@@ -788,22 +775,11 @@ public final class PdeUtils {
 	 * @return the {@link ViewCategoryInfo} for view with given ID, may be <code>null</code> if no
 	 *         such category found.
 	 */
-	public static ViewCategoryInfo getViewCategoryInfo(final String categoryId) {
-		final ViewCategoryInfo result[] = new ViewCategoryInfo[1];
-		visitExtensions("org.eclipse.ui.views", "category", new IExtensionVisitor() {
-			@Override
-			public boolean visit(IPluginElement element) {
-				if (categoryId != null) {
-					String id = getAttribute(element, "id");
-					if (categoryId.equals(id)) {
-						result[0] = createViewCategoryInfo(element);
-					}
-				}
-				return result[0] != null;
-			}
-		});
-		// OK, we have result
-		return result[0];
+	public static ViewCategoryInfo getViewCategoryInfo(String categoryId) {
+		if (categoryId == null) {
+			return null;
+		}
+		return PdeExtensionSnapshot.get().getViewCategory(categoryId);
 	}
 
 	////////////////////////////////////////////////////////////////////////////
@@ -813,10 +789,6 @@ public final class PdeUtils {
 	//
 	////////////////////////////////////////////////////////////////////////////
 	private static final ImageDescriptor DEFAULT_VIEW_ICON = Activator.getImageDescriptor("info/perspective/view.gif");
-	/**
-	 * Cache for view ID to {@link ViewInfo}.
-	 */
-	private static final Map<String, ViewInfo> m_viewsById = new TreeMap<>();
 
 	/**
 	 * Information about view in "org.eclipse.ui.views" extension.
@@ -880,7 +852,7 @@ public final class PdeUtils {
 	/**
 	 * @return the {@link ViewInfo} constructed from given {@link IPluginElement}.
 	 */
-	private static ViewInfo createViewInfo(IPluginElement element) {
+	static ViewInfo createViewInfo(IPluginElement element) {
 		String id = getAttribute(element, "id");
 		String className = getAttribute(element, "class");
 		String category = getAttribute(element, "category");
@@ -894,15 +866,7 @@ public final class PdeUtils {
 	 * @return the {@link ViewInfo}'s for each view in Eclipse runtime/workspace.
 	 */
 	public static List<ViewInfo> getViews() {
-		final List<ViewInfo> views = new ArrayList<>();
-		visitExtensions("org.eclipse.ui.views", "view", new IExtensionVisitor() {
-			@Override
-			public boolean visit(IPluginElement element) {
-				views.add(createViewInfo(element));
-				return false;
-			}
-		});
-		return views;
+		return new ArrayList<>(PdeExtensionSnapshot.get().getViews());
 	}
 
 	/**
@@ -926,28 +890,11 @@ public final class PdeUtils {
 	 * @return the {@link ViewInfo} for view with given ID, may be <code>null</code> if no such view
 	 *         found.
 	 */
-	public static ViewInfo getViewInfo(final String viewId) {
-		// check in cache
-		if (m_viewsById.containsKey(viewId)) {
-			return m_viewsById.get(viewId);
+	public static ViewInfo getViewInfo(String viewId) {
+		if (viewId == null) {
+			return null;
 		}
-		// visit all views
-		final ViewInfo result[] = new ViewInfo[1];
-		visitExtensions("org.eclipse.ui.views", "view", new IExtensionVisitor() {
-			@Override
-			public boolean visit(IPluginElement element) {
-				if (viewId != null) {
-					String id = getAttribute(element, "id");
-					if (viewId.equals(id)) {
-						result[0] = createViewInfo(element);
-					}
-				}
-				return result[0] != null;
-			}
-		});
-		// OK, we have result
-		m_viewsById.put(viewId, result[0]);
-		return result[0];
+		return PdeExtensionSnapshot.get().getView(viewId);
 	}
 
 	/**
@@ -969,10 +916,6 @@ public final class PdeUtils {
 	////////////////////////////////////////////////////////////////////////////
 	private static final ImageDescriptor DEFAULT_PERSPECTIVE_ICON = Activator
 			.getImageDescriptor("info/perspective/perspective.gif");
-	/**
-	 * Cache for view ID to {@link ViewInfo}.
-	 */
-	private static final Map<String, PerspectiveInfo> m_perspectivesById = new TreeMap<>();
 
 	/**
 	 * Information about perspective in "org.eclipse.ui.perspectives" extension.
@@ -1030,7 +973,7 @@ public final class PdeUtils {
 	/**
 	 * @return the {@link PerspectiveInfo} constructed from given {@link IPluginElement}.
 	 */
-	private static PerspectiveInfo createPerspectiveInfo(IPluginElement element) {
+	static PerspectiveInfo createPerspectiveInfo(IPluginElement element) {
 		String id = getAttribute(element, "id");
 		String className = getAttribute(element, "class");
 		String name = getAttribute(element, "name");
@@ -1042,15 +985,7 @@ public final class PdeUtils {
 	 * @return the {@link PerspectiveInfo}'s for each perspective in Eclipse runtime/workspace.
 	 */
 	public static List<PerspectiveInfo> getPerspectives() {
-		final List<PerspectiveInfo> perspectives = new ArrayList<>();
-		visitExtensions("org.eclipse.ui.perspectives", "perspective", new IExtensionVisitor() {
-			@Override
-			public boolean visit(IPluginElement element) {
-				perspectives.add(createPerspectiveInfo(element));
-				return false;
-			}
-		});
-		return perspectives;
+		return new ArrayList<>(PdeExtensionSnapshot.get().getPerspectives());
 	}
 
 	/**
@@ -1065,27 +1000,8 @@ public final class PdeUtils {
 	 * @return the {@link PerspectiveInfo} for perspective with given ID, may be <code>null</code> if
 	 *         no such perspective found.
 	 */
-	public static PerspectiveInfo getPerspectiveInfo(final String perspectiveId) {
-		// check in cache
-		if (m_perspectivesById.containsKey(perspectiveId)) {
-			return m_perspectivesById.get(perspectiveId);
-		}
-		// visit all perspectives
-		final PerspectiveInfo result[] = new PerspectiveInfo[1];
-		visitExtensions("org.eclipse.ui.perspectives", "perspective", new IExtensionVisitor() {
-			@Override
-			public boolean visit(IPluginElement element) {
-				String id = getAttribute(element, "id");
-				if (perspectiveId.equals(id)) {
-					result[0] = createPerspectiveInfo(element);
-					return true;
-				}
-				return false;
-			}
-		});
-		// OK, we have result
-		m_perspectivesById.put(perspectiveId, result[0]);
-		return result[0];
+	public static PerspectiveInfo getPerspectiveInfo(String perspectiveId) {
+		return PdeExtensionSnapshot.get().getPerspective(perspectiveId);
 	}
 
 	/**
@@ -1113,37 +1029,4 @@ public final class PdeUtils {
 		Map<String, String> attributes = Map.of("id", id, "name", name, "class", className);
 		createExtensionElement("org.eclipse.ui.editors", "editor", attributes);
 	}
-
-	////////////////////////////////////////////////////////////////////////////
-	//
-	// Extensions visiting
-	//
-	////////////////////////////////////////////////////////////////////////////
-	/**
-	 * Visitor interface to use with
-	 * {@link PdeUtils#visitExtensions(String, String, IExtensionVisitor)}.
-	 */
-	private interface IExtensionVisitor {
-		/**
-		 * Visits single extension {@link IPluginElement}.
-		 *
-		 * @return <code>true</code> if required result was found, so visiting should be terminated.
-		 */
-		boolean visit(IPluginElement element);
-	}
-
-	/**
-	 * Visits extensions to the extension point with given ID and element name.
-	 */
-	private static void visitExtensions(String pointId, String elementName, IExtensionVisitor visitor) {
-		IPluginModelBase[] plugins = getAllModels();
-		for (IPluginModelBase plugin : plugins) {
-			List<IPluginElement> elements = getExtensionElements(plugin, pointId, elementName);
-			for (IPluginElement element : elements) {
-				if (visitor.visit(element)) {
-					return;
-				}
-			}
-		}
-	}
 }
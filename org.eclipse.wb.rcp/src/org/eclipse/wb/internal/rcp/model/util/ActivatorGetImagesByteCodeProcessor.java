@@ -14,6 +14,7 @@ package org.eclipse.wb.internal.rcp.model.util;
 
 import org.eclipse.wb.internal.core.DesignerPlugin;
 import org.eclipse.wb.internal.core.utils.asm.ToBytesClassAdapter;
+import org.eclipse.wb.internal.core.utils.reflect.ByteCodeCache;
 import org.eclipse.wb.internal.core.utils.reflect.IByteCodeProcessor;
 import org.eclipse.wb.internal.core.utils.reflect.ProjectClassLoader;
 import org.eclipse.wb.internal.swt.model.property.editor.image.plugin.WorkspacePluginInfo;
@@ -52,6 +53,11 @@ public final class ActivatorGetImagesByteCodeProcessor implements IByteCodeProce
 		prepareActivatorInformation(classLoader.getJavaProject().getProject());
 	}
 
+	@Override
+	public boolean canProcess(String className) {
+		return className.equals(m_activatorClassName);
+	}
+
 	@Override
 	public byte[] process(String className, byte[] bytes) {
 		if (className.equals(m_activatorClassName)) {
@@ -60,6 +66,21 @@ public final class ActivatorGetImagesByteCodeProcessor implements IByteCodeProce
 		return bytes;
 	}
 
+	@Override
+	public String getCacheKey() {
+		return ByteCodeCache.getVersionKey(getClass())
+				+ "|"
+				+ m_activatorClassName
+				+ "|"
+				+ m_activatorProjectPath;
+	}
+
+	@Override
+	public boolean canProcessLibraryClasses() {
+		// activator is always in project
+		return false;
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// Handle
@@ -14,6 +14,7 @@ package org.eclipse.wb.internal.swing.databinding;
 
 import org.eclipse.wb.core.editor.IDesignPageSite;
 import org.eclipse.wb.core.model.JavaInfo;
+import org.eclipse.wb.core.model.ObjectInfo;
 import org.eclipse.wb.internal.core.databinding.model.IBindingInfo;
 import org.eclipse.wb.internal.core.databinding.model.IDatabindingsProvider;
 import org.eclipse.wb.internal.core.databinding.model.IObserveInfo;
@@ -72,6 +73,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * {@link IDatabindingsProvider} for support Swing beans bindings API.
@@ -300,19 +302,32 @@ public final class DatabindingsProvider implements IDatabindingsProvider {
 
 	@Override
 	public void synchronizeObserves() throws Exception {
-		// prepare editor
 		AstEditor editor = m_javaInfoRoot.getEditor();
-		// prepare node
+		TypeDeclaration rootNode = getRootNode(editor);
+		// synchronize
+		for (ObserveTypeContainer container : m_containers) {
+			container.synchronizeObserves(m_javaInfoRoot, editor, rootNode);
+		}
+	}
+
+	@Override
+	public void synchronizeObserves(Set<ObjectInfo> objects) throws Exception {
+		AstEditor editor = m_javaInfoRoot.getEditor();
+		TypeDeclaration rootNode = getRootNode(editor);
+		// synchronize
+		for (ObserveTypeContainer container : m_containers) {
+			container.synchronizeObserves(m_javaInfoRoot, editor, rootNode, objects);
+		}
+	}
+
+	private TypeDeclaration getRootNode(AstEditor editor) {
 		TypeDeclaration rootNode = JavaInfoUtils.getTypeDeclaration(m_javaInfoRoot);
 		if (rootNode == null) {
 			// use first type declaration from compilation unit
 			CompilationUnit astUnit = editor.getAstUnit();
 			rootNode = (TypeDeclaration) astUnit.types().get(0);
 		}
-		// synchronize
-		for (ObserveTypeContainer container : m_containers) {
-			container.synchronizeObserves(m_javaInfoRoot, editor, rootNode);
-		}
+		return rootNode;
 	}
 
 	@Override
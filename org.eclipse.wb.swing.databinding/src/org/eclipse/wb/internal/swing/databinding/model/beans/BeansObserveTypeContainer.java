@@ -53,6 +53,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Container with type {@link ObserveType#BEANS}. Works on <code>Java Beans</code> objects.
@@ -94,8 +95,23 @@ public final class BeansObserveTypeContainer extends ObserveTypeContainer {
 	}
 
 	@Override
-	public void synchronizeObserves(JavaInfo root, final AstEditor editor, TypeDeclaration rootNode)
+	public void synchronizeObserves(JavaInfo root, AstEditor editor, TypeDeclaration rootNode)
 			throws Exception {
+		synchronizeObserves(editor, rootNode, true);
+	}
+
+	@Override
+	public void synchronizeObserves(JavaInfo root,
+			AstEditor editor,
+			TypeDeclaration rootNode,
+			Set<ObjectInfo> objects) throws Exception {
+		// local variables of "initDataBindings()" can be changed only if bindings were deleted
+		synchronizeObserves(editor, rootNode, SynchronizeManager.hasDeleted(objects));
+	}
+
+	private void synchronizeObserves(final AstEditor editor,
+			TypeDeclaration rootNode,
+			boolean localVariables) throws Exception {
 		final BeanSupport beanSupport = new BeanSupport();
 		//
 		IObserveInfo virtualObserve = m_observes.remove(0);
@@ -154,6 +170,16 @@ public final class BeansObserveTypeContainer extends ObserveTypeContainer {
 					}
 				});
 		// local variables
+		if (localVariables) {
+			synchronizeLocalVariables(editor, beanSupport, rootNode);
+		}
+		//
+		m_observes.add(0, virtualObserve);
+	}
+
+	private void synchronizeLocalVariables(final AstEditor editor,
+			final BeanSupport beanSupport,
+			TypeDeclaration rootNode) throws Exception {
 		int observableSize = m_observes.size();
 		int localVariableIndex = observableSize;
 		//
@@ -210,8 +236,6 @@ public final class BeansObserveTypeContainer extends ObserveTypeContainer {
 					public void update(IObserveInfo object) throws Exception {
 					}
 				});
-		//
-		m_observes.add(0, virtualObserve);
 	}
 
 	////////////////////////////////////////////////////////////////////////////
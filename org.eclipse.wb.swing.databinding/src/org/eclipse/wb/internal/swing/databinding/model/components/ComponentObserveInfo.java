@@ -13,6 +13,7 @@
 package org.eclipse.wb.internal.swing.databinding.model.components;
 
 import org.eclipse.wb.core.model.JavaInfo;
+import org.eclipse.wb.core.model.ObjectInfo;
 import org.eclipse.wb.internal.core.DesignerPlugin;
 import org.eclipse.wb.internal.core.databinding.model.IObserveInfo;
 import org.eclipse.wb.internal.core.databinding.model.IObservePresentation;
@@ -37,6 +38,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * {@link ObserveInfo} model for {@code Swing} components.
@@ -121,6 +123,20 @@ public class ComponentObserveInfo extends ObserveInfo {
 	 * Update (reorder, add, remove) children {@link ComponentObserveInfo}.
 	 */
 	public void update() throws Exception {
+		update(null);
+	}
+
+	/**
+	 * Update (reorder, add, remove) children {@link ComponentObserveInfo}, only for given objects.
+	 *
+	 * @param objects
+	 *          the changed {@link ObjectInfo}'s with their ancestors, or <code>null</code> to update
+	 *          all {@link ComponentObserveInfo}'s.
+	 */
+	public void update(final Set<ObjectInfo> objects) throws Exception {
+		if (objects != null && !objects.contains(m_javaInfo)) {
+			return;
+		}
 		// prepare new javaInfo's
 		List<JavaInfo> javaInfos = SynchronizeManager.getChildren(m_javaInfo, JavaInfo.class);
 		//
@@ -166,7 +182,7 @@ public class ComponentObserveInfo extends ObserveInfo {
 
 					@Override
 					public void update(ComponentObserveInfo component) throws Exception {
-						component.update();
+						component.update(objects);
 					}
 				});
 	}
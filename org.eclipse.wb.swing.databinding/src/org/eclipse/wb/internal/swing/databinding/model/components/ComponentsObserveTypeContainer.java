@@ -13,6 +13,7 @@
 package org.eclipse.wb.internal.swing.databinding.model.components;
 
 import org.eclipse.wb.core.model.JavaInfo;
+import org.eclipse.wb.core.model.ObjectInfo;
 import org.eclipse.wb.internal.core.databinding.model.AstObjectInfo;
 import org.eclipse.wb.internal.core.databinding.model.IDatabindingsProvider;
 import org.eclipse.wb.internal.core.databinding.model.IObserveInfo;
@@ -32,6 +33,7 @@ import org.eclipse.jdt.core.dom.TypeDeclaration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Components container with type {@link ObserveType#WIDGETS}. Works on <code>Swing</code>
@@ -72,6 +74,18 @@ public final class ComponentsObserveTypeContainer extends ObserveTypeContainer {
 		}
 	}
 
+	@Override
+	public void synchronizeObserves(JavaInfo root,
+			AstEditor editor,
+			TypeDeclaration rootNode,
+			Set<ObjectInfo> objects) throws Exception {
+		int count = m_observes.size();
+		for (int i = 0; i < count; i++) {
+			ComponentObserveInfo observe = (ComponentObserveInfo) m_observes.get(i);
+			observe.update(objects);
+		}
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// Parser
@@ -13,6 +13,7 @@
 package org.eclipse.wb.internal.swing.model.component.live;
 
 import org.eclipse.wb.internal.core.model.util.live.ILiveCacheEntry;
+import org.eclipse.wb.internal.core.utils.ui.ResourceTracker;
 
 import org.eclipse.swt.graphics.Image;
 
@@ -36,8 +37,8 @@ public final class SwingLiveCacheEntry implements ILiveCacheEntry {
 	////////////////////////////////////////////////////////////////////////////
 	@Override
 	public void dispose() {
-		if (m_image != null && !m_image.isDisposed()) {
-			m_image.dispose();
+		if (m_image != null) {
+			ResourceTracker.GLOBAL.dispose(m_image);
 			m_image = null;
 		}
 	}
@@ -71,6 +72,7 @@ public final class SwingLiveCacheEntry implements ILiveCacheEntry {
 	 */
 	public void setImage(Image image) {
 		m_image = image;
+		ResourceTracker.GLOBAL.add(image, ResourceTracker.getCallerSite(1));
 	}
 
 	/**
@@ -232,6 +232,7 @@ public abstract class AbstractGridBagConstraintsInfo extends JavaInfo {
 	 */
 	public void setX(int x) throws Exception {
 		this.x = x;
+		cellsChanged();
 		setLocationPropertyValue("gridx", x);
 	}
 
@@ -247,6 +248,7 @@ public abstract class AbstractGridBagConstraintsInfo extends JavaInfo {
 	 */
 	public void setY(int y) throws Exception {
 		this.y = y;
+		cellsChanged();
 		setLocationPropertyValue("gridy", y);
 	}
 
@@ -262,6 +264,7 @@ public abstract class AbstractGridBagConstraintsInfo extends JavaInfo {
 	 */
 	public void setWidth(int width) throws Exception {
 		this.width = width;
+		cellsChanged();
 		getProperty("gridwidth").setValue(width);
 	}
 
@@ -277,9 +280,21 @@ public abstract class AbstractGridBagConstraintsInfo extends JavaInfo {
 	 */
 	public void setHeight(int height) throws Exception {
 		this.height = height;
+		cellsChanged();
 		getProperty("gridheight").setValue(height);
 	}
 
+	/**
+	 * Notifies {@link AbstractGridBagLayoutInfo} that cells of this constraints were changed.
+	 */
+	private void cellsChanged() {
+		if (getParent() instanceof ComponentInfo component
+				&& component.getParent() instanceof ContainerInfo container
+				&& container.getLayout() instanceof AbstractGridBagLayoutInfo layout) {
+			layout.getCellIndex().invalidate();
+		}
+	}
+
 	private void setLocationPropertyValue(String title, int value) throws Exception {
 		m_internalLocationChange = true;
 		try {
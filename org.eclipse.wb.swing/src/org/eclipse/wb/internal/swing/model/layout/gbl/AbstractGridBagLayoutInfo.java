@@ -162,6 +162,30 @@ public abstract class AbstractGridBagLayoutInfo extends LayoutInfo implements IP
 		}
 	}
 
+	/**
+	 * Visits given {@link ComponentInfo}'s of this {@link ContainerInfo}, usually selected using
+	 * {@link #getCellIndex()}.
+	 */
+	void visitComponents(IComponentVisitor visitor, List<ComponentInfo> components) throws Exception {
+		for (ComponentInfo component : components) {
+			visitor.visit(component, getConstraints(component));
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Cells
+	//
+	////////////////////////////////////////////////////////////////////////////
+	private final GridBagCellIndex m_cellIndex = new GridBagCellIndex(this);
+
+	/**
+	 * @return the {@link GridBagCellIndex} with cells occupied by {@link ComponentInfo}'s.
+	 */
+	GridBagCellIndex getCellIndex() {
+		return m_cellIndex;
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// Set
@@ -222,6 +246,7 @@ public abstract class AbstractGridBagLayoutInfo extends LayoutInfo implements IP
 		for (ComponentInfo component : getComponents()) {
 			getConstraints(component).getCurrentObjectFields(false);
 		}
+		m_cellIndex.invalidate();
 		// initialize dimensions
 		if (!m_dimensionsInitialized) {
 			m_dimensionsInitialized = true;
@@ -754,14 +779,7 @@ public abstract class AbstractGridBagLayoutInfo extends LayoutInfo implements IP
 	 * @return the {@link ComponentInfo} with given top-left cell, may be <code>null</code>.
 	 */
 	private ComponentInfo getComponentAt(int x, int y) {
-		for (ComponentInfo component : getComponents()) {
-			AbstractGridBagConstraintsInfo constraints = getConstraints(component);
-			if (constraints.x == x && constraints.y == y) {
-				return component;
-			}
-		}
-		// no such component
-		return null;
+		return m_cellIndex.getComponentAt(x, y);
 	}
 
 	////////////////////////////////////////////////////////////////////////////
@@ -859,21 +877,14 @@ public abstract class AbstractGridBagLayoutInfo extends LayoutInfo implements IP
 	private void createGridInfo() throws Exception {
 		// prepare cells
 		final Map<ComponentInfo, Rectangle> componentToCells = new HashMap<>();
-		final Map<Point, ComponentInfo> occupiedCells = new HashMap<>();
+		final Map<Point, ComponentInfo> occupiedCells = m_cellIndex.getOccupiedCells();
 		visitComponents(new IComponentVisitor() {
 			@Override
 			public void visit(ComponentInfo component, AbstractGridBagConstraintsInfo constraints)
 					throws Exception {
 				Rectangle cells =
 						new Rectangle(constraints.x, constraints.y, constraints.width, constraints.height);
-				// fill map: ComponentInfo -> cells Rectangle
 				componentToCells.put(component, cells);
-				// fill map: occupied cells
-				for (int x = cells.x; x < cells.right(); x++) {
-					for (int y = cells.y; y < cells.bottom(); y++) {
-						occupiedCells.put(new Point(x, y), component);
-					}
-				}
 			}
 		});
 		// prepare intervals
@@ -133,7 +133,7 @@ public abstract class DimensionOperations<T extends DimensionInfo> {
 					setSize(constraints, size - 1);
 				}
 			}
-		});
+		}, getComponentsEndingAfter(index));
 		// remove dimension
 		{
 			getDimensions().remove(index);
@@ -157,7 +157,7 @@ public abstract class DimensionOperations<T extends DimensionInfo> {
 					component.delete();
 				}
 			}
-		});
+		}, getComponentsAt(index));
 	}
 
 	/**
@@ -186,7 +186,7 @@ public abstract class DimensionOperations<T extends DimensionInfo> {
 					setSize(constraints, size + 1);
 				}
 			}
-		});
+		}, getComponentsEndingAfter(index));
 	}
 
 	/**
@@ -216,7 +216,7 @@ public abstract class DimensionOperations<T extends DimensionInfo> {
 					setSize(constraints, 1);
 				}
 			}
-		});
+		}, getComponentsAt(sourceIndex));
 		// delete old dimension
 		delete(sourceIndex);
 		m_layout.ensureGapInsets();
@@ -310,7 +310,7 @@ public abstract class DimensionOperations<T extends DimensionInfo> {
 						setSize(constraints, size + 1);
 					}
 				}
-			});
+			}, getComponentsEndingAfter(index));
 		}
 	}
 
@@ -352,6 +352,26 @@ public abstract class DimensionOperations<T extends DimensionInfo> {
 	// Internal GridBagConstraintsInfo operations
 	//
 	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @return <code>true</code> if this operations are for columns, <code>false</code> for rows.
+	 */
+	protected abstract boolean isHorizontal();
+
+	/**
+	 * @return the {@link ComponentInfo}'s located in {@link DimensionInfo} with given index.
+	 */
+	protected final List<ComponentInfo> getComponentsAt(int index) {
+		return m_layout.getCellIndex().getComponentsAt(isHorizontal(), index);
+	}
+
+	/**
+	 * @return the {@link ComponentInfo}'s located in {@link DimensionInfo} with given index, spanning
+	 *         it, or located after it.
+	 */
+	protected final List<ComponentInfo> getComponentsEndingAfter(int index) {
+		return m_layout.getCellIndex().getComponentsEndingAfter(isHorizontal(), index);
+	}
+
 	/**
 	 * @return the x/y location.
 	 */
@@ -12,8 +12,6 @@
  *******************************************************************************/
 package org.eclipse.wb.internal.swing.model.layout.gbl;
 
-import org.eclipse.wb.internal.core.utils.execution.ExecutionUtils;
-import org.eclipse.wb.internal.core.utils.execution.RunnableEx;
 import org.eclipse.wb.internal.swing.model.component.ComponentInfo;
 
 import java.util.LinkedList;
@@ -40,23 +38,8 @@ public final class DimensionOperationsColumn extends DimensionOperations<ColumnI
 	//
 	////////////////////////////////////////////////////////////////////////////
 	@Override
-	public boolean isEmpty(final int index) {
-		final boolean[] filled = new boolean[1];
-		ExecutionUtils.runLog(new RunnableEx() {
-			@Override
-			public void run() throws Exception {
-				m_layout.visitComponents(new IComponentVisitor() {
-					@Override
-					public void visit(ComponentInfo component, AbstractGridBagConstraintsInfo constraints)
-							throws Exception {
-						int x = constraints.getX();
-						int width = constraints.getWidth();
-						filled[0] |= x <= index && index < x + width;
-					}
-				});
-			}
-		});
-		return !filled[0];
+	public boolean isEmpty(int index) {
+		return !m_layout.getCellIndex().isFilled(true, index);
 	}
 
 	////////////////////////////////////////////////////////////////////////////
@@ -103,6 +86,11 @@ public final class DimensionOperationsColumn extends DimensionOperations<ColumnI
 	// Internal GridBagConstraintsInfo operations
 	//
 	////////////////////////////////////////////////////////////////////////////
+	@Override
+	protected boolean isHorizontal() {
+		return true;
+	}
+
 	@Override
 	protected int getLocation(AbstractGridBagConstraintsInfo constraints) {
 		return constraints.x;
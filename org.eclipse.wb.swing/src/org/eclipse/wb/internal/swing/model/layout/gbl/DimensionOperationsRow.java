@@ -12,8 +12,6 @@
  *******************************************************************************/
 package org.eclipse.wb.internal.swing.model.layout.gbl;
 
-import org.eclipse.wb.internal.core.utils.execution.ExecutionUtils;
-import org.eclipse.wb.internal.core.utils.execution.RunnableEx;
 import org.eclipse.wb.internal.swing.model.component.ComponentInfo;
 
 import java.util.LinkedList;
@@ -40,23 +38,8 @@ public final class DimensionOperationsRow extends DimensionOperations<RowInfo> {
 	//
 	////////////////////////////////////////////////////////////////////////////
 	@Override
-	public boolean isEmpty(final int index) {
-		final boolean[] filled = new boolean[1];
-		ExecutionUtils.runLog(new RunnableEx() {
-			@Override
-			public void run() throws Exception {
-				m_layout.visitComponents(new IComponentVisitor() {
-					@Override
-					public void visit(ComponentInfo component, AbstractGridBagConstraintsInfo constraints)
-							throws Exception {
-						int y = constraints.getY();
-						int height = constraints.getHeight();
-						filled[0] |= y <= index && index < y + height;
-					}
-				});
-			}
-		});
-		return !filled[0];
+	public boolean isEmpty(int index) {
+		return !m_layout.getCellIndex().isFilled(false, index);
 	}
 
 	////////////////////////////////////////////////////////////////////////////
@@ -103,6 +86,11 @@ public final class DimensionOperationsRow extends DimensionOperations<RowInfo> {
 	// Internal GridBagConstraintsInfo operations
 	//
 	////////////////////////////////////////////////////////////////////////////
+	@Override
+	protected boolean isHorizontal() {
+		return false;
+	}
+
 	@Override
 	protected int getLocation(AbstractGridBagConstraintsInfo constraints) {
 		return constraints.y;
@@ -0,0 +1,199 @@
+/*******************************************************************************
+ * Copyright (c) 2026 WindowBuilder contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    WindowBuilder contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.wb.internal.swing.model.layout.gbl;
+
+import org.eclipse.wb.internal.core.utils.execution.ExecutionUtils;
+import org.eclipse.wb.internal.swing.model.component.ComponentInfo;
+
+import org.eclipse.draw2d.geometry.Point;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Index of cells occupied by {@link ComponentInfo}'s of {@link AbstractGridBagLayoutInfo}.
+ * <p>
+ * Index is built from {@link AbstractGridBagConstraintsInfo}'s on first request and used until
+ * model is refreshed, source is changed, or constraints cells are changed using
+ * {@link AbstractGridBagConstraintsInfo} setters.
+ *
+ * @coverage swing.model.layout
+ */
+final class GridBagCellIndex {
+	private final AbstractGridBagLayoutInfo m_layout;
+	private final Map<ComponentInfo, Integer> m_order = new HashMap<>();
+	private final Map<Point, ComponentInfo> m_origins = new HashMap<>();
+	private final Map<Point, ComponentInfo> m_occupied = new HashMap<>();
+	private final DimensionCells m_columns = new DimensionCells();
+	private final DimensionCells m_rows = new DimensionCells();
+	private boolean m_valid;
+	private int m_refreshCount;
+	private long m_modificationCount;
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Constructor
+	//
+	////////////////////////////////////////////////////////////////////////////
+	GridBagCellIndex(AbstractGridBagLayoutInfo layout) {
+		m_layout = layout;
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Access
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @return the first {@link ComponentInfo} with given top-left cell, may be <code>null</code>.
+	 */
+	ComponentInfo getComponentAt(int column, int row) {
+		validate();
+		return m_origins.get(new Point(column, row));
+	}
+
+	/**
+	 * @return the {@link ComponentInfo} that occupies given cell, may be <code>null</code>.
+	 */
+	ComponentInfo getOccupied(int column, int row) {
+		validate();
+		return m_occupied.get(new Point(column, row));
+	}
+
+	/**
+	 * @return the copy of map of occupied cells into {@link ComponentInfo}'s.
+	 */
+	Map<Point, ComponentInfo> getOccupiedCells() {
+		validate();
+		return new HashMap<>(m_occupied);
+	}
+
+	/**
+	 * @return <code>true</code> if some {@link ComponentInfo} occupies column/row with given index.
+	 */
+	boolean isFilled(boolean horizontal, int index) {
+		validate();
+		return getDimension(horizontal).m_filled.contains(index);
+	}
+
+	/**
+	 * @return the {@link ComponentInfo}'s with location in given column/row, in order of components.
+	 */
+	List<ComponentInfo> getComponentsAt(boolean horizontal, int location) {
+		validate();
+		List<ComponentInfo> components = getDimension(horizontal).m_locations.get(location);
+		return components != null ? List.copyOf(components) : Collections.emptyList();
+	}
+
+	/**
+	 * @return the {@link ComponentInfo}'s that end after given column/row, i.e. located in it, span
+	 *         it or located after it, in order of components.
+	 */
+	List<ComponentInfo> getComponentsEndingAfter(boolean horizontal, int index) {
+		validate();
+		Collection<List<ComponentInfo>> groups =
+				getDimension(horizontal).m_ends.tailMap(index, false).values();
+		List<ComponentInfo> components = new ArrayList<>();
+		for (List<ComponentInfo> group : groups) {
+			components.addAll(group);
+		}
+		components.sort(Comparator.comparingInt(m_order::get));
+		return components;
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Build
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Marks index as not valid, so it will be built again on next request.
+	 */
+	void invalidate() {
+		m_valid = false;
+	}
+
+	private DimensionCells getDimension(boolean horizontal) {
+		return horizontal ? m_columns : m_rows;
+	}
+
+	/**
+	 * Builds index again if constraints were changed, model was refreshed or source was changed.
+	 */
+	private void validate() {
+		int refreshCount = m_layout.getRefreshCount();
+		long modificationCount = m_layout.getEditor().getAstUnit().getAST().modificationCount();
+		if (m_valid
+				&& m_refreshCount == refreshCount
+				&& m_modificationCount == modificationCount) {
+			return;
+		}
+		m_order.clear();
+		m_origins.clear();
+		m_occupied.clear();
+		m_columns.clear();
+		m_rows.clear();
+		ExecutionUtils.runRethrow(() -> m_layout.visitComponents(this::addComponent));
+		m_valid = true;
+		m_refreshCount = refreshCount;
+		m_modificationCount = modificationCount;
+	}
+
+	private void addComponent(ComponentInfo component, AbstractGridBagConstraintsInfo constraints) {
+		m_order.put(component, m_order.size());
+		m_origins.putIfAbsent(new Point(constraints.x, constraints.y), component);
+		for (int x = constraints.x; x < constraints.x + constraints.width; x++) {
+			for (int y = constraints.y; y < constraints.y + constraints.height; y++) {
+				m_occupied.put(new Point(x, y), component);
+			}
+		}
+		m_columns.add(component, constraints.x, constraints.width);
+		m_rows.add(component, constraints.y, constraints.height);
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// DimensionCells
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Components of columns or rows.
+	 */
+	private static final class DimensionCells {
+		private final Map<Integer, List<ComponentInfo>> m_locations = new HashMap<>();
+		private final TreeMap<Integer, List<ComponentInfo>> m_ends = new TreeMap<>();
+		private final Set<Integer> m_filled = new HashSet<>();
+
+		private void clear() {
+			m_locations.clear();
+			m_ends.clear();
+			m_filled.clear();
+		}
+
+		private void add(ComponentInfo component, int location, int size) {
+			m_locations.computeIfAbsent(location, key -> new ArrayList<>()).add(component);
+			m_ends.computeIfAbsent(location + size, key -> new ArrayList<>()).add(component);
+			for (int i = location; i < location + size; i++) {
+				m_filled.add(i);
+			}
+		}
+	}
+}
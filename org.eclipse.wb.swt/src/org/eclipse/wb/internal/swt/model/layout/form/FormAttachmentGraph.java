@@ -0,0 +1,355 @@
+/*******************************************************************************
+ * Copyright (c) 2026 WindowBuilder contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    WindowBuilder contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.wb.internal.swt.model.layout.form;
+
+import org.eclipse.wb.core.model.IAbstractComponentInfo;
+import org.eclipse.wb.core.model.JavaInfo;
+import org.eclipse.wb.core.model.ObjectInfo;
+import org.eclipse.wb.internal.core.gef.policy.snapping.PlacementUtils;
+import org.eclipse.wb.internal.swt.model.widgets.IControlInfo;
+
+import org.eclipse.draw2d.PositionConstants;
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.draw2d.geometry.Transposer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Graph of attachments between controls of {@link IFormLayoutInfo}. Keeps forward edges (side of
+ * control to the control it is attached to) and reverse edges (control to the sides of other
+ * controls attached to it), and index of control bounds for neighbor queries.
+ * <p>
+ * Graph is read from model once per refresh. Attachments written using
+ * {@link #write(IControlInfo, int, IFormAttachmentInfo)} and
+ * {@link #delete(IControlInfo, int, IFormAttachmentInfo)} update it in place, any other edit of
+ * source causes reading it again.
+ *
+ * @coverage swt.model.layout.form
+ */
+final class FormAttachmentGraph<C extends IControlInfo> {
+	private static final int[] SIDES = {
+			PositionConstants.TOP,
+			PositionConstants.LEFT,
+			PositionConstants.BOTTOM,
+			PositionConstants.RIGHT};
+	private final IFormLayoutInfo<C> m_layout;
+	private final Map<C, Integer> m_indexes = new HashMap<>();
+	private final Map<C, Map<Integer, Edge<C>>> m_forward = new HashMap<>();
+	private final Map<C, List<Edge<C>>> m_reverse = new HashMap<>();
+	private final Map<Boolean, BoundsIndex<C>> m_boundsIndexes = new HashMap<>();
+	private int m_refreshCount = -1;
+	private long m_modificationCount = -1;
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Constructor
+	//
+	////////////////////////////////////////////////////////////////////////////
+	FormAttachmentGraph(IFormLayoutInfo<C> layout) {
+		m_layout = layout;
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Access
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @return the {@link Edge} from given side of control, or <code>null</code> if this side is not
+	 *         attached to other control.
+	 */
+	Edge<C> getEdge(IAbstractComponentInfo control, int side) throws Exception {
+		validate();
+		Map<Integer, Edge<C>> edges = m_forward.get(control);
+		return edges != null ? edges.get(side) : null;
+	}
+
+	/**
+	 * @return the {@link Edge}'s from sides of other controls attached to given control, in order of
+	 *         controls and sides.
+	 */
+	List<Edge<C>> getAttachedTo(IAbstractComponentInfo target) throws Exception {
+		validate();
+		List<Edge<C>> edges = m_reverse.get(target);
+		if (edges == null) {
+			return Collections.emptyList();
+		}
+		List<Edge<C>> sortedEdges = new ArrayList<>(edges);
+		sortedEdges.sort(
+				Comparator.comparingInt((Edge<C> edge) -> getIndex(edge.source))
+				.thenComparingInt(edge -> getSideIndex(edge.side)));
+		return sortedEdges;
+	}
+
+	/**
+	 * @return the given control and all controls attached to it directly or indirectly, using
+	 *         horizontal or vertical sides.
+	 */
+	Set<C> getDependentControls(C control, boolean isHorizontal) throws Exception {
+		validate();
+		Set<C> dependents = new HashSet<>();
+		LinkedList<C> queue = new LinkedList<>();
+		dependents.add(control);
+		queue.add(control);
+		while (!queue.isEmpty()) {
+			C target = queue.removeFirst();
+			List<Edge<C>> edges = m_reverse.get(target);
+			if (edges != null) {
+				for (Edge<C> edge : edges) {
+					if (PlacementUtils.isHorizontalSide(edge.side) == isHorizontal
+							&& dependents.add(edge.source)) {
+						queue.add(edge.source);
+					}
+				}
+			}
+		}
+		return dependents;
+	}
+
+	/**
+	 * @return the {@link BoundsEntry}'s of controls which are located before given position in
+	 *         given direction, from nearest to farthest.
+	 */
+	List<BoundsEntry<C>> getLeadingCandidates(boolean isHorizontal, int position) throws Exception {
+		BoundsIndex<C> index = getBoundsIndex(isHorizontal);
+		// first entry with "end <= position"
+		int low = 0;
+		int high = index.m_byEnd.size();
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (index.m_byEnd.get(middle).end() > position) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return index.m_byEnd.subList(low, index.m_byEnd.size());
+	}
+
+	/**
+	 * @return the {@link BoundsEntry}'s of controls which are located after given position in given
+	 *         direction, from nearest to farthest.
+	 */
+	List<BoundsEntry<C>> getTrailingCandidates(boolean isHorizontal, int position) throws Exception {
+		BoundsIndex<C> index = getBoundsIndex(isHorizontal);
+		// first entry with "begin >= position"
+		int low = 0;
+		int high = index.m_byBegin.size();
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (index.m_byBegin.get(middle).begin() < position) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return index.m_byBegin.subList(low, index.m_byBegin.size());
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Commands
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Writes given attachment of control side and updates graph.
+	 */
+	void write(C control, int side, IFormAttachmentInfo<C> attachment) throws Exception {
+		validate();
+		attachment.write();
+		removeEdge(control, side);
+		addEdge(control, side, attachment);
+		m_modificationCount = getModificationCount();
+	}
+
+	/**
+	 * Deletes given attachment of control side and updates graph.
+	 */
+	void delete(C control, int side, IFormAttachmentInfo<C> attachment) throws Exception {
+		validate();
+		attachment.delete();
+		removeEdge(control, side);
+		m_modificationCount = getModificationCount();
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Build
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Reads graph again if model was refreshed or source was changed not using this graph.
+	 */
+	private void validate() throws Exception {
+		ObjectInfo model = m_layout.getUnderlyingModel();
+		int refreshCount = model.getRefreshCount();
+		long modificationCount = getModificationCount();
+		if (m_refreshCount != refreshCount) {
+			m_boundsIndexes.clear();
+		} else if (m_modificationCount == modificationCount) {
+			return;
+		}
+		m_refreshCount = refreshCount;
+		m_modificationCount = modificationCount;
+		m_indexes.clear();
+		m_forward.clear();
+		m_reverse.clear();
+		List<C> controls = m_layout.getControls();
+		for (C control : controls) {
+			m_indexes.put(control, m_indexes.size());
+		}
+		for (C control : controls) {
+			IFormDataInfo<C> formData = (IFormDataInfo<C>) m_layout.getLayoutData2(control);
+			for (int side : SIDES) {
+				addEdge(control, side, formData.getAttachment(side));
+			}
+		}
+	}
+
+	private long getModificationCount() {
+		ObjectInfo model = m_layout.getUnderlyingModel();
+		if (model instanceof JavaInfo javaInfo) {
+			return javaInfo.getEditor().getAstUnit().getAST().modificationCount();
+		}
+		return 0;
+	}
+
+	private void addEdge(C control, int side, IFormAttachmentInfo<C> attachment) {
+		if (attachment.isVirtual()) {
+			return;
+		}
+		C target = attachment.getControl();
+		if (target != null) {
+			Edge<C> edge = new Edge<>(control, side, target, attachment.getAlignment());
+			m_forward.computeIfAbsent(control, key -> new HashMap<>()).put(side, edge);
+			m_reverse.computeIfAbsent(target, key -> new ArrayList<>()).add(edge);
+		}
+	}
+
+	private void removeEdge(C control, int side) {
+		Map<Integer, Edge<C>> edges = m_forward.get(control);
+		Edge<C> edge = edges != null ? edges.remove(side) : null;
+		if (edge != null) {
+			m_reverse.get(edge.target).remove(edge);
+		}
+	}
+
+	private int getIndex(C control) {
+		Integer index = m_indexes.get(control);
+		return index != null ? index : Integer.MAX_VALUE;
+	}
+
+	private static int getSideIndex(int side) {
+		for (int i = 0; i < SIDES.length; i++) {
+			if (SIDES[i] == side) {
+				return i;
+			}
+		}
+		return SIDES.length;
+	}
+
+	/**
+	 * @return the {@link BoundsIndex} for current bounds of controls, in given orientation.
+	 */
+	private BoundsIndex<C> getBoundsIndex(boolean isHorizontal) throws Exception {
+		validate();
+		BoundsIndex<C> index = m_boundsIndexes.get(isHorizontal);
+		if (index == null) {
+			Transposer t = new Transposer(!isHorizontal);
+			Point clientAreaLocation = m_layout.getComposite().getClientArea().getLocation();
+			List<BoundsEntry<C>> entries = new ArrayList<>();
+			for (C control : m_layout.getControls()) {
+				Rectangle bounds = PlacementUtils.getTranslatedBounds(clientAreaLocation, control);
+				entries.add(new BoundsEntry<>(control, t.t(bounds), entries.size()));
+			}
+			index = new BoundsIndex<>(entries);
+			m_boundsIndexes.put(isHorizontal, index);
+		}
+		return index;
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Helper classes
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Attachment of control side to other control.
+	 */
+	static final class Edge<C extends IControlInfo> {
+		final C source;
+		final int side;
+		final C target;
+		final int alignment;
+
+		Edge(C source, int side, C target, int alignment) {
+			this.source = source;
+			this.side = side;
+			this.target = target;
+			this.alignment = alignment;
+		}
+	}
+
+	/**
+	 * Control with its bounds, transposed for requested orientation, so "x" and "width" are always
+	 * in direction of query.
+	 */
+	static final class BoundsEntry<C extends IControlInfo> {
+		final C control;
+		final Rectangle bounds;
+		final int index;
+
+		BoundsEntry(C control, Rectangle bounds, int index) {
+			this.control = control;
+			this.bounds = bounds;
+			this.index = index;
+		}
+
+		int begin() {
+			return bounds.x;
+		}
+
+		int end() {
+			return bounds.x + bounds.width;
+		}
+	}
+
+	/**
+	 * {@link BoundsEntry}'s sorted by end (descending) and by begin (ascending), controls with same
+	 * position are in order of controls.
+	 */
+	private static final class BoundsIndex<C extends IControlInfo> {
+		private final List<BoundsEntry<C>> m_byEnd;
+		private final List<BoundsEntry<C>> m_byBegin;
+
+		BoundsIndex(List<BoundsEntry<C>> entries) {
+			m_byEnd = new ArrayList<>(entries);
+			m_byEnd.sort(
+					Comparator.comparingInt((BoundsEntry<C> entry) -> -entry.end())
+					.thenComparingInt(entry -> entry.index));
+			m_byBegin = new ArrayList<>(entries);
+			m_byBegin.sort(
+					Comparator.comparingInt((BoundsEntry<C> entry) -> entry.begin())
+					.thenComparingInt(entry -> entry.index));
+		}
+	}
+}
@@ -30,7 +30,9 @@ import org.eclipse.jface.resource.ImageDescriptor;
 import org.eclipse.swt.SWT;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Implementation using automatic component placement.
@@ -42,6 +44,7 @@ public final class FormLayoutInfoImplAutomatic<C extends IControlInfo>
 extends
 FormLayoutInfoImpl<C> implements IAbsoluteLayoutCommands {
 	private final IFormLayoutInfo<C> m_layout;
+	private final FormAttachmentGraph<C> m_graph;
 
 	////////////////////////////////////////////////////////////////////////////
 	//
@@ -50,6 +53,7 @@ FormLayoutInfoImpl<C> implements IAbsoluteLayoutCommands {
 	////////////////////////////////////////////////////////////////////////////
 	public FormLayoutInfoImplAutomatic(IFormLayoutInfo<C> formLayoutInfo) {
 		m_layout = formLayoutInfo;
+		m_graph = new FormAttachmentGraph<>(formLayoutInfo);
 	}
 
 	////////////////////////////////////////////////////////////////////////////
@@ -141,31 +145,40 @@ FormLayoutInfoImpl<C> implements IAbsoluteLayoutCommands {
 		List<AttachmentDef> affected = new ArrayList<>();
 		int leadingSide = PlacementUtils.getSide(isHorizontal, true);
 		int trailingSide = PlacementUtils.getSide(isHorizontal, false);
+		Map<IAbstractComponentInfo, Integer> sourceIndexes = new HashMap<>();
+		for (IAbstractComponentInfo source : sourceSet) {
+			sourceIndexes.putIfAbsent(source, sourceIndexes.size());
+		}
 		List<IAbstractComponentInfo> remainingComponents = getRemainingComponents(sourceSet);
 		for (IAbstractComponentInfo source : remainingComponents) {
-			for (IAbstractComponentInfo target : sourceSet) {
-				checkAttachedToComponent(source, target, leadingSide, affected);
-				checkAttachedToComponent(source, target, trailingSide, affected);
+			FormAttachmentGraph.Edge<C> leadingEdge = m_graph.getEdge(source, leadingSide);
+			FormAttachmentGraph.Edge<C> trailingEdge = m_graph.getEdge(source, trailingSide);
+			Integer leadingIndex = leadingEdge != null ? sourceIndexes.get(leadingEdge.target) : null;
+			Integer trailingIndex = trailingEdge != null ? sourceIndexes.get(trailingEdge.target) : null;
+			// keep order of targets in source set
+			if (leadingIndex != null && trailingIndex != null && trailingIndex < leadingIndex) {
+				addAttachmentDef(trailingEdge, affected);
+				addAttachmentDef(leadingEdge, affected);
+			} else {
+				if (leadingIndex != null) {
+					addAttachmentDef(leadingEdge, affected);
+				}
+				if (trailingIndex != null) {
+					addAttachmentDef(trailingEdge, affected);
+				}
 			}
 		}
 		return affected;
 	}
 
-	private void checkAttachedToComponent(IAbstractComponentInfo source,
-			IAbstractComponentInfo possibleTarget,
-			int checkingSide,
-			List<AttachmentDef> resultList) throws Exception {
-		if (isAttached(source, checkingSide)) {
-			IFormAttachmentInfo<C> attachment = getAttachment(source, checkingSide);
-			if (attachment.getControl() == possibleTarget) {
-				AttachmentDef def = new AttachmentDef();
-				def.source = source;
-				def.target = possibleTarget;
-				def.sourceSide = checkingSide;
-				def.targetSide = FormLayoutUtils.convertSwtAlignment(attachment.getAlignment());
-				resultList.add(def);
-			}
-		}
+	private static void addAttachmentDef(FormAttachmentGraph.Edge<?> edge,
+			List<AttachmentDef> resultList) {
+		AttachmentDef def = new AttachmentDef();
+		def.source = edge.source;
+		def.target = edge.target;
+		def.sourceSide = edge.side;
+		def.targetSide = FormLayoutUtils.convertSwtAlignment(edge.alignment);
+		resultList.add(def);
 	}
 
 	private void attachResizableFreely(IAbstractComponentInfo source,
@@ -308,41 +321,45 @@ FormLayoutInfoImpl<C> implements IAbsoluteLayoutCommands {
 	private NeighborInfo findNeighbor(Rectangle bounds,
 			List<? extends IAbstractComponentInfo> sourceSet,
 			int direction,
-			boolean isHorizontal) {
+			boolean isHorizontal) throws Exception {
 		NeighborInfo neighbor = new NeighborInfo(direction);
 		Transposer t = new Transposer(!isHorizontal);
 		Rectangle widgetsBounds = t.t(bounds.getCopy());
 		Interval widgetsWidth = new Interval(widgetsBounds.x, widgetsBounds.width);
 		Interval widgetsHeight = new Interval(widgetsBounds.y, widgetsBounds.height);
-		List<IAbstractComponentInfo> remainingWidgets = getRemainingComponents(sourceSet);
-		for (IAbstractComponentInfo widget : remainingWidgets) {
+		// candidates are sorted from nearest to farthest, so stop on first farther than found
+		List<FormAttachmentGraph.BoundsEntry<C>> candidates =
+				direction == PlacementInfo.LEADING
+				? m_graph.getLeadingCandidates(isHorizontal, widgetsWidth.begin())
+						: m_graph.getTrailingCandidates(isHorizontal, widgetsWidth.end());
+		for (FormAttachmentGraph.BoundsEntry<C> candidate : candidates) {
+			if (sourceSet.contains(candidate.control)) {
+				continue;
+			}
 			// test where is the neighbor component located: leading or trailing
-			Rectangle possibleNeighborBounds = t.t(getTranslatedBounds(widget));
+			Rectangle possibleNeighborBounds = candidate.bounds;
+			Interval possibleNeighborWidth =
+					new Interval(possibleNeighborBounds.x, possibleNeighborBounds.width);
+			int distance =
+					direction == PlacementInfo.LEADING
+					? widgetsWidth.distance(possibleNeighborWidth.end())
+							: widgetsWidth.distance(possibleNeighborWidth.begin());
+			if (neighbor.neighbor != null && distance > neighbor.distance) {
+				break;
+			}
 			// neighbor should intersect in opposite dimension.
 			Interval possibleNeighborHeight =
 					new Interval(possibleNeighborBounds.y, possibleNeighborBounds.height);
 			if (widgetsHeight.intersects(possibleNeighborHeight)) {
 				// this is possible neighbor, get the most nearest depending on side: leading or trailing
-				Interval possibleNeighborWidth =
-						new Interval(possibleNeighborBounds.x, possibleNeighborBounds.width);
 				if (!possibleNeighborWidth.intersects(widgetsWidth)) {
 					// no overlapping, check the distances
-					if (direction == PlacementInfo.LEADING && possibleNeighborWidth.isLeadingOf(widgetsWidth)) {
-						// leading
-						int distance = widgetsWidth.distance(possibleNeighborWidth.end());
-						if (neighbor.distance > distance) {
-							neighbor.distance = distance;
-							neighbor.neighbor = widget;
-							continue;
-						}
-					} else if (direction == PlacementInfo.TRAILING
+					if (direction == PlacementInfo.LEADING && possibleNeighborWidth.isLeadingOf(widgetsWidth)
+							|| direction == PlacementInfo.TRAILING
 							&& possibleNeighborWidth.isTrailingOf(widgetsWidth)) {
-						// trailing
-						int distance = widgetsWidth.distance(possibleNeighborWidth.begin());
 						if (neighbor.distance > distance) {
 							neighbor.distance = distance;
-							neighbor.neighbor = widget;
-							continue;
+							neighbor.neighbor = candidate.control;
 						}
 					}
 				}
@@ -459,7 +476,7 @@ FormLayoutInfoImpl<C> implements IAbsoluteLayoutCommands {
 		attachment.setNumerator(numerator);
 		attachment.setDenominator(100);
 		attachment.setOffset(offset);
-		attachment.write();
+		m_graph.write((C) source, sourceSide, attachment);
 	}
 
 	private void attachSideToComponent(IAbstractComponentInfo source,
@@ -473,13 +490,13 @@ FormLayoutInfoImpl<C> implements IAbsoluteLayoutCommands {
 		attachment.setNumerator(0);
 		attachment.setDenominator(100);
 		attachment.setOffset(offset);
-		attachment.write();
+		m_graph.write((C) source, sourceSide, attachment);
 	}
 
 	private void deleteAttachment(IAbstractComponentInfo source, int sourceSide) throws Exception {
 		if (isAttached(source, sourceSide)) {
 			IFormAttachmentInfo<C> attachment = getAttachment(source, sourceSide);
-			attachment.delete();
+			m_graph.delete((C) source, sourceSide, attachment);
 		}
 	}
 
@@ -538,7 +555,7 @@ FormLayoutInfoImpl<C> implements IAbsoluteLayoutCommands {
 			return;
 		}
 		// proceed with detach
-		attachment.delete();
+		m_graph.delete((C) widget, side, attachment);
 	}
 
 	// XXX
@@ -554,7 +571,7 @@ FormLayoutInfoImpl<C> implements IAbsoluteLayoutCommands {
 			attachment.setOffset(distance);
 			attachment.setNumerator(0);
 		}
-		attachment.write();
+		m_graph.write((C) widget, side, attachment);
 	}
 
 	@Override
@@ -564,7 +581,7 @@ FormLayoutInfoImpl<C> implements IAbsoluteLayoutCommands {
 		int oldOffset = attachment.getOffset();
 		int newOffset = oldOffset + delta;
 		attachment.setOffset(newOffset);
-		attachment.write();
+		m_graph.write((C) widget, side, attachment);
 	}
 
 	public void attachContainer(IAbstractComponentInfo widget, int side, int distance)
@@ -585,7 +602,7 @@ FormLayoutInfoImpl<C> implements IAbsoluteLayoutCommands {
 			int oppositeSideGef = FormLayoutUtils.convertGefSide(oppositeSide);
 			attachment.setAlignment(oppositeSideGef);
 		}
-		attachment.write();
+		m_graph.write((C) widget, side, attachment);
 	}
 
 	@Override
@@ -597,13 +614,14 @@ FormLayoutInfoImpl<C> implements IAbsoluteLayoutCommands {
 		attachment.setControl((C) attachToWidget);
 		attachment.setOffset(PlacementUtils.isTrailingSide(side) ? -distance : distance);
 		attachment.setAlignment(FormLayoutUtils.convertGefSide(side));
-		attachment.write();
+		m_graph.write((C) widget, side, attachment);
 	}
 
 	@Override
 	public void attachWidgetBaseline(IAbstractComponentInfo widget,
 			IAbstractComponentInfo attachToWidget) throws Exception {
-		IFormAttachmentInfo<C> attachment = getAttachment(widget, PlacementUtils.getSide(false, true));
+		int side = PlacementUtils.getSide(false, true);
+		IFormAttachmentInfo<C> attachment = getAttachment(widget, side);
 		attachment.setControl((C) attachToWidget);
 		int offset = 0;
 		int baseline = widget.getBaseline();
@@ -618,7 +636,7 @@ FormLayoutInfoImpl<C> implements IAbsoluteLayoutCommands {
 		}
 		attachment.setOffset(offset);
 		attachment.setAlignment(SWT.TOP);
-		attachment.write();
+		m_graph.write((C) widget, side, attachment);
 	}
 
 	////////////////////////////////////////////////////////////////////////////
@@ -786,22 +804,11 @@ FormLayoutInfoImpl<C> implements IAbsoluteLayoutCommands {
 	}
 
 	private void adjustAnchoredToMovedComponent(C component) throws Exception {
-		for (C sibling : m_layout.getControls()) {
-			adjustAnchoredToMovedComponentSides(sibling, component);
-		}
-	}
-
-	private void adjustAnchoredToMovedComponentSides(C component, C target) throws Exception {
-		adjustAnchoredToMovedComponentSide(component, target, PositionConstants.TOP);
-		adjustAnchoredToMovedComponentSide(component, target, PositionConstants.LEFT);
-		adjustAnchoredToMovedComponentSide(component, target, PositionConstants.BOTTOM);
-		adjustAnchoredToMovedComponentSide(component, target, PositionConstants.RIGHT);
-	}
-
-	private void adjustAnchoredToMovedComponentSide(C component, C anchor, int side) throws Exception {
-		IFormAttachmentInfo<C> attachment = getAttachment(component, side);
-		if (attachment.getControl() == anchor) {
-			attachment.write();
+		for (FormAttachmentGraph.Edge<C> edge : m_graph.getAttachedTo(component)) {
+			IFormAttachmentInfo<C> attachment = getAttachment(edge.source, edge.side);
+			if (attachment.getControl() == component) {
+				m_graph.write(edge.source, edge.side, attachment);
+			}
 		}
 	}
 }
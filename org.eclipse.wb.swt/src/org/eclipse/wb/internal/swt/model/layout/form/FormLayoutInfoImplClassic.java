@@ -38,7 +38,6 @@ import org.eclipse.swt.widgets.TabFolder;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -51,6 +50,7 @@ public class FormLayoutInfoImplClassic<C extends ControlInfo> extends FormLayout
 	private final IFormLayoutInfo<C> layout;
 	private final AnchorActionsClassic<C> anchorActions;
 	private final AbstractAlignmentActionsSupport<C> alignmentActions;
+	private final FormAttachmentGraph<C> attachmentGraph;
 
 	////////////////////////////////////////////////////////////////////////////
 	//
@@ -61,6 +61,7 @@ public class FormLayoutInfoImplClassic<C extends ControlInfo> extends FormLayout
 		this.layout = layout_;
 		this.anchorActions = new AnchorActionsClassic<>(this);
 		this.alignmentActions = new AlignmentsSupport();
+		this.attachmentGraph = new FormAttachmentGraph<>(layout_);
 		this.layout.addBroadcastListener(new ObjectEventListener() {
 			@Override
 			public void addSelectionActions(List<ObjectInfo> objects, List<Object> actions)
@@ -286,9 +287,14 @@ public class FormLayoutInfoImplClassic<C extends ControlInfo> extends FormLayout
 	//
 	////////////////////////////////////////////////////////////////////////////
 	public List<C> getAlignControlInfos(C sourceControl, int sourceSide) throws Exception {
+		// controls located relative to source control (and source itself) can not be used
+		Set<C> relative =
+				attachmentGraph.getDependentControls(
+						sourceControl,
+						PlacementUtils.isHorizontalSide(sourceSide));
 		List<C> list = new ArrayList<>();
 		for (C info : layout.getControls()) {
-			if (isRelative(info, sourceControl, sourceSide)) {
+			if (relative.contains(info)) {
 				continue;
 			}
 			list.add(info);
@@ -296,40 +302,6 @@ public class FormLayoutInfoImplClassic<C extends ControlInfo> extends FormLayout
 		return list;
 	}
 
-	/**
-	 * Return <code>true</code>, if <code>control</code> is located relative to
-	 * <code>refControl</code>.
-	 */
-	private boolean isRelative(C checkingControl, C refControl, int side) throws Exception {
-		Set<C> referenced = new HashSet<>();
-		collectReferencedControls(checkingControl, side, referenced);
-		return referenced.contains(refControl);
-	}
-
-	/**
-	 * Collect all children relative to which <code>control</code> is located.
-	 */
-	private void collectReferencedControls(C control, int side, Set<C> referenced) throws Exception {
-		if (referenced.contains(control)) {
-			return;
-		}
-		referenced.add(control);
-		if (PlacementUtils.isHorizontalSide(side)) {
-			collectReferencedControls0(control, PositionConstants.LEFT, referenced);
-			collectReferencedControls0(control, PositionConstants.RIGHT, referenced);
-		} else {
-			collectReferencedControls0(control, PositionConstants.TOP, referenced);
-			collectReferencedControls0(control, PositionConstants.BOTTOM, referenced);
-		}
-	}
-
-	private void collectReferencedControls0(C control, int side, Set<C> referenced) throws Exception {
-		IFormAttachmentInfo<C> attachment = getAttachment0(control, side);
-		if (isControlAttachment(attachment)) {
-			collectReferencedControls(attachment.getControl(), side, referenced);
-		}
-	}
-
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// Create
@@ -58,6 +58,8 @@ import org.apache.commons.collections4.bidimap.DualHashBidiMap;
 import org.apache.commons.collections4.bidimap.UnmodifiableBidiMap;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -256,6 +258,8 @@ IGridLayoutInfo<ControlInfo> {
 	// Components/constraints
 	//
 	////////////////////////////////////////////////////////////////////////////
+	private static final Comparator<Point> CELLS_COMPARATOR =
+			Comparator.comparingInt((Point cell) -> cell.y).thenComparingInt(cell -> cell.x);
 	private boolean m_replaceWithFillers = true;
 	private boolean m_removeEmptyColumnsRows = true;
 	private GridDataInfo m_removingGridData;
@@ -289,11 +293,13 @@ IGridLayoutInfo<ControlInfo> {
 			// replace with fillers
 			{
 				GridDataInfo gridData = m_removingGridData;
+				List<Point> cells = new ArrayList<>();
 				for (int x = gridData.x; x < gridData.x + gridData.width; x++) {
 					for (int y = gridData.y; y < gridData.y + gridData.height; y++) {
-						addFiller(x, y);
+						cells.add(new Point(x, y));
 					}
 				}
+				addFillers(cells);
 			}
 			// delete empty columns/rows
 			if (m_removeEmptyColumnsRows) {
@@ -678,17 +684,25 @@ IGridLayoutInfo<ControlInfo> {
 			int newColumnCount = Math.max(columnCount, 1 + column);
 			int newRowCount = Math.max(rowCount, 1 + row);
 			// append rows
-			for (int newRow = rowCount; newRow <= row; newRow++) {
-				for (int columnIndex = 0; columnIndex < newColumnCount; columnIndex++) {
-					addFiller(columnIndex, newRow);
+			{
+				List<Point> cells = new ArrayList<>();
+				for (int newRow = rowCount; newRow <= row; newRow++) {
+					for (int columnIndex = 0; columnIndex < newColumnCount; columnIndex++) {
+						cells.add(new Point(columnIndex, newRow));
+					}
 				}
+				addFillers(cells);
 			}
 			// append columns
 			getPropertyByTitle("numColumns").setValue(newColumnCount);
-			for (int newColumn = columnCount; newColumn <= column; newColumn++) {
-				for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
-					addFiller(newColumn, rowIndex);
+			{
+				List<Point> cells = new ArrayList<>();
+				for (int newColumn = columnCount; newColumn <= column; newColumn++) {
+					for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+						cells.add(new Point(newColumn, rowIndex));
+					}
 				}
+				addFillers(cells);
 			}
 			// set new count of columns/rows
 			columnCount = newColumnCount;
@@ -712,11 +726,13 @@ IGridLayoutInfo<ControlInfo> {
 				}
 			}
 			// add fillers for new row
+			List<Point> cells = new ArrayList<>();
 			for (int i = 0; i < columnCount; i++) {
 				if (!columnsToIgnore[i]) {
-					addFiller(i, row);
+					cells.add(new Point(i, row));
 				}
 			}
+			addFillers(cells);
 		}
 		// insert column
 		if (insertColumn) {
@@ -736,11 +752,13 @@ IGridLayoutInfo<ControlInfo> {
 			}
 			// insert fillers for new column
 			getPropertyByTitle("numColumns").setValue(columnCount + 1);
+			List<Point> cells = new ArrayList<>();
 			for (int i = 0; i < rowCount; i++) {
 				if (!rowsToIgnore[i]) {
-					addFiller(column, i);
+					cells.add(new Point(column, i));
 				}
 			}
+			addFillers(cells);
 		}
 	}
 
@@ -798,9 +816,7 @@ IGridLayoutInfo<ControlInfo> {
 				filler.delete();
 			}
 			// add fillers
-			for (Point cell : cellsToAddFillers) {
-				addFiller(cell.x, cell.y);
-			}
+			addFillers(cellsToAddFillers);
 		} finally {
 			endEdit();
 		}
@@ -923,27 +939,41 @@ IGridLayoutInfo<ControlInfo> {
 		if (JavaInfoUtils.isImplicitlyCreated(this)) {
 			return;
 		}
-		ControlInfo[][] grid = getControlsGrid();
-		for (int row = 0; row < grid.length; row++) {
-			for (int column = 0; column < grid[row].length; column++) {
-				if (isEmptyCell(grid, row, column)) {
-					addFiller(column, row);
+		boolean[][] occupied = getOccupiedCells();
+		List<Point> cells = new ArrayList<>();
+		for (int row = 0; row < occupied.length; row++) {
+			for (int column = 0; column < occupied[row].length; column++) {
+				if (!occupied[row][column]) {
+					cells.add(new Point(column, row));
 				}
 			}
 		}
+		addFillers(cells);
 	}
 
-	private boolean isEmptyCell(ControlInfo[][] grid, int row, int column) {
-		{
-			Object layoutObject = getObject();
-			for (Control control : m_controlsImplicit) {
-				Point point = GridLayoutSupport.getXY(layoutObject, control);
-				if (point != null && point.x == column && point.y == row) {
-					return false;
+	/**
+	 * @return the double array where each element is <code>true</code> if cell is occupied by some
+	 *         {@link ControlInfo} or by implicit {@link Control}.
+	 */
+	private boolean[][] getOccupiedCells() throws Exception {
+		ControlInfo[][] grid = getControlsGrid();
+		boolean[][] occupied = new boolean[grid.length][];
+		for (int row = 0; row < grid.length; row++) {
+			occupied[row] = new boolean[grid[row].length];
+			for (int column = 0; column < grid[row].length; column++) {
+				occupied[row][column] = grid[row][column] != null;
+			}
+		}
+		// implicit controls, grid size includes them
+		for (Control control : m_controlsImplicit) {
+			Rectangle cells = getImplicitControlCells(control);
+			for (int row = cells.y; row < cells.bottom(); row++) {
+				for (int column = cells.x; column < cells.right(); column++) {
+					occupied[row][column] = true;
 				}
 			}
 		}
-		return grid[row][column] == null;
+		return occupied;
 	}
 
 	/**
@@ -967,9 +997,60 @@ IGridLayoutInfo<ControlInfo> {
 	}
 
 	/**
-	 * Adds filler {@link ControlInfo} into given cell.
+	 * Adds filler {@link ControlInfo}'s into given cells.
+	 * <p>
+	 * Cells are processed in order of rows/columns, so filler added into some cell is never
+	 * reference for next cells, and references for all cells can be found at once, instead of
+	 * scanning all controls for each cell.
+	 */
+	private void addFillers(Collection<Point> cellsCollection) throws Exception {
+		if (cellsCollection.isEmpty()) {
+			return;
+		}
+		List<Point> cells = new ArrayList<>(cellsCollection);
+		cells.sort(CELLS_COMPARATOR);
+		// prepare controls, sorted from last cell to first
+		List<ControlInfo> controls = getControls();
+		List<Point> controlCells = new ArrayList<>();
+		List<Integer> controlIndexes = new ArrayList<>();
+		for (int i = 0; i < controls.size(); i++) {
+			GridDataInfo gridData = getGridData(controls.get(i));
+			controlCells.add(new Point(gridData.x, gridData.y));
+			controlIndexes.add(i);
+		}
+		controlIndexes.sort(
+				(a, b) -> CELLS_COMPARATOR.compare(controlCells.get(b), controlCells.get(a)));
+		// reference is first control (in order of children) in same or next cell
+		ControlInfo[] references = new ControlInfo[cells.size()];
+		{
+			int nextControl = 0;
+			int referenceIndex = Integer.MAX_VALUE;
+			for (int i = cells.size() - 1; i >= 0; i--) {
+				Point cell = cells.get(i);
+				while (nextControl < controlIndexes.size()) {
+					int controlIndex = controlIndexes.get(nextControl);
+					if (CELLS_COMPARATOR.compare(controlCells.get(controlIndex), cell) < 0) {
+						break;
+					}
+					referenceIndex = Math.min(referenceIndex, controlIndex);
+					nextControl++;
+				}
+				if (referenceIndex != Integer.MAX_VALUE) {
+					references[i] = controls.get(referenceIndex);
+				}
+			}
+		}
+		// add fillers
+		for (int i = 0; i < cells.size(); i++) {
+			Point cell = cells.get(i);
+			addFiller(cell.x, cell.y, references[i]);
+		}
+	}
+
+	/**
+	 * Adds filler {@link ControlInfo} into given cell, before given reference {@link ControlInfo}.
 	 */
-	private void addFiller(int column, int row) throws Exception {
+	private void addFiller(int column, int row, ControlInfo reference) throws Exception {
 		// prepare creation support
 		ConstructorCreationSupport creationSupport = new ConstructorCreationSupport(null, false);
 		// prepare filler
@@ -978,7 +1059,6 @@ IGridLayoutInfo<ControlInfo> {
 				Label.class,
 				creationSupport);
 		// add filler
-		ControlInfo reference = getReferenceControl(row, column, null);
 		JavaInfoUtils.add(
 				filler,
 				new EmptyPureVariableSupport(filler),
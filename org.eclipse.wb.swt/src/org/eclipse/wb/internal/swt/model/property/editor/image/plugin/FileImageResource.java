@@ -14,6 +14,7 @@ package org.eclipse.wb.internal.swt.model.property.editor.image.plugin;
 
 import org.eclipse.wb.internal.core.utils.ui.dialogs.image.ImageInfo;
 import org.eclipse.wb.internal.core.utils.ui.dialogs.image.pages.browse.model.IImageResource;
+import org.eclipse.wb.internal.core.utils.ui.dialogs.image.pages.browse.model.IThumbnailResource;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.swt.graphics.Image;
@@ -27,7 +28,7 @@ import java.io.InputStream;
  * @author lobas_av
  * @coverage swt.property.editor.plugin
  */
-public final class FileImageResource extends ImageResource {
+public final class FileImageResource extends ImageResource implements IThumbnailResource {
 	private final IFile m_resource;
 	private final String m_symbolicName;
 	private final String m_imagePath;
@@ -78,6 +79,16 @@ public final class FileImageResource extends ImageResource {
 		return m_imageInfo;
 	}
 
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// IThumbnailResource
+	//
+	////////////////////////////////////////////////////////////////////////////
+	@Override
+	public InputStream openStream() throws Exception {
+		return m_resource.getContents(true);
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// IImageElement
@@ -258,6 +258,7 @@ public class ControlInfo extends WidgetInfo implements IControlInfo {
 			}
 		});
 		// prepare images
+		ToolkitSupport.setShotKey((Control) control, root);
 		ToolkitSupport.makeShots((Control) control);
 		// get images
 		root.accept(new ObjectInfoVisitor() {
@@ -13,6 +13,7 @@
 package org.eclipse.wb.internal.swt.model.widgets.live;
 
 import org.eclipse.wb.internal.core.model.util.live.ILiveCacheEntry;
+import org.eclipse.wb.internal.core.utils.ui.ResourceTracker;
 
 import org.eclipse.swt.graphics.Image;
 
@@ -34,8 +35,8 @@ public final class SwtLiveCacheEntry implements ILiveCacheEntry {
 	////////////////////////////////////////////////////////////////////////////
 	@Override
 	public void dispose() {
-		if (m_image != null && !m_image.isDisposed()) {
-			m_image.dispose();
+		if (m_image != null) {
+			ResourceTracker.GLOBAL.dispose(m_image);
 			m_image = null;
 		}
 	}
@@ -50,6 +51,7 @@ public final class SwtLiveCacheEntry implements ILiveCacheEntry {
 	 */
 	public void setImage(Image image) {
 		m_image = image;
+		ResourceTracker.GLOBAL.add(image, ResourceTracker.getCallerSite(1));
 	}
 
 	/**
@@ -17,6 +17,7 @@ import org.eclipse.wb.internal.core.model.JavaInfoUtils;
 import org.eclipse.wb.internal.core.model.clipboard.ComponentInfoMemento;
 import org.eclipse.wb.internal.core.model.util.live.AbstractLiveManager;
 import org.eclipse.wb.internal.core.model.util.live.ILiveCacheEntry;
+import org.eclipse.wb.internal.core.model.util.live.PersistentLiveCache;
 import org.eclipse.wb.internal.core.model.variable.EmptyPureVariableSupport;
 import org.eclipse.wb.internal.swt.model.layout.RowDataInfo;
 import org.eclipse.wb.internal.swt.model.layout.RowLayoutInfo;
@@ -26,6 +27,9 @@ import org.eclipse.wb.internal.swt.model.widgets.WidgetInfo;
 
 import org.eclipse.swt.graphics.Image;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+
 /**
  * Default live components manager implementation for SWT toolkit.
  *
@@ -115,6 +119,25 @@ public class SwtLiveManager extends AbstractLiveManager {
 		return cacheEntry;
 	}
 
+	@Override
+	protected boolean writeCacheEntry(ILiveCacheEntry entry, DataOutputStream output)
+			throws Exception {
+		SwtLiveCacheEntry cacheEntry = (SwtLiveCacheEntry) entry;
+		PersistentLiveCache.writeImage(output, cacheEntry.getImage());
+		output.writeInt(cacheEntry.getStyle());
+		output.writeInt(cacheEntry.getBaseline());
+		return true;
+	}
+
+	@Override
+	protected ILiveCacheEntry readCacheEntry(DataInputStream input) throws Exception {
+		SwtLiveCacheEntry cacheEntry = new SwtLiveCacheEntry();
+		cacheEntry.setImage(PersistentLiveCache.readImage(input));
+		cacheEntry.setStyle(input.readInt());
+		cacheEntry.setBaseline(input.readInt());
+		return cacheEntry;
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// Access
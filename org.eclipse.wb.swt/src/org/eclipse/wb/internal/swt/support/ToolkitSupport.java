@@ -46,6 +46,14 @@ public class ToolkitSupport extends AbstractSupport {
 		control.setData(OSSupport.WBP_NEED_IMAGE, Boolean.TRUE);
 	}
 
+	/**
+	 * Remembers the object that identifies hierarchy of given root {@link Control} between refreshes,
+	 * so images of not changed {@link Control}'s may be reused.
+	 */
+	public static void setShotKey(Control control, Object key) {
+		control.setData(OSSupport.WBP_SHOT_KEY, key);
+	}
+
 	/**
 	 * @return the screen shot {@link Image} from given {@link Control}.
 	 */
@@ -0,0 +1,288 @@
+/*******************************************************************************
+ * Copyright (c) 2026 WindowBuilder contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    WindowBuilder contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.wb.tests.designer.benchmark;
+
+import org.eclipse.wb.internal.core.utils.execution.RunnableEx;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Records times and allocations of benchmark phases, in style of JMH: some warmup iterations that
+ * are not recorded, then measurement iterations.
+ * <p>
+ * Configured using system properties:
+ * <ul>
+ * <li><code>wbp.benchmark.sizes</code> - comma separated numbers of components in synthetic forms,
+ * default <code>100</code>, for example <code>100,1000,5000</code>;</li>
+ * <li><code>wbp.benchmark.warmup</code> - number of warmup iterations, default <code>1</code>;</li>
+ * <li><code>wbp.benchmark.iterations</code> - number of measurement iterations, default
+ * <code>3</code>;</li>
+ * <li><code>wbp.benchmark.results</code> - file to append results, one JSON object per line,
+ * default <code>target/benchmark-results.jsonl</code>.</li>
+ * </ul>
+ */
+public final class BenchmarkRecorder {
+	private static final Method ALLOCATED_BYTES_METHOD = getAllocatedBytesMethod();
+	private final String m_benchmark;
+	private final Map<String, Object> m_parameters;
+	private final Map<String, Phase> m_phases = new LinkedHashMap<>();
+	private boolean m_measuring;
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Constructor
+	//
+	////////////////////////////////////////////////////////////////////////////
+	public BenchmarkRecorder(String benchmark, Map<String, Object> parameters) {
+		m_benchmark = benchmark;
+		m_parameters = parameters;
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Configuration
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @return the numbers of components in synthetic forms.
+	 */
+	public static int[] getSizes() {
+		String[] parts = System.getProperty("wbp.benchmark.sizes", "100").split(",");
+		int[] sizes = new int[parts.length];
+		for (int i = 0; i < parts.length; i++) {
+			sizes[i] = Integer.parseInt(parts[i].trim());
+		}
+		return sizes;
+	}
+
+	public static int getWarmupIterations() {
+		return Integer.getInteger("wbp.benchmark.warmup", 1);
+	}
+
+	public static int getMeasurementIterations() {
+		return Integer.getInteger("wbp.benchmark.iterations", 3);
+	}
+
+	private static File getResultsFile() {
+		String path = System.getProperty("wbp.benchmark.results", "target/benchmark-results.jsonl");
+		return new File(path).getAbsoluteFile();
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Measuring
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Runs warmup and measurement iterations of given iteration.
+	 */
+	public void run(RunnableEx iteration) throws Exception {
+		m_measuring = false;
+		for (int i = 0; i < getWarmupIterations(); i++) {
+			iteration.run();
+		}
+		m_measuring = true;
+		for (int i = 0; i < getMeasurementIterations(); i++) {
+			iteration.run();
+		}
+		m_measuring = false;
+	}
+
+	/**
+	 * Runs given phase and records its time and allocated bytes.
+	 */
+	public void measure(String name, RunnableEx runnable) throws Exception {
+		measure(name, () -> {
+			runnable.run();
+			return null;
+		});
+	}
+
+	/**
+	 * Runs given phase and records its time and allocated bytes.
+	 *
+	 * @return the result of phase.
+	 */
+	public <T> T measure(String name, Callable<T> runnable) throws Exception {
+		long allocatedBefore = getAllocatedBytes();
+		long start = System.nanoTime();
+		T result = runnable.call();
+		long nanos = System.nanoTime() - start;
+		long allocated = getAllocatedBytes() - allocatedBefore;
+		if (m_measuring) {
+			Phase phase = m_phases.computeIfAbsent(name, key -> new Phase());
+			phase.m_nanos.add(nanos);
+			phase.m_allocatedBytes.add(allocatedBefore >= 0 ? allocated : -1);
+		}
+		return result;
+	}
+
+	/**
+	 * @return the number of bytes allocated by current thread, or <code>-1</code> if JVM does not
+	 *         support this.
+	 */
+	private static long getAllocatedBytes() {
+		if (ALLOCATED_BYTES_METHOD != null) {
+			try {
+				return (Long) ALLOCATED_BYTES_METHOD.invoke(ManagementFactory.getThreadMXBean());
+			} catch (Throwable e) {
+				// not supported
+			}
+		}
+		return -1;
+	}
+
+	private static Method getAllocatedBytesMethod() {
+		try {
+			ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+			Class<?> beanClass =
+					Class.forName(
+							"com.sun.management.ThreadMXBean",
+							false,
+							ClassLoader.getPlatformClassLoader());
+			if (beanClass.isInstance(bean)) {
+				return beanClass.getMethod("getCurrentThreadAllocatedBytes");
+			}
+		} catch (Throwable e) {
+			// not supported
+		}
+		return null;
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Report
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Prints summary of recorded phases and appends them to results file.
+	 */
+	public void report() throws IOException {
+		String json = toJson();
+		System.out.println(toString());
+		File file = getResultsFile();
+		file.getParentFile().mkdirs();
+		try (Writer writer =
+				new OutputStreamWriter(new FileOutputStream(file, true), StandardCharsets.UTF_8)) {
+			writer.write(json);
+			writer.write('\n');
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(m_benchmark).append(' ').append(m_parameters);
+		for (Map.Entry<String, Phase> entry : m_phases.entrySet()) {
+			Phase phase = entry.getValue();
+			sb.append(String.format(
+					"%n\t%-12s %10.2f ms/op (min %.2f, max %.2f) %10.2f MB/op",
+					entry.getKey(),
+					phase.getMean(phase.m_nanos) / 1e6,
+					phase.getMin(phase.m_nanos) / 1e6,
+					phase.getMax(phase.m_nanos) / 1e6,
+					phase.getMean(phase.m_allocatedBytes) / (1024.0 * 1024.0)));
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * @return the JSON object with results.
+	 */
+	public String toJson() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("{\"benchmark\":").append(quote(m_benchmark));
+		sb.append(",\"timestamp\":").append(System.currentTimeMillis());
+		sb.append(",\"java\":").append(quote(System.getProperty("java.version")));
+		sb.append(",\"os\":").append(quote(System.getProperty("os.name")));
+		sb.append(",\"parameters\":{");
+		boolean first = true;
+		for (Map.Entry<String, Object> entry : m_parameters.entrySet()) {
+			sb.append(first ? "" : ",").append(quote(entry.getKey())).append(':');
+			Object value = entry.getValue();
+			sb.append(value instanceof Number ? value.toString() : quote(String.valueOf(value)));
+			first = false;
+		}
+		sb.append("},\"phases\":{");
+		first = true;
+		for (Map.Entry<String, Phase> entry : m_phases.entrySet()) {
+			Phase phase = entry.getValue();
+			double meanNanos = phase.getMean(phase.m_nanos);
+			double meanBytes = phase.getMean(phase.m_allocatedBytes);
+			sb.append(first ? "" : ",").append(quote(entry.getKey())).append(":{");
+			sb.append("\"samples\":").append(phase.m_nanos.size());
+			sb.append(",\"meanMs\":").append(meanNanos / 1e6);
+			sb.append(",\"minMs\":").append(phase.getMin(phase.m_nanos) / 1e6);
+			sb.append(",\"maxMs\":").append(phase.getMax(phase.m_nanos) / 1e6);
+			sb.append(",\"allocatedBytesPerOp\":").append((long) meanBytes);
+			sb.append(",\"allocationRateMBs\":");
+			sb.append(meanNanos > 0 ? meanBytes / (1024.0 * 1024.0) / (meanNanos / 1e9) : 0);
+			sb.append('}');
+			first = false;
+		}
+		sb.append("}}");
+		return sb.toString();
+	}
+
+	private static String quote(String s) {
+		StringBuilder sb = new StringBuilder("\"");
+		for (char c : s.toCharArray()) {
+			if (c == '"' || c == '\\') {
+				sb.append('\\').append(c);
+			} else if (c < ' ') {
+				sb.append(String.format("\\u%04x", (int) c));
+			} else {
+				sb.append(c);
+			}
+		}
+		return sb.append('"').toString();
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Phase
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Samples of single phase.
+	 */
+	private static final class Phase {
+		private final List<Long> m_nanos = new ArrayList<>();
+		private final List<Long> m_allocatedBytes = new ArrayList<>();
+
+		private double getMean(List<Long> samples) {
+			return samples.stream().mapToLong(Long::longValue).average().orElse(0);
+		}
+
+		private long getMin(List<Long> samples) {
+			return samples.stream().mapToLong(Long::longValue).min().orElse(0);
+		}
+
+		private long getMax(List<Long> samples) {
+			return samples.stream().mapToLong(Long::longValue).max().orElse(0);
+		}
+	}
+}
@@ -0,0 +1,28 @@
+/*******************************************************************************
+ * Copyright (c) 2026 WindowBuilder contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    WindowBuilder contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.wb.tests.designer.benchmark;
+
+import org.junit.platform.suite.api.SelectClasses;
+import org.junit.platform.suite.api.Suite;
+
+/**
+ * Benchmarks of parse, refresh and code generation. Not part of {@code WindowBuilderTests}, run
+ * them using <code>mvn verify -Pbenchmarks</code>.
+ */
+@Suite
+@SelectClasses({
+		SwingBenchmarkTest.class,
+		RcpBenchmarkTest.class,
+		ClassLoaderLocalMapBenchmarkTest.class})
+public class BenchmarkTests {
+}
@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2026 WindowBuilder contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    WindowBuilder contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.wb.tests.designer.benchmark;
+
+import org.eclipse.wb.internal.core.utils.reflect.ClassLoaderLocalMap;
+import org.eclipse.wb.internal.core.utils.reflect.ClassLoaderLocalMap.ClassLoaderLocalMapManager;
+import org.eclipse.wb.internal.core.utils.reflect.CompositeClassLoader;
+import org.eclipse.wb.tests.designer.tests.DesignerTestCase;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Contention benchmark of {@link ClassLoaderLocalMap}: several "editors" concurrently access
+ * properties of their own and shared {@link ClassLoader}'s, while editors are deinitialized.
+ *
+ * @see BenchmarkRecorder
+ */
+public class ClassLoaderLocalMapBenchmarkTest extends DesignerTestCase {
+	private static final int EDITOR_COUNT = 8;
+	private static final int OPERATION_COUNT = 200_000;
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Benchmarks
+	//
+	////////////////////////////////////////////////////////////////////////////
+	@Test
+	public void test_concurrentEditors() throws Exception {
+		ClassLoader sharedLoader = new URLClassLoader(new URL[0]);
+		Object[] keys = new Object[16];
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = new Object();
+		}
+		Map<String, Object> parameters = new LinkedHashMap<>();
+		parameters.put("editors", EDITOR_COUNT);
+		parameters.put("operations", OPERATION_COUNT);
+		BenchmarkRecorder recorder = new BenchmarkRecorder("classLoaderLocalMap", parameters);
+		ExecutorService executor = Executors.newFixedThreadPool(EDITOR_COUNT);
+		try {
+			recorder.run(() -> {
+				CountDownLatch startLatch = new CountDownLatch(1);
+				List<Future<?>> futures = new ArrayList<>();
+				for (int editor = 0; editor < EDITOR_COUNT; editor++) {
+					futures.add(executor.submit(() -> {
+						CompositeClassLoader editorLoader = createEditorLoader(sharedLoader);
+						ClassLoader projectLoader = editorLoader.getClassLoaders().get(0);
+						startLatch.await();
+						for (int i = 0; i < OPERATION_COUNT; i++) {
+							Object key = keys[i % keys.length];
+							ClassLoader classLoader = (i & 1) == 0 ? projectLoader : sharedLoader;
+							Object value = ClassLoaderLocalMap.get(classLoader, key);
+							if (value == null) {
+								ClassLoaderLocalMap.put(classLoader, key, key);
+							} else {
+								assertSame(key, value);
+							}
+							// reopen editor from time to time
+							if (i % 50_000 == 0) {
+								new ClassLoaderLocalMapManager().deinitialize(editorLoader);
+							}
+						}
+						return null;
+					}));
+				}
+				recorder.measure("access", () -> {
+					startLatch.countDown();
+					for (Future<?> future : futures) {
+						future.get();
+					}
+				});
+			});
+		} finally {
+			executor.shutdownNow();
+		}
+		recorder.report();
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Utils
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @return the {@link CompositeClassLoader} with "project" {@link ClassLoader} that has given
+	 *         shared parent, similar to {@link ClassLoader} of editor.
+	 */
+	private static CompositeClassLoader createEditorLoader(ClassLoader sharedLoader) {
+		CompositeClassLoader editorLoader = new CompositeClassLoader();
+		editorLoader.add(new URLClassLoader(new URL[0], sharedLoader), null);
+		return editorLoader;
+	}
+}
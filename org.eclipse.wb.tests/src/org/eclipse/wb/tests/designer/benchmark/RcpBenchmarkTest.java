@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2026 WindowBuilder contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    WindowBuilder contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.wb.tests.designer.benchmark;
+
+import org.eclipse.wb.core.model.JavaInfo;
+import org.eclipse.wb.internal.core.model.description.helpers.ComponentDescriptionHelper;
+import org.eclipse.wb.internal.core.parser.JavaInfoParser;
+import org.eclipse.wb.internal.core.utils.execution.ExecutionUtils;
+import org.eclipse.wb.tests.designer.rcp.RcpModelTest;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Benchmarks of parse, refresh and code generation for synthetic SWT forms.
+ * <p>
+ * Form has requested number of <code>Button</code>'s, placed by 10 into nested
+ * <code>Composite</code>'s with specified layout.
+ *
+ * @see BenchmarkRecorder
+ */
+public class RcpBenchmarkTest extends RcpModelTest {
+	private static final int COMPONENTS_PER_COMPOSITE = 10;
+	private static final int EDITED_COMPONENTS = 100;
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Benchmarks
+	//
+	////////////////////////////////////////////////////////////////////////////
+	@Test
+	public void test_GridLayout() throws Exception {
+		benchmark("GridLayout");
+	}
+
+	@Test
+	public void test_FormLayout() throws Exception {
+		benchmark("FormLayout");
+	}
+
+	private void benchmark(String layout) throws Exception {
+		for (int size : BenchmarkRecorder.getSizes()) {
+			String[] lines = getFormLines(layout, size);
+			Map<String, Object> parameters = new LinkedHashMap<>();
+			parameters.put("toolkit", "SWT");
+			parameters.put("layout", layout);
+			parameters.put("components", size);
+			BenchmarkRecorder recorder = new BenchmarkRecorder("swt.pipeline", parameters);
+			recorder.run(() -> {
+				ICompilationUnit unit =
+						createModelCompilationUnit("test", "Test.java", getTestSource(lines));
+				JavaInfo root = recorder.measure("parse", () -> JavaInfoParser.parse(unit));
+				setLastParseInfo(root);
+				recorder.measure("refresh", () -> refresh());
+				List<JavaInfo> buttons =
+						SwingBenchmarkTest.getComponents(root, "org.eclipse.swt.widgets.Button");
+				assertEquals(size, buttons.size());
+				recorder.measure("description", () -> {
+					for (JavaInfo button : buttons) {
+						ComponentDescriptionHelper.getDescription(
+								m_lastEditor,
+								button.getDescription().getComponentClass());
+					}
+				});
+				recorder.measure("codegen", () -> {
+					ExecutionUtils.run(root, () -> {
+						int count = Math.min(EDITED_COMPONENTS, buttons.size());
+						for (int i = 0; i < count; i++) {
+							buttons.get(i).getPropertyByTitle("text").setValue("E" + i);
+						}
+					});
+				});
+				recorder.measure("dispose", () -> disposeLastModel());
+			});
+			recorder.report();
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Utils
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @return the source of synthetic form with given layout and number of buttons.
+	 */
+	private static String[] getFormLines(String layout, int size) {
+		List<String> lines = new ArrayList<>();
+		lines.add("public class Test extends Shell {");
+		lines.add("  public Test() {");
+		lines.add("    setLayout(new GridLayout(4, true));");
+		int compositeCount = (size + COMPONENTS_PER_COMPOSITE - 1) / COMPONENTS_PER_COMPOSITE;
+		for (int composite = 0; composite < compositeCount; composite++) {
+			String compositeName = "composite_" + composite;
+			lines.add("    {");
+			lines.add("      Composite " + compositeName + " = new Composite(this, SWT.NONE);");
+			if ("FormLayout".equals(layout)) {
+				lines.add("      " + compositeName + ".setLayout(new FormLayout());");
+			} else {
+				lines.add("      " + compositeName + ".setLayout(new GridLayout(2, false));");
+			}
+			int first = composite * COMPONENTS_PER_COMPOSITE;
+			int last = Math.min(size, first + COMPONENTS_PER_COMPOSITE);
+			for (int index = first; index < last; index++) {
+				String name = "button_" + index;
+				lines.add("      Button " + name + " = new Button(" + compositeName + ", SWT.NONE);");
+				lines.add("      " + name + ".setText('B" + index + "');");
+				if ("FormLayout".equals(layout)) {
+					addFormData(lines, name, index - first, index - 2);
+				}
+			}
+			lines.add("    }");
+		}
+		lines.add("  }");
+		lines.add("}");
+		return lines.toArray(new String[lines.size()]);
+	}
+
+	/**
+	 * Adds <code>FormData</code> that attaches button to previous one in same column.
+	 */
+	private static void addFormData(List<String> lines, String name, int position, int previous) {
+		String data = "fd_" + name;
+		int column = position % 2;
+		lines.add("      FormData " + data + " = new FormData();");
+		lines.add("      " + data + ".left = new FormAttachment(" + column * 50 + ", 5);");
+		if (position < 2) {
+			lines.add("      " + data + ".top = new FormAttachment(0, 5);");
+		} else {
+			lines.add("      " + data + ".top = new FormAttachment(button_" + previous + ", 5);");
+		}
+		lines.add("      " + name + ".setLayoutData(" + data + ");");
+	}
+}
@@ -0,0 +1,219 @@
+/*******************************************************************************
+ * Copyright (c) 2026 WindowBuilder contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    WindowBuilder contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.wb.tests.designer.benchmark;
+
+import org.eclipse.wb.core.model.JavaInfo;
+import org.eclipse.wb.core.model.ObjectInfo;
+import org.eclipse.wb.internal.core.model.ObjectInfoVisitor;
+import org.eclipse.wb.internal.core.model.description.helpers.ComponentDescriptionHelper;
+import org.eclipse.wb.internal.core.parser.JavaInfoParser;
+import org.eclipse.wb.internal.core.utils.execution.ExecutionUtils;
+import org.eclipse.wb.tests.designer.swing.SwingModelTest;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Benchmarks of parse, refresh and code generation for synthetic Swing forms.
+ * <p>
+ * Form has requested number of <code>JButton</code>'s, placed by 10 into nested
+ * <code>JPanel</code>'s with specified layout.
+ *
+ * @see BenchmarkRecorder
+ */
+public class SwingBenchmarkTest extends SwingModelTest {
+	private static final int COMPONENTS_PER_PANEL = 10;
+	private static final int EDITED_COMPONENTS = 100;
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Life cycle
+	//
+	////////////////////////////////////////////////////////////////////////////
+	@BeforeAll
+	public static void setUpClass() throws Exception {
+		// we need new project with FormLayout and MigLayout
+		do_projectDispose();
+	}
+
+	@AfterAll
+	public static void tearDownClass() throws Exception {
+		do_projectDispose();
+	}
+
+	@Override
+	protected void configureNewProject() throws Exception {
+		super.configureNewProject();
+		m_testProject.addPlugin("com.jgoodies.common");
+		m_testProject.addPlugin("com.jgoodies.forms");
+		m_testProject.addPlugin("com.miglayout.core");
+		m_testProject.addPlugin("com.miglayout.swing");
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Benchmarks
+	//
+	////////////////////////////////////////////////////////////////////////////
+	@Test
+	public void test_FlowLayout() throws Exception {
+		benchmark("FlowLayout");
+	}
+
+	@Test
+	public void test_GridBagLayout() throws Exception {
+		benchmark("GridBagLayout");
+	}
+
+	@Test
+	public void test_MigLayout() throws Exception {
+		benchmark("MigLayout");
+	}
+
+	@Test
+	public void test_FormLayout() throws Exception {
+		benchmark("FormLayout");
+	}
+
+	private void benchmark(String layout) throws Exception {
+		for (int size : BenchmarkRecorder.getSizes()) {
+			String[] lines = getFormLines(layout, size);
+			Map<String, Object> parameters = new LinkedHashMap<>();
+			parameters.put("toolkit", "Swing");
+			parameters.put("layout", layout);
+			parameters.put("components", size);
+			BenchmarkRecorder recorder = new BenchmarkRecorder("swing.pipeline", parameters);
+			recorder.run(() -> {
+				ICompilationUnit unit =
+						createModelCompilationUnit("test", "Test.java", getTestSource(lines));
+				JavaInfo root = recorder.measure("parse", () -> JavaInfoParser.parse(unit));
+				setLastParseInfo(root);
+				recorder.measure("refresh", () -> refresh());
+				List<JavaInfo> buttons = getComponents(root, "javax.swing.JButton");
+				assertEquals(size, buttons.size());
+				recorder.measure("description", () -> {
+					for (JavaInfo button : buttons) {
+						ComponentDescriptionHelper.getDescription(
+								m_lastEditor,
+								button.getDescription().getComponentClass());
+					}
+				});
+				recorder.measure("codegen", () -> {
+					ExecutionUtils.run(root, () -> {
+						int count = Math.min(EDITED_COMPONENTS, buttons.size());
+						for (int i = 0; i < count; i++) {
+							buttons.get(i).getPropertyByTitle("text").setValue("E" + i);
+						}
+					});
+				});
+				recorder.measure("dispose", () -> disposeLastModel());
+			});
+			recorder.report();
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Utils
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @return all {@link JavaInfo}'s in hierarchy with given component class.
+	 */
+	static List<JavaInfo> getComponents(JavaInfo root, final String className) throws Exception {
+		final List<JavaInfo> components = new ArrayList<>();
+		root.accept(new ObjectInfoVisitor() {
+			@Override
+			public void endVisit(ObjectInfo objectInfo) throws Exception {
+				if (objectInfo instanceof JavaInfo javaInfo
+						&& javaInfo.getDescription().getComponentClass().getName().equals(className)) {
+					components.add(javaInfo);
+				}
+			}
+		});
+		return components;
+	}
+
+	/**
+	 * @return the source of synthetic form with given layout and number of buttons.
+	 */
+	private static String[] getFormLines(String layout, int size) {
+		List<String> lines = new ArrayList<>();
+		lines.add("import com.jgoodies.forms.layout.*;");
+		lines.add("import net.miginfocom.swing.MigLayout;");
+		lines.add("public class Test extends JPanel {");
+		lines.add("  public Test() {");
+		lines.add("    setLayout(new GridLayout(0, 4));");
+		int panelCount = (size + COMPONENTS_PER_PANEL - 1) / COMPONENTS_PER_PANEL;
+		for (int panel = 0; panel < panelCount; panel++) {
+			String panelName = "panel_" + panel;
+			lines.add("    {");
+			lines.add("      JPanel " + panelName + " = new JPanel();");
+			lines.add("      add(" + panelName + ");");
+			lines.add("      " + panelName + ".setLayout(" + getLayoutSource(layout) + ");");
+			int first = panel * COMPONENTS_PER_PANEL;
+			int last = Math.min(size, first + COMPONENTS_PER_PANEL);
+			for (int index = first; index < last; index++) {
+				String name = "button_" + index;
+				int column = (index - first) % 2;
+				int row = (index - first) / 2;
+				lines.add("      {");
+				lines.add("        JButton " + name + " = new JButton('B" + index + "');");
+				switch (layout) {
+					case "GridBagLayout" :
+						lines.add("        GridBagConstraints gbc_" + name + " = new GridBagConstraints();");
+						lines.add("        gbc_" + name + ".gridx = " + column + ";");
+						lines.add("        gbc_" + name + ".gridy = " + row + ";");
+						lines.add("        " + panelName + ".add(" + name + ", gbc_" + name + ");");
+						break;
+					case "MigLayout" :
+						String cell = "cell " + column + " " + row;
+						lines.add("        " + panelName + ".add(" + name + ", '" + cell + "');");
+						break;
+					case "FormLayout" :
+						String constraints = (column + 1) + ", " + (row + 1);
+						lines.add("        " + panelName + ".add(" + name + ", '" + constraints + "');");
+						break;
+					default :
+						lines.add("        " + panelName + ".add(" + name + ");");
+						break;
+				}
+				lines.add("      }");
+			}
+			lines.add("    }");
+		}
+		lines.add("  }");
+		lines.add("}");
+		return lines.toArray(new String[lines.size()]);
+	}
+
+	private static String getLayoutSource(String layout) {
+		return switch (layout) {
+			case "GridBagLayout" -> "new GridBagLayout()";
+			case "MigLayout" -> "new MigLayout('', '[][]', '[][][][][]')";
+			case "FormLayout" -> "new FormLayout(new ColumnSpec[] {"
+					+ "FormSpecs.DEFAULT_COLSPEC, FormSpecs.DEFAULT_COLSPEC}, new RowSpec[] {"
+					+ "FormSpecs.DEFAULT_ROWSPEC, FormSpecs.DEFAULT_ROWSPEC, FormSpecs.DEFAULT_ROWSPEC,"
+					+ " FormSpecs.DEFAULT_ROWSPEC, FormSpecs.DEFAULT_ROWSPEC})";
+			default -> "new FlowLayout()";
+		};
+	}
+}
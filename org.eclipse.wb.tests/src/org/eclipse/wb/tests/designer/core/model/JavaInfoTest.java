@@ -759,6 +759,38 @@ public class JavaInfoTest extends SwingModelTest {
 				"}");
 	}
 
+	/**
+	 * {@link MethodInvocation}'s and field {@link Assignment}'s are indexed, but index should follow
+	 * edits of AST.
+	 */
+	@Test
+	public void test_getMethodInvocations_afterEdits() throws Exception {
+		ContainerInfo panel =
+				parseContainer(
+						"public class Test extends JPanel {",
+						"  public Test() {",
+						"    setEnabled(false);",
+						"    setToolTipText('a');",
+						"  }",
+						"}");
+		assertEquals(1, panel.getMethodInvocations("setEnabled(boolean)").size());
+		assertEquals(0, panel.getMethodInvocations("setVisible(boolean)").size());
+		// add new invocation
+		panel.addMethodInvocation("setVisible(boolean)", "false");
+		assertEquals(1, panel.getMethodInvocations("setVisible(boolean)").size());
+		// remove existing invocation
+		panel.removeMethodInvocations("setEnabled(boolean)");
+		assertEquals(0, panel.getMethodInvocations("setEnabled(boolean)").size());
+		// rename invocation
+		{
+			MethodInvocation invocation = panel.getMethodInvocation("setVisible(boolean)");
+			m_lastEditor.replaceInvocationName(invocation, "setEnabled");
+		}
+		assertEquals(0, panel.getMethodInvocations("setVisible(boolean)").size());
+		assertEquals(1, panel.getMethodInvocations("setEnabled(boolean)").size());
+		assertEquals(1, panel.getMethodInvocations("setToolTipText(java.lang.String)").size());
+	}
+
 	/**
 	 * Test for {@link JavaInfo#addMethodInvocation(String, String, String[])}.
 	 */
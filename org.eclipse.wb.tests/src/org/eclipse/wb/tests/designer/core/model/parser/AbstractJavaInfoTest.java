@@ -462,13 +462,21 @@ public abstract class AbstractJavaInfoTest extends AbstractJavaInfoRelatedTest {
 			}
 		}
 		// parse for JavaInfo
-		m_lastParseInfo = JavaInfoParser.parse(unit);
+		setLastParseInfo(JavaInfoParser.parse(unit));
+		//System.out.println("\tparse time: " + (System.currentTimeMillis() - start));
+		return m_lastParseInfo;
+	}
+
+	/**
+	 * Remembers given {@link JavaInfo} root, parsed directly using {@link JavaInfoParser}, as last
+	 * parsed one.
+	 */
+	protected final void setLastParseInfo(JavaInfo root) throws Exception {
+		m_lastParseInfo = root;
 		m_lastEditor = m_lastParseInfo.getEditor();
 		m_lastState = EditorState.get(m_lastEditor);
 		m_lastLoadingContext = EditorStateLoadingContext.get(m_lastState);
 		m_lastLoader = m_lastState.getEditorLoader();
-		//System.out.println("\tparse time: " + (System.currentTimeMillis() - start));
-		return m_lastParseInfo;
 	}
 
 	/**
@@ -24,6 +24,7 @@ import org.eclipse.wb.internal.core.model.property.GenericPropertyComposite;
 import org.eclipse.wb.internal.core.model.property.GenericPropertyImpl;
 import org.eclipse.wb.internal.core.model.property.JavaProperty;
 import org.eclipse.wb.internal.core.model.property.Property;
+import org.eclipse.wb.internal.core.model.property.PropertyValueCounters;
 import org.eclipse.wb.internal.core.model.property.accessor.ConstructorAccessor;
 import org.eclipse.wb.internal.core.model.property.accessor.ExpressionAccessor;
 import org.eclipse.wb.internal.core.model.property.accessor.FieldAccessor;
@@ -45,6 +46,7 @@ import org.eclipse.jdt.core.dom.Expression;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.awt.Dimension;
 import java.lang.reflect.Method;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -434,6 +436,82 @@ public class PropertyTest extends SwingModelTest {
 		}
 	}
 
+	/**
+	 * Value of {@link GenericPropertyImpl} is remembered until AST is modified or refresh happens.
+	 */
+	@Test
+	public void test_GenericPropertyImpl_getValue_snapshot() throws Exception {
+		ContainerInfo panel =
+				parseContainer(
+						"public class Test extends JPanel {",
+						"  public Test() {",
+						"    setName('a');",
+						"  }",
+						"}");
+		panel.refresh();
+		GenericProperty property = (GenericProperty) panel.getPropertyByTitle("name");
+		// each computing of value sends GenericPropertyGetValue
+		final int[] computeCount = new int[1];
+		panel.addBroadcastListener(new GenericPropertyGetValue() {
+			@Override
+			public void invoke(GenericPropertyImpl genericProperty, Object[] value) throws Exception {
+				if (genericProperty == property) {
+					computeCount[0]++;
+				}
+			}
+		});
+		// value is computed once, then snapshot is used
+		PropertyValueCounters.reset();
+		assertEquals("a", property.getValue());
+		assertEquals("a", property.getValue());
+		assertEquals("a", property.getValue());
+		assertEquals(1, computeCount[0]);
+		assertEquals(3, PropertyValueCounters.getRequestCount());
+		assertEquals(1, PropertyValueCounters.getComputeCount());
+		// modify AST, value is computed again
+		property.setValue("b");
+		computeCount[0] = 0;
+		assertEquals("b", property.getValue());
+		assertEquals("b", property.getValue());
+		assertEquals(1, computeCount[0]);
+		// refresh, value is computed again
+		panel.refresh();
+		computeCount[0] = 0;
+		assertEquals("b", property.getValue());
+		assertEquals(1, computeCount[0]);
+	}
+
+	/**
+	 * Mutable value of {@link GenericPropertyImpl} is not remembered, so caller may change it.
+	 */
+	@Test
+	public void test_GenericPropertyImpl_getValue_mutable() throws Exception {
+		ContainerInfo panel =
+				parseContainer(
+						"public class Test extends JPanel {",
+						"  public Test() {",
+						"    setPreferredSize(new Dimension(1, 2));",
+						"  }",
+						"}");
+		panel.refresh();
+		GenericProperty property = (GenericProperty) panel.getPropertyByTitle("preferredSize");
+		// each computing of value sends GenericPropertyGetValue
+		final int[] computeCount = new int[1];
+		panel.addBroadcastListener(new GenericPropertyGetValue() {
+			@Override
+			public void invoke(GenericPropertyImpl genericProperty, Object[] value) throws Exception {
+				if (genericProperty == property) {
+					computeCount[0]++;
+				}
+			}
+		});
+		// caller modifies value, but this does not affect next request
+		Dimension size = (Dimension) property.getValue();
+		size.width = 100;
+		assertEquals(new Dimension(1, 2), property.getValue());
+		assertEquals(2, computeCount[0]);
+	}
+
 	/**
 	 * When we use {@link Property#UNKNOWN_VALUE} for
 	 * {@link GenericProperty#setExpression(String, Object)} and <b>do</b> refresh, we should not
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.wb.tests.designer.core.nls;
 
+import org.eclipse.wb.internal.core.nls.bundle.BundleFileCache;
 import org.eclipse.wb.internal.core.nls.bundle.BundleInfo;
 import org.eclipse.wb.internal.core.nls.bundle.StandardPropertiesAccessor;
 import org.eclipse.wb.internal.core.nls.model.LocaleInfo;
@@ -22,6 +23,7 @@ import org.eclipse.core.resources.IFile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Iterator;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
@@ -154,6 +156,118 @@ public class BundleInfoTest extends SwingModelTest {
 		}
 	}
 
+	/**
+	 * Map returned by {@link BundleInfo#getMap()} can be modified using its views, without affecting
+	 * bundle or shared content.
+	 */
+	@Test
+	public void test_getMap_modifyViews() throws Exception {
+		IFile file =
+				setFileContentSrc("test/messages.properties", getSourceDQ("a=aaa", "b=bbb", "c=ccc"));
+		BundleInfo bundle = createDefaultBundle(file);
+		// not modified bundle, remove using views
+		{
+			Map<String, String> map = bundle.getMap();
+			map.keySet().removeIf(key -> key.equals("a"));
+			Iterator<Map.Entry<String, String>> iterator = map.entrySet().iterator();
+			while (iterator.hasNext()) {
+				Map.Entry<String, String> entry = iterator.next();
+				if (entry.getKey().equals("b")) {
+					iterator.remove();
+				} else {
+					entry.setValue("new");
+				}
+			}
+			assertEquals(Map.of("c", "new"), map);
+			assertEquals(Map.of("a", "aaa", "b", "bbb", "c", "ccc"), bundle.getMap());
+		}
+		// modified bundle, map is copy of local modifications
+		bundle.setValue("d", "ddd");
+		{
+			Map<String, String> map = bundle.getMap();
+			map.entrySet().removeIf(entry -> entry.getKey().equals("d"));
+			assertEquals(Map.of("a", "aaa", "b", "bbb", "c", "ccc"), map);
+			assertEquals("ddd", bundle.getValue("d"));
+		}
+		// shared content is not affected
+		BundleFileCache.Content content =
+				BundleFileCache.get(file, StandardPropertiesAccessor.INSTANCE);
+		assertEquals(Map.of("a", "aaa", "b", "bbb", "c", "ccc"), content.getMap());
+	}
+
+	/**
+	 * {@link BundleInfo}'s of same file share loaded content, until file is changed.
+	 */
+	@Test
+	public void test_sharedContent() throws Exception {
+		IFile file = getFileSrc("test", "messages.properties");
+		BundleFileCache.Content content_1 =
+				BundleFileCache.get(file, StandardPropertiesAccessor.INSTANCE);
+		BundleFileCache.Content content_2 =
+				BundleFileCache.get(file, StandardPropertiesAccessor.INSTANCE);
+		assertSame(content_1, content_2);
+		assertEquals("My JFrame", content_1.getMap().get("frame.title"));
+		// modify one bundle, other bundle is not affected
+		BundleInfo bundle_1 = createDefaultBundle(file);
+		BundleInfo bundle_2 = createDefaultBundle(file);
+		bundle_1.setValue("frame.title", "New title");
+		assertEquals("New title", bundle_1.getValue("frame.title"));
+		assertEquals("My JFrame", bundle_2.getValue("frame.title"));
+		assertSame(content_1, BundleFileCache.get(file, StandardPropertiesAccessor.INSTANCE));
+		// change file, new content loaded
+		setFileContentSrc("test/messages.properties", "frame.title=External title");
+		BundleFileCache.Content content_3 =
+				BundleFileCache.get(file, StandardPropertiesAccessor.INSTANCE);
+		assertNotSame(content_1, content_3);
+		assertEquals("External title", content_3.getMap().get("frame.title"));
+		assertEquals("External title", bundle_2.getValue("frame.title"));
+	}
+
+	/**
+	 * On save only changed keys are written, comments and order of keys are kept.
+	 */
+	@Test
+	public void test_save_onlyChangedKeys() throws Exception {
+		IFile file =
+				setFileContentSrc(
+						"test/messages.properties",
+						getSourceDQ(
+								"# my comment",
+								"b=bbb",
+								"# comment for 'a'",
+								"a = aaa",
+								"c=ccc \\",
+								"  continued"));
+		BundleInfo bundle = createDefaultBundle(file);
+		bundle.setValue("a", "New value");
+		bundle.removeKey("c");
+		bundle.setValue("d", "ddd");
+		bundle.save(null);
+		assertEquals(
+				getSourceDQ(
+						"# my comment",
+						"b=bbb",
+						"# comment for 'a'",
+						"a=New value",
+						"d=ddd"),
+				getFileContentSrc("test/messages.properties"));
+		// new bundle sees same values
+		{
+			BundleInfo newBundle = createDefaultBundle(file);
+			assertEquals("New value", newBundle.getValue("a"));
+			assertEquals("bbb", newBundle.getValue("b"));
+			assertNull(newBundle.getValue("c"));
+			assertEquals("ddd", newBundle.getValue("d"));
+		}
+		// no changes, no save
+		{
+			long stamp = file.getModificationStamp();
+			bundle.setValue("a", "New value");
+			bundle.save(null);
+			assertEquals(stamp, file.getModificationStamp());
+		}
+	}
+
 	@Test
 	public void test_values_keys() throws Exception {
 		IFile[] files = new IFile[]{getFileSrc("test", "messages.properties")};
@@ -265,4 +379,17 @@ public class BundleInfoTest extends SwingModelTest {
 			assertEquals(newValue, bundle.getValue(key));
 		}
 	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Utils
+	//
+	////////////////////////////////////////////////////////////////////////////
+	private static BundleInfo createDefaultBundle(IFile file) throws Exception {
+		return BundleInfo.createBundle(
+				StandardPropertiesAccessor.INSTANCE,
+				"test.messages",
+				LocaleInfo.DEFAULT,
+				new IFile[]{file});
+	}
 }
@@ -0,0 +1,227 @@
+/*******************************************************************************
+ * Copyright (c) 2026 WindowBuilder contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wb.tests.designer.core.palette;
+
+import org.eclipse.wb.internal.core.editor.palette.dialogs.ArchiveIndexer;
+import org.eclipse.wb.tests.designer.tests.DesignerTestCase;
+
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.apache.commons.io.IOUtils;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+
+/**
+ * Tests for {@link ArchiveIndexer}.
+ */
+public class ArchiveIndexerTest extends DesignerTestCase {
+	private File m_jarFile;
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Life cycle
+	//
+	////////////////////////////////////////////////////////////////////////////
+	@Override
+	@BeforeEach
+	public void setUp() throws Exception {
+		super.setUp();
+		m_jarFile = File.createTempFile("wbpArchiveIndexer", ".jar");
+	}
+
+	@Override
+	@AfterEach
+	public void tearDown() throws Exception {
+		m_jarFile.delete();
+		super.tearDown();
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Classes
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Only public concrete top-level or member classes are candidates.
+	 */
+	@Test
+	public void test_classes() throws Exception {
+		Map<String, byte[]> entries = new LinkedHashMap<>();
+		entries.put("test/Component.class", getClassBytes(MyComponent.class));
+		entries.put("test/Component$Inner.class", getClassBytes(MyComponent.class));
+		entries.put("test/Abstract.class", getClassBytes(MyAbstract.class));
+		entries.put("test/Interface.class", getClassBytes(MyInterface.class));
+		entries.put("test/Enum.class", getClassBytes(MyEnum.class));
+		entries.put("test/NotPublic.class", getClassBytes(MyNotPublic.class));
+		entries.put("test/Anonymous.class", getClassBytes(ANONYMOUS.getClass()));
+		// excluded by name
+		entries.put("test/Component$1.class", getClassBytes(MyComponent.class));
+		entries.put("test/Component$1Local.class", getClassBytes(MyComponent.class));
+		entries.put("test/Component$Inner$2.class", getClassBytes(MyComponent.class));
+		entries.put("test/package-info.class", getClassBytes(MyComponent.class));
+		entries.put("module-info.class", getClassBytes(MyComponent.class));
+		entries.put("META-INF/versions/11/test/Component.class", getClassBytes(MyComponent.class));
+		entries.put("test/readme.txt", "text".getBytes());
+		// not class file
+		entries.put("test/Broken.class", "not a class".getBytes());
+		writeJar(entries);
+		//
+		List<String> classNames = scanClasses();
+		Assertions.assertThat(classNames).containsExactly("test.Component", "test.Component$Inner");
+	}
+
+	/**
+	 * Classes of same archive are remembered, but scanned again when archive is changed.
+	 */
+	@Test
+	public void test_classes_cache() throws Exception {
+		Map<String, byte[]> entries = new LinkedHashMap<>();
+		entries.put("test/Component.class", getClassBytes(MyComponent.class));
+		writeJar(entries);
+		List<String> classNames = scanClasses();
+		Assertions.assertThat(classNames).containsExactly("test.Component");
+		// same archive, cached
+		assertSame(classNames, scanClasses());
+		// change archive
+		entries.put("test/Component2.class", getClassBytes(MyComponent.class));
+		writeJar(entries);
+		m_jarFile.setLastModified(m_jarFile.lastModified() + 2000);
+		Assertions.assertThat(scanClasses()).containsExactly("test.Component", "test.Component2");
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Manifest
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Classes marked as <code>Java-Bean: True</code> in manifest, cached until archive is changed.
+	 */
+	@Test
+	public void test_manifestClasses() throws Exception {
+		Map<String, byte[]> entries = new LinkedHashMap<>();
+		entries.put("test/Bean.class", getClassBytes(MyComponent.class));
+		writeJar(entries, "test/Bean.class");
+		List<String> classNames = ArchiveIndexer.getManifestClasses(m_jarFile);
+		Assertions.assertThat(classNames).containsExactly("test.Bean");
+		assertSame(classNames, ArchiveIndexer.getManifestClasses(m_jarFile));
+		// change archive
+		writeJar(entries, "test/Bean.class", "test/Bean2.class");
+		m_jarFile.setLastModified(m_jarFile.lastModified() + 2000);
+		Assertions.assertThat(ArchiveIndexer.getManifestClasses(m_jarFile)).containsExactly(
+				"test.Bean",
+				"test.Bean2");
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Utils
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Writes archive with given entries and manifest with given "Java-Bean" entries.
+	 */
+	private void writeJar(Map<String, byte[]> entries, String... beans) throws Exception {
+		Manifest manifest = new Manifest();
+		manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		for (String bean : beans) {
+			Attributes attributes = new Attributes();
+			attributes.putValue("Java-Bean", "True");
+			manifest.getEntries().put(bean, attributes);
+		}
+		try (JarOutputStream jarStream =
+				new JarOutputStream(new FileOutputStream(m_jarFile), manifest)) {
+			for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+				jarStream.putNextEntry(new ZipEntry(entry.getKey()));
+				jarStream.write(entry.getValue());
+				jarStream.closeEntry();
+			}
+		}
+	}
+
+	/**
+	 * @return the full sorted list of classes reported by {@link ArchiveIndexer}.
+	 */
+	private List<String> scanClasses() throws Exception {
+		final List<List<String>> done = new ArrayList<>();
+		Job job = ArchiveIndexer.scheduleClassesScan(m_jarFile, new ArchiveIndexer.IClassesListener() {
+			@Override
+			public void found(List<String> classNames) {
+			}
+
+			@Override
+			public void done(List<String> classNames) {
+				done.add(classNames);
+			}
+		});
+		job.join();
+		assertEquals(1, done.size());
+		return done.get(0);
+	}
+
+	private static byte[] getClassBytes(Class<?> clazz) throws Exception {
+		String path = clazz.getName().replace('.', '/') + ".class";
+		try (InputStream inputStream = clazz.getClassLoader().getResourceAsStream(path)) {
+			return IOUtils.toByteArray(inputStream);
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Classes for archive
+	//
+	////////////////////////////////////////////////////////////////////////////
+	private static final Object ANONYMOUS = new Object() {
+	};
+
+	/**
+	 * Has <code>long</code>, <code>double</code> and lambda constants in pool.
+	 */
+	public static class MyComponent {
+		public long getLong() {
+			return 1234567890123L;
+		}
+
+		public double getDouble() {
+			return 1.5e100;
+		}
+
+		public Runnable getRunnable() {
+			return () -> getLong();
+		}
+	}
+
+	public abstract static class MyAbstract {
+	}
+
+	public interface MyInterface {
+	}
+
+	public enum MyEnum {
+		A
+	}
+
+	static class MyNotPublic {
+	}
+}
@@ -613,6 +613,38 @@ public class PaletteManagerTest extends AbstractPaletteTest {
 		}
 	}
 
+	/**
+	 * Custom palette from project is cached, but changed file should be parsed again.
+	 */
+	@Test
+	public void test_customPalette_project_changed() throws Exception {
+		setFileContent(
+				"wbp-meta",
+				TOOLKIT_ID + ".wbp-palette.xml",
+				getSourceDQ(
+						"<palette>",
+						"  <category id='categoryId.1' name='name 1' description='desc 1'/>",
+						"</palette>"));
+		{
+			PaletteInfo palette = loadPalette();
+			assertEquals(1, palette.getCategories().size());
+			assertEquals("categoryId.1", palette.getCategories().get(0).getId());
+		}
+		// change palette
+		setFileContent(
+				"wbp-meta",
+				TOOLKIT_ID + ".wbp-palette.xml",
+				getSourceDQ(
+						"<palette>",
+						"  <category id='categoryId.2' name='name 2' description='desc 2'/>",
+						"</palette>"));
+		{
+			PaletteInfo palette = loadPalette();
+			assertEquals(1, palette.getCategories().size());
+			assertEquals("categoryId.2", palette.getCategories().get(0).getId());
+		}
+	}
+
 	/**
 	 * Parsing for custom palette from project: use also required projects.
 	 */
@@ -998,6 +1030,29 @@ public class PaletteManagerTest extends AbstractPaletteTest {
 		Assertions.assertThat(category.getEntries()).isEmpty();
 	}
 
+	/**
+	 * Result of condition may be cached, but it should be evaluated again for different versions.
+	 */
+	@Test
+	public void test_condition_versionsChanged() throws Exception {
+		addPaletteExtension(new String[]{
+				"<category id='category' name='category'>",
+				"  <component class='javax.swing.JButton' condition='version > 3.0'/>",
+		"</category>"});
+		{
+			JavaInfo panel = parseEmptyPanel();
+			m_lastState.addVersions(Map.of("version", "3.5"));
+			PaletteInfo palette = loadPalette(panel);
+			Assertions.assertThat(palette.getCategory("category").getEntries()).hasSize(1);
+		}
+		{
+			JavaInfo panel = parseEmptyPanel();
+			m_lastState.addVersions(Map.of("version", "2.1"));
+			PaletteInfo palette = loadPalette(panel);
+			Assertions.assertThat(palette.getCategory("category").getEntries()).isEmpty();
+		}
+	}
+
 	/**
 	 * Some entries are useful only in specific context.
 	 */
@@ -39,7 +39,8 @@ import org.junit.platform.suite.api.Suite;
 		PaletteManagerTest.class,
 		CategoryCommandsTest.class,
 		ComponentCommandsTest.class,
-		FactoryCommandsTest.class
+		FactoryCommandsTest.class,
+		ArchiveIndexerTest.class
 })
 public class PaletteTests {
 }
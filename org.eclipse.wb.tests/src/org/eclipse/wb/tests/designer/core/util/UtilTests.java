@@ -19,10 +19,13 @@ import org.eclipse.wb.tests.designer.core.util.execution.ExecutionUtilsTest;
 import org.eclipse.wb.tests.designer.core.util.execution.NoOpProgressMonitorTest;
 import org.eclipse.wb.tests.designer.core.util.jdt.core.JdtCoreTests;
 import org.eclipse.wb.tests.designer.core.util.refactoring.RefactoringTests;
+import org.eclipse.wb.tests.designer.core.util.reflect.ClassLoaderLocalMapTest;
 import org.eclipse.wb.tests.designer.core.util.reflect.IntrospectionHelperTest;
 import org.eclipse.wb.tests.designer.core.util.reflect.ReflectionUtilsTest;
 import org.eclipse.wb.tests.designer.core.util.ui.ImageUtilsTest;
 import org.eclipse.wb.tests.designer.core.util.ui.MenuIntersectorTest;
+import org.eclipse.wb.tests.designer.core.util.ui.ResourceTrackerTest;
+import org.eclipse.wb.tests.designer.core.util.ui.ThumbnailCacheTest;
 import org.eclipse.wb.tests.designer.core.util.xml.XmlTests;
 
 import org.junit.platform.suite.api.SelectClasses;
@@ -49,8 +52,11 @@ import org.junit.platform.suite.api.Suite;
 		EditorWarningTest.class,
 		ReflectionUtilsTest.class,
 		IntrospectionHelperTest.class,
+		ClassLoaderLocalMapTest.class,
 		MenuIntersectorTest.class,
 		ImageUtilsTest.class,
+		ResourceTrackerTest.class,
+		ThumbnailCacheTest.class,
 		AstTests.class,
 		JdtCoreTests.class,
 		RefactoringTests.class
@@ -2919,6 +2919,50 @@ public class AstEditorTest extends AbstractJavaTest {
 		assertEquals("value_1", m_lastEditor.getUniqueVariableName(position, "value", null));
 	}
 
+	/**
+	 * Unique names should be updated after {@link AstEditor} edits: added, renamed and removed
+	 * declarations.
+	 */
+	@Test
+	public void test_getUniqueVariableName_afterEdits() throws Exception {
+		TypeDeclaration typeDeclaration =
+				createTypeDeclaration_TestC(getSourceDQ(
+						"void foo() {",
+						"  System.out.println(1);",
+						"}"));
+		MethodDeclaration method = typeDeclaration.getMethods()[0];
+		Statement printStatement = DomGenerics.statements(method.getBody()).get(0);
+		assertEquals("value", m_lastEditor.getUniqueVariableName(-1, "value", null));
+		// add "value"
+		VariableDeclarationStatement newStatement =
+				(VariableDeclarationStatement) m_lastEditor.addStatement(
+						"int value = 0;",
+						new StatementTarget(printStatement, true));
+		assertEquals("value_1", m_lastEditor.getUniqueVariableName(-1, "value", null));
+		{
+			int position = m_lastEditor.getSource().indexOf("System.out.println(1);");
+			assertEquals("value_1", m_lastEditor.getUniqueVariableName(position, "value", null));
+		}
+		// rename "value" to "other"
+		SimpleName name = DomGenerics.fragments(newStatement).get(0).getName();
+		m_lastEditor.setIdentifier(name, "other");
+		assertEquals("value", m_lastEditor.getUniqueVariableName(-1, "value", null));
+		assertEquals("other_1", m_lastEditor.getUniqueVariableName(-1, "other", null));
+		// remove "other"
+		m_lastEditor.removeStatement(newStatement);
+		assertEquals("other", m_lastEditor.getUniqueVariableName(-1, "other", null));
+		// add method and type
+		m_lastEditor.addMethodDeclaration(
+				"void bar()",
+				Collections.<String>emptyList(),
+				new BodyDeclarationTarget(typeDeclaration, false));
+		assertEquals("bar_1", m_lastEditor.getUniqueMethodName("bar"));
+		m_lastEditor.addTypeDeclaration(
+				Lists.newArrayList("class Inner {", "}"),
+				new BodyDeclarationTarget(typeDeclaration, false));
+		assertEquals("Inner_1", m_lastEditor.getUniqueTypeName("Inner"));
+	}
+
 	/**
 	 * Test for version {@link AstEditor#getUniqueVariableName(List, String)}, i.e. when we give
 	 * conflicting {@link VariableDeclaration}'s instead of position.
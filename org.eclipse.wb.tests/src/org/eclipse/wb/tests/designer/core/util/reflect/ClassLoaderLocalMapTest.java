@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2026 WindowBuilder contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    WindowBuilder contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.wb.tests.designer.core.util.reflect;
+
+import org.eclipse.wb.internal.core.utils.reflect.ClassLoaderLocalMap;
+import org.eclipse.wb.internal.core.utils.reflect.ClassLoaderLocalMap.ClassLoaderLocalMapManager;
+import org.eclipse.wb.internal.core.utils.reflect.CompositeClassLoader;
+import org.eclipse.wb.tests.designer.tests.DesignerTestCase;
+
+import org.junit.jupiter.api.Test;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleReference;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+
+/**
+ * Test for {@link ClassLoaderLocalMap}.
+ */
+public class ClassLoaderLocalMapTest extends DesignerTestCase {
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Tests
+	//
+	////////////////////////////////////////////////////////////////////////////
+	@Test
+	public void test_putGet() throws Exception {
+		ClassLoader classLoader = new URLClassLoader(new URL[0]);
+		Object key = new Object();
+		assertFalse(ClassLoaderLocalMap.containsKey(classLoader, key));
+		assertNull(ClassLoaderLocalMap.get(classLoader, key));
+		// put value
+		ClassLoaderLocalMap.put(classLoader, key, "value");
+		assertTrue(ClassLoaderLocalMap.containsKey(classLoader, key));
+		assertEquals("value", ClassLoaderLocalMap.get(classLoader, key));
+		// other ClassLoader
+		assertFalse(ClassLoaderLocalMap.containsKey(new URLClassLoader(new URL[0]), key));
+		// "null" value
+		ClassLoaderLocalMap.put(classLoader, key, null);
+		assertTrue(ClassLoaderLocalMap.containsKey(classLoader, key));
+		assertNull(ClassLoaderLocalMap.get(classLoader, key));
+		// "null" ClassLoader
+		ClassLoaderLocalMap.put(null, key, "nullValue");
+		assertEquals("nullValue", ClassLoaderLocalMap.get(null, key));
+		ClassLoaderLocalMap.clear(null);
+		assertFalse(ClassLoaderLocalMap.containsKey(null, key));
+	}
+
+	/**
+	 * Deinitialize of one editor {@link ClassLoader} should not affect other {@link ClassLoader}'s.
+	 * When last editor {@link ClassLoader} is deinitialized, all properties are removed.
+	 */
+	@Test
+	public void test_deinitialize() throws Exception {
+		Object key = new Object();
+		ClassLoader sharedLoader = new URLClassLoader(new URL[0]);
+		CompositeClassLoader editorLoader_1 = createEditorLoader(sharedLoader);
+		CompositeClassLoader editorLoader_2 = createEditorLoader(sharedLoader);
+		ClassLoader projectLoader_1 = editorLoader_1.getClassLoaders().get(0);
+		ClassLoader projectLoader_2 = editorLoader_2.getClassLoaders().get(0);
+		new ClassLoaderLocalMapManager().initialize(editorLoader_1);
+		new ClassLoaderLocalMapManager().initialize(editorLoader_2);
+		ClassLoaderLocalMap.put(sharedLoader, key, "shared");
+		ClassLoaderLocalMap.put(null, key, "null");
+		ClassLoaderLocalMap.put(projectLoader_1, key, "1");
+		ClassLoaderLocalMap.put(projectLoader_2, key, "2");
+		// deinitialize first editor
+		new ClassLoaderLocalMapManager().deinitialize(editorLoader_1);
+		assertFalse(ClassLoaderLocalMap.containsKey(projectLoader_1, key));
+		assertEquals("2", ClassLoaderLocalMap.get(projectLoader_2, key));
+		assertEquals("shared", ClassLoaderLocalMap.get(sharedLoader, key));
+		assertEquals("null", ClassLoaderLocalMap.get(null, key));
+		// deinitialize last editor
+		new ClassLoaderLocalMapManager().deinitialize(editorLoader_2);
+		assertFalse(ClassLoaderLocalMap.containsKey(projectLoader_2, key));
+		assertFalse(ClassLoaderLocalMap.containsKey(sharedLoader, key));
+		assertFalse(ClassLoaderLocalMap.containsKey(null, key));
+	}
+
+	/**
+	 * Properties of {@link ClassLoader}'s of unresolved {@link Bundle} are removed.
+	 */
+	@Test
+	public void test_clearBundle() throws Exception {
+		Object key = new Object();
+		ClassLoader bundleLoader = getClass().getClassLoader();
+		Bundle bundle = ((BundleReference) bundleLoader).getBundle();
+		ClassLoader otherLoader = new URLClassLoader(new URL[0], bundleLoader);
+		ClassLoaderLocalMap.put(bundleLoader, key, "bundle");
+		ClassLoaderLocalMap.put(otherLoader, key, "other");
+		// clear
+		ClassLoaderLocalMap.clear(bundle);
+		assertFalse(ClassLoaderLocalMap.containsKey(bundleLoader, key));
+		assertEquals("other", ClassLoaderLocalMap.get(otherLoader, key));
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Utils
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @return the {@link CompositeClassLoader} with "project" {@link ClassLoader} that has given
+	 *         shared parent, similar to {@link ClassLoader} of editor.
+	 */
+	private static CompositeClassLoader createEditorLoader(ClassLoader sharedLoader) {
+		CompositeClassLoader editorLoader = new CompositeClassLoader();
+		editorLoader.add(new URLClassLoader(new URL[0], sharedLoader), null);
+		return editorLoader;
+	}
+}
@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2026 WindowBuilder contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    WindowBuilder contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.wb.tests.designer.core.util.ui;
+
+import org.eclipse.wb.internal.core.utils.execution.RunnableEx;
+import org.eclipse.wb.internal.core.utils.ui.ResourceTracker;
+import org.eclipse.wb.tests.designer.tests.DesignerTestCase;
+
+import org.eclipse.swt.graphics.Image;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * Test for {@link ResourceTracker}.
+ */
+public class ResourceTrackerTest extends DesignerTestCase {
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Tests
+	//
+	////////////////////////////////////////////////////////////////////////////
+	@Test
+	public void test_addRemove() throws Exception {
+		ResourceTracker tracker = new ResourceTracker("test");
+		Image image = new Image(null, 10, 20);
+		try {
+			assertSame(image, tracker.add(image));
+			tracker.add(image);
+			assertEquals(1, tracker.getHandles());
+			assertEquals(4 * 10 * 20, tracker.getBytes());
+			Assertions.assertThat(tracker.getReport()).contains(
+					"test: 1 handles",
+					"ResourceTrackerTest.test_addRemove: 1 handles");
+			// remove, not disposed
+			tracker.remove(image);
+			assertEquals(0, tracker.getHandles());
+			assertEquals(0, tracker.getBytes());
+			assertFalse(image.isDisposed());
+			// no leaks
+			assertEquals(0, tracker.dispose());
+			assertFalse(image.isDisposed());
+		} finally {
+			image.dispose();
+		}
+	}
+
+	@Test
+	public void test_disposedByOwner() throws Exception {
+		ResourceTracker tracker = new ResourceTracker("test");
+		Image image = tracker.add(new Image(null, 10, 10), "site");
+		image.dispose();
+		assertEquals(0, tracker.getHandles());
+		assertEquals(0, tracker.dispose());
+	}
+
+	@Test
+	public void test_dispose_leaks() throws Exception {
+		ResourceTracker tracker = new ResourceTracker("test");
+		Image image_1 = tracker.add(new Image(null, 10, 10), "site");
+		Image image_2 = tracker.add(new Image(null, 10, 10), "site");
+		tracker.dispose(image_1);
+		assertTrue(image_1.isDisposed());
+		// "image_2" was not disposed by owner
+		assertEquals(1, tracker.dispose());
+		assertEquals(1, tracker.getLeakedHandles());
+		assertTrue(image_2.isDisposed());
+	}
+
+	@Test
+	public void test_transferTo() throws Exception {
+		ResourceTracker source = new ResourceTracker("source");
+		ResourceTracker target = new ResourceTracker("target");
+		Image image = source.add(new Image(null, 10, 10), "site");
+		int totalHandles = ResourceTracker.getTotalHandles();
+		source.transferTo(target);
+		assertEquals(0, source.getHandles());
+		assertEquals(1, target.getHandles());
+		assertEquals(totalHandles, ResourceTracker.getTotalHandles());
+		// disposed with "target"
+		assertEquals(0, source.dispose());
+		assertFalse(image.isDisposed());
+		assertEquals(1, target.dispose());
+		assertTrue(image.isDisposed());
+	}
+
+	@Test
+	public void test_totals_garbageCollected() throws Exception {
+		Image image = new Image(null, 10, 10);
+		try {
+			int totalHandles = ResourceTracker.getTotalHandles();
+			long totalBytes = ResourceTracker.getTotalBytes();
+			ResourceTracker tracker = new ResourceTracker("test");
+			tracker.add(image, "site");
+			assertEquals(totalHandles + 1, ResourceTracker.getTotalHandles());
+			assertEquals(totalBytes + 400, ResourceTracker.getTotalBytes());
+			// tracker is not disposed, but garbage collected
+			WeakReference<ResourceTracker> reference = new WeakReference<>(tracker);
+			tracker = null;
+			for (int i = 0; i < 100 && reference.get() != null; i++) {
+				System.gc();
+				Thread.sleep(10);
+			}
+			assertNull(reference.get());
+			assertEquals(totalHandles, ResourceTracker.getTotalHandles());
+			assertEquals(totalBytes, ResourceTracker.getTotalBytes());
+		} finally {
+			image.dispose();
+		}
+	}
+
+	@Test
+	public void test_budget_evict() throws Exception {
+		final ResourceTracker tracker = new ResourceTracker("test");
+		final Image[] cachedImage = {tracker.add(new Image(null, 10, 10), "cache")};
+		final int[] evictions = new int[1];
+		RunnableEx evictor = () -> {
+			evictions[0]++;
+			tracker.dispose(cachedImage[0]);
+		};
+		int maxHandles = ResourceTracker.getMaxHandles();
+		long maxBytes = ResourceTracker.getMaxBytes();
+		ResourceTracker.addEvictor(evictor);
+		try {
+			ResourceTracker.setBudget(maxHandles, ResourceTracker.getTotalBytes() + 100);
+			// budget crossed, cached image evicted
+			Image image_1 = tracker.add(new Image(null, 10, 10), "site");
+			assertEquals(1, evictions[0]);
+			assertTrue(cachedImage[0].isDisposed());
+			assertEquals(1, tracker.getHandles());
+			// over budget again, but evictors are run only after add() under budget
+			Image image_2 = tracker.add(new Image(null, 10, 10), "site");
+			assertEquals(1, evictions[0]);
+			assertEquals(2, tracker.getHandles());
+			// back under budget
+			tracker.dispose(image_1);
+			tracker.dispose(image_2);
+			cachedImage[0] = tracker.add(new Image(null, 10, 10), "cache");
+			assertEquals(1, evictions[0]);
+			// budget crossed again
+			Image image_3 = tracker.add(new Image(null, 10, 10), "site");
+			assertEquals(2, evictions[0]);
+			assertTrue(cachedImage[0].isDisposed());
+			tracker.dispose(image_3);
+		} finally {
+			ResourceTracker.removeEvictor(evictor);
+			ResourceTracker.setBudget(maxHandles, maxBytes);
+		}
+		assertEquals(0, tracker.dispose());
+	}
+}
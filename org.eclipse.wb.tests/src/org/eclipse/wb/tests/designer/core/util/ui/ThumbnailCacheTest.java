@@ -0,0 +1,248 @@
+/*******************************************************************************
+ * Copyright (c) 2026 WindowBuilder contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wb.tests.designer.core.util.ui;
+
+import org.eclipse.wb.internal.core.utils.ui.dialogs.image.ImageInfo;
+import org.eclipse.wb.internal.core.utils.ui.dialogs.image.pages.browse.ThumbnailCache;
+import org.eclipse.wb.internal.core.utils.ui.dialogs.image.pages.browse.model.IThumbnailResource;
+import org.eclipse.wb.tests.designer.tests.DesignerTestCase;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.ImageLoader;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Tree;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test for {@link ThumbnailCache}.
+ */
+public class ThumbnailCacheTest extends DesignerTestCase {
+	private Shell m_shell;
+	private Tree m_tree;
+	private ThumbnailCache m_cache;
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Life cycle
+	//
+	////////////////////////////////////////////////////////////////////////////
+	@Override
+	@BeforeEach
+	public void setUp() throws Exception {
+		super.setUp();
+		m_shell = new Shell();
+		m_tree = new Tree(m_shell, SWT.NONE);
+		m_cache = new ThumbnailCache(m_tree);
+	}
+
+	@Override
+	@AfterEach
+	public void tearDown() throws Exception {
+		m_shell.dispose();
+		super.tearDown();
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// scale()
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Small images are used as is.
+	 */
+	@Test
+	public void test_scale_small() throws Exception {
+		ImageData data = createData(10, ThumbnailCache.SIZE);
+		assertSame(data, ThumbnailCache.scale(data));
+	}
+
+	/**
+	 * Big images are scaled to fit into thumbnail, keeping aspect ratio.
+	 */
+	@Test
+	public void test_scale_big() throws Exception {
+		assertScaled(64, 32, ThumbnailCache.SIZE, ThumbnailCache.SIZE / 2);
+		assertScaled(32, 64, ThumbnailCache.SIZE / 2, ThumbnailCache.SIZE);
+		assertScaled(64, 64, ThumbnailCache.SIZE, ThumbnailCache.SIZE);
+		// at least one pixel
+		assertScaled(1000, 1, ThumbnailCache.SIZE, 1);
+		assertScaled(1, 1000, 1, ThumbnailCache.SIZE);
+	}
+
+	private static void assertScaled(int width, int height, int expectedWidth, int expectedHeight) {
+		ImageData data = ThumbnailCache.scale(createData(width, height));
+		assertEquals(expectedWidth, data.width);
+		assertEquals(expectedHeight, data.height);
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// getThumbnail()
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Thumbnail is loaded in background, broken resource has no thumbnail.
+	 */
+	@Test
+	public void test_getThumbnail() throws Exception {
+		IThumbnailResource resource = new TestResource(createBytes(64, 32));
+		assertNull(m_cache.getThumbnail(resource));
+		Image image = waitThumbnail(resource);
+		assertEquals(ThumbnailCache.SIZE, image.getBounds().width);
+		assertEquals(ThumbnailCache.SIZE / 2, image.getBounds().height);
+		assertSame(image, m_cache.getThumbnail(resource));
+		// broken
+		IThumbnailResource broken = new TestResource("not an image".getBytes());
+		assertNull(m_cache.getThumbnail(broken));
+		waitEventLoop(100);
+		assertNull(m_cache.getThumbnail(broken));
+	}
+
+	/**
+	 * Only {@link ThumbnailCache#IMAGES_LIMIT} images are kept, least recently used is disposed.
+	 */
+	@Test
+	public void test_getThumbnail_limit() throws Exception {
+		byte[] bytes = createBytes(8, 8);
+		List<IThumbnailResource> resources = new ArrayList<>();
+		List<Image> images = new ArrayList<>();
+		for (int i = 0; i < ThumbnailCache.IMAGES_LIMIT; i++) {
+			IThumbnailResource resource = new TestResource(bytes);
+			resources.add(resource);
+			images.add(waitThumbnail(resource));
+		}
+		// use first, so second one is least recently used
+		assertSame(images.get(0), m_cache.getThumbnail(resources.get(0)));
+		// one more image, over limit
+		Image lastImage = waitThumbnail(new TestResource(bytes));
+		assertFalse(lastImage.isDisposed());
+		assertFalse(images.get(0).isDisposed());
+		assertTrue(images.get(1).isDisposed());
+		for (int i = 2; i < images.size(); i++) {
+			assertFalse(images.get(i).isDisposed());
+		}
+		// disposed thumbnail is loaded again
+		assertNull(m_cache.getThumbnail(resources.get(1)));
+		assertNotSame(images.get(1), waitThumbnail(resources.get(1)));
+		assertTrue(images.get(2).isDisposed());
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// dispose()
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Images are disposed with {@link ThumbnailCache}, new thumbnails are not loaded.
+	 */
+	@Test
+	public void test_dispose() throws Exception {
+		Image placeholder = m_cache.getPlaceholder();
+		Image image = waitThumbnail(new TestResource(createBytes(8, 8)));
+		m_cache.dispose();
+		assertTrue(placeholder.isDisposed());
+		assertTrue(image.isDisposed());
+		// can be disposed again
+		m_cache.dispose();
+		// no loading
+		IThumbnailResource resource = new TestResource(createBytes(8, 8));
+		assertNull(m_cache.getThumbnail(resource));
+		waitEventLoop(100);
+		assertNull(m_cache.getThumbnail(resource));
+	}
+
+	/**
+	 * Images are disposed with {@link org.eclipse.swt.widgets.Control}, as in browse image page.
+	 */
+	@Test
+	public void test_dispose_withControl() throws Exception {
+		Image placeholder = m_cache.getPlaceholder();
+		Image image = waitThumbnail(new TestResource(createBytes(8, 8)));
+		m_shell.dispose();
+		assertTrue(placeholder.isDisposed());
+		assertTrue(image.isDisposed());
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Utils
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Requests thumbnail until it is loaded, fails after timeout.
+	 */
+	private Image waitThumbnail(IThumbnailResource resource) {
+		long end = System.currentTimeMillis() + 10000;
+		while (System.currentTimeMillis() < end) {
+			Image image = m_cache.getThumbnail(resource);
+			if (image != null) {
+				return image;
+			}
+			waitEventLoop(1);
+		}
+		fail("Thumbnail was not loaded.");
+		return null;
+	}
+
+	private static ImageData createData(int width, int height) {
+		return new ImageData(width, height, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+	}
+
+	private static byte[] createBytes(int width, int height) {
+		ImageLoader loader = new ImageLoader();
+		loader.data = new ImageData[]{createData(width, height)};
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		loader.save(outputStream, SWT.IMAGE_PNG);
+		return outputStream.toByteArray();
+	}
+
+	/**
+	 * {@link IThumbnailResource} with image in memory.
+	 */
+	private static final class TestResource implements IThumbnailResource {
+		private final byte[] m_bytes;
+
+		public TestResource(byte[] bytes) {
+			m_bytes = bytes;
+		}
+
+		@Override
+		public InputStream openStream() throws Exception {
+			return new ByteArrayInputStream(m_bytes);
+		}
+
+		@Override
+		public ImageInfo getImageInfo() {
+			return null;
+		}
+
+		@Override
+		public Image getImage() {
+			return null;
+		}
+
+		@Override
+		public String getName() {
+			return "image.png";
+		}
+	}
+}
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.wb.tests.designer.databinding.rcp;
 
+import org.eclipse.wb.internal.core.databinding.utils.BeanIntrospectionCache;
 import org.eclipse.wb.internal.core.databinding.utils.CoreUtils;
 import org.eclipse.wb.internal.core.utils.ast.AstNodeUtils;
 import org.eclipse.wb.internal.core.utils.ast.DomGenerics;
@@ -29,6 +30,7 @@ import org.eclipse.jdt.core.dom.TypeDeclaration;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.beans.PropertyDescriptor;
 import java.util.List;
 
 /**
@@ -203,6 +205,48 @@ public class UtilsTest extends AbstractJavaTest {
 				String.class));
 	}
 
+	@Test
+	public void test_BeanIntrospectionCache() throws Exception {
+		List<PropertyDescriptor> sorted =
+				BeanIntrospectionCache.getSortedPropertyDescriptors(TestBean.class);
+		assertEquals(3, sorted.size());
+		assertEquals("class", sorted.get(0).getName());
+		assertEquals("count", sorted.get(1).getName());
+		assertEquals("name", sorted.get(2).getName());
+		// results are cached
+		assertSame(sorted, BeanIntrospectionCache.getSortedPropertyDescriptors(TestBean.class));
+		// each caller gets own modifiable copy
+		List<PropertyDescriptor> descriptors =
+				BeanIntrospectionCache.getPropertyDescriptors(TestBean.class);
+		assertNotSame(descriptors, BeanIntrospectionCache.getPropertyDescriptors(TestBean.class));
+		descriptors.clear();
+		assertEquals(3, BeanIntrospectionCache.getPropertyDescriptors(TestBean.class).size());
+		// getters/setters
+		assertEquals("getName", BeanIntrospectionCache.getReadMethod(TestBean.class, "name").getName());
+		assertEquals(
+				"setName",
+				BeanIntrospectionCache.getWriteMethod(TestBean.class, "name").getName());
+		assertNull(BeanIntrospectionCache.getWriteMethod(TestBean.class, "count"));
+		assertNull(BeanIntrospectionCache.getPropertyDescriptor(TestBean.class, "noSuchProperty"));
+		// no icon
+		assertNull(BeanIntrospectionCache.getIcon(TestBean.class, image -> {
+			throw new AssertionError();
+		}));
+	}
+
+	public static class TestBean {
+		public String getName() {
+			return null;
+		}
+
+		public void setName(String name) {
+		}
+
+		public int getCount() {
+			return 0;
+		}
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// Utils
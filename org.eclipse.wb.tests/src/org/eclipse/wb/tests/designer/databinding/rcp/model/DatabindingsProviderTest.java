@@ -773,6 +773,62 @@ public class DatabindingsProviderTest extends AbstractBindingTest {
 		assertEquals("combo", shellChildren.get(0).getPresentation().getText());
 	}
 
+	/**
+	 * Observes are synchronized once, at the end of edit operation.
+	 */
+	@Test
+	public void test_synchronizedObserves_endEdit() throws Exception {
+		final CompositeInfo shell =
+				DatabindingTestUtils.parseTestSource(this, new String[]{
+						"public class Test {",
+						"  protected Shell m_shell;",
+						"  private Button button_1;",
+						"  private Button button_2;",
+						"  public static void main(String[] args) {",
+						"    Test test = new Test();",
+						"    test.open();",
+						"  }",
+						"  public void open() {",
+						"    Display display = new Display();",
+						"    createContents();",
+						"    m_shell.open();",
+						"    m_shell.layout();",
+						"    while (!m_shell.isDisposed()) {",
+						"      if (!display.readAndDispatch()) {",
+						"        display.sleep();",
+						"      }",
+						"    }",
+						"  }",
+						"  protected void createContents() {",
+						"    m_shell = new Shell();",
+						"    m_shell.setLayout(new FillLayout());",
+						"    button_1 = new Button(m_shell, SWT.NONE);",
+						"    button_2 = new Button(m_shell, SWT.NONE);",
+						"  }",
+				"}"});
+		final DatabindingsProvider provider = getDatabindingsProvider();
+		assertEquals(4, provider.getContainer(ObserveType.BEANS).getObservables().size());
+		// delete both buttons in single edit operation
+		ExecutionUtils.run(shell, new RunnableEx() {
+			@Override
+			public void run() throws Exception {
+				shell.getChildrenControls().get(0).delete();
+				// not synchronized yet
+				assertEquals(4, provider.getContainer(ObserveType.BEANS).getObservables().size());
+				shell.getChildrenControls().get(0).delete();
+			}
+		});
+		// synchronized
+		List<IObserveInfo> beanObservables = provider.getContainer(ObserveType.BEANS).getObservables();
+		assertEquals(2, beanObservables.size());
+		assertEquals("m_shell - Shell", beanObservables.get(0).getPresentation().getText());
+		assertEquals("getClass()", beanObservables.get(1).getPresentation().getText());
+		//
+		IObserveInfo shellObserve =
+				provider.getContainer(ObserveType.WIDGETS).getObservables().get(0);
+		assertTrue(shellObserve.getChildren(ChildrenContext.ChildrenForMasterTable).isEmpty());
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// Validate tests
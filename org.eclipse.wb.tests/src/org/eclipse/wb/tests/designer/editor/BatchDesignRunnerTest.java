@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2026 WindowBuilder contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    WindowBuilder contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.wb.tests.designer.editor;
+
+import org.eclipse.wb.internal.core.editor.BatchDesignRunner;
+import org.eclipse.wb.internal.core.editor.BatchDesignRunner.Phase;
+import org.eclipse.wb.internal.core.editor.BatchDesignRunner.Result;
+import org.eclipse.wb.tests.designer.swing.SwingModelTest;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.ICompilationUnit;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.List;
+
+/**
+ * Test for {@link BatchDesignRunner}.
+ */
+public class BatchDesignRunnerTest extends SwingModelTest {
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Tests
+	//
+	////////////////////////////////////////////////////////////////////////////
+	@Test
+	public void test_run() throws Exception {
+		ICompilationUnit unit =
+				createModelCompilationUnit(
+						"test",
+						"Test.java",
+						getTestSource("""
+								public class Test extends JPanel {
+									public Test() {
+										add(new JButton("button"));
+									}
+								}"""));
+		BatchDesignRunner runner = new BatchDesignRunner();
+		Result result = runner.run(unit);
+		Assertions.assertThat(runner.getResults()).containsExactly(result);
+		Assertions.assertThat(result.getUnitPath()).isEqualTo(unit.getPath().toPortableString());
+		assertNull(result.getFailedPhase());
+		assertNull(result.getError());
+		for (Phase phase : Phase.values()) {
+			Assertions.assertThat(result.getTime(phase)).isGreaterThanOrEqualTo(0);
+		}
+		// panel, button and layout
+		Assertions.assertThat(result.getComponents()).isGreaterThanOrEqualTo(3);
+		Assertions.assertThat(result.getScreenshots()).isEqualTo(2);
+		// screenshots are tracked and disposed with model
+		Assertions.assertThat(result.getHandles()).isGreaterThanOrEqualTo(2);
+		Assertions.assertThat(result.getImageBytes()).isPositive();
+		assertEquals(0, result.getLeakedHandles());
+		Assertions.assertThat(result.getPeakMemory()).isPositive();
+	}
+
+	@Test
+	public void test_run_error() throws Exception {
+		ICompilationUnit unit =
+				createModelCompilationUnit(
+						"test",
+						"Test.java",
+						getTestSource("""
+								public class Test {
+								}"""));
+		BatchDesignRunner runner = new BatchDesignRunner();
+		Result result = runner.run(unit);
+		assertSame(Phase.MODEL, result.getFailedPhase());
+		assertNotNull(result.getException());
+		Assertions.assertThat(result.getError()).isNotEmpty();
+		Assertions.assertThat(result.getTime(Phase.AST)).isGreaterThanOrEqualTo(0);
+		assertEquals(-1, result.getTime(Phase.MODEL));
+		assertEquals(-1, result.getTime(Phase.REFRESH));
+		Assertions.assertThat(result.getTime(Phase.DISPOSE)).isGreaterThanOrEqualTo(0);
+	}
+
+	@Test
+	public void test_writeReport() throws Exception {
+		ICompilationUnit unit =
+				createModelCompilationUnit(
+						"test",
+						"Test.java",
+						getTestSource("""
+								public class Test extends JPanel {
+									public Test() {
+									}
+								}"""));
+		ICompilationUnit badUnit =
+				createModelCompilationUnit(
+						"test",
+						"Bad.java",
+						getTestSource("""
+								public class Bad {
+								}"""));
+		BatchDesignRunner runner = new BatchDesignRunner();
+		runner.run(List.of(unit, badUnit), new NullProgressMonitor());
+		StringWriter writer = new StringWriter();
+		runner.writeReport(writer);
+		String[] lines = writer.toString().split("\n");
+		Assertions.assertThat(lines).hasSize(2);
+		Assertions.assertThat(lines[0]).startsWith(
+				"{\"unit\":\"" + unit.getPath().toPortableString() + "\",\"phases\":{\"ast\":");
+		Assertions.assertThat(lines[0]).contains(",\"capturedImages\":0,\"capturedPixels\":0,");
+		Assertions.assertThat(lines[0]).endsWith(",\"failedPhase\":null,\"error\":null}");
+		Assertions.assertThat(lines[1]).contains("\"refresh\":-1,");
+		Assertions.assertThat(lines[1]).contains(
+				",\"failedPhase\":\"model\",\"error\":\"");
+	}
+}
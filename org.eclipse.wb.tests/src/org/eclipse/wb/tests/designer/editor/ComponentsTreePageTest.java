@@ -12,7 +12,11 @@
  *******************************************************************************/
 package org.eclipse.wb.tests.designer.editor;
 
+import org.eclipse.wb.core.model.ObjectInfo;
 import org.eclipse.wb.core.model.broadcast.ObjectEventListener;
+import org.eclipse.wb.core.model.broadcast.ObjectInfoChildTree;
+import org.eclipse.wb.core.model.broadcast.ObjectInfoChildrenTree;
+import org.eclipse.wb.gef.tree.TreeEditPart;
 import org.eclipse.wb.internal.core.DesignerPlugin;
 import org.eclipse.wb.internal.core.EnvironmentUtils;
 import org.eclipse.wb.internal.core.editor.structure.components.ComponentsTreePage;
@@ -28,6 +32,7 @@ import org.eclipse.wb.tests.designer.swing.SwingGefTest;
 import org.eclipse.gef.EditPart;
 import org.eclipse.gef.commands.Command;
 import org.eclipse.jface.action.IAction;
+import org.eclipse.swt.widgets.TreeItem;
 
 import org.junit.jupiter.api.Test;
 
@@ -118,6 +123,79 @@ public class ComponentsTreePageTest extends SwingGefTest {
 		assertSelectionModels();
 	}
 
+	/**
+	 * Refresh without changes in tree children keeps {@link TreeEditPart}'s and their items.
+	 */
+	@Test
+	public void test_refresh_keepUnchangedItems() throws Exception {
+		final ContainerInfo panel = openContainer("""
+				public class Test extends JPanel {
+					public Test() {
+						{
+							JButton button = new JButton();
+							add(button);
+						}
+					}
+				}""");
+		ComponentInfo button = panel.getChildrenComponents().get(0);
+		TreeEditPart buttonPart = tree.getEditPart(button);
+		TreeItem buttonItem = buttonPart.getWidget();
+		// refresh without changes, tree children are not asked
+		final int[] childrenTreeCount = {0};
+		panel.addBroadcastListener(new ObjectInfoChildrenTree() {
+			@Override
+			public void invoke(ObjectInfo parent, List<ObjectInfo> children) throws Exception {
+				childrenTreeCount[0]++;
+			}
+		});
+		panel.refresh();
+		assertEquals(0, childrenTreeCount[0]);
+		assertSame(buttonPart, tree.getEditPart(button));
+		assertSame(buttonItem, buttonPart.getWidget());
+		// add new JButton, existing item is kept
+		final ComponentInfo newButton = createJButton();
+		ExecutionUtils.run(panel, () -> ((FlowLayoutInfo) panel.getLayout()).add(newButton, null));
+		tree.assertNotNullEditPart(newButton);
+		assertSame(buttonPart, tree.getEditPart(button));
+		assertSame(buttonItem, buttonPart.getWidget());
+	}
+
+	/**
+	 * Children hidden/shown by presentation, without changes in model children, are updated on
+	 * {@link ObjectEventListener#presentationChanged()}.
+	 */
+	@Test
+	public void test_refresh_presentationChanged() throws Exception {
+		ContainerInfo panel = openContainer("""
+				public class Test extends JPanel {
+					public Test() {
+						{
+							JButton button = new JButton();
+							add(button);
+						}
+					}
+				}""");
+		final ComponentInfo button = panel.getChildrenComponents().get(0);
+		final boolean[] hidden = {false};
+		panel.addBroadcastListener(new ObjectInfoChildTree() {
+			@Override
+			public void invoke(ObjectInfo object, boolean[] visible) throws Exception {
+				if (object == button && hidden[0]) {
+					visible[0] = false;
+				}
+			}
+		});
+		tree.assertNotNullEditPart(button);
+		// hide
+		hidden[0] = true;
+		panel.getBroadcastObject().presentationChanged();
+		tree.assertNullEditPart(button);
+		// show again
+		hidden[0] = false;
+		panel.getBroadcastObject().presentationChanged();
+		tree.assertNotNullEditPart(button);
+	}
+
 	/**
 	 * There was problem: after some exception during drag operation {@link TreeDropListener} had
 	 * state (list of {@link EditPart} to drag) remembered since last operation. So, when we reparse
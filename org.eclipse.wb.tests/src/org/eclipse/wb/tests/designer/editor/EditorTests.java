@@ -34,6 +34,7 @@ import org.junit.platform.suite.api.Suite;
 		JavaPropertiesToolBarContributorTest.class,
 		ComponentsTreePageTest.class,
 		SplitModeTest.class,
+		BatchDesignRunnerTest.class,
 		DesignerEditorTests.class,
 		LayoutRequestValidatorTests.class
 })
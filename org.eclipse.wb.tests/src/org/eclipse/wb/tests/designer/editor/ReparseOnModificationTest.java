@@ -15,6 +15,8 @@ package org.eclipse.wb.tests.designer.editor;
 import org.eclipse.wb.core.model.JavaInfo;
 import org.eclipse.wb.core.model.broadcast.EditorActivatedListener;
 import org.eclipse.wb.core.model.broadcast.EditorActivatedRequest;
+import org.eclipse.wb.internal.core.editor.DesignPage;
+import org.eclipse.wb.internal.core.editor.DesignPageTimings;
 import org.eclipse.wb.internal.core.model.JavaInfoUtils;
 import org.eclipse.wb.internal.swing.model.component.ContainerInfo;
 import org.eclipse.wb.tests.designer.swing.SwingGefTest;
@@ -139,6 +141,68 @@ public class ReparseOnModificationTest extends SwingGefTest {
 		assertNotSame(initialPanel, m_contentJavaInfo);
 	}
 
+	/**
+	 * {@link DesignPage} remembers durations of all parsing stages.
+	 */
+	@Test
+	public void test_timings() throws Exception {
+		openContainer("""
+				public class Test extends JPanel {
+					public Test() {
+					}
+				}""");
+		DesignPageTimings timings = ((DesignPage) m_designPage).getTimings();
+		for (DesignPageTimings.Stage stage : DesignPageTimings.Stage.values()) {
+			assertTrue(timings.getTime(stage) >= 0, stage.toString());
+		}
+		assertEquals(DesignPageTimings.Stage.values().length, timings.getTimes().size());
+	}
+
+	/**
+	 * With progress, Java source is parsed into AST in background, but model and GUI are created in
+	 * UI thread.
+	 */
+	@Test
+	public void test_timings_withProgress() throws Exception {
+		openContainer("""
+				public class Test extends JPanel {
+					public Test() {
+					}
+				}""");
+		DesignPageTimings timings = ((DesignPage) m_designPage).getTimings();
+		assertTrue(timings.isBackground(DesignPageTimings.Stage.AST));
+		assertFalse(timings.isBackground(DesignPageTimings.Stage.MODEL));
+		assertFalse(timings.isBackground(DesignPageTimings.Stage.REFRESH));
+		assertFalse(timings.isBackground(DesignPageTimings.Stage.DESIGN));
+	}
+
+	/**
+	 * Without progress all stages are performed in UI thread, and still produce same model.
+	 */
+	@Test
+	public void test_timings_noProgress() throws Exception {
+		openContainer("""
+				public class Test extends JPanel {
+					public Test() {
+						add(new JButton());
+					}
+				}""");
+		DesignPage designPage = (DesignPage) m_designPage;
+		designPage.setShowProgress(false);
+		try {
+			designPage.refreshGEF();
+		} finally {
+			designPage.setShowProgress(true);
+		}
+		DesignPageTimings timings = designPage.getTimings();
+		for (DesignPageTimings.Stage stage : DesignPageTimings.Stage.values()) {
+			assertTrue(timings.getTime(stage) >= 0, stage.toString());
+			assertFalse(timings.isBackground(stage), stage.toString());
+		}
+		fetchContentFields();
+		assertEquals(1, ((ContainerInfo) m_contentJavaInfo).getChildrenComponents().size());
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// Tests
@@ -12,9 +12,12 @@
  *******************************************************************************/
 package org.eclipse.wb.tests.designer.editor;
 
+import org.eclipse.wb.core.model.JavaInfo;
 import org.eclipse.wb.internal.core.DesignerPlugin;
 import org.eclipse.wb.internal.core.editor.multi.MultiMode;
 import org.eclipse.wb.internal.core.preferences.IPreferenceConstants;
+import org.eclipse.wb.internal.swing.model.component.ComponentInfo;
+import org.eclipse.wb.internal.swing.model.component.ContainerInfo;
 import org.eclipse.wb.tests.designer.swing.SwingGefTest;
 
 import org.eclipse.jdt.core.IBuffer;
@@ -25,6 +28,8 @@ import org.junit.jupiter.api.Test;
 
 import java.awt.Component;
 
+import javax.swing.JButton;
+
 /**
  * Test for "split" layout editor mode.
  *
@@ -128,6 +133,115 @@ public class SplitModeTest extends SwingGefTest {
 		check_isEnabled(false);
 	}
 
+	@Test
+	public void test_sync_literalArgument() throws Exception {
+		configureSplitMode(100);
+		openContainer("""
+				// filler filler filler
+				public class Test extends JPanel {
+					public Test() {
+						setEnabled(true);
+					}
+				}""");
+		openSourcePage();
+		check_isEnabled(true);
+		JavaInfo panel = m_contentJavaInfo;
+		focusSourcePage();
+		// change literal argument in buffer
+		replaceInBuffer("true);", "true".length(), "false");
+		waitEventLoop(1000);
+		// change applied to same model, without parsing
+		check_isEnabled(false);
+		assertSame(panel, m_contentJavaInfo);
+		assertEquals(
+				m_lastEditor.getModelUnit().getBuffer().getContents(),
+				m_lastEditor.getSource());
+	}
+
+	@Test
+	public void test_sync_structuralChange() throws Exception {
+		configureSplitMode(100);
+		openContainer("""
+				// filler filler filler
+				public class Test extends JPanel {
+					public Test() {
+						setEnabled(true);
+					}
+				}""");
+		openSourcePage();
+		JavaInfo panel = m_contentJavaInfo;
+		focusSourcePage();
+		// replace literal with variable, so parse required
+		replaceInBuffer("true);", "true".length(), "isVisible()");
+		waitEventLoop(1000);
+		check_isEnabled(true);
+		assertNotSame(panel, m_contentJavaInfo);
+	}
+
+	/**
+	 * Appending digit to end of number literal is also change of this literal.
+	 */
+	@Test
+	public void test_sync_appendDigit() throws Exception {
+		configureSplitMode(100);
+		openContainer("""
+				// filler filler filler
+				public class Test extends JPanel {
+					public Test() {
+						JButton button = new JButton();
+						button.setIconTextGap(4);
+						add(button);
+					}
+				}""");
+		openSourcePage();
+		JavaInfo panel = m_contentJavaInfo;
+		focusSourcePage();
+		// insert digit after "4", i.e. at position of ")"
+		replaceInBuffer("4);", 1, "40");
+		waitEventLoop(1000);
+		// change applied to same model, without parsing
+		assertSame(panel, m_contentJavaInfo);
+		ComponentInfo button = ((ContainerInfo) m_contentJavaInfo).getChildrenComponents().get(0);
+		assertEquals(40, ((JButton) button.getObject()).getIconTextGap());
+		assertEquals(
+				m_lastEditor.getModelUnit().getBuffer().getContents(),
+				m_lastEditor.getSource());
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Utils
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Configures "split" layout with given synchronization delay.
+	 */
+	private static void configureSplitMode(int syncDelay) {
+		IPreferenceStore preferences = DesignerPlugin.getPreferences();
+		preferences.setValue(
+				IPreferenceConstants.P_EDITOR_LAYOUT,
+				IPreferenceConstants.V_EDITOR_LAYOUT_SPLIT_VERTICAL_DESIGN);
+		preferences.setValue(IPreferenceConstants.P_EDITOR_LAYOUT_SYNC_DELAY, syncDelay);
+	}
+
+	/**
+	 * Sets focus to "Source" page, as if user does this.
+	 */
+	private void focusSourcePage() {
+		m_designerEditor.getSite().getShell().forceActive();
+		MultiMode multiMode = (MultiMode) m_designerEditor.getMultiMode();
+		multiMode.getSourcePage().setFocus();
+	}
+
+	/**
+	 * Replaces given number of characters at position of given marker in buffer.
+	 */
+	private void replaceInBuffer(String marker, int length, String text) throws Exception {
+		IBuffer buffer = m_lastEditor.getModelUnit().getBuffer();
+		int position = buffer.getContents().indexOf(marker);
+		buffer.replace(position, length, text);
+	}
+
 	private void check_isEnabled(boolean expected) {
 		fetchContentFields();
 		assertEquals(expected, ((Component) m_contentJavaInfo.getObject()).isEnabled());
@@ -21,6 +21,7 @@ import org.eclipse.wb.internal.swt.model.layout.form.FormAttachmentInfo;
 import org.eclipse.wb.internal.swt.model.layout.form.FormDataInfo;
 import org.eclipse.wb.internal.swt.model.layout.form.FormLayoutInfo;
 import org.eclipse.wb.internal.swt.model.layout.form.FormLayoutInfoImplAutomatic;
+import org.eclipse.wb.internal.swt.model.layout.form.FormLayoutInfoImplClassic;
 import org.eclipse.wb.internal.swt.model.layout.grid.GridLayoutInfo;
 import org.eclipse.wb.internal.swt.model.widgets.CompositeInfo;
 import org.eclipse.wb.internal.swt.model.widgets.ControlInfo;
@@ -32,6 +33,7 @@ import org.eclipse.swt.SWT;
 import org.eclipse.swt.layout.FormLayout;
 import org.eclipse.swt.layout.GridLayout;
 
+import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -136,6 +138,61 @@ public class FormLayoutModelsTest extends RcpModelTest {
 		}
 	}
 
+	/**
+	 * Controls attached (directly or indirectly) to the source control by sides of same direction
+	 * can not be used as target of attachment.
+	 */
+	@Test
+	public void test_getAlignControlInfos() throws Exception {
+		CompositeInfo shell =
+				parseComposite(
+						"public class Test extends Shell {",
+						"  public Test() {",
+						"    setLayout(new FormLayout());",
+						"    Button button_1 = new Button(this, SWT.NONE);",
+						"    {",
+						"      FormData data = new FormData();",
+						"      data.left = new FormAttachment(0, 10);",
+						"      button_1.setLayoutData(data);",
+						"    }",
+						"    Button button_2 = new Button(this, SWT.NONE);",
+						"    {",
+						"      FormData data = new FormData();",
+						"      data.left = new FormAttachment(button_1, 6);",
+						"      button_2.setLayoutData(data);",
+						"    }",
+						"    Button button_3 = new Button(this, SWT.NONE);",
+						"    {",
+						"      FormData data = new FormData();",
+						"      data.left = new FormAttachment(button_2, 6);",
+						"      button_3.setLayoutData(data);",
+						"    }",
+						"    Button button_4 = new Button(this, SWT.NONE);",
+						"    {",
+						"      FormData data = new FormData();",
+						"      data.top = new FormAttachment(button_1, 6);",
+						"      button_4.setLayoutData(data);",
+						"    }",
+						"  }",
+						"}");
+		shell.refresh();
+		FormLayoutInfo layout = (FormLayoutInfo) shell.getLayout();
+		ControlInfo button_1 = shell.getChildrenControls().get(0);
+		ControlInfo button_2 = shell.getChildrenControls().get(1);
+		ControlInfo button_3 = shell.getChildrenControls().get(2);
+		ControlInfo button_4 = shell.getChildrenControls().get(3);
+		FormLayoutInfoImplClassic<ControlInfo> impl = new FormLayoutInfoImplClassic<>(layout);
+		Assertions.assertThat(impl.getAlignControlInfos(button_1, PositionConstants.LEFT)).containsExactly(
+				button_4);
+		Assertions.assertThat(impl.getAlignControlInfos(button_3, PositionConstants.LEFT)).containsExactly(
+				button_1,
+				button_2,
+				button_4);
+		Assertions.assertThat(impl.getAlignControlInfos(button_1, PositionConstants.TOP)).containsExactly(
+				button_2,
+				button_3);
+	}
+
 	@Test
 	public void test_attachmentPropertyExists() throws Exception {
 		CompositeInfo shell =
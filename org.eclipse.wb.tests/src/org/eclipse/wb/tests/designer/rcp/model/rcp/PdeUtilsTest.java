@@ -832,6 +832,84 @@ public class PdeUtilsTest extends AbstractPdeTest {
 		Assertions.assertThat(idSet).contains(IPageLayout.ID_BOOKMARKS);
 	}
 
+	/**
+	 * Views are remembered, but modification of <code>plugin.xml</code>, even not using
+	 * {@link PdeUtils}, is reported by PDE and causes rebuilding views of this plugin.
+	 */
+	@Test
+	public void test_getViewInfo_pluginXmlChanged() throws Exception {
+		createPluginXML(new String[]{
+				"<plugin>",
+				"  <extension point='org.eclipse.ui.views'>",
+				"    <view id='id_1' name='name 1' class='C_1'/>",
+				"  </extension>",
+		"</plugin>"});
+		assertNotNull(PdeUtils.getViewInfo("id_1"));
+		assertNull(PdeUtils.getViewInfo("id_2"));
+		// replace view
+		createPluginXML(new String[]{
+				"<plugin>",
+				"  <extension point='org.eclipse.ui.views'>",
+				"    <view id='id_2' name='name 2' class='C_2'/>",
+				"  </extension>",
+		"</plugin>"});
+		assertNull(PdeUtils.getViewInfo("id_1"));
+		assertNotNull(PdeUtils.getViewInfo("id_2"));
+		assertEquals("name 2", PdeUtils.getViewInfo("id_2").getName());
+	}
+
+	/**
+	 * Removing plugin from registry removes its views.
+	 */
+	@Test
+	public void test_getViewInfo_pluginRemoved() throws Exception {
+		createPluginXML(new String[]{
+				"<plugin>",
+				"  <extension point='org.eclipse.ui.views'>",
+				"    <view id='id_1' name='name 1' class='C_1'/>",
+				"  </extension>",
+		"</plugin>"});
+		assertNotNull(PdeUtils.getViewInfo("id_1"));
+		// remove plugin project
+		do_projectDispose();
+		waitForAutoBuild();
+		assertNull(PdeUtils.getViewInfo("id_1"));
+	}
+
+	/**
+	 * Test for {@link PdeUtils#waitExtensionElementById(String, String, String)}, when element is
+	 * added, while other thread waits for it.
+	 */
+	@Test
+	public void test_waitExtensionElementById_waitForChange() throws Exception {
+		createPluginXML(new String[]{"<plugin>", "</plugin>"});
+		// wait for view in other thread
+		final IPluginElement[] elements = new IPluginElement[1];
+		Thread thread = new Thread() {
+			@Override
+			public void run() {
+				elements[0] = m_utils.waitExtensionElementById("org.eclipse.ui.views", "view", "id_2");
+			}
+		};
+		thread.start();
+		waitEventLoop(100);
+		assertTrue(thread.isAlive());
+		// add view
+		createPluginXML(new String[]{
+				"<plugin>",
+				"  <extension point='org.eclipse.ui.views'>",
+				"    <view id='id_2' name='name 2' class='C_2'/>",
+				"  </extension>",
+		"</plugin>"});
+		long end = System.currentTimeMillis() + 10000;
+		while (thread.isAlive() && System.currentTimeMillis() < end) {
+			waitEventLoop(10);
+		}
+		assertFalse(thread.isAlive());
+		assertNotNull(elements[0]);
+		assertEquals("name 2", PdeUtils.getAttribute(elements[0], "name"));
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// Categories
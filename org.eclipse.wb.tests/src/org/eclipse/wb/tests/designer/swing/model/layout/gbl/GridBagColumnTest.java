@@ -1243,6 +1243,59 @@ public class GridBagColumnTest extends AbstractGridBagLayoutTest {
 				}""");
 	}
 
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// isEmpty()
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Test for {@link DimensionOperations#isEmpty(int)}.<br>
+	 * Cells are changed during edit, so {@link DimensionOperations#isEmpty(int)} should use new
+	 * constraints, even before refresh.
+	 */
+	@Test
+	public void test_isEmpty() throws Exception {
+		ContainerInfo panel = parseContainer("""
+				class Test extends JPanel {
+					public Test() {
+						setLayout(new GridBagLayout());
+						{
+							JButton button_0 = new JButton();
+							GridBagConstraints gbc = new GridBagConstraints();
+							gbc.gridx = 0;
+							gbc.gridy = 0;
+							gbc.gridwidth = 2;
+							add(button_0, gbc);
+						}
+						{
+							JButton button_1 = new JButton();
+							GridBagConstraints gbc = new GridBagConstraints();
+							gbc.gridx = 3;
+							gbc.gridy = 0;
+							add(button_1, gbc);
+						}
+					}
+				}""");
+		panel.refresh();
+		final GridBagLayoutInfo layout = (GridBagLayoutInfo) panel.getLayout();
+		final ComponentInfo button_1 = panel.getChildrenComponents().get(1);
+		final DimensionOperations<ColumnInfo> operations = layout.getColumnOperations();
+		assertFalse(operations.isEmpty(0));
+		assertFalse(operations.isEmpty(1));
+		assertTrue(operations.isEmpty(2));
+		assertFalse(operations.isEmpty(3));
+		// move "button_1" into column "2"
+		ExecutionUtils.run(panel, new RunnableEx() {
+			@Override
+			public void run() throws Exception {
+				GridBagLayoutInfo.getConstraintsFor(button_1).setX(2);
+				assertFalse(operations.isEmpty(2));
+				assertTrue(operations.isEmpty(3));
+			}
+		});
+		assertFalse(operations.isEmpty(2));
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// split()
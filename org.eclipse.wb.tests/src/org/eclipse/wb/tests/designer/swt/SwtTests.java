@@ -14,6 +14,7 @@ package org.eclipse.wb.tests.designer.swt;
 
 import org.eclipse.wb.tests.designer.swt.model.ModelTests;
 import org.eclipse.wb.tests.designer.swt.support.CoordinateUtilsTest;
+import org.eclipse.wb.tests.designer.swt.support.OSSupportLinuxTest;
 
 import org.junit.platform.suite.api.SelectClasses;
 import org.junit.platform.suite.api.Suite;
@@ -28,6 +29,7 @@ import org.junit.platform.suite.api.Suite;
 	ManagerUtilsTest.class,
 	ModelTests.class,
 	CoordinateUtilsTest.class,
+	OSSupportLinuxTest.class,
 
 })
 public class SwtTests {
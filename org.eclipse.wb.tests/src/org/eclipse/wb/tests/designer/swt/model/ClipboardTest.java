@@ -14,6 +14,7 @@ package org.eclipse.wb.tests.designer.swt.model;
 
 import org.eclipse.wb.internal.core.model.clipboard.ComponentInfoMemento;
 import org.eclipse.wb.internal.core.model.clipboard.JavaInfoMemento;
+import org.eclipse.wb.internal.core.model.clipboard.JavaInfoMementoTransfer;
 import org.eclipse.wb.internal.core.utils.check.AssertionFailedException;
 import org.eclipse.wb.internal.core.utils.execution.ExecutionUtils;
 import org.eclipse.wb.internal.core.utils.execution.RunnableEx;
@@ -31,6 +32,13 @@ import org.eclipse.draw2d.geometry.Rectangle;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
 /**
  * Test for {@link JavaInfoMemento} and other clipboard related operations.
  *
@@ -314,6 +322,108 @@ public class ClipboardTest extends RcpModelTest {
 		});
 	}
 
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Encoding and batching
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * {@link JavaInfoMemento} is encoded without Java serialization, but serialized form, as written by
+	 * previous versions, still can be read.
+	 */
+	@Test
+	public void test_encoding() throws Exception {
+		CompositeInfo shell =
+				parseComposite(
+						"class Test extends Shell {",
+						"  public Test() {",
+						"    {",
+						"      Button button = new Button(this, SWT.NONE);",
+						"      button.setText(\"My button\");",
+						"      button.setBounds(10, 20, 200, 100);",
+						"    }",
+						"  }",
+						"}");
+		shell.refresh();
+		ComponentInfoMemento memento =
+				(ComponentInfoMemento) JavaInfoMemento.createMemento(shell.getChildrenControls().get(0));
+		// encoded: "WBME" marker
+		{
+			byte[] bytes = JavaInfoMementoTransfer.convertObjectToBytes(List.of(memento, memento));
+			assertEquals("WBME", new String(bytes, 0, 4, StandardCharsets.US_ASCII));
+			List<?> mementos = (List<?>) JavaInfoMementoTransfer.convertBytesToObject(bytes);
+			assertEquals(2, mementos.size());
+			ComponentInfoMemento decoded = (ComponentInfoMemento) mementos.get(0);
+			assertEquals("org.eclipse.swt.widgets.Button", decoded.getComponentClassName());
+			assertNotNull(decoded.getImage());
+		}
+		// serialized, GZIP compressed
+		{
+			ByteArrayOutputStream baos = new ByteArrayOutputStream();
+			try (ObjectOutputStream oos = new ObjectOutputStream(new GZIPOutputStream(baos))) {
+				oos.writeObject(new ArrayList<>(List.of(memento)));
+			}
+			List<?> mementos = (List<?>) JavaInfoMementoTransfer.convertBytesToObject(baos.toByteArray());
+			ComponentInfoMemento decoded = (ComponentInfoMemento) mementos.get(0);
+			assertEquals("org.eclipse.swt.widgets.Button", decoded.getComponentClassName());
+		}
+	}
+
+	/**
+	 * Children of pasted container are applied together, so number of refreshes does not depend on
+	 * number of children.
+	 */
+	@Test
+	public void test_nestedChildren_refreshOncePerLevel() throws Exception {
+		int refreshCount_2 = check_pasteComposite(2);
+		int refreshCount_6 = check_pasteComposite(6);
+		assertEquals(refreshCount_2, refreshCount_6);
+	}
+
+	/**
+	 * Does copy/paste of {@link CompositeInfo} with given number of {@link Button}'s.
+	 *
+	 * @return the number of refreshes performed during paste.
+	 */
+	private int check_pasteComposite(int count) throws Exception {
+		List<String> lines = new ArrayList<>();
+		lines.add("class Test extends Shell {");
+		lines.add("  public Test() {");
+		lines.add("    setLayout(new RowLayout());");
+		lines.add("    Composite composite = new Composite(this, SWT.NONE);");
+		lines.add("    composite.setLayout(new RowLayout());");
+		for (int i = 0; i < count; i++) {
+			lines.add("    {");
+			lines.add("      Button button = new Button(composite, SWT.NONE);");
+			lines.add("      button.setText(\"" + i + "\");");
+			lines.add("    }");
+		}
+		lines.add("  }");
+		lines.add("}");
+		final CompositeInfo shell = parseComposite(lines.toArray(new String[lines.size()]));
+		final RowLayoutInfo rowLayout = (RowLayoutInfo) shell.getLayout();
+		shell.refresh();
+		// copy
+		CompositeInfo composite = (CompositeInfo) shell.getChildrenControls().get(0);
+		final JavaInfoMemento memento = recodeMemento(JavaInfoMemento.createMemento(composite));
+		// paste
+		int refreshCount = shell.getRefreshCount();
+		ExecutionUtils.run(shell, () -> {
+			CompositeInfo copy = (CompositeInfo) memento.create(shell);
+			rowLayout.command_CREATE(copy, null);
+			memento.apply();
+		});
+		refreshCount = shell.getRefreshCount() - refreshCount;
+		// check pasted children
+		CompositeInfo copy = (CompositeInfo) shell.getChildrenControls().get(1);
+		List<ControlInfo> buttons = copy.getChildrenControls();
+		assertEquals(count, buttons.size());
+		for (int i = 0; i < count; i++) {
+			assertEquals("" + i, buttons.get(i).getPropertyByTitle("text").getValue());
+		}
+		return refreshCount;
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// Layouts
@@ -294,6 +294,47 @@ public class GridLayoutTest extends RcpModelTest {
 				"}");
 	}
 
+	/**
+	 * Several empty cells in last row, fillers should be added in order of cells.
+	 */
+	@Test
+	public void test_fixGrid_severalEmptyCells() throws Exception {
+		CompositeInfo shell =
+				parseComposite(
+						"public class Test extends Shell {",
+						"  public Test() {",
+						"    setLayout(new GridLayout(3, false));",
+						"    new Button(this, SWT.NONE);",
+						"    new Button(this, SWT.NONE);",
+						"    new Button(this, SWT.NONE);",
+						"    new Button(this, SWT.NONE);",
+						"  }",
+						"}");
+		shell.refresh();
+		assertEditor(
+				"public class Test extends Shell {",
+				"  public Test() {",
+				"    setLayout(new GridLayout(3, false));",
+				"    new Button(this, SWT.NONE);",
+				"    new Button(this, SWT.NONE);",
+				"    new Button(this, SWT.NONE);",
+				"    new Button(this, SWT.NONE);",
+				"    new Label(this, SWT.NONE);",
+				"    new Label(this, SWT.NONE);",
+				"  }",
+				"}");
+		// fillers are in cells (1,1) and (2,1)
+		GridLayoutInfo layout = (GridLayoutInfo) shell.getLayout();
+		List<ControlInfo> controls = shell.getChildrenControls();
+		assertEquals(6, controls.size());
+		assertTrue(layout.isFiller(controls.get(4)));
+		assertEquals(1, GridLayoutInfo.getGridData(controls.get(4)).x);
+		assertEquals(1, GridLayoutInfo.getGridData(controls.get(4)).y);
+		assertTrue(layout.isFiller(controls.get(5)));
+		assertEquals(2, GridLayoutInfo.getGridData(controls.get(5)).x);
+		assertEquals(1, GridLayoutInfo.getGridData(controls.get(5)).y);
+	}
+
 	/**
 	 * Test for {@link IGridInfo}.
 	 */
@@ -20,6 +20,7 @@ import org.eclipse.wb.internal.core.model.clipboard.JavaInfoMemento;
 import org.eclipse.wb.internal.core.model.creation.factory.StaticFactoryCreationSupport;
 import org.eclipse.wb.internal.core.model.description.factory.FactoryMethodDescription;
 import org.eclipse.wb.internal.core.model.description.helpers.FactoryDescriptionHelper;
+import org.eclipse.wb.internal.core.model.util.live.PersistentLiveCache;
 import org.eclipse.wb.internal.core.utils.ast.AstEditor;
 import org.eclipse.wb.internal.swt.model.layout.RowLayoutInfo;
 import org.eclipse.wb.internal.swt.model.widgets.CompositeInfo;
@@ -36,10 +37,18 @@ import org.eclipse.draw2d.geometry.Dimension;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.Rectangle;
 
+import org.apache.commons.io.FileUtils;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.nio.file.Files;
+
 /**
  * Tests for {@link SwtLiveManager}, style access.
  *
@@ -159,6 +168,40 @@ public class LiveComponentsManagerTest extends RcpModelTest {
 		}
 	}
 
+	/**
+	 * "Live" component is rendered in scratch editor with source of "main" editor, so its image and
+	 * preferred size should be same as of same component, really created in "main" editor.
+	 */
+	@Test
+	public void test_liveImage_sameAsCreated() throws Exception {
+		CompositeInfo shell =
+				parseComposite(
+						"class Test extends Shell {",
+						"  public Test() {",
+						"    setLayout(new RowLayout());",
+						"  }",
+						"  private static class Inner {",
+						"  }",
+						"}");
+		RowLayoutInfo rowLayout = (RowLayoutInfo) shell.getLayout();
+		shell.refresh();
+		String originalSource = m_lastEditor.getSource();
+		// prepare "live" values
+		ControlInfo button = BTestUtils.createButton();
+		Rectangle liveBounds = button.getImage().getBounds();
+		Dimension livePreferredSize = button.getPreferredSize();
+		// scratch editor is discarded, "main" editor and its ClassLoader are still alive
+		assertEquals(originalSource, m_lastEditor.getSource());
+		assertFalse(m_lastState.isDisposed());
+		// create same button
+		rowLayout.command_CREATE(button, null);
+		shell.refresh();
+		Assertions.assertThat(button.getObject()).isNotNull();
+		assertEquals(livePreferredSize, button.getPreferredSize());
+		assertEquals(liveBounds.width, button.getImage().getBounds().width);
+		assertEquals(liveBounds.height, button.getImage().getBounds().height);
+	}
+
 	@Test
 	public void test_liveImage_onComposite() throws Exception {
 		parseComposite(
@@ -577,4 +620,47 @@ public class LiveComponentsManagerTest extends RcpModelTest {
 		int baseline = newButton.getBaseline();
 		assertEquals(baseline, liveBaseline);
 	}
-}
\ No newline at end of file
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Persistent cache
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Entries of {@link PersistentLiveCache} should survive new cache instance, i.e. next session.
+	 */
+	@Test
+	public void test_persistentCache() throws Exception {
+		File directory = Files.createTempDirectory("live").toFile();
+		try {
+			Image image = new Image(null, 10, 5);
+			try {
+				ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+				DataOutputStream output = new DataOutputStream(bytes);
+				PersistentLiveCache.writeImage(output, image);
+				output.writeInt(SWT.BORDER);
+				output.flush();
+				new PersistentLiveCache(directory).put("key", bytes.toByteArray());
+			} finally {
+				image.dispose();
+			}
+			// read in new cache
+			PersistentLiveCache cache = new PersistentLiveCache(directory);
+			assertNull(cache.get("otherKey"));
+			DataInputStream input = cache.get("key");
+			assertNotNull(input);
+			Image cachedImage = PersistentLiveCache.readImage(input);
+			try {
+				assertEquals(10, cachedImage.getBounds().width);
+				assertEquals(5, cachedImage.getBounds().height);
+			} finally {
+				cachedImage.dispose();
+			}
+			assertEquals(SWT.BORDER, input.readInt());
+			assertEquals(1, cache.getHitCount());
+			assertEquals(1, cache.getMissCount());
+		} finally {
+			FileUtils.deleteQuietly(directory);
+		}
+	}
+}
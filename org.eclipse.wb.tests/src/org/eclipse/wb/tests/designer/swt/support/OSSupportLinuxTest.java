@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2026 WindowBuilder contributors and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    WindowBuilder contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.wb.tests.designer.swt.support;
+
+import org.eclipse.wb.internal.core.EnvironmentUtils;
+import org.eclipse.wb.internal.swt.support.ToolkitSupport;
+import org.eclipse.wb.os.OSSupport;
+import org.eclipse.wb.os.ShotStatistics;
+import org.eclipse.wb.tests.designer.tests.DesignerTestCase;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Shell;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests for reusing images of not changed {@link Label}'s between screen shots on Linux.
+ */
+public class OSSupportLinuxTest extends DesignerTestCase {
+	private Image m_image_1;
+	private Image m_image_2;
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Life cycle
+	//
+	////////////////////////////////////////////////////////////////////////////
+	@Override
+	@BeforeEach
+	public void setUp() throws Exception {
+		assumeTrue(EnvironmentUtils.IS_LINUX);
+		super.setUp();
+	}
+
+	@Override
+	@AfterEach
+	public void tearDown() throws Exception {
+		if (m_image_1 != null) {
+			m_image_1.dispose();
+			m_image_2.dispose();
+		}
+		super.tearDown();
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Tests
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Image of not changed {@link Label} in hierarchy with same key is reused.
+	 */
+	@Test
+	public void test_reuse() throws Exception {
+		Object key = new Object();
+		ShotStatistics first = makeShots(key, null);
+		assertEquals(0, first.getReusedImages());
+		assertTrue(first.getCapturedImages() > 0);
+		ShotStatistics second = makeShots(key, null);
+		assertEquals(1, second.getReusedImages());
+		assertEquals(100 * 20, second.getReusedPixels());
+		assertTrue(second.getCapturedPixels() < first.getCapturedPixels());
+	}
+
+	/**
+	 * Images are not reused between hierarchies with different keys.
+	 */
+	@Test
+	public void test_otherKey() throws Exception {
+		makeShots(new Object(), null);
+		ShotStatistics statistics = makeShots(new Object(), null);
+		assertEquals(0, statistics.getReusedImages());
+	}
+
+	/**
+	 * {@link Image}'s of {@link Label} are compared by identity, not by handle or size.
+	 */
+	@Test
+	public void test_otherImage() throws Exception {
+		Display display = Display.getCurrent();
+		m_image_1 = new Image(display, 16, 16);
+		m_image_2 = new Image(display, 16, 16);
+		Object key = new Object();
+		makeShots(key, m_image_1);
+		assertEquals(0, makeShots(key, m_image_2).getReusedImages());
+		assertEquals(1, makeShots(key, m_image_2).getReusedImages());
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Utils
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Makes shots of new {@link Shell} with single {@link Label}.
+	 *
+	 * @return the {@link ShotStatistics} of this shot.
+	 */
+	private static ShotStatistics makeShots(Object key, Image image) throws Exception {
+		OSSupport osSupport = OSSupport.get();
+		Shell shell = new Shell(SWT.NO_TRIM);
+		try {
+			shell.setSize(200, 100);
+			Label label = new Label(shell, SWT.NONE);
+			label.setText("Label");
+			label.setImage(image);
+			label.setBounds(10, 10, 100, 20);
+			ToolkitSupport.markAsNeededImage(shell);
+			ToolkitSupport.markAsNeededImage(label);
+			ToolkitSupport.setShotKey(shell, key);
+			ShotStatistics before = osSupport.getShotStatistics().copy();
+			osSupport.beginShot(shell);
+			try {
+				osSupport.makeShots(shell);
+			} finally {
+				osSupport.endShot(shell);
+			}
+			ShotStatistics statistics = osSupport.getShotStatistics().subtract(before);
+			assertNotNull(ToolkitSupport.getShotImage(label));
+			return statistics;
+		} finally {
+			disposeShotImage(shell);
+			for (Control child : shell.getChildren()) {
+				disposeShotImage(child);
+			}
+			shell.dispose();
+		}
+	}
+
+	private static void disposeShotImage(Control control) throws Exception {
+		Image image = ToolkitSupport.getShotImage(control);
+		if (image != null) {
+			image.dispose();
+		}
+	}
+}
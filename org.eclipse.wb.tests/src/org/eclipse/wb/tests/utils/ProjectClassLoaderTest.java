@@ -13,11 +13,14 @@
 package org.eclipse.wb.tests.utils;
 
 import org.eclipse.wb.internal.core.utils.jdt.core.ProjectUtils;
+import org.eclipse.wb.internal.core.utils.reflect.ByteCodeCache;
+import org.eclipse.wb.internal.core.utils.reflect.IByteCodeProcessor;
 import org.eclipse.wb.internal.core.utils.reflect.ProjectClassLoader;
 import org.eclipse.wb.internal.core.utils.reflect.ReflectionUtils;
 import org.eclipse.wb.internal.swing.model.component.ContainerInfo;
 import org.eclipse.wb.tests.designer.core.PdeProjectConversionUtils;
 import org.eclipse.wb.tests.designer.core.TestProject;
+import org.eclipse.wb.tests.designer.core.ZipFileFactory;
 import org.eclipse.wb.tests.designer.core.annotations.DisposeProjectAfter;
 import org.eclipse.wb.tests.designer.swing.SwingModelTest;
 
@@ -39,6 +42,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
+import java.io.FileOutputStream;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -629,6 +635,219 @@ public class ProjectClassLoaderTest extends SwingModelTest {
 		}
 	}
 
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Shared library classes
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Classes of library jars should be loaded once and shared between {@link ProjectClassLoader}'s
+	 * of same owner.
+	 */
+	@DisposeProjectAfter
+	@Test
+	public void test_sharedLibraryClasses() throws Exception {
+		setFileContentSrc(
+				"lib/MyLibClass.java",
+				getSource(
+						"package lib;",
+						"public class MyLibClass {",
+						"  // filler filler filler filler filler",
+						"}"));
+		waitForAutoBuild();
+		// wrap into jar and remove source
+		File libJar = File.createTempFile("Lib", ".jar");
+		libJar.deleteOnExit();
+		{
+			ZipFileFactory factory = new ZipFileFactory(new FileOutputStream(libJar));
+			factory.add("lib/MyLibClass.class", getFile("bin/lib/MyLibClass.class").getContents());
+			factory.close();
+		}
+		getFileSrc("lib/MyLibClass.java").delete(true, null);
+		m_testProject.addExternalJar(libJar);
+		waitForAutoBuild();
+		// two loaders share same library loader
+		ProjectClassLoader loader_1 = ProjectClassLoader.create(null, m_javaProject, "owner");
+		ProjectClassLoader loader_2 = ProjectClassLoader.create(null, m_javaProject, "owner");
+		try {
+			assertNotNull(loader_1.getLibraryClassLoader());
+			assertSame(loader_1.getLibraryClassLoader(), loader_2.getLibraryClassLoader());
+			Class<?> class_1 = loader_1.loadClass("lib.MyLibClass");
+			Class<?> class_2 = loader_2.loadClass("lib.MyLibClass");
+			assertSame(class_1, class_2);
+			assertEquals(1, loader_1.getLibraryClassLoader().getDefinedClassCount());
+			assertEquals(0, loader_1.getDefinedClassCount());
+		} finally {
+			loader_1.dispose();
+			loader_2.dispose();
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// ByteCodeCache
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Transformed class bytes should be reused from {@link ByteCodeCache}, even by new cache instance,
+	 * without running {@link IByteCodeProcessor}'s.
+	 */
+	@Test
+	public void test_byteCodeCache() throws Exception {
+		setFileContentSrc(
+				"test/MyAbstract.java",
+				getSource(
+						"package test;",
+						"public abstract class MyAbstract {",
+						"  public abstract void foo();",
+						"}"));
+		waitForAutoBuild();
+		File cacheDirectory = Files.createTempDirectory("byteCode").toFile();
+		try {
+			int[] processCount = {0};
+			IByteCodeProcessor processor = new IByteCodeProcessor() {
+				@Override
+				public void initialize(ProjectClassLoader classLoader) {
+				}
+
+				@Override
+				public byte[] process(String className, byte[] bytes) {
+					processCount[0]++;
+					return bytes;
+				}
+
+				@Override
+				public String getCacheKey() {
+					return "testProcessor";
+				}
+			};
+			// first load, transform and remember
+			{
+				ByteCodeCache cache = new ByteCodeCache(cacheDirectory);
+				ProjectClassLoader classLoader = ProjectClassLoader.create(null, m_javaProject);
+				classLoader.setByteCodeCache(cache);
+				classLoader.add(processor);
+				classLoader.addNonAbstractClass("test.MyAbstract");
+				Class<?> clazz = classLoader.loadClass("test.MyAbstract");
+				assertFalse(Modifier.isAbstract(clazz.getModifiers()));
+				assertEquals(1, processCount[0]);
+				assertEquals(0, cache.getHitCount());
+				assertEquals(1, cache.getMissCount());
+			}
+			// second load, from new cache with same directory
+			{
+				ByteCodeCache cache = new ByteCodeCache(cacheDirectory);
+				ProjectClassLoader classLoader = ProjectClassLoader.create(null, m_javaProject);
+				classLoader.setByteCodeCache(cache);
+				classLoader.add(processor);
+				classLoader.addNonAbstractClass("test.MyAbstract");
+				Class<?> clazz = classLoader.loadClass("test.MyAbstract");
+				assertFalse(Modifier.isAbstract(clazz.getModifiers()));
+				assertEquals(1, processCount[0]);
+				assertEquals(1, cache.getHitCount());
+				assertEquals(0, cache.getMissCount());
+			}
+		} finally {
+			FileUtils.deleteQuietly(cacheDirectory);
+		}
+	}
+
+	/**
+	 * Temporary files left by failed writes are not entries of {@link ByteCodeCache}, they are
+	 * deleted when cache is opened.
+	 */
+	@Test
+	public void test_byteCodeCache_tempFiles() throws Exception {
+		File cacheDirectory = Files.createTempDirectory("byteCode").toFile();
+		try {
+			File tempFile = new File(cacheDirectory, "abc123.tmp");
+			FileUtils.writeByteArrayToFile(tempFile, new byte[]{1, 2, 3});
+			ByteCodeCache cache = new ByteCodeCache(cacheDirectory);
+			assertFalse(tempFile.exists());
+			assertNull(cache.get("abc123.tmp", new byte[0]));
+		} finally {
+			FileUtils.deleteQuietly(cacheDirectory);
+		}
+	}
+
+	/**
+	 * Classes that no {@link IByteCodeProcessor} can process are not looked up in
+	 * {@link ByteCodeCache}.
+	 */
+	@Test
+	public void test_byteCodeCache_canProcess() throws Exception {
+		setFileContentSrc(
+				"test/MyObject.java",
+				getSource(
+						"package test;",
+						"public class MyObject {",
+						"}"));
+		waitForAutoBuild();
+		File cacheDirectory = Files.createTempDirectory("byteCode").toFile();
+		try {
+			int[] processCount = {0};
+			ByteCodeCache cache = new ByteCodeCache(cacheDirectory);
+			ProjectClassLoader classLoader = ProjectClassLoader.create(null, m_javaProject);
+			classLoader.setByteCodeCache(cache);
+			classLoader.add(new IByteCodeProcessor() {
+				@Override
+				public void initialize(ProjectClassLoader classLoader) {
+				}
+
+				@Override
+				public boolean canProcess(String className) {
+					return false;
+				}
+
+				@Override
+				public byte[] process(String className, byte[] bytes) {
+					processCount[0]++;
+					return bytes;
+				}
+
+				@Override
+				public String getCacheKey() {
+					return "testProcessor";
+				}
+			});
+			classLoader.loadClass("test.MyObject");
+			assertEquals(0, processCount[0]);
+			assertEquals(0, cache.getHitCount());
+			assertEquals(0, cache.getMissCount());
+		} finally {
+			FileUtils.deleteQuietly(cacheDirectory);
+		}
+	}
+
+	/**
+	 * {@link ByteCodeCache} keeps only given number of recently used entries, also during session.
+	 */
+	@Test
+	public void test_byteCodeCache_maxEntries() throws Exception {
+		File cacheDirectory = Files.createTempDirectory("byteCode").toFile();
+		try {
+			ByteCodeCache cache = new ByteCodeCache(cacheDirectory, 2);
+			byte[] bytes = {1};
+			byte[] result = {2};
+			cache.put("key_a", bytes, result, 0);
+			cache.put("key_b", bytes, result, 0);
+			// use "key_a", so "key_b" is least recently used
+			assertArrayEquals(result, cache.get("key_a", bytes));
+			cache.put("key_c", bytes, result, 0);
+			assertEquals(2, cache.getEntryCount());
+			assertEquals(2, cacheDirectory.list().length);
+			assertNull(cache.get("key_b", bytes));
+			assertArrayEquals(result, cache.get("key_a", bytes));
+			assertArrayEquals(result, cache.get("key_c", bytes));
+			// new cache with same directory, but smaller limit
+			cache = new ByteCodeCache(cacheDirectory, 1);
+			assertEquals(1, cache.getEntryCount());
+			assertEquals(1, cacheDirectory.list().length);
+		} finally {
+			FileUtils.deleteQuietly(cacheDirectory);
+		}
+	}
+
 	/**
 	 * @return result of {@link ProjectClassLoader#addOutputLocations(Set, List, IProject)}.
 	 */